@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Collects characters in an array, and passes them to the target {@code Writer} in blocks.
+ * <p>
+ * Unlike {@code java.io.BufferedWriter}, this is unsynchronized, and closing it doesn't close the target.
+ */
+final class BufferingWriter extends Writer {
+
+    static final int BUFFER_SIZE = 4096;
+
+    private Writer out;
+    private final char[] buffer;
+    private int position;
+
+    BufferingWriter(final Writer out) {
+        this(out, BUFFER_SIZE);
+    }
+
+    BufferingWriter(final Writer out, final int bufferSize) {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        this.out = out;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Discards any buffered characters, and directs subsequent output to the given target.
+     */
+    void target(final Writer out) {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        this.out = out;
+        position = 0;
+    }
+
+    /**
+     * Discards any buffered characters, and releases the reference to the target.  {@code target} must be called
+     * before this writer is used again.
+     */
+    void detach() {
+        out = null;
+        position = 0;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (char) c;
+    }
+
+    @Override
+    public void write(@SuppressWarnings("NullableProblems") final char[] cbuf, final int offset, final int length) throws IOException {
+        if (offset < 0 || offset > cbuf.length || length < 0 || offset + length > cbuf.length || offset + length < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length >= buffer.length) {
+                out.write(cbuf, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(cbuf, offset, buffer, position, length);
+        position += length;
+    }
+
+    @Override
+    public void write(@SuppressWarnings("NullableProblems") final String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    @Override
+    public void write(@SuppressWarnings("NullableProblems") final String str, final int offset, final int length) throws IOException {
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length >= buffer.length) {
+                out.write(str, offset, length);
+                return;
+            }
+        }
+        str.getChars(offset, offset + length, buffer, position);
+        position += length;
+    }
+
+    /**
+     * Passes any buffered characters to the target, without flushing the target itself.
+     */
+    void flushBuffer() throws IOException {
+        if (position != 0) {
+            final int length = position;
+            position = 0;
+            out.write(buffer, 0, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+    }
+}
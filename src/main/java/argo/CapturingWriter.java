@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Passes characters to the target {@code Writer}, keeping a copy of them until more than a given number have been
+ * written.
+ */
+final class CapturingWriter extends Writer {
+
+    private final Writer out;
+    private final int maximumLength;
+    private char[] captured = new char[256];
+    private int length;
+    private boolean exceeded;
+
+    CapturingWriter(final Writer out, final int maximumLength) {
+        this.out = out;
+        this.maximumLength = maximumLength;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        out.write(c);
+        if (ensureCapacity(1)) {
+            captured[length++] = (char) c;
+        }
+    }
+
+    @Override
+    public void write(@SuppressWarnings("NullableProblems") final char[] cbuf, final int offset, final int length) throws IOException {
+        out.write(cbuf, offset, length);
+        if (ensureCapacity(length)) {
+            System.arraycopy(cbuf, offset, captured, this.length, length);
+            this.length += length;
+        }
+    }
+
+    @Override
+    public void write(@SuppressWarnings("NullableProblems") final String str, final int offset, final int length) throws IOException {
+        out.write(str, offset, length);
+        if (ensureCapacity(length)) {
+            str.getChars(offset, offset + length, captured, this.length);
+            this.length += length;
+        }
+    }
+
+    private boolean ensureCapacity(final int additionalLength) {
+        if (!exceeded) {
+            if (additionalLength > maximumLength - length) {
+                exceeded = true;
+                captured = null;
+            } else if (length + additionalLength > captured.length) {
+                final char[] grown = new char[Math.min(maximumLength, Math.max(length + additionalLength, captured.length * 2))];
+                System.arraycopy(captured, 0, grown, 0, length);
+                captured = grown;
+            }
+        }
+        return !exceeded;
+    }
+
+    /**
+     * @return a copy of the characters written, or null if more than the maximum number were written.
+     */
+    char[] captured() {
+        if (exceeded) {
+            return null;
+        }
+        final char[] result = new char[length];
+        System.arraycopy(captured, 0, result, 0, length);
+        return result;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        // the target is owned by the caller
+    }
+}
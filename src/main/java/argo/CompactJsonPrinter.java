@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -13,27 +13,56 @@ package argo;
 import argo.format.*;
 import argo.jdom.JsonField;
 import argo.jdom.JsonNode;
-import argo.jdom.JsonNodeFactories;
 import argo.jdom.JsonStringNode;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 class CompactJsonPrinter extends JsonPrinter {
 
-    private CompactJsonPrinter(final Writer writer) {
-        super(writer);
+    private final List<CompactArrayWriter> arrayWriters = new ArrayList<CompactArrayWriter>();
+    private final List<CompactObjectWriter> objectWriters = new ArrayList<CompactObjectWriter>();
+    private int arrayWriterDepth;
+    private int objectWriterDepth;
+
+    private CompactJsonPrinter(final Writer writer, final JsonEscapedString jsonEscapedString) {
+        super(writer, jsonEscapedString);
     }
 
-    static CompactJsonPrinter compactJsonPrinter(final Writer writer) {
-        return new CompactJsonPrinter(writer);
+    static CompactJsonPrinter compactJsonPrinter(final Writer writer, final JsonEscapedString jsonEscapedString) {
+        return new CompactJsonPrinter(writer, jsonEscapedString);
     }
 
-    static CompactJsonPrinter fieldSortingCompactJsonPrinter(final Writer writer) {
-        return new FieldSortingCompactJsonPrinter(writer);
+    static CompactJsonPrinter fieldSortingCompactJsonPrinter(final Writer writer, final JsonEscapedString jsonEscapedString) {
+        return new FieldSortingCompactJsonPrinter(writer, jsonEscapedString);
+    }
+
+    @Override
+    final void resetState() {
+        arrayWriterDepth = 0;
+        objectWriterDepth = 0;
+    }
+
+    private CompactArrayWriter arrayWriter() {
+        if (arrayWriterDepth == arrayWriters.size()) {
+            arrayWriters.add(new CompactArrayWriter());
+        }
+        final CompactArrayWriter arrayWriter = arrayWriters.get(arrayWriterDepth++);
+        arrayWriter.isFirst = true;
+        return arrayWriter;
+    }
+
+    private CompactObjectWriter objectWriter() {
+        if (objectWriterDepth == objectWriters.size()) {
+            objectWriters.add(new CompactObjectWriter());
+        }
+        final CompactObjectWriter objectWriter = objectWriters.get(objectWriterDepth++);
+        objectWriter.isFirst = true;
+        return objectWriter;
     }
 
     @Override
@@ -67,151 +96,277 @@ class CompactJsonPrinter extends JsonPrinter {
     }
 
     @Override
-    final void write(final WriteableJsonArray writeableJsonArray) throws IOException {
-        writer.write('[');
-        writeableJsonArray.writeTo(new ArrayWriter() {
-            private boolean isFirst = true;
-
-            public void writeElement(final WriteableJsonObject element) throws IOException {
-                writeCommaIfRequired();
-                write(element);
-            }
-
-            public void writeElement(final WriteableJsonArray element) throws IOException {
-                writeCommaIfRequired();
-                write(element);
-            }
+    final void startContainer(final char openingCharacter) throws IOException {
+        writer.write(openingCharacter);
+    }
 
-            public void writeElement(final WriteableJsonString element) throws IOException {
-                writeCommaIfRequired();
-                write(element);
-            }
+    @Override
+    final void startMember(final boolean isFirst) throws IOException {
+        if (!isFirst) {
+            writer.write(',');
+        }
+    }
 
-            public void writeElement(final WriteableJsonNumber element) throws IOException {
-                writeCommaIfRequired();
-                write(element);
-            }
+    @Override
+    final void endFieldName() throws IOException {
+        writer.write(':');
+    }
 
-            public void writeElement(final JsonNode element) throws IOException {
-                writeCommaIfRequired();
-                write(element);
-            }
+    @Override
+    final void endContainer(final char closingCharacter, final boolean isEmpty) throws IOException {
+        writer.write(closingCharacter);
+    }
 
-            private void writeCommaIfRequired() throws IOException {
-                if (!isFirst) {
-                    writer.write(',');
-                }
-                isFirst = false;
-            }
-        });
+    @Override
+    final void write(final WriteableJsonArray writeableJsonArray) throws IOException {
+        writer.write('[');
+        final CompactArrayWriter arrayWriter = arrayWriter();
+        writeableJsonArray.writeTo(arrayWriter);
+        arrayWriterDepth--;
         writer.write(']');
     }
 
     @Override
     final void write(final WriteableJsonObject writeableJsonObject) throws IOException {
         writer.write('{');
-        writeableJsonObject.writeTo(new ObjectWriter() {
-            private boolean isFirst = true;
+        final CompactObjectWriter objectWriter = objectWriter();
+        writeableJsonObject.writeTo(objectWriter);
+        objectWriterDepth--;
+        writer.write('}');
+    }
 
-            public void writeField(final String name, final WriteableJsonObject value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+    private final class CompactArrayWriter implements ArrayWriter {
+        private boolean isFirst;
 
-            public void writeField(final String name, final WriteableJsonArray value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonObject element) throws IOException {
+            writeCommaIfRequired();
+            write(element);
+        }
 
-            public void writeField(final String name, final WriteableJsonString value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonArray element) throws IOException {
+            writeCommaIfRequired();
+            write(element);
+        }
 
-            public void writeField(final String name, final WriteableJsonNumber value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonString element) throws IOException {
+            writeCommaIfRequired();
+            write(element);
+        }
 
-            public void writeField(final String name, final JsonNode value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonNumber element) throws IOException {
+            writeCommaIfRequired();
+            write(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonObject value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final WriteableJsonRaw element) throws IOException {
+            writeCommaIfRequired();
+            writeRaw(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonArray value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final JsonNode element) throws IOException {
+            writeCommaIfRequired();
+            write(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonString value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final long element) throws IOException {
+            writeCommaIfRequired();
+            writeNumber(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonNumber value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final double element) throws IOException {
+            writeCommaIfRequired();
+            writeNumber(element);
+        }
 
-            public void writeField(final JsonStringNode name, final JsonNode value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final BigDecimal element) throws IOException {
+            writeCommaIfRequired();
+            writeNumber(element);
+        }
 
-            private void writeName(final JsonStringNode name) throws IOException {
-                writeCommaIfRequired();
-                write(name);
-                writer.write(':');
+        private void writeCommaIfRequired() throws IOException {
+            if (!isFirst) {
+                writer.write(',');
             }
+            isFirst = false;
+        }
+    }
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonObject value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+    private final class CompactObjectWriter implements ObjectWriter {
+        private boolean isFirst;
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonArray value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonObject value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonString value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonArray value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonNumber value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonString value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            public void writeField(final WriteableJsonString name, final JsonNode value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonNumber value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            private void writeName(final WriteableJsonString name) throws IOException {
-                writeCommaIfRequired();
-                write(name);
-                writer.write(':');
-            }
+        public void writeField(final String name, final WriteableJsonRaw value) throws IOException {
+            writeName(name);
+            writeRaw(value);
+        }
 
-            public void writeField(final JsonField jsonField) throws IOException {
-                writeField(jsonField.getName(), jsonField.getValue());
-            }
+        public void writeField(final String name, final JsonNode value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final String name, final long value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final String name, final double value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final String name, final BigDecimal value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonObject value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonArray value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonString value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            private void writeCommaIfRequired() throws IOException {
-                if (!isFirst) {
-                    writer.write(',');
-                }
-                isFirst = false;
+        public void writeField(final JsonStringNode name, final WriteableJsonNumber value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonRaw value) throws IOException {
+            writeName(name);
+            writeRaw(value);
+        }
+
+        public void writeField(final JsonStringNode name, final JsonNode value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final long value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final JsonStringNode name, final double value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final JsonStringNode name, final BigDecimal value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        private void writeName(final JsonStringNode name) throws IOException {
+            writeCommaIfRequired();
+            write(name);
+            writer.write(':');
+        }
+
+        private void writeName(final String name) throws IOException {
+            writeCommaIfRequired();
+            write(name);
+            writer.write(':');
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonObject value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonArray value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonString value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonNumber value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonRaw value) throws IOException {
+            writeName(name);
+            writeRaw(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final JsonNode value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final long value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final double value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final BigDecimal value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        private void writeName(final WriteableJsonString name) throws IOException {
+            writeCommaIfRequired();
+            write(name);
+            writer.write(':');
+        }
+
+        public void writeField(final JsonField jsonField) throws IOException {
+            writeField(jsonField.getName(), jsonField.getValue());
+        }
+
+        private void writeCommaIfRequired() throws IOException {
+            if (!isFirst) {
+                writer.write(',');
             }
-        });
-        writer.write('}');
+            isFirst = false;
+        }
     }
 
     private static final class FieldSortingCompactJsonPrinter extends CompactJsonPrinter {
-        FieldSortingCompactJsonPrinter(final Writer writer) {
-            super(writer);
+        FieldSortingCompactJsonPrinter(final Writer writer, final JsonEscapedString jsonEscapedString) {
+            super(writer, jsonEscapedString);
+        }
+
+        @Override
+        public boolean raw(final String json) {
+            return false;
         }
 
         @Override
@@ -220,5 +375,10 @@ class CompactJsonPrinter extends JsonPrinter {
             Collections.sort(sorted, JSON_FIELD_COMPARATOR);
             super.throwingObject(sorted);
         }
+
+        @Override
+        JsonNode[] fieldOrder(final JsonNode[] namesAndValues) {
+            return sortedFieldOrder(namesAndValues);
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JsonNode;
+
+/**
+ * The outcome of parsing JSON text using {@code JsonParser.parseWithFingerprint}: the parsed {@code JsonNode}, and its
+ * structural fingerprint, as computed by {@code argo.jdom.JsonFingerprints.fingerprint}.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @see JsonParser#parseWithFingerprint(java.io.Reader)
+ * @see argo.jdom.JsonFingerprints
+ */
+public final class FingerprintedJsonNode {
+
+    private final JsonNode jsonNode;
+    private final long fingerprint;
+
+    FingerprintedJsonNode(final JsonNode jsonNode, final long fingerprint) {
+        this.jsonNode = jsonNode;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @return the parsed node.
+     */
+    public JsonNode getJsonNode() {
+        return jsonNode;
+    }
+
+    /**
+     * @return the structural fingerprint of the parsed node.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public String toString() {
+        return "FingerprintedJsonNode{jsonNode=" + jsonNode + ", fingerprint=" + fingerprint + "}";
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -13,139 +13,152 @@ package argo;
 import java.io.IOException;
 import java.io.Writer;
 
+/**
+ * Writes the content of JSON strings, escaping characters according to a table of escapes for ASCII characters and a
+ * rule for all other characters.
+ */
 final class JsonEscapedString {
 
-    private JsonEscapedString() {
+    private static final int ASCII_CHARACTERS = 128;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static final JsonEscapedString MINIMAL = new JsonEscapedString(minimalEscapes(), false, false);
+    static final JsonEscapedString ASCII = new JsonEscapedString(minimalEscapes(), true, false);
+    static final JsonEscapedString HTML_SAFE = new JsonEscapedString(htmlSafeEscapes(), false, true);
+
+    private final char[][] asciiEscapes;
+    private final boolean escapeNonAscii;
+    private final boolean escapeLineTerminators;
+    private final JsonEscapedString rawJsonEscapedString;
+
+    private JsonEscapedString(final char[][] asciiEscapes, final boolean escapeNonAscii, final boolean escapeLineTerminators) {
+        this.asciiEscapes = asciiEscapes;
+        this.escapeNonAscii = escapeNonAscii;
+        this.escapeLineTerminators = escapeLineTerminators;
+        this.rawJsonEscapedString = new JsonEscapedString(this);
+    }
+
+    private JsonEscapedString(final JsonEscapedString jsonEscapedString) {
+        this.asciiEscapes = withoutMinimalEscapes(jsonEscapedString.asciiEscapes);
+        this.escapeNonAscii = jsonEscapedString.escapeNonAscii;
+        this.escapeLineTerminators = jsonEscapedString.escapeLineTerminators;
+        this.rawJsonEscapedString = this;
+    }
+
+    private static char[][] minimalEscapes() {
+        final char[][] escapes = new char[ASCII_CHARACTERS][];
+        for (char c = 0; c < 32; c++) {
+            escapes[c] = unicodeEscape(c);
+        }
+        escapes['\b'] = "\\b".toCharArray();
+        escapes['\t'] = "\\t".toCharArray();
+        escapes['\n'] = "\\n".toCharArray();
+        escapes['\f'] = "\\f".toCharArray();
+        escapes['\r'] = "\\r".toCharArray();
+        escapes['"'] = "\\\"".toCharArray();
+        escapes['\\'] = "\\\\".toCharArray();
+        return escapes;
+    }
+
+    private static char[][] htmlSafeEscapes() {
+        final char[][] escapes = minimalEscapes();
+        escapes['<'] = unicodeEscape('<');
+        escapes['>'] = unicodeEscape('>');
+        escapes['&'] = unicodeEscape('&');
+        escapes['\''] = unicodeEscape('\'');
+        return escapes;
+    }
+
+    private static char[][] withoutMinimalEscapes(final char[][] asciiEscapes) {
+        final char[][] minimalEscapes = minimalEscapes();
+        final char[][] escapes = new char[ASCII_CHARACTERS][];
+        for (int i = 0; i < ASCII_CHARACTERS; i++) {
+            if (minimalEscapes[i] == null) {
+                escapes[i] = asciiEscapes[i];
+            }
+        }
+        return escapes;
+    }
+
+    /**
+     * Gets the escaping to apply to JSON text that's already been escaped minimally, which only affects characters that
+     * can't appear outside strings in valid JSON, so that its strings are escaped as this escaping would have escaped them.
+     */
+    JsonEscapedString rawJson() {
+        return rawJsonEscapedString;
+    }
+
+    private static char[] unicodeEscape(final char c) {
+        return new char[]{'\\', 'u', HEX_DIGITS[c >> 12 & 0xF], HEX_DIGITS[c >> 8 & 0xF], HEX_DIGITS[c >> 4 & 0xF], HEX_DIGITS[c & 0xF]};
     }
 
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NcssCount"})
     static void escapeCharBufferTo(final Writer writer, final char[] cbuf, final int offset, final int length) throws IOException {
+        MINIMAL.escape(writer, cbuf, offset, length);
+    }
+
+    void escape(final Writer writer, final char[] cbuf, final int offset, final int length) throws IOException {
         if (offset < 0 || offset > cbuf.length || length < 0 || offset + length > cbuf.length || offset + length < 0) {
             throw new IndexOutOfBoundsException();
         } else if (writer == null) {
             throw new NullPointerException("writer");
-        } else if (length != 0) {
-            final int end = offset + length;
-            int writtenOffset = offset;
-
-            for (int i = offset; i < end; i++) {
-                final char c = cbuf[i];
-
-                if (c < 32 || c == '\\' || c == '\"') {
-                    writer.write(cbuf, writtenOffset, i - writtenOffset);
-                    switch (c) {
-                        case '\u0000':
-                            writer.write("\\u0000");
-                            break;
-                        case '\u0001':
-                            writer.write("\\u0001");
-                            break;
-                        case '\u0002':
-                            writer.write("\\u0002");
-                            break;
-                        case '\u0003':
-                            writer.write("\\u0003");
-                            break;
-                        case '\u0004':
-                            writer.write("\\u0004");
-                            break;
-                        case '\u0005':
-                            writer.write("\\u0005");
-                            break;
-                        case '\u0006':
-                            writer.write("\\u0006");
-                            break;
-                        case '\u0007':
-                            writer.write("\\u0007");
-                            break;
-                        case '\u0008':
-                            writer.write("\\b");
-                            break;
-                        case '\t':
-                            writer.write("\\t");
-                            break;
-                        case '\n':
-                            writer.write("\\n");
-                            break;
-                        case '\u000b':
-                            writer.write("\\u000b");
-                            break;
-                        case '\u000c':
-                            writer.write("\\f");
-                            break;
-                        case '\r':
-                            writer.write("\\r");
-                            break;
-                        case '\u000e':
-                            writer.write("\\u000e");
-                            break;
-                        case '\u000f':
-                            writer.write("\\u000f");
-                            break;
-                        case '\u0010':
-                            writer.write("\\u0010");
-                            break;
-                        case '\u0011':
-                            writer.write("\\u0011");
-                            break;
-                        case '\u0012':
-                            writer.write("\\u0012");
-                            break;
-                        case '\u0013':
-                            writer.write("\\u0013");
-                            break;
-                        case '\u0014':
-                            writer.write("\\u0014");
-                            break;
-                        case '\u0015':
-                            writer.write("\\u0015");
-                            break;
-                        case '\u0016':
-                            writer.write("\\u0016");
-                            break;
-                        case '\u0017':
-                            writer.write("\\u0017");
-                            break;
-                        case '\u0018':
-                            writer.write("\\u0018");
-                            break;
-                        case '\u0019':
-                            writer.write("\\u0019");
-                            break;
-                        case '\u001a':
-                            writer.write("\\u001a");
-                            break;
-                        case '\u001b':
-                            writer.write("\\u001b");
-                            break;
-                        case '\u001c':
-                            writer.write("\\u001c");
-                            break;
-                        case '\u001d':
-                            writer.write("\\u001d");
-                            break;
-                        case '\u001e':
-                            writer.write("\\u001e");
-                            break;
-                        case '\u001f':
-                            writer.write("\\u001f");
-                            break;
-                        case '\\':
-                            writer.write("\\\\");
-                            break;
-                        case '\"':
-                            writer.write("\\\"");
-                            break;
-                        default:
-                            throw new RuntimeException("Coding failure in Argo:  Escaping a character that doesn't need escaping: " + c);
-                    }
-
-                    writtenOffset = i + 1;
-                }
+        }
+        final int end = offset + length;
+        int writtenOffset = offset;
+        int index = offset;
+        while (index < end) {
+            while (index < end && !needsEscaping(cbuf[index])) {
+                index++;
+            }
+            if (index > writtenOffset) {
+                writer.write(cbuf, writtenOffset, index - writtenOffset);
+            }
+            if (index < end) {
+                writeEscape(writer, cbuf[index]);
+                writtenOffset = ++index;
+            }
+        }
+    }
 
+    void escape(final Writer writer, final String value, final int offset, final int length) throws IOException {
+        if (offset < 0 || offset > value.length() || length < 0 || offset + length > value.length() || offset + length < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int end = offset + length;
+        int writtenOffset = offset;
+        int index = offset;
+        while (index < end) {
+            while (index < end && !needsEscaping(value.charAt(index))) {
+                index++;
+            }
+            if (index > writtenOffset) {
+                writer.write(value, writtenOffset, index - writtenOffset);
+            }
+            if (index < end) {
+                writeEscape(writer, value.charAt(index));
+                writtenOffset = ++index;
             }
-            writer.write(cbuf, writtenOffset, end - writtenOffset);
         }
     }
 
+    private boolean needsEscaping(final char c) {
+        if (c < ASCII_CHARACTERS) {
+            return asciiEscapes[c] != null;
+        } else {
+            return escapeNonAscii || escapeLineTerminators && (c == '\u2028' || c == '\u2029');
+        }
+    }
+
+    private void writeEscape(final Writer writer, final char c) throws IOException {
+        if (c < ASCII_CHARACTERS) {
+            final char[] escape = asciiEscapes[c];
+            writer.write(escape, 0, escape.length);
+        } else {
+            writer.write('\\');
+            writer.write('u');
+            writer.write(HEX_DIGITS[c >> 12 & 0xF]);
+            writer.write(HEX_DIGITS[c >> 8 & 0xF]);
+            writer.write(HEX_DIGITS[c >> 4 & 0xF]);
+            writer.write(HEX_DIGITS[c & 0xF]);
+        }
+    }
 }
@@ -0,0 +1,28 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+/**
+ * Decides what happens to each field of each object as a document is transcoded by a {@code JsonGenerator}.
+ *
+ * @see JsonGenerator#transcode(java.io.Reader, java.io.Writer, JsonFieldTransformer)
+ */
+public interface JsonFieldTransformer {
+
+    /**
+     * Decides what happens to a field.  Called once for each field, before any of the field's value has been read.
+     *
+     * @param name  the name of the field.
+     * @param depth the number of objects and arrays enclosing the field, so 1 for a field of the top level object.
+     * @return what to do with the field, for example {@link TransformedField#keep()}.
+     */
+    TransformedField transform(String name, int depth);
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -14,32 +14,54 @@ import argo.format.*;
 import argo.internal.StringBuilderWriter;
 import argo.jdom.JsonNode;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 import static argo.CompactJsonPrinter.compactJsonPrinter;
 import static argo.CompactJsonPrinter.fieldSortingCompactJsonPrinter;
 import static argo.JsonGenerator.JsonGeneratorStyle.PRETTY;
+import static argo.JsonGenerator.JsonStringEscaping.MINIMAL;
+import static argo.JsonGeneratorRecycler.jsonGeneratorRecycler;
 import static argo.PrettyJsonPrinter.fieldSortingPrettyJsonPrinter;
 import static argo.PrettyJsonPrinter.prettyJsonPrinter;
+import static argo.Utf8Writer.utf8Writer;
 
 /**
  * Provides operations create {@code String}s of valid JSON and to stream valid JSON text to a {@code java.io.Writer}.
  * <p>
+ * JSON text can also be streamed as UTF-8 encoded bytes to a {@code java.io.OutputStream}, a
+ * {@code java.nio.channels.WritableByteChannel}, or a {@code java.nio.ByteBuffer}, which avoids the cost of wrapping the
+ * target in a {@code java.io.OutputStreamWriter}.
+ * <p>
+ * Output is buffered internally and passed to the target in blocks, so there is no need to wrap an unbuffered target
+ * in a {@code java.io.BufferedWriter}.  Targets are neither flushed nor closed.
+ * <p>
+ * The printers and buffers used to generate a document are recycled for subsequent documents generated on the same
+ * thread, so generating many small documents allocates little beyond the output itself.
+ * <p>
  * Instances of this class are immutable, reusable, and thread-safe.
  */
 public final class JsonGenerator {
 
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
     private final JsonGeneratorStyle jsonGeneratorStyle;
+    private final JsonStringEscaping jsonStringEscaping;
     private final String lineSeparator;
 
     public JsonGenerator() {
-        this(PRETTY);
+        this(PRETTY, MINIMAL);
     }
 
     @SuppressWarnings("SystemGetProperty")
-    private JsonGenerator(final JsonGeneratorStyle jsonGeneratorStyle) {
+    private JsonGenerator(final JsonGeneratorStyle jsonGeneratorStyle, final JsonStringEscaping jsonStringEscaping) {
         this.jsonGeneratorStyle = jsonGeneratorStyle;
+        this.jsonStringEscaping = jsonStringEscaping;
         lineSeparator = System.getProperty("line.separator");
     }
 
@@ -51,7 +73,44 @@ public final class JsonGenerator {
      * @throws IOException if there was a problem writing to the {@code Writer}.
      */
     public void generate(final Writer target, final WriteableJsonArray writeableJsonArray) throws IOException {
-        jsonGeneratorStyle.newJsonPrinter(target, lineSeparator).write(writeableJsonArray);
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(jsonGeneratorStyle, jsonStringEscaping, false, lineSeparator, target);
+        boolean written = false;
+        try {
+            jsonPrinter.write(writeableJsonArray);
+            written = true;
+            jsonPrinter.flushBuffer();
+        } finally {
+            if (!written) {
+                jsonPrinter.flushBufferAfterFailure();
+            }
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code WriteableJsonArray} to the given {@code OutputStream}.
+     * The {@code OutputStream} is neither flushed nor closed.
+     *
+     * @param target             the {@code OutputStream} to output to.
+     * @param writeableJsonArray the {@code WriteableJsonArray} to output.
+     * @throws IOException if there was a problem writing to the {@code OutputStream}.
+     */
+    @SuppressWarnings("overloads")
+    public void generate(final OutputStream target, final WriteableJsonArray writeableJsonArray) throws IOException {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final Utf8Writer utf8Writer = jsonGeneratorRecycler.utf8Writer(target);
+        boolean written = false;
+        try {
+            generate(utf8Writer, writeableJsonArray);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+            jsonGeneratorRecycler.release(utf8Writer);
+        }
     }
 
     /**
@@ -62,13 +121,15 @@ public final class JsonGenerator {
      * @throws IOException propagated from {@link WriteableJsonArray#writeTo(ArrayWriter)}.
      */
     public String generate(final WriteableJsonArray writeableJsonArray) throws IOException {
-        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
         try {
             generate(stringBuilderWriter, writeableJsonArray);
+            return stringBuilderWriter.toString();
         } finally {
             stringBuilderWriter.close();
+            jsonGeneratorRecycler.release(stringBuilderWriter);
         }
-        return stringBuilderWriter.toString();
     }
 
     /**
@@ -79,7 +140,44 @@ public final class JsonGenerator {
      * @throws IOException if there was a problem writing to the {@code Writer}.
      */
     public void generate(final Writer target, final WriteableJsonObject writeableJsonObject) throws IOException {
-        jsonGeneratorStyle.newJsonPrinter(target, lineSeparator).write(writeableJsonObject);
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(jsonGeneratorStyle, jsonStringEscaping, false, lineSeparator, target);
+        boolean written = false;
+        try {
+            jsonPrinter.write(writeableJsonObject);
+            written = true;
+            jsonPrinter.flushBuffer();
+        } finally {
+            if (!written) {
+                jsonPrinter.flushBufferAfterFailure();
+            }
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code WriteableJsonObject} to the given {@code OutputStream}.
+     * The {@code OutputStream} is neither flushed nor closed.
+     *
+     * @param target              the {@code OutputStream} to output to.
+     * @param writeableJsonObject the {@code WriteableJsonObject} to output.
+     * @throws IOException if there was a problem writing to the {@code OutputStream}.
+     */
+    @SuppressWarnings("overloads")
+    public void generate(final OutputStream target, final WriteableJsonObject writeableJsonObject) throws IOException {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final Utf8Writer utf8Writer = jsonGeneratorRecycler.utf8Writer(target);
+        boolean written = false;
+        try {
+            generate(utf8Writer, writeableJsonObject);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+            jsonGeneratorRecycler.release(utf8Writer);
+        }
     }
 
     /**
@@ -90,13 +188,15 @@ public final class JsonGenerator {
      * @throws IOException propagated from {@link WriteableJsonObject#writeTo(ObjectWriter)}.
      */
     public String generate(final WriteableJsonObject writeableJsonObject) throws IOException {
-        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
         try {
             generate(stringBuilderWriter, writeableJsonObject);
+            return stringBuilderWriter.toString();
         } finally {
             stringBuilderWriter.close();
+            jsonGeneratorRecycler.release(stringBuilderWriter);
         }
-        return stringBuilderWriter.toString();
     }
 
     /**
@@ -107,7 +207,44 @@ public final class JsonGenerator {
      * @throws IOException if there was a problem writing to the {@code Writer}.
      */
     public void generate(final Writer target, final WriteableJsonString writeableJsonString) throws IOException {
-        jsonGeneratorStyle.newJsonPrinter(target, lineSeparator).write(writeableJsonString);
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(jsonGeneratorStyle, jsonStringEscaping, false, lineSeparator, target);
+        boolean written = false;
+        try {
+            jsonPrinter.write(writeableJsonString);
+            written = true;
+            jsonPrinter.flushBuffer();
+        } finally {
+            if (!written) {
+                jsonPrinter.flushBufferAfterFailure();
+            }
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code WriteableJsonString} to the given {@code OutputStream}.
+     * The {@code OutputStream} is neither flushed nor closed.
+     *
+     * @param target              the {@code OutputStream} to output to.
+     * @param writeableJsonString the {@code WriteableJsonString} to output.
+     * @throws IOException if there was a problem writing to the {@code OutputStream}.
+     */
+    @SuppressWarnings("overloads")
+    public void generate(final OutputStream target, final WriteableJsonString writeableJsonString) throws IOException {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final Utf8Writer utf8Writer = jsonGeneratorRecycler.utf8Writer(target);
+        boolean written = false;
+        try {
+            generate(utf8Writer, writeableJsonString);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+            jsonGeneratorRecycler.release(utf8Writer);
+        }
     }
 
     /**
@@ -118,13 +255,15 @@ public final class JsonGenerator {
      * @throws IOException propagated from {@link WriteableJsonString#writeTo(Writer)}.
      */
     public String generate(final WriteableJsonString writeableJsonString) throws IOException {
-        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
         try {
             generate(stringBuilderWriter, writeableJsonString);
+            return stringBuilderWriter.toString();
         } finally {
             stringBuilderWriter.close();
+            jsonGeneratorRecycler.release(stringBuilderWriter);
         }
-        return stringBuilderWriter.toString();
     }
 
     /**
@@ -136,7 +275,45 @@ public final class JsonGenerator {
      * @throws IllegalArgumentException if the characters written by the {@code WriteableJsonNumber} don't constitute a complete JSON number.
      */
     public void generate(final Writer target, final WriteableJsonNumber writeableJsonNumber) throws IOException {
-        jsonGeneratorStyle.newJsonPrinter(target, lineSeparator).write(writeableJsonNumber);
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(jsonGeneratorStyle, jsonStringEscaping, false, lineSeparator, target);
+        boolean written = false;
+        try {
+            jsonPrinter.write(writeableJsonNumber);
+            written = true;
+            jsonPrinter.flushBuffer();
+        } finally {
+            if (!written) {
+                jsonPrinter.flushBufferAfterFailure();
+            }
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code WriteableJsonNumber} to the given {@code OutputStream}.
+     * The {@code OutputStream} is neither flushed nor closed.
+     *
+     * @param target              the {@code OutputStream} to output to.
+     * @param writeableJsonNumber the {@code WriteableJsonNumber} to output.
+     * @throws IOException              if there was a problem writing to the {@code OutputStream}.
+     * @throws IllegalArgumentException if the characters written by the {@code WriteableJsonNumber} don't constitute a complete JSON number.
+     */
+    @SuppressWarnings("overloads")
+    public void generate(final OutputStream target, final WriteableJsonNumber writeableJsonNumber) throws IOException {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final Utf8Writer utf8Writer = jsonGeneratorRecycler.utf8Writer(target);
+        boolean written = false;
+        try {
+            generate(utf8Writer, writeableJsonNumber);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+            jsonGeneratorRecycler.release(utf8Writer);
+        }
     }
 
     /**
@@ -148,13 +325,15 @@ public final class JsonGenerator {
      * @throws IllegalArgumentException if the characters written by the {@code WriteableJsonNumber} don't constitute a complete JSON number.
      */
     public String generate(final WriteableJsonNumber writeableJsonNumber) throws IOException {
-        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
         try {
             generate(stringBuilderWriter, writeableJsonNumber);
+            return stringBuilderWriter.toString();
         } finally {
             stringBuilderWriter.close();
+            jsonGeneratorRecycler.release(stringBuilderWriter);
         }
-        return stringBuilderWriter.toString();
     }
 
     /**
@@ -165,7 +344,99 @@ public final class JsonGenerator {
      * @throws IOException if there was a problem writing to the {@code Writer}.
      */
     public void generate(final Writer target, final JsonNode jsonNode) throws IOException {
-        jsonGeneratorStyle.newJsonPrinter(target, lineSeparator).write(jsonNode);
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(jsonGeneratorStyle, jsonStringEscaping, false, lineSeparator, target);
+        boolean written = false;
+        try {
+            jsonPrinter.write(jsonNode);
+            written = true;
+            jsonPrinter.flushBuffer();
+        } finally {
+            if (!written) {
+                jsonPrinter.flushBufferAfterFailure();
+            }
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code JsonNode} to the given {@code OutputStream}.
+     * The {@code OutputStream} is neither flushed nor closed.
+     *
+     * @param target   the {@code OutputStream} to output to.
+     * @param jsonNode the {@code JsonNode} to output.
+     * @throws IOException if there was a problem writing to the {@code OutputStream}.
+     */
+    public void generate(final OutputStream target, final JsonNode jsonNode) throws IOException {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final Utf8Writer utf8Writer = jsonGeneratorRecycler.utf8Writer(target);
+        boolean written = false;
+        try {
+            generate(utf8Writer, jsonNode);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+            jsonGeneratorRecycler.release(utf8Writer);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code JsonNode} to the given {@code WritableByteChannel}.
+     * The {@code WritableByteChannel} is not closed.
+     *
+     * @param target   the {@code WritableByteChannel} to output to.
+     * @param jsonNode the {@code JsonNode} to output.
+     * @throws IOException if there was a problem writing to the {@code WritableByteChannel}.
+     */
+    public void generate(final WritableByteChannel target, final JsonNode jsonNode) throws IOException {
+        final Utf8Writer utf8Writer = utf8Writer(target);
+        boolean written = false;
+        try {
+            generate(utf8Writer, jsonNode);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+        }
+    }
+
+    /**
+     * Writes a UTF-8 encoded JSON representation of the given {@code JsonNode} to the given {@code ByteBuffer}, starting at its current position.
+     * On return, the position of the {@code ByteBuffer} is immediately after the last byte written.
+     *
+     * @param target   the {@code ByteBuffer} to output to.
+     * @param jsonNode the {@code JsonNode} to output.
+     * @throws java.nio.BufferOverflowException if the {@code ByteBuffer} has insufficient space remaining, in which case the content of the {@code ByteBuffer} after its original position is unspecified.
+     */
+    public void generate(final ByteBuffer target, final JsonNode jsonNode) {
+        final Utf8Writer utf8Writer = utf8Writer(target);
+        try {
+            generate(utf8Writer, jsonNode);
+            utf8Writer.finish();
+        } catch (final IOException e) {
+            throw new RuntimeException("Coding failure in Argo:  ByteBuffer target threw an IOException", e);
+        }
+    }
+
+    /**
+     * Generates a UTF-8 encoded JSON representation of the given {@code JsonNode} as a byte array.
+     *
+     * @param jsonNode the {@code JsonNode} to output.
+     * @return a UTF-8 encoded JSON representation of the given {@code JsonNode}.
+     */
+    public byte[] generateBytes(final JsonNode jsonNode) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try {
+            generate(byteArrayOutputStream, jsonNode);
+        } catch (final IOException e) {
+            throw new RuntimeException("Coding failure in Argo:  ByteArrayOutputStream threw an IOException", e);
+        }
+        return byteArrayOutputStream.toByteArray();
     }
 
     /**
@@ -175,15 +446,17 @@ public final class JsonGenerator {
      * @return a JSON representation of the given {@code JsonNode} as a {@code String}
      */
     public String generate(final JsonNode jsonNode) {
-        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
         try {
             generate(stringBuilderWriter, jsonNode);
+            return stringBuilderWriter.toString();
         } catch (final IOException e) {
             throw new RuntimeException("Coding failure in Argo:  StringBuilderWriter threw an IOException", e);
         } finally {
             stringBuilderWriter.close();
+            jsonGeneratorRecycler.release(stringBuilderWriter);
         }
-        return stringBuilderWriter.toString();
     }
 
     /**
@@ -196,7 +469,45 @@ public final class JsonGenerator {
      * @throws IOException if there was a problem writing to the {@code Writer}.
      */
     public void generateWithFieldSorting(final Writer target, final JsonNode jsonNode) throws IOException {
-        jsonGeneratorStyle.newFieldSortingJsonPrinter(target, lineSeparator).write(jsonNode);
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(jsonGeneratorStyle, jsonStringEscaping, true, lineSeparator, target);
+        boolean written = false;
+        try {
+            jsonPrinter.write(jsonNode);
+            written = true;
+            jsonPrinter.flushBuffer();
+        } finally {
+            if (!written) {
+                jsonPrinter.flushBufferAfterFailure();
+            }
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    /**
+     * Streams a UTF-8 encoded JSON representation of the given {@code JsonNode} to the given {@code OutputStream}, outputting fields in lexicographic order.
+     * JSON does not mandate a particular ordering for the fields of an object, but for comparing JSON documents it can be convenient for field order to be consistent.
+     * In the event that more than one field with the same name exists in an object, the relative order of those fields is preserved.
+     * The {@code OutputStream} is neither flushed nor closed.
+     *
+     * @param target   the {@code OutputStream} to output to.
+     * @param jsonNode the {@code JsonNode} to output.
+     * @throws IOException if there was a problem writing to the {@code OutputStream}.
+     */
+    public void generateWithFieldSorting(final OutputStream target, final JsonNode jsonNode) throws IOException {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final Utf8Writer utf8Writer = jsonGeneratorRecycler.utf8Writer(target);
+        boolean written = false;
+        try {
+            generateWithFieldSorting(utf8Writer, jsonNode);
+            written = true;
+            utf8Writer.finish();
+        } finally {
+            if (!written) {
+                utf8Writer.finishAfterFailure();
+            }
+            jsonGeneratorRecycler.release(utf8Writer);
+        }
     }
 
     /**
@@ -208,15 +519,87 @@ public final class JsonGenerator {
      * @return a JSON representation of the given {@code JsonNode} as a {@code String}
      */
     public String generateWithFieldSorting(final JsonNode jsonNode) {
-        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
         try {
             generateWithFieldSorting(stringBuilderWriter, jsonNode);
+            return stringBuilderWriter.toString();
         } catch (final IOException e) {
             throw new RuntimeException("Coding failure in Argo:  StringBuilderWriter threw an IOException", e);
         } finally {
             stringBuilderWriter.close();
+            jsonGeneratorRecycler.release(stringBuilderWriter);
+        }
+    }
+
+    /**
+     * Creates a {@code JsonStreamWriter} that writes a JSON document to the given {@code Writer} one event at a time,
+     * in the style and with the escaping of this {@code JsonGenerator}.
+     *
+     * @param target the {@code Writer} to output to.
+     * @return a {@code JsonStreamWriter} that writes to the given {@code Writer}.
+     */
+    public JsonStreamWriter jsonStreamWriter(final Writer target) {
+        return jsonGeneratorStyle.newJsonStreamWriter(target, null, lineSeparator, jsonStringEscaping.jsonEscapedString);
+    }
+
+    /**
+     * Creates a {@code JsonStreamWriter} that writes a UTF-8 encoded JSON document to the given {@code OutputStream}
+     * one event at a time, in the style and with the escaping of this {@code JsonGenerator}.
+     *
+     * @param target the {@code OutputStream} to output to.
+     * @return a {@code JsonStreamWriter} that writes to the given {@code OutputStream}.
+     */
+    public JsonStreamWriter jsonStreamWriter(final OutputStream target) {
+        final Utf8Writer utf8Writer = utf8Writer(target);
+        return jsonGeneratorStyle.newJsonStreamWriter(utf8Writer, utf8Writer, lineSeparator, jsonStringEscaping.jsonEscapedString);
+    }
+
+    /**
+     * Streams the JSON text read from the given {@code Reader} to the given {@code Writer}, in the style and with the
+     * escaping of this {@code JsonGenerator}.  Events from the parser are written as they occur, without building a
+     * {@code JsonNode}, so memory use is proportional to the depth of nesting of the document, rather than its size.
+     * Fields are written in the order they are read.
+     * <p>
+     * Output is written as the input is read, so if the input turns out to be invalid, or can't be read, the
+     * {@code Writer} will have been passed the output up to that point.
+     *
+     * @param source the {@code Reader} to read JSON text from.
+     * @param target the {@code Writer} to output to.
+     * @throws IOException            if there was a problem reading from the {@code Reader} or writing to the {@code Writer}.
+     * @throws InvalidSyntaxException if the characters streamed from the {@code Reader} aren't valid JSON.
+     */
+    public void transcode(final Reader source, final Writer target) throws IOException, InvalidSyntaxException {
+        transcode(source, target, null);
+    }
+
+    /**
+     * Streams the JSON text read from the given {@code Reader} to the given {@code Writer}, as
+     * {@link #transcode(Reader, Writer)}, allowing the given {@code JsonFieldTransformer} to drop, rename, or replace
+     * each field.
+     *
+     * @param source               the {@code Reader} to read JSON text from.
+     * @param target               the {@code Writer} to output to.
+     * @param jsonFieldTransformer decides what happens to each field, or null to write every field unchanged.
+     * @throws IOException            if there was a problem reading from the {@code Reader} or writing to the {@code Writer}.
+     * @throws InvalidSyntaxException if the characters streamed from the {@code Reader} aren't valid JSON.
+     */
+    public void transcode(final Reader source, final Writer target, final JsonFieldTransformer jsonFieldTransformer) throws IOException, InvalidSyntaxException {
+        final JsonStreamWriter jsonStreamWriter = jsonGeneratorStyle.newJsonStreamWriter(target, null, lineSeparator, jsonStringEscaping.jsonEscapedString);
+        boolean transcoded = false;
+        boolean targetFailed = false;
+        try {
+            JSON_PARSER.parseStreaming(source, new TranscodingJsonListener(jsonStreamWriter, jsonFieldTransformer));
+            transcoded = true;
+            jsonStreamWriter.flushBuffer();
+        } catch (final JsonPrinter.IORuntimeException e) {
+            targetFailed = true;
+            throw e.getCause();
+        } finally {
+            if (!transcoded && !targetFailed) {
+                jsonStreamWriter.flushBufferAfterFailure();
+            }
         }
-        return stringBuilderWriter.toString();
     }
 
     /**
@@ -227,7 +610,18 @@ public final class JsonGenerator {
      * @return a {@code JsonGenerator} with the given output style.
      */
     public JsonGenerator style(final JsonGeneratorStyle style) {
-        return new JsonGenerator(style);
+        return new JsonGenerator(style, jsonStringEscaping);
+    }
+
+    /**
+     * Returns a {@code JsonGenerator} that escapes characters in strings according to the given {@code JsonStringEscaping}.
+     * Defaults to {@link JsonStringEscaping#MINIMAL}.
+     *
+     * @param escaping the characters to escape in strings.
+     * @return a {@code JsonGenerator} with the given string escaping.
+     */
+    public JsonGenerator escaping(final JsonStringEscaping escaping) {
+        return new JsonGenerator(jsonGeneratorStyle, escaping);
     }
 
     /**
@@ -239,12 +633,16 @@ public final class JsonGenerator {
          * Includes newlines, tabs, and spaces to improve readability.
          */
         PRETTY() {
-            JsonPrinter newJsonPrinter(final Writer writer, final String lineSeparator) {
-                return prettyJsonPrinter(writer, lineSeparator);
+            JsonPrinter newJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+                return prettyJsonPrinter(writer, lineSeparator, jsonEscapedString);
             }
 
-            JsonPrinter newFieldSortingJsonPrinter(final Writer writer, final String lineSeparator) {
-                return fieldSortingPrettyJsonPrinter(writer, lineSeparator);
+            JsonPrinter newFieldSortingJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+                return fieldSortingPrettyJsonPrinter(writer, lineSeparator, jsonEscapedString);
+            }
+
+            JsonStreamWriter newJsonStreamWriter(final Writer writer, final Utf8Writer utf8Writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+                return new JsonStreamWriter(writer, utf8Writer, lineSeparator, jsonEscapedString);
             }
         },
 
@@ -252,17 +650,53 @@ public final class JsonGenerator {
          * Excludes all optional whitespace to produce the briefest valid JSON.
          */
         COMPACT() {
-            JsonPrinter newJsonPrinter(final Writer writer, final String lineSeparator) {
-                return compactJsonPrinter(writer);
+            JsonPrinter newJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+                return compactJsonPrinter(writer, jsonEscapedString);
+            }
+
+            JsonPrinter newFieldSortingJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+                return fieldSortingCompactJsonPrinter(writer, jsonEscapedString);
             }
 
-            JsonPrinter newFieldSortingJsonPrinter(final Writer writer, final String lineSeparator) {
-                return fieldSortingCompactJsonPrinter(writer);
+            JsonStreamWriter newJsonStreamWriter(final Writer writer, final Utf8Writer utf8Writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+                return new JsonStreamWriter(writer, utf8Writer, null, jsonEscapedString);
             }
         };
 
-        abstract JsonPrinter newJsonPrinter(Writer writer, String lineSeparator);
+        abstract JsonPrinter newJsonPrinter(Writer writer, String lineSeparator, JsonEscapedString jsonEscapedString);
+
+        abstract JsonPrinter newFieldSortingJsonPrinter(Writer writer, String lineSeparator, JsonEscapedString jsonEscapedString);
 
-        abstract JsonPrinter newFieldSortingJsonPrinter(Writer writer, String lineSeparator);
+        abstract JsonStreamWriter newJsonStreamWriter(Writer writer, Utf8Writer utf8Writer, String lineSeparator, JsonEscapedString jsonEscapedString);
+    }
+
+    /**
+     * Sets of characters a {@code JsonGenerator} escapes in strings.
+     * Every set includes the quotation mark, the reverse solidus, and the control characters, which JSON requires to be escaped.
+     */
+    public enum JsonStringEscaping {
+
+        /**
+         * Escapes only the characters JSON requires to be escaped.
+         */
+        MINIMAL(JsonEscapedString.MINIMAL),
+
+        /**
+         * Additionally escapes all non-ASCII characters, so the output consists entirely of ASCII characters.
+         * Characters outside the Basic Multilingual Plane are escaped as a surrogate pair.
+         */
+        ASCII(JsonEscapedString.ASCII),
+
+        /**
+         * Additionally escapes {@code <}, {@code >}, {@code &}, and {@code '}, and the line terminators U+2028 and U+2029,
+         * so the output can be embedded in HTML, including within a {@code <script>} element.
+         */
+        HTML_SAFE(JsonEscapedString.HTML_SAFE);
+
+        final JsonEscapedString jsonEscapedString;
+
+        JsonStringEscaping(final JsonEscapedString jsonEscapedString) {
+            this.jsonEscapedString = jsonEscapedString;
+        }
     }
 }
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.JsonGenerator.JsonGeneratorStyle;
+import argo.JsonGenerator.JsonStringEscaping;
+import argo.Utf8Writer.OutputStreamUtf8Writer;
+import argo.internal.StringBuilderWriter;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.ref.SoftReference;
+
+/**
+ * Holds the printers and writers used by {@code JsonGenerator} on a single thread, so that they can be reused from one
+ * document to the next rather than being allocated afresh each time.
+ * <p>
+ * Each object is handed out to one user at a time.  If it's requested again before being released, for example by a
+ * {@code WriteableJsonString} that itself generates JSON, a new, unrecycled, object is returned instead.  Recyclers
+ * are held via {@code SoftReference}s, so they don't prevent memory being reclaimed.
+ */
+final class JsonGeneratorRecycler {
+
+    private static final int MAXIMUM_RETAINED_STRING_BUILDER_CAPACITY = 65536;
+    private static final int PRINTER_VARIANTS = JsonGeneratorStyle.values().length * JsonStringEscaping.values().length * 2;
+    private static final ThreadLocal<SoftReference<JsonGeneratorRecycler>> RECYCLERS = new ThreadLocal<SoftReference<JsonGeneratorRecycler>>();
+
+    private final JsonPrinter[] jsonPrinters = new JsonPrinter[PRINTER_VARIANTS];
+    private final String[] lineSeparators = new String[PRINTER_VARIANTS];
+    private final boolean[] jsonPrintersInUse = new boolean[PRINTER_VARIANTS];
+    private StringBuilderWriter stringBuilderWriter;
+    private boolean stringBuilderWriterInUse;
+    private OutputStreamUtf8Writer utf8Writer;
+    private boolean utf8WriterInUse;
+
+    private JsonGeneratorRecycler() {
+    }
+
+    static JsonGeneratorRecycler jsonGeneratorRecycler() {
+        final SoftReference<JsonGeneratorRecycler> reference = RECYCLERS.get();
+        JsonGeneratorRecycler jsonGeneratorRecycler = reference == null ? null : reference.get();
+        if (jsonGeneratorRecycler == null) {
+            jsonGeneratorRecycler = new JsonGeneratorRecycler();
+            RECYCLERS.set(new SoftReference<JsonGeneratorRecycler>(jsonGeneratorRecycler));
+        }
+        return jsonGeneratorRecycler;
+    }
+
+    JsonPrinter jsonPrinter(final JsonGeneratorStyle jsonGeneratorStyle, final JsonStringEscaping jsonStringEscaping, final boolean fieldSorting, final String lineSeparator, final Writer target) {
+        final int index = (jsonGeneratorStyle.ordinal() * JsonStringEscaping.values().length + jsonStringEscaping.ordinal()) * 2 + (fieldSorting ? 1 : 0);
+        if (jsonPrintersInUse[index]) {
+            return newJsonPrinter(jsonGeneratorStyle, jsonStringEscaping, fieldSorting, lineSeparator, target);
+        }
+        if (jsonPrinters[index] == null || !lineSeparator.equals(lineSeparators[index])) {
+            jsonPrinters[index] = newJsonPrinter(jsonGeneratorStyle, jsonStringEscaping, fieldSorting, lineSeparator, target);
+            lineSeparators[index] = lineSeparator;
+        } else {
+            jsonPrinters[index].target(target);
+        }
+        jsonPrintersInUse[index] = true;
+        return jsonPrinters[index];
+    }
+
+    private static JsonPrinter newJsonPrinter(final JsonGeneratorStyle jsonGeneratorStyle, final JsonStringEscaping jsonStringEscaping, final boolean fieldSorting, final String lineSeparator, final Writer target) {
+        return fieldSorting
+                ? jsonGeneratorStyle.newFieldSortingJsonPrinter(target, lineSeparator, jsonStringEscaping.jsonEscapedString)
+                : jsonGeneratorStyle.newJsonPrinter(target, lineSeparator, jsonStringEscaping.jsonEscapedString);
+    }
+
+    void release(final JsonPrinter jsonPrinter) {
+        for (int i = 0; i < PRINTER_VARIANTS; i++) {
+            if (jsonPrinters[i] == jsonPrinter) {
+                jsonPrinter.detach();
+                jsonPrintersInUse[i] = false;
+            }
+        }
+    }
+
+    StringBuilderWriter stringBuilderWriter() {
+        if (stringBuilderWriterInUse) {
+            return new StringBuilderWriter();
+        }
+        if (stringBuilderWriter == null || stringBuilderWriter.capacity() > MAXIMUM_RETAINED_STRING_BUILDER_CAPACITY) {
+            stringBuilderWriter = new StringBuilderWriter();
+        } else {
+            stringBuilderWriter.clear();
+        }
+        stringBuilderWriterInUse = true;
+        return stringBuilderWriter;
+    }
+
+    void release(final StringBuilderWriter stringBuilderWriter) {
+        if (this.stringBuilderWriter == stringBuilderWriter) {
+            stringBuilderWriterInUse = false;
+        }
+    }
+
+    Utf8Writer utf8Writer(final OutputStream target) {
+        if (utf8WriterInUse) {
+            return new OutputStreamUtf8Writer(target);
+        }
+        if (utf8Writer == null) {
+            utf8Writer = new OutputStreamUtf8Writer(target);
+        } else {
+            utf8Writer.target(target);
+        }
+        utf8WriterInUse = true;
+        return utf8Writer;
+    }
+
+    void release(final Utf8Writer utf8Writer) {
+        if (this.utf8Writer == utf8Writer) {
+            this.utf8Writer.detach();
+            utf8WriterInUse = false;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -32,6 +32,17 @@ final class JsonNumberValidatingWriter extends Writer {
         this.writeBufferHolder = writeBufferHolder;
     }
 
+    /**
+     * Reopens this writer, following {@code close}, to validate another number written to the given target.
+     */
+    void open(final Writer out) {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        this.out = out;
+        numberParserState = NumberParserState.BEFORE_START;
+    }
+
     private static void validateArguments(final char[] cbuf, final int offset, final int length) {
         if (offset < 0 || offset > cbuf.length || length < 0 ||
                 offset + length > cbuf.length || offset + length < 0) {
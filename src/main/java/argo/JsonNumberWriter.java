@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes primitive numbers as JSON, for both {@code JsonPrinter} and {@code JsonStreamWriter}.  Instances hold a digit
+ * buffer, so each writer needs its own.
+ */
+final class JsonNumberWriter {
+
+    private final char[] digits = new char[20];
+
+    void write(final Writer writer, final long value) throws IOException {
+        int position = digits.length;
+        long remaining = value;
+        do {
+            final int digit = (int) (remaining % 10);
+            digits[--position] = (char) ('0' + (digit < 0 ? -digit : digit));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+        writer.write(digits, position, digits.length - position);
+    }
+
+    static void write(final Writer writer, final double value) throws IOException {
+        checkRepresentable(value);
+        writer.write(Double.toString(value));
+    }
+
+    static void checkRepresentable(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Attempted to write [" + value + "], which cannot be represented as a JSON number");
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -11,39 +11,67 @@
 package argo;
 
 import argo.internal.FastStack;
-import argo.jdom.JsonField;
+import argo.internal.Fingerprints;
+import argo.internal.IORuntimeException;
+import argo.internal.JsonNodeAccess;
+import argo.internal.JsonParserAccess;
 import argo.jdom.JsonNode;
 import argo.jdom.JsonStringNode;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static argo.JsonParser.NodeInterningStrategy.INTERN_LEAF_NODES;
+import static argo.JsonParser.NodeInterningStrategy.INTERN_NOTHING;
 import static argo.JsonParser.PositionTracking.TRACK;
+import static argo.JsonParser.StringUnescaping.UNESCAPE_EAGERLY;
+import static argo.JsonParser.StringUnescaping.UNESCAPE_LAZILY;
 import static argo.JsonStreamElement.NonTextJsonStreamElement.END_DOCUMENT;
 import static argo.jdom.JsonNodeFactories.*;
 
 /**
  * Provides operations to parse JSON.
  * <p>
- * Instances of this class are immutable, reusable, and thread-safe.
+ * Instances of this class are reusable and thread-safe.  Apart from the statistics returned by
+ * {@link #nodeInterningStatistics()}, they are immutable.
  */
 public final class JsonParser {
 
+    static {
+        JsonParserAccess.register(new JsonParserAccess() {
+            @Override
+            public JsonListener jsonNodeBuildingListener(final JsonNodeReceiver jsonNodeReceiver) {
+                return new TreeBuildingJsonListener<PrevalidatedNodes, PrevalidatedNodes, JsonNode>(new JsonNodeTreeFactory(INTERN_NOTHING), null, null) {
+                    @Override
+                    public void endDocument() {
+                        jsonNodeReceiver.jsonNode(root());
+                    }
+                };
+            }
+        });
+    }
+
+    private static final JsonNodeAccess JSON_NODE_ACCESS = JsonNodeAccess.jsonNodeAccess();
+
     private final NodeInterningStrategy nodeInterningStrategy;
     private final PositionTracking positionTracking;
     private final int bufferSize;
+    private final StringUnescaping stringUnescaping;
+    private final InterningCounts interningCounts = new InterningCounts();
 
     public JsonParser() {
-        this(INTERN_LEAF_NODES, TRACK, 512);
+        this(INTERN_LEAF_NODES, TRACK, 512, UNESCAPE_EAGERLY);
     }
 
-    private JsonParser(final NodeInterningStrategy nodeInterningStrategy, final PositionTracking positionTracking, final int bufferSize) {
+    private JsonParser(final NodeInterningStrategy nodeInterningStrategy, final PositionTracking positionTracking, final int bufferSize, final StringUnescaping stringUnescaping) {
         this.nodeInterningStrategy = nodeInterningStrategy;
         this.positionTracking = positionTracking;
         this.bufferSize = bufferSize;
+        this.stringUnescaping = stringUnescaping;
     }
 
     private static String asString(final Reader reader, final StringBuilder stringBuilder) throws IOException {
@@ -65,7 +93,7 @@ public final class JsonParser {
         if (nodeInterningStrategy == null) {
             throw new NullPointerException("nodeInterningStrategy");
         }
-        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize);
+        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize, stringUnescaping);
     }
 
     /**
@@ -78,7 +106,7 @@ public final class JsonParser {
         if (positionTracking == null) {
             throw new NullPointerException("positionTracking");
         }
-        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize);
+        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize, stringUnescaping);
     }
 
     /**
@@ -92,7 +120,32 @@ public final class JsonParser {
         if (bufferSize < 1) {
             throw new IllegalArgumentException("bufferSize is not positive: " + bufferSize);
         }
-        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize);
+        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize, stringUnescaping);
+    }
+
+    /**
+     * Returns a JsonParser with the given string unescaping setting.  Defaults to {@link StringUnescaping#UNESCAPE_EAGERLY}.
+     *
+     * @param stringUnescaping the string unescaping setting to use when parsing without streaming.
+     * @return a JsonParser with the given string unescaping setting.
+     */
+    public JsonParser stringUnescaping(final StringUnescaping stringUnescaping) {
+        if (stringUnescaping == null) {
+            throw new NullPointerException("stringUnescaping");
+        }
+        return new JsonParser(nodeInterningStrategy, positionTracking, bufferSize, stringUnescaping);
+    }
+
+    /**
+     * Returns the statistics of the objects and arrays interned in the documents this {@code JsonParser} has parsed
+     * into {@code JsonNode}s so far.  Only {@link NodeInterningStrategy#INTERN_ALL_NODES} interns objects and arrays, so
+     * with any other strategy, the statistics are always zero.  Each {@code JsonParser} has its own statistics, which
+     * aren't shared with those returned by {@code nodeInterning} and the other methods that return a modified parser.
+     *
+     * @return a snapshot of the statistics of the objects and arrays this {@code JsonParser} has interned.
+     */
+    public NodeInterningStatistics nodeInterningStatistics() {
+        return interningCounts.snapshot();
     }
 
     /**
@@ -126,6 +179,191 @@ public final class JsonParser {
         }
     }
 
+    /**
+     * Parses the character stream from the given {@code Reader} into a tree built by the given {@code JsonTreeFactory},
+     * without building {@code JsonNode}s along the way.  The node interning strategy of this parser doesn't apply.
+     *
+     * @param reader          the {@code Reader} to parse.
+     * @param jsonTreeFactory the factory to build the tree with.
+     * @param <O>             the type of an object under construction.
+     * @param <A>             the type of an array under construction.
+     * @param <V>             the type of a finished value.
+     * @return the value the given {@code JsonTreeFactory} built from the JSON read from the given {@code Reader}.
+     * @throws InvalidSyntaxException if the characters streamed from the given {@code Reader} do not represent valid JSON.
+     * @throws IOException            rethrown when reading characters from the given {@code Reader} throws {@code IOException}.
+     * @see JsonTreeFactories
+     */
+    public <O, A, V> V parse(final Reader reader, final JsonTreeFactory<O, A, V> jsonTreeFactory) throws InvalidSyntaxException, IOException {
+        if (jsonTreeFactory == null) {
+            throw new NullPointerException("jsonTreeFactory");
+        }
+        return parse(new ParseExecutor() {
+            public void parseUsing(final JsonListener jsonListener) throws InvalidSyntaxException, IOException {
+                parseStreaming(reader, jsonListener);
+            }
+        }, jsonTreeFactory, null, null);
+    }
+
+    /**
+     * Parses the given JSON {@code String} into a tree built by the given {@code JsonTreeFactory}, without building
+     * {@code JsonNode}s along the way.  The node interning strategy of this parser doesn't apply.
+     *
+     * @param json            the {@code String} to parse.
+     * @param jsonTreeFactory the factory to build the tree with.
+     * @param <O>             the type of an object under construction.
+     * @param <A>             the type of an array under construction.
+     * @param <V>             the type of a finished value.
+     * @return the value the given {@code JsonTreeFactory} built from the JSON read from the given {@code String}.
+     * @throws InvalidSyntaxException if the characters streamed from the given {@code String} do not represent valid JSON.
+     * @see JsonTreeFactories
+     */
+    public <O, A, V> V parse(final String json, final JsonTreeFactory<O, A, V> jsonTreeFactory) throws InvalidSyntaxException {
+        try {
+            return parse(new StringReader(json), jsonTreeFactory);
+        } catch (final IOException e) {
+            throw new RuntimeException("Coding failure in Argo:  StringReader threw an IOException");
+        }
+    }
+
+    /**
+     * Parses the character stream from the given {@code Reader} into a {@code JsonNode} object, computing its
+     * structural fingerprint as it goes.  The fingerprint is the same as the one {@code JsonFingerprints.fingerprint}
+     * computes from the parsed node, but costs little more than parsing alone.  Since the fingerprint depends on the
+     * text of every string, strings are always unescaped eagerly.
+     *
+     * @param reader the {@code Reader} to parse.
+     * @return the {@code JsonNode} representing the JSON read from the given {@code Reader}, and its structural fingerprint.
+     * @throws InvalidSyntaxException if the characters streamed from the given {@code Reader} do not represent valid JSON.
+     * @throws IOException            rethrown when reading characters from the given {@code Reader} throws {@code IOException}.
+     * @see argo.jdom.JsonFingerprints
+     */
+    public FingerprintedJsonNode parseWithFingerprint(final Reader reader) throws InvalidSyntaxException, IOException {
+        final FingerprintAccumulator fingerprintAccumulator = new FingerprintAccumulator();
+        final JsonNodeTreeFactory jsonNodeTreeFactory = new JsonNodeTreeFactory(nodeInterningStrategy);
+        final JsonNode jsonNode = parse(new ParseExecutor() {
+            public void parseUsing(final JsonListener jsonListener) throws InvalidSyntaxException, IOException {
+                parseStreaming(reader, jsonListener);
+            }
+        }, jsonNodeTreeFactory, null, fingerprintAccumulator);
+        jsonNodeTreeFactory.recordStatistics(interningCounts);
+        return new FingerprintedJsonNode(jsonNode, fingerprintAccumulator.fingerprint());
+    }
+
+    /**
+     * Parses the given JSON {@code String} into a {@code JsonNode} object, computing its structural fingerprint as it
+     * goes.
+     *
+     * @param json the {@code String} to parse.
+     * @return the {@code JsonNode} representing the JSON read from the given {@code String}, and its structural fingerprint.
+     * @throws InvalidSyntaxException if the characters streamed from the given {@code String} do not represent valid JSON.
+     * @see argo.jdom.JsonFingerprints
+     */
+    public FingerprintedJsonNode parseWithFingerprint(final String json) throws InvalidSyntaxException {
+        try {
+            return parseWithFingerprint(new StringReader(json));
+        } catch (final IOException e) {
+            throw new RuntimeException("Coding failure in Argo:  StringReader threw an IOException");
+        }
+    }
+
+    /**
+     * Checks whether the character stream from the given {@code Reader} is valid JSON, without parsing it into
+     * anything.  This is considerably cheaper than parsing, and uses memory proportional to the depth of nesting of
+     * the text, rather than its size.
+     *
+     * @param reader the {@code Reader} to validate.
+     * @return the outcome of validation, including the position of any invalid syntax.
+     * @throws IOException rethrown when reading characters from the given {@code Reader} throws {@code IOException}.
+     */
+    public JsonValidationResult validate(final Reader reader) throws IOException {
+        return validate(reader, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks whether the character stream from the given {@code Reader} is valid JSON, as {@link #validate(Reader)},
+     * additionally treating text as invalid if it's nested too deeply, or is too long.  No more than
+     * {@code maximumLength} characters, plus the size of a buffer, are read from the {@code Reader}.
+     *
+     * @param reader        the {@code Reader} to validate.
+     * @param maximumDepth  the maximum number of objects and arrays a value may be nested within.
+     * @param maximumLength the maximum number of characters the text may contain, including whitespace.
+     * @return the outcome of validation, including the position of any invalid syntax.
+     * @throws IOException              rethrown when reading characters from the given {@code Reader} throws {@code IOException}.
+     * @throws IllegalArgumentException if either limit is negative.
+     */
+    public JsonValidationResult validate(final Reader reader, final int maximumDepth, final long maximumLength) throws IOException {
+        checkLimits(maximumDepth, maximumLength);
+        return JsonValidator.readerJsonValidator(reader, bufferSize, positionTracking == TRACK, maximumDepth, maximumLength).validate();
+    }
+
+    /**
+     * Checks whether the given {@code String} is valid JSON, without parsing it into anything.
+     *
+     * @param json the {@code String} to validate.
+     * @return the outcome of validation, including the position of any invalid syntax.
+     */
+    public JsonValidationResult validate(final String json) {
+        return validate(json, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks whether the given {@code String} is valid JSON, as {@link #validate(String)}, additionally treating text
+     * as invalid if it's nested too deeply, or is too long.
+     *
+     * @param json          the {@code String} to validate.
+     * @param maximumDepth  the maximum number of objects and arrays a value may be nested within.
+     * @param maximumLength the maximum number of characters the text may contain, including whitespace.
+     * @return the outcome of validation, including the position of any invalid syntax.
+     * @throws IllegalArgumentException if either limit is negative.
+     */
+    public JsonValidationResult validate(final String json, final int maximumDepth, final long maximumLength) {
+        checkLimits(maximumDepth, maximumLength);
+        try {
+            return JsonValidator.stringJsonValidator(json, bufferSize, positionTracking == TRACK, maximumDepth, maximumLength).validate();
+        } catch (final IOException e) {
+            throw new RuntimeException("Coding failure in Argo:  String validation threw an IOException", e);
+        }
+    }
+
+    /**
+     * Checks whether the given UTF-8 encoded bytes are valid JSON, without parsing them into anything.  Bytes that
+     * aren't valid UTF-8 are reported as invalid.  Positions are reported in characters, rather than bytes.
+     *
+     * @param json the UTF-8 encoded bytes to validate.
+     * @return the outcome of validation, including the position of any invalid syntax.
+     */
+    public JsonValidationResult validate(final byte[] json) {
+        return validate(json, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks whether the given UTF-8 encoded bytes are valid JSON, as {@link #validate(byte[])}, additionally treating
+     * text as invalid if it's nested too deeply, or is too long.
+     *
+     * @param json          the UTF-8 encoded bytes to validate.
+     * @param maximumDepth  the maximum number of objects and arrays a value may be nested within.
+     * @param maximumLength the maximum number of characters the text may contain, including whitespace.
+     * @return the outcome of validation, including the position of any invalid syntax.
+     * @throws IllegalArgumentException if either limit is negative.
+     */
+    public JsonValidationResult validate(final byte[] json, final int maximumDepth, final long maximumLength) {
+        checkLimits(maximumDepth, maximumLength);
+        try {
+            return JsonValidator.utf8JsonValidator(json, Charset.forName("UTF-8").newDecoder(), bufferSize, positionTracking == TRACK, maximumDepth, maximumLength).validate();
+        } catch (final IOException e) {
+            throw new RuntimeException("Coding failure in Argo:  byte array validation threw an IOException", e);
+        }
+    }
+
+    private static void checkLimits(final int maximumDepth, final long maximumLength) {
+        if (maximumDepth < 0) {
+            throw new IllegalArgumentException("maximumDepth is negative: " + maximumDepth);
+        }
+        if (maximumLength < 0) {
+            throw new IllegalArgumentException("maximumLength is negative: " + maximumLength);
+        }
+    }
+
     /**
      * Parses the character stream from the given {@code Reader} into an {@code Iterator} of {@code JsonStreamElement}s.
      * <p>
@@ -243,84 +481,27 @@ public final class JsonParser {
     }
 
     JsonNode parse(final ParseExecutor parseExecutor) throws InvalidSyntaxException, IOException {
-        final JsonStringNodeFactory jsonStringNodeFactory = nodeInterningStrategy.newJsonStringNodeFactory();
-        final JsonNumberNodeFactory jsonNumberNodeFactory = nodeInterningStrategy.newJsonNumberNodeFactory();
-        final StringBuilder stringBuilder = new StringBuilder(32);
-        final RootNodeContainer root = new RootNodeContainer();
-        final FastStack<NodeContainer> stack = new FastStack<NodeContainer>();
-        try {
-            parseExecutor.parseUsing(new JsonListener() {
-                public void startDocument() {
-                    stack.push(root);
-                }
-
-                public void endDocument() {
-                    stack.pop();
-                }
-
-                public void startArray() {
-                    stack.push(new ArrayNodeContainer());
-                }
-
-                public void endArray() {
-                    final JsonNode jsonNode = stack.pop().buildNode();
-                    stack.peek().add(jsonNode);
-                }
-
-                public void startObject() {
-                    stack.push(new ObjectNodeContainer());
-                }
-
-                public void endObject() {
-                    final JsonNode jsonNode = stack.pop().buildNode();
-                    stack.peek().add(jsonNode);
-                }
-
-                public void startField(final Reader name) {
-                    try {
-                        stack.push(new FieldNodeContainer(jsonStringNodeFactory.jsonStringNode(asString(name, stringBuilder))));
-                    } catch (final IOException e) {
-                        throw new IORuntimeException(e);
-                    }
-                }
-
-                public void endField() {
-                    final JsonField jsonField = stack.pop().buildField();
-                    stack.peek().add(jsonField);
-                }
-
-                public void stringValue(final Reader value) {
-                    try {
-                        stack.peek().add(jsonStringNodeFactory.jsonStringNode(asString(value, stringBuilder)));
-                    } catch (final IOException e) {
-                        throw new IORuntimeException(e);
-                    }
-                }
-
-                public void numberValue(final Reader value) {
-                    try {
-                        stack.peek().add(jsonNumberNodeFactory.jsonNumberNode(asString(value, stringBuilder)));
-                    } catch (final IOException e) {
-                        throw new IORuntimeException(e);
-                    }
-                }
-
-                public void trueValue() {
-                    stack.peek().add(trueNode());
-                }
-
-                public void falseValue() {
-                    stack.peek().add(falseNode());
-                }
+        final JsonNodeTreeFactory jsonNodeTreeFactory = new JsonNodeTreeFactory(nodeInterningStrategy);
+        final JsonNode jsonNode = parse(parseExecutor, jsonNodeTreeFactory, stringUnescaping == UNESCAPE_LAZILY ? nodeInterningStrategy.newEscapedStringFactory() : null, null);
+        jsonNodeTreeFactory.recordStatistics(interningCounts);
+        return jsonNode;
+    }
 
-                public void nullValue() {
-                    stack.peek().add(nullNode());
-                }
-            });
+    /**
+     * @param escapedStringFactory   builds string values that contain escape sequences from their JSON text, or null
+     *                               to unescape every string as it's parsed.  Can't be combined with a fingerprint
+     *                               accumulator, which needs the unescaped text.
+     * @param fingerprintAccumulator accumulates the structural fingerprint of the document as it's parsed, or null to
+     *                               skip computing it.
+     */
+    private <O, A, V> V parse(final ParseExecutor parseExecutor, final JsonTreeFactory<O, A, V> jsonTreeFactory, final EscapedStringFactory<V> escapedStringFactory, final FingerprintAccumulator fingerprintAccumulator) throws InvalidSyntaxException, IOException {
+        final TreeBuildingJsonListener<O, A, V> treeBuildingJsonListener = new TreeBuildingJsonListener<O, A, V>(jsonTreeFactory, escapedStringFactory, fingerprintAccumulator);
+        try {
+            parseExecutor.parseUsing(treeBuildingJsonListener);
         } catch (final IORuntimeException e) {
             throw e.getCause();
         }
-        return root.buildNode();
+        return treeBuildingJsonListener.root();
     }
 
     /**
@@ -333,7 +514,8 @@ public final class JsonParser {
          * <p>
          * When the parser encounters a number node or a string node (including field names) equal to one it has previously encountered in the same
          * document, it will use the same object for them, i.e. for any two strings or numbers {@code a} and {@code b} in a given document, if {@code a.equals(b)}
-         * then {@code a == b}.
+         * then {@code a == b}.  The exception is string values left escaped by {@link StringUnescaping#UNESCAPE_LAZILY},
+         * which are the same object only if they were escaped identically.
          * <p>
          * This strategy trades a reduction in memory use for a small increase in computational cost.
          */
@@ -345,6 +527,10 @@ public final class JsonParser {
             JsonNumberNodeFactory newJsonNumberNodeFactory() {
                 return new InterningJsonNumberNodeFactory();
             }
+
+            EscapedStringFactory<JsonNode> newEscapedStringFactory() {
+                return new InterningEscapedStringFactory();
+            }
         },
 
         /**
@@ -362,11 +548,59 @@ public final class JsonParser {
             JsonNumberNodeFactory newJsonNumberNodeFactory() {
                 return new InstantiatingJsonNumberNodeFactory();
             }
+
+            EscapedStringFactory<JsonNode> newEscapedStringFactory() {
+                return new InstantiatingEscapedStringFactory();
+            }
+        },
+
+        /**
+         * Use the same object for strings, numbers, objects, and arrays in a given document that are equal, as far as a
+         * table of bounded size allows.
+         * <p>
+         * Strings and numbers are interned as by {@link #INTERN_LEAF_NODES}.  In addition, when the parser finishes an
+         * object or array, it looks it up by hash code in a table of the objects and arrays it has previously finished
+         * in the same document, and uses the one it finds instead if the two are equal.  Since the children of an object
+         * or array are interned before it is, computing its hash code and comparing it with another are proportional to
+         * its number of fields or elements, not to the size of the subtree below it.  The table holds at most
+         * 16,384 objects and arrays, each of which displaces any other with which it shares a slot, so equal objects or
+         * arrays far apart in a large document might not be shared.
+         * <p>
+         * String values left escaped by {@link StringUnescaping#UNESCAPE_LAZILY} are unescaped when the objects and arrays
+         * containing them are hashed, and an object or array containing one can be shared with an equal one in which it
+         * was escaped differently, in which case both are generated with the escaping of whichever was parsed first.
+         * <p>
+         * This strategy suits documents with many repeated objects or arrays, trading some computational cost for a
+         * potentially large reduction in memory use.  {@link JsonParser#nodeInterningStatistics()} reports how effective
+         * it has been.
+         */
+        INTERN_ALL_NODES {
+            JsonStringNodeFactory newJsonStringNodeFactory() {
+                return new InterningJsonStringNodeFactory();
+            }
+
+            JsonNumberNodeFactory newJsonNumberNodeFactory() {
+                return new InterningJsonNumberNodeFactory();
+            }
+
+            EscapedStringFactory<JsonNode> newEscapedStringFactory() {
+                return new InterningEscapedStringFactory();
+            }
+
+            ContainerInterner newContainerInterner() {
+                return new TableContainerInterner();
+            }
         };
 
         abstract JsonStringNodeFactory newJsonStringNodeFactory();
 
         abstract JsonNumberNodeFactory newJsonNumberNodeFactory();
+
+        abstract EscapedStringFactory<JsonNode> newEscapedStringFactory();
+
+        ContainerInterner newContainerInterner() {
+            return NON_INTERNING_CONTAINER_INTERNER;
+        }
     }
 
     /**
@@ -395,20 +629,30 @@ public final class JsonParser {
         abstract PositionedPushbackReader newPositionedPushbackReader(Reader delegate, int bufferSize);
     }
 
-    interface ParseExecutor {
-        void parseUsing(JsonListener jsonListener) throws InvalidSyntaxException, IOException;
-    }
-
-    private interface NodeContainer {
-
-        void add(JsonNode jsonNode);
-
-        void add(JsonField jsonField);
+    /**
+     * Settings a {@code JsonParser} can use for when to unescape strings when parsing a document without streaming.
+     */
+    public enum StringUnescaping {
 
-        JsonNode buildNode();
+        /**
+         * Unescape every string as it's parsed.
+         */
+        UNESCAPE_EAGERLY,
 
-        JsonField buildField();
+        /**
+         * Keep each string value that contains escape sequences as the JSON text it was parsed from, and only unescape
+         * it when it's first examined, for example by {@code getText()}, {@code equals}, or {@code hashCode}.  Such
+         * strings are {@code JsonStringNode}s like any other, but are generated from that text, with any further
+         * escaping the generator's string escaping calls for, so escape sequences in the parsed document are
+         * preserved.  Field names, and strings without escape sequences, are unescaped as they're parsed, as usual.
+         * <p>
+         * This setting suits documents with many escaped strings that are passed on more often than they're read.
+         */
+        UNESCAPE_LAZILY
+    }
 
+    interface ParseExecutor {
+        void parseUsing(JsonListener jsonListener) throws InvalidSyntaxException, IOException;
     }
 
     private interface JsonStringNodeFactory {
@@ -419,118 +663,362 @@ public final class JsonParser {
         JsonNode jsonNumberNode(String value);
     }
 
-    private static final class IORuntimeException extends RuntimeException {
-        private final IOException typedCause;
+    private interface EscapedStringFactory<V> {
+        V escapedString(String json);
+    }
+
+    private interface ContainerInterner {
+        JsonNode intern(JsonNode container);
+
+        void recordStatistics(InterningCounts interningCounts);
+    }
+
+    private static final ContainerInterner NON_INTERNING_CONTAINER_INTERNER = new ContainerInterner() {
+        public JsonNode intern(final JsonNode container) {
+            return container;
+        }
+
+        public void recordStatistics(final InterningCounts interningCounts) {
+        }
+    };
 
-        IORuntimeException(final IOException cause) {
-            super(cause);
-            this.typedCause = cause;
+    /**
+     * Accumulates the statistics of the containers interned by one {@code JsonParser}, across the documents it parses,
+     * possibly concurrently.
+     */
+    private static final class InterningCounts {
+        private final AtomicLong lookups = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        void record(final long lookups, final long hits, final long evictions) {
+            if (lookups != 0) {
+                this.lookups.addAndGet(lookups);
+                this.hits.addAndGet(hits);
+                this.evictions.addAndGet(evictions);
+            }
         }
 
-        @Override
-        public IOException getCause() {
-            return typedCause;
+        NodeInterningStatistics snapshot() {
+            return new NodeInterningStatistics(lookups.get(), hits.get(), evictions.get());
         }
     }
 
-    private static final class RootNodeContainer implements NodeContainer {
+    /**
+     * Accumulates the structural fingerprint of a document from its parts, in the order they are parsed.
+     */
+    private static final class FingerprintAccumulator {
+        private long[] fingerprints = new long[16];
+        private int depth;
+
+        void startContainer(final long emptyContainerFingerprint) {
+            depth++;
+            if (depth == fingerprints.length) {
+                final long[] grownFingerprints = new long[fingerprints.length * 2];
+                System.arraycopy(fingerprints, 0, grownFingerprints, 0, fingerprints.length);
+                fingerprints = grownFingerprints;
+            }
+            fingerprints[depth] = emptyContainerFingerprint;
+        }
 
-        private JsonNode value;
+        void add(final long fingerprint) {
+            fingerprints[depth] = depth == 0 ? fingerprint : Fingerprints.add(fingerprints[depth], fingerprint);
+        }
 
-        public void add(final JsonNode jsonNode) {
-            if (value == null) {
-                value = jsonNode;
-            } else {
-                throw new RuntimeException("Coding failure in Argo:  Attempt to add more than one root node");
+        void endContainer() {
+            depth--;
+            add(fingerprints[depth + 1]);
+        }
+
+        long fingerprint() {
+            return fingerprints[0];
+        }
+    }
+
+    /**
+     * Builds a tree from parsing events using a {@code JsonTreeFactory}, keeping the objects and arrays under
+     * construction on a stack, along with the name of the field being parsed in each object.
+     */
+    private static class TreeBuildingJsonListener<O, A, V> implements JsonListener {
+        private final JsonTreeFactory<O, A, V> jsonTreeFactory;
+        private final EscapedStringFactory<V> escapedStringFactory;
+        private final FingerprintAccumulator fingerprintAccumulator;
+        private final StringBuilder stringBuilder = new StringBuilder(32);
+        private Object[] containers = new Object[16];
+        private boolean[] containerIsObject = new boolean[16];
+        private String[] fieldNames = new String[16];
+        private int depth;
+        private V root;
+
+        TreeBuildingJsonListener(final JsonTreeFactory<O, A, V> jsonTreeFactory, final EscapedStringFactory<V> escapedStringFactory, final FingerprintAccumulator fingerprintAccumulator) {
+            this.jsonTreeFactory = jsonTreeFactory;
+            this.escapedStringFactory = escapedStringFactory;
+            this.fingerprintAccumulator = fingerprintAccumulator;
+        }
+
+        V root() {
+            return root;
+        }
+
+        public void startDocument() {
+        }
+
+        public void endDocument() {
+        }
+
+        public void startArray() {
+            push(jsonTreeFactory.newArray(), false);
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.startContainer(Fingerprints.EMPTY_ARRAY);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public void endArray() {
+            final A array = (A) containers[--depth];
+            containers[depth] = null;
+            add(jsonTreeFactory.endArray(array));
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.endContainer();
+            }
+        }
+
+        public void startObject() {
+            push(jsonTreeFactory.newObject(), true);
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.startContainer(Fingerprints.EMPTY_OBJECT);
             }
         }
 
-        public void add(final JsonField jsonField) {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to add a field as root node");
+        @SuppressWarnings("unchecked")
+        public void endObject() {
+            final O object = (O) containers[--depth];
+            containers[depth] = null;
+            add(jsonTreeFactory.endObject(object));
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.endContainer();
+            }
+        }
+
+        public void startField(final Reader name) {
+            final String nameText = asText(name);
+            fieldNames[depth - 1] = nameText;
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.add(Fingerprints.string(nameText));
+            }
         }
 
-        public JsonNode buildNode() {
-            if (value == null) {
-                throw new RuntimeException("Coding failure in Argo:  Attempt to build document with no root node");
+        public void endField() {
+        }
+
+        public void stringValue(final Reader value) {
+            if (escapedStringFactory != null && value instanceof JsonStreamElementType.StringReader) {
+                escapedStringValue((JsonStreamElementType.StringReader) value);
             } else {
-                return value;
+                final String valueText = asText(value);
+                add(jsonTreeFactory.string(valueText));
+                if (fingerprintAccumulator != null) {
+                    fingerprintAccumulator.add(Fingerprints.string(valueText));
+                }
             }
         }
 
-        public JsonField buildField() {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to build a field from a root node");
+        public void numberValue(final Reader value) {
+            final String valueText = asText(value);
+            add(jsonTreeFactory.number(valueText));
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.add(Fingerprints.number(valueText));
+            }
         }
 
-    }
+        public void trueValue() {
+            add(jsonTreeFactory.trueValue());
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.add(Fingerprints.TRUE);
+            }
+        }
 
-    private static final class ArrayNodeContainer implements NodeContainer {
-        private final List<JsonNode> elements = new ArrayList<JsonNode>();
+        public void falseValue() {
+            add(jsonTreeFactory.falseValue());
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.add(Fingerprints.FALSE);
+            }
+        }
 
-        public void add(final JsonNode jsonNode) {
-            elements.add(jsonNode);
+        public void nullValue() {
+            add(jsonTreeFactory.nullValue());
+            if (fingerprintAccumulator != null) {
+                fingerprintAccumulator.add(Fingerprints.NULL);
+            }
         }
 
-        public void add(final JsonField jsonField) {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to add a field to an array");
+        private void escapedStringValue(final JsonStreamElementType.StringReader value) {
+            stringBuilder.setLength(0);
+            stringBuilder.append('"');
+            try {
+                if (value.readEscaped(stringBuilder)) {
+                    add(escapedStringFactory.escapedString(stringBuilder.append('"').toString()));
+                } else {
+                    add(jsonTreeFactory.string(stringBuilder.substring(1)));
+                }
+            } catch (final IOException e) {
+                throw new IORuntimeException(e);
+            }
         }
 
-        public JsonNode buildNode() {
-            return array(elements);
+        private String asText(final Reader reader) {
+            try {
+                return asString(reader, stringBuilder);
+            } catch (final IOException e) {
+                throw new IORuntimeException(e);
+            }
         }
 
-        public JsonField buildField() {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to build a field from an array node");
+        private void push(final Object container, final boolean isObject) {
+            if (depth == containers.length) {
+                final int capacity = depth * 2;
+                final Object[] grownContainers = new Object[capacity];
+                System.arraycopy(containers, 0, grownContainers, 0, depth);
+                containers = grownContainers;
+                final boolean[] grownContainerIsObject = new boolean[capacity];
+                System.arraycopy(containerIsObject, 0, grownContainerIsObject, 0, depth);
+                containerIsObject = grownContainerIsObject;
+                final String[] grownFieldNames = new String[capacity];
+                System.arraycopy(fieldNames, 0, grownFieldNames, 0, depth);
+                fieldNames = grownFieldNames;
+            }
+            containers[depth] = container;
+            containerIsObject[depth] = isObject;
+            depth++;
         }
 
+        @SuppressWarnings("unchecked")
+        private void add(final V value) {
+            if (depth == 0) {
+                root = value;
+            } else if (containerIsObject[depth - 1]) {
+                jsonTreeFactory.addField((O) containers[depth - 1], fieldNames[depth - 1], value);
+                fieldNames[depth - 1] = null;
+            } else {
+                jsonTreeFactory.addElement((A) containers[depth - 1], value);
+            }
+        }
     }
 
-    private static final class ObjectNodeContainer implements NodeContainer {
-        private final List<JsonField> fields = new ArrayList<JsonField>();
+    /**
+     * Builds {@code JsonNode}s for a single document, collecting the children of every object and array on a single
+     * shared stack, and applying the parser's node interning strategy.
+     */
+    private static final class JsonNodeTreeFactory implements JsonTreeFactory<PrevalidatedNodes, PrevalidatedNodes, JsonNode> {
+        private final PrevalidatedNodes prevalidatedNodes = new PrevalidatedNodes();
+        private final JsonStringNodeFactory jsonStringNodeFactory;
+        private final JsonNumberNodeFactory jsonNumberNodeFactory;
+        private final ContainerInterner containerInterner;
+
+        JsonNodeTreeFactory(final NodeInterningStrategy nodeInterningStrategy) {
+            jsonStringNodeFactory = nodeInterningStrategy.newJsonStringNodeFactory();
+            jsonNumberNodeFactory = nodeInterningStrategy.newJsonNumberNodeFactory();
+            containerInterner = nodeInterningStrategy.newContainerInterner();
+        }
 
-        public void add(final JsonNode jsonNode) {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to add a node to an object");
+        void recordStatistics(final InterningCounts interningCounts) {
+            containerInterner.recordStatistics(interningCounts);
         }
 
-        public void add(final JsonField jsonField) {
-            fields.add(jsonField);
+        public PrevalidatedNodes newObject() {
+            prevalidatedNodes.startContainer();
+            return prevalidatedNodes;
         }
 
-        public JsonNode buildNode() {
-            return object(fields);
+        public void addField(final PrevalidatedNodes object, final String name, final JsonNode value) {
+            object.add(jsonStringNodeFactory.jsonStringNode(name));
+            object.add(value);
         }
 
-        public JsonField buildField() {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to build a field from a root node");
+        public JsonNode endObject(final PrevalidatedNodes object) {
+            return containerInterner.intern(prevalidatedObject(object));
         }
 
-    }
+        public PrevalidatedNodes newArray() {
+            prevalidatedNodes.startContainer();
+            return prevalidatedNodes;
+        }
 
-    private static final class FieldNodeContainer implements NodeContainer {
-        private final JsonStringNode name;
-        private JsonNode value;
+        public void addElement(final PrevalidatedNodes array, final JsonNode element) {
+            array.add(element);
+        }
 
-        FieldNodeContainer(final JsonStringNode name) {
-            this.name = name;
+        public JsonNode endArray(final PrevalidatedNodes array) {
+            return containerInterner.intern(prevalidatedArray(array));
         }
 
-        public void add(final JsonNode jsonNode) {
-            value = jsonNode;
+        public JsonNode string(final String value) {
+            return jsonStringNodeFactory.jsonStringNode(value);
         }
 
-        public void add(final JsonField jsonField) {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to add a field to a field");
+        public JsonNode number(final String value) {
+            return jsonNumberNodeFactory.jsonNumberNode(value);
         }
 
-        public JsonNode buildNode() {
-            throw new RuntimeException("Coding failure in Argo:  Attempt to build a JSON node from a field");
+        public JsonNode trueValue() {
+            return trueNode();
         }
 
-        public JsonField buildField() {
-            if (value == null) {
-                throw new RuntimeException("Coding failure in Argo:  Attempt to create a field without a value");
-            } else {
-                return field(name, value);
+        public JsonNode falseValue() {
+            return falseNode();
+        }
+
+        public JsonNode nullValue() {
+            return nullNode();
+        }
+    }
+
+    /**
+     * Internal class
+     */
+    public static final class PrevalidatedNodes {
+        private static final JsonNode[] NO_NODES = new JsonNode[0];
+
+        private JsonNode[] nodes = new JsonNode[16];
+        private int size;
+        private int[] containerStarts = new int[16];
+        private int depth;
+
+        PrevalidatedNodes() {
+        }
+
+        void add(final JsonNode jsonNode) {
+            if (size == nodes.length) {
+                final JsonNode[] grownNodes = new JsonNode[size * 2];
+                System.arraycopy(nodes, 0, grownNodes, 0, size);
+                nodes = grownNodes;
             }
+            nodes[size++] = jsonNode;
+        }
+
+        void startContainer() {
+            if (depth == containerStarts.length) {
+                final int[] grownContainerStarts = new int[depth * 2];
+                System.arraycopy(containerStarts, 0, grownContainerStarts, 0, depth);
+                containerStarts = grownContainerStarts;
+            }
+            containerStarts[depth++] = size;
+        }
+
+        /**
+         * Internal method.
+         *
+         * @return the nodes added since the most recent container was started, in an array of exactly their length.
+         */
+        public JsonNode[] endContainer() {
+            final int start = containerStarts[--depth];
+            if (start == size) {
+                return NO_NODES;
+            }
+            final JsonNode[] contents = new JsonNode[size - start];
+            System.arraycopy(nodes, start, contents, 0, contents.length);
+            size = start;
+            return contents;
         }
     }
 
@@ -576,6 +1064,93 @@ public final class JsonParser {
         }
     }
 
+    private static final class InterningEscapedStringFactory implements EscapedStringFactory<JsonNode> {
+        private final Map<String, JsonStringNode> existingEscapedStringNodes = new HashMap<String, JsonStringNode>();
+
+        public JsonNode escapedString(final String json) {
+            final JsonStringNode cachedEscapedStringNode = existingEscapedStringNodes.get(json);
+            if (cachedEscapedStringNode == null) {
+                final JsonStringNode newEscapedStringNode = JSON_NODE_ACCESS.escapedJsonStringNode(json);
+                existingEscapedStringNodes.put(json, newEscapedStringNode);
+                return newEscapedStringNode;
+            } else {
+                return cachedEscapedStringNode;
+            }
+        }
+    }
+
+    private static final class InstantiatingEscapedStringFactory implements EscapedStringFactory<JsonNode> {
+        public JsonNode escapedString(final String json) {
+            return JSON_NODE_ACCESS.escapedJsonStringNode(json);
+        }
+    }
+
+    /**
+     * Interns the objects and arrays of a single document in a direct-mapped table, which grows as it fills up to a
+     * maximum size, beyond which each new entry displaces whatever occupied its slot.
+     */
+    private static final class TableContainerInterner implements ContainerInterner {
+        private static final int INITIAL_CAPACITY = 64;
+        private static final int MAXIMUM_CAPACITY = 1 << 14;
+
+        private JsonNode[] table;
+        private int size;
+        private long lookups;
+        private long hits;
+        private long evictions;
+
+        public JsonNode intern(final JsonNode container) {
+            if (JSON_NODE_ACCESS.backingArray(container).length == 0) {
+                return container;
+            }
+            if (table == null) {
+                table = new JsonNode[INITIAL_CAPACITY];
+            }
+            lookups++;
+            final int hashCode = container.hashCode();
+            final int index = slot(hashCode, table.length);
+            final JsonNode existing = table[index];
+            if (existing == null) {
+                table[index] = container;
+                if (++size > table.length / 2 && table.length < MAXIMUM_CAPACITY) {
+                    grow();
+                }
+            } else if (existing.hashCode() == hashCode && existing.equals(container)) {
+                hits++;
+                return existing;
+            } else {
+                table[index] = container;
+                evictions++;
+            }
+            return container;
+        }
+
+        public void recordStatistics(final InterningCounts interningCounts) {
+            interningCounts.record(lookups, hits, evictions);
+        }
+
+        private void grow() {
+            final JsonNode[] grownTable = new JsonNode[table.length * 2];
+            size = 0;
+            for (final JsonNode jsonNode : table) {
+                if (jsonNode != null) {
+                    final int index = slot(jsonNode.hashCode(), grownTable.length);
+                    if (grownTable[index] == null) {
+                        size++;
+                    } else {
+                        evictions++;
+                    }
+                    grownTable[index] = jsonNode;
+                }
+            }
+            table = grownTable;
+        }
+
+        private static int slot(final int hashCode, final int capacity) {
+            return (hashCode ^ (hashCode >>> 16)) & (capacity - 1);
+        }
+    }
+
     /**
      * Internal class
      */
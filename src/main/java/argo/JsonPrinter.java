@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -10,33 +10,123 @@
 
 package argo;
 
+import argo.format.PreparedJsonString;
 import argo.format.WriteableJsonArray;
 import argo.format.WriteableJsonNumber;
 import argo.format.WriteableJsonObject;
+import argo.format.WriteableJsonRaw;
 import argo.format.WriteableJsonString;
+import argo.internal.JsonNodeAccess;
+import argo.internal.PreparedJsonStringAccess;
+import argo.internal.RawJsonVisitor;
+import argo.internal.SerializedForms;
+import argo.internal.StringBuilderWriter;
 import argo.jdom.JsonField;
 import argo.jdom.JsonNode;
+import argo.jdom.JsonNodeFactories;
 import argo.jdom.JsonNodeVisitor;
+import argo.jdom.JsonStringNode;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
-import static argo.JsonEscapedString.escapeCharBufferTo;
+abstract class JsonPrinter implements JsonNodeVisitor, RawJsonVisitor {
 
-abstract class JsonPrinter implements JsonNodeVisitor {
+    private static final Class<? extends JsonNode> JSON_OBJECT_CLASS = JsonNodeFactories.object().getClass();
+    private static final Class<? extends JsonNode> JSON_ARRAY_CLASS = JsonNodeFactories.array().getClass();
+    private static final Class<? extends JsonNode> JSON_NUMBER_CLASS = JsonNodeFactories.number(0).getClass();
+    private static final JsonNode TRUE_NODE = JsonNodeFactories.trueNode();
+    private static final JsonNode FALSE_NODE = JsonNodeFactories.falseNode();
+    private static final JsonNode NULL_NODE = JsonNodeFactories.nullNode();
+    private static final int MAXIMUM_RECURSION_DEPTH = 256;
+    private static final JsonNodeAccess JSON_NODE_ACCESS = JsonNodeAccess.jsonNodeAccess();
+    private static final PreparedJsonStringAccess PREPARED_JSON_STRING_ACCESS = PreparedJsonStringAccess.preparedJsonStringAccess();
 
     static final Comparator<JsonField> JSON_FIELD_COMPARATOR = new Comparator<JsonField>() {
         public int compare(final JsonField left, final JsonField right) {
             return left.getNameText().compareTo(right.getNameText());
         }
     };
-    final Writer writer;
+    Writer writer;
+    private BufferingWriter bufferingWriter;
+    private final JsonEscapedString jsonEscapedString;
     private final WriteBufferHolder writeBufferHolder = new WriteBufferHolder();
+    private final JsonNumberWriter jsonNumberWriter = new JsonNumberWriter();
+    private JsonStringEscapingWriter jsonStringEscapingWriter;
+    private JsonNumberValidatingWriter jsonNumberValidatingWriter;
+    private JsonStringEscapingWriter rawJsonEscapingWriter;
+    private SerializedFormKey serializedFormKey;
+    private JsonNode[][] frameNodes = new JsonNode[16][];
+    private int[] framePositions = new int[16];
+    private boolean[] frameIsObject = new boolean[16];
+    private int frameCount;
+    private int recursionDepth;
 
-    JsonPrinter(final Writer writer) {
-        this.writer = writer;
+    JsonPrinter(final Writer target, final JsonEscapedString jsonEscapedString) {
+        this.jsonEscapedString = jsonEscapedString;
+        useTarget(target);
+    }
+
+    /**
+     * Directs subsequent output to the given target, discarding any state left over from an earlier, possibly
+     * incomplete, document, so that a printer and its buffers can be reused.
+     */
+    final void target(final Writer target) {
+        useTarget(target);
+        resetState();
+    }
+
+    private void useTarget(final Writer target) {
+        if (target instanceof StringBuilderWriter) {
+            writer = target;
+        } else {
+            if (bufferingWriter == null) {
+                bufferingWriter = new BufferingWriter(target);
+            } else {
+                bufferingWriter.target(target);
+            }
+            writer = bufferingWriter;
+        }
+    }
+
+    /**
+     * Releases the reference to the current target, so that an idle printer doesn't keep it reachable.
+     */
+    final void detach() {
+        writer = null;
+        if (bufferingWriter != null) {
+            bufferingWriter.detach();
+        }
+    }
+
+    abstract void resetState();
+
+    /**
+     * Passes any output buffered by this printer to its target.  Must be called once the top level value has been written.
+     */
+    final void flushBuffer() throws IOException {
+        if (writer == bufferingWriter) {
+            bufferingWriter.flushBuffer();
+        }
+    }
+
+    /**
+     * Passes any output buffered by this printer to its target after writing has failed part way, so that the target is
+     * left with the output up to the failure, as it would be without the buffer.  The buffer is emptied before being
+     * passed to the target, so if it was the target that failed, nothing is passed to it again.  A failure of the target
+     * here is ignored, so that it doesn't hide the original failure.
+     */
+    final void flushBufferAfterFailure() {
+        try {
+            flushBuffer();
+        } catch (final IOException e) {
+            // the original failure is the one to report
+        }
     }
 
     abstract void write(WriteableJsonArray writeableJsonArray) throws IOException;
@@ -44,8 +134,19 @@ abstract class JsonPrinter implements JsonNodeVisitor {
     abstract void write(WriteableJsonObject writeableJsonObject) throws IOException;
 
     final void write(final WriteableJsonString writeableJsonString) throws IOException {
+        if (writeableJsonString instanceof PreparedJsonString) {
+            final String preEscapedForm = PREPARED_JSON_STRING_ACCESS.preEscapedForm((PreparedJsonString) writeableJsonString);
+            if (preEscapedForm != null) {
+                writer.write(preEscapedForm);
+                return;
+            }
+        }
         writer.write('"');
-        final JsonStringEscapingWriter jsonStringEscapingWriter = new JsonStringEscapingWriter(writer, writeBufferHolder);
+        if (jsonStringEscapingWriter == null) {
+            jsonStringEscapingWriter = new JsonStringEscapingWriter(writer, writeBufferHolder, jsonEscapedString);
+        } else {
+            jsonStringEscapingWriter.open(writer);
+        }
         try {
             writeableJsonString.writeTo(jsonStringEscapingWriter);
         } finally {
@@ -54,9 +155,26 @@ abstract class JsonPrinter implements JsonNodeVisitor {
         writer.write('"');
     }
 
+    final void writeRaw(final WriteableJsonRaw writeableJsonRaw) throws IOException {
+        if (rawJsonEscapingWriter == null) {
+            rawJsonEscapingWriter = new JsonStringEscapingWriter(writer, writeBufferHolder, jsonEscapedString.rawJson());
+        } else {
+            rawJsonEscapingWriter.open(writer);
+        }
+        try {
+            writeableJsonRaw.writeTo(rawJsonEscapingWriter);
+        } finally {
+            rawJsonEscapingWriter.close();
+        }
+    }
+
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     final void write(final WriteableJsonNumber writeableJsonNumber) throws IOException {
-        final JsonNumberValidatingWriter jsonNumberValidatingWriter = new JsonNumberValidatingWriter(writer, writeBufferHolder);
+        if (jsonNumberValidatingWriter == null) {
+            jsonNumberValidatingWriter = new JsonNumberValidatingWriter(writer, writeBufferHolder);
+        } else {
+            jsonNumberValidatingWriter.open(writer);
+        }
         try {
             writeableJsonNumber.writeTo(jsonNumberValidatingWriter);
         } catch (final RuntimeException e) {
@@ -68,6 +186,169 @@ abstract class JsonPrinter implements JsonNodeVisitor {
     }
 
     final void write(final JsonNode jsonNode) throws IOException {
+        final SerializedForms serializedForms = JSON_NODE_ACCESS.serializedForms(jsonNode);
+        if (serializedForms == null || !serializedForms.isCacheable()) {
+            writeUnmemoized(jsonNode);
+        } else {
+            writeMemoized(jsonNode, serializedForms);
+        }
+    }
+
+    private void writeUnmemoized(final JsonNode jsonNode) throws IOException {
+        if (recursionDepth < MAXIMUM_RECURSION_DEPTH) {
+            recursionDepth++;
+            try {
+                visit(jsonNode);
+            } finally {
+                recursionDepth--;
+            }
+        } else {
+            final Class<? extends JsonNode> jsonNodeClass = jsonNode.getClass();
+            if (jsonNodeClass == JSON_OBJECT_CLASS || jsonNodeClass == JSON_ARRAY_CLASS) {
+                writeTree(jsonNodeClass == JSON_OBJECT_CLASS, JSON_NODE_ACCESS.backingArray(jsonNode));
+            } else {
+                visit(jsonNode);
+            }
+        }
+    }
+
+    /**
+     * Writes one of Argo's own objects or arrays, and the objects and arrays within it, reading their backing arrays
+     * directly, and using an explicit stack rather than recursion, so that the depth of nesting isn't limited by the size
+     * of the call stack.  Recursing via {@code JsonNodeVisitor} is faster for the depths typical documents reach, so
+     * this is only used once {@code MAXIMUM_RECURSION_DEPTH} is exceeded.  Memoized nodes, and nodes of any other
+     * class, are written by {@code write(JsonNode)}, which may in turn call this method.
+     */
+    private void writeTree(final boolean isRootObject, final JsonNode[] rootBackingArray) throws IOException {
+        final int base = frameCount;
+        boolean isObject = isRootObject;
+        JsonNode[] nodes = isObject ? fieldOrder(rootBackingArray) : rootBackingArray;
+        int position = 0;
+        try {
+            startContainer(isObject ? '{' : '[');
+            while (true) {
+                if (position == nodes.length) {
+                    endContainer(isObject ? '}' : ']', position == 0);
+                    if (frameCount == base) {
+                        return;
+                    }
+                    frameCount--;
+                    nodes = frameNodes[frameCount];
+                    frameNodes[frameCount] = null;
+                    position = framePositions[frameCount];
+                    isObject = frameIsObject[frameCount];
+                } else {
+                    startMember(position == 0);
+                    final JsonNode value;
+                    if (isObject) {
+                        write(nodes[position].getText());
+                        endFieldName();
+                        value = nodes[position + 1];
+                        position += 2;
+                    } else {
+                        value = nodes[position++];
+                    }
+                    if (value instanceof JsonStringNode) {
+                        final String escapedForm = JSON_NODE_ACCESS.escapedForm(value);
+                        if (escapedForm == null) {
+                            write(value.getText());
+                        } else {
+                            jsonEscapedString.rawJson().escape(writer, escapedForm, 0, escapedForm.length());
+                        }
+                    } else if (value == TRUE_NODE) {
+                        writer.write("true");
+                    } else if (value == FALSE_NODE) {
+                        writer.write("false");
+                    } else if (value == NULL_NODE) {
+                        writer.write("null");
+                    } else {
+                        final Class<? extends JsonNode> valueClass = value.getClass();
+                        if (valueClass == JSON_NUMBER_CLASS) {
+                            writer.write(value.getText());
+                        } else if ((valueClass == JSON_OBJECT_CLASS || valueClass == JSON_ARRAY_CLASS) && JSON_NODE_ACCESS.serializedForms(value) == null) {
+                            pushFrame(isObject, nodes, position);
+                            isObject = valueClass == JSON_OBJECT_CLASS;
+                            nodes = isObject ? fieldOrder(JSON_NODE_ACCESS.backingArray(value)) : JSON_NODE_ACCESS.backingArray(value);
+                            position = 0;
+                            startContainer(isObject ? '{' : '[');
+                        } else {
+                            write(value);
+                        }
+                    }
+                }
+            }
+        } finally {
+            while (frameCount > base) {
+                frameNodes[--frameCount] = null;
+            }
+        }
+    }
+
+    /**
+     * Saves the state of the object or array being written by {@code writeTree} while one of its values is written.
+     */
+    private void pushFrame(final boolean isObject, final JsonNode[] nodes, final int position) {
+        if (frameCount == frameNodes.length) {
+            final int capacity = frameCount * 2;
+            final JsonNode[][] grownFrameNodes = new JsonNode[capacity][];
+            System.arraycopy(frameNodes, 0, grownFrameNodes, 0, frameCount);
+            frameNodes = grownFrameNodes;
+            final int[] grownFramePositions = new int[capacity];
+            System.arraycopy(framePositions, 0, grownFramePositions, 0, frameCount);
+            framePositions = grownFramePositions;
+            final boolean[] grownFrameIsObject = new boolean[capacity];
+            System.arraycopy(frameIsObject, 0, grownFrameIsObject, 0, frameCount);
+            frameIsObject = grownFrameIsObject;
+        }
+        frameNodes[frameCount] = nodes;
+        framePositions[frameCount] = position;
+        frameIsObject[frameCount] = isObject;
+        frameCount++;
+    }
+
+    /**
+     * @return the names and values of an object's fields, alternately, in the order they are to be written.
+     */
+    JsonNode[] fieldOrder(final JsonNode[] namesAndValues) {
+        return namesAndValues;
+    }
+
+    static JsonNode[] sortedFieldOrder(final JsonNode[] namesAndValues) {
+        final List<JsonField> fields = new ArrayList<JsonField>(namesAndValues.length / 2);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            fields.add(new JsonField((JsonStringNode) namesAndValues[i], namesAndValues[i + 1]));
+        }
+        Collections.sort(fields, JSON_FIELD_COMPARATOR);
+        final JsonNode[] sorted = new JsonNode[namesAndValues.length];
+        for (int i = 0; i < fields.size(); i++) {
+            final JsonField field = fields.get(i);
+            sorted[i * 2] = field.getName();
+            sorted[i * 2 + 1] = field.getValue();
+        }
+        return sorted;
+    }
+
+    /**
+     * Writes the opening character of an object or array written by {@code writeTree}.
+     */
+    abstract void startContainer(char openingCharacter) throws IOException;
+
+    /**
+     * Writes whatever precedes a field or element written by {@code writeTree}.
+     */
+    abstract void startMember(boolean isFirst) throws IOException;
+
+    /**
+     * Writes whatever separates the name of a field written by {@code writeTree} from its value.
+     */
+    abstract void endFieldName() throws IOException;
+
+    /**
+     * Writes the closing character of an object or array written by {@code writeTree}, and whatever precedes it.
+     */
+    abstract void endContainer(char closingCharacter, boolean isEmpty) throws IOException;
+
+    private void visit(final JsonNode jsonNode) throws IOException {
         try {
             jsonNode.visit(this);
         } catch (final JsonPrinter.IORuntimeException e) {
@@ -75,6 +356,46 @@ abstract class JsonPrinter implements JsonNodeVisitor {
         }
     }
 
+    private void writeMemoized(final JsonNode jsonNode, final SerializedForms serializedForms) throws IOException {
+        if (serializedFormKey == null) {
+            serializedFormKey = new SerializedFormKey(getClass(), jsonEscapedString, lineSeparator());
+        }
+        final int depth = depth();
+        final char[] serializedForm = serializedForms.get(serializedFormKey, depth);
+        if (serializedForm == null) {
+            final Writer originalWriter = writer;
+            final CapturingWriter capturingWriter = new CapturingWriter(originalWriter, SerializedForms.MAXIMUM_LENGTH);
+            writer = capturingWriter;
+            try {
+                writeUnmemoized(jsonNode);
+            } finally {
+                writer = originalWriter;
+            }
+            final char[] captured = capturingWriter.captured();
+            if (captured == null) {
+                serializedForms.markUncacheable();
+            } else {
+                serializedForms.put(serializedFormKey, depth, captured);
+            }
+        } else {
+            writer.write(serializedForm, 0, serializedForm.length);
+        }
+    }
+
+    /**
+     * @return the line separator written by this printer, or null if it doesn't write line separators.
+     */
+    String lineSeparator() {
+        return null;
+    }
+
+    /**
+     * @return the depth of nesting at which this printer is currently writing, if its output depends on it.
+     */
+    int depth() {
+        return 0;
+    }
+
     public final void object(final List<JsonField> fields) {
         try {
             throwingObject(fields);
@@ -95,14 +416,36 @@ abstract class JsonPrinter implements JsonNodeVisitor {
 
     abstract void throwingArray(List<JsonNode> elements) throws IOException;
 
+    final void write(final String value) throws IOException {
+        writer.write('"');
+        jsonEscapedString.escape(writer, value, 0, value.length());
+        writer.write('"');
+    }
+
+    final void writeNumber(final long value) throws IOException {
+        jsonNumberWriter.write(writer, value);
+    }
+
+    final void writeNumber(final double value) throws IOException {
+        JsonNumberWriter.write(writer, value);
+    }
+
+    final void writeNumber(final BigDecimal value) throws IOException {
+        writer.write(value.toString());
+    }
+
+    public boolean raw(final String json) {
+        try {
+            jsonEscapedString.rawJson().escape(writer, json, 0, json.length());
+        } catch (final IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return true;
+    }
+
     public final void string(final String value) {
-        final int length = value.length();
-        final char[] cbuf = length <= WriteBufferHolder.WRITE_BUFFER_SIZE ? writeBufferHolder.writeBuffer() : new char[length];
-        value.getChars(0, length, cbuf, 0);
         try {
-            writer.write('"');
-            escapeCharBufferTo(writer, cbuf, 0, length);
-            writer.write('"');
+            write(value);
         } catch (final IOException e) {
             throw new IORuntimeException(e);
         }
@@ -140,6 +483,41 @@ abstract class JsonPrinter implements JsonNodeVisitor {
         }
     }
 
+    /**
+     * Identifies the output produced by a printer, so that serialized forms are only reused by printers that would
+     * produce the same output.
+     */
+    private static final class SerializedFormKey {
+        private final Class<?> printerClass;
+        private final JsonEscapedString jsonEscapedString;
+        private final String lineSeparator;
+
+        SerializedFormKey(final Class<?> printerClass, final JsonEscapedString jsonEscapedString, final String lineSeparator) {
+            this.printerClass = printerClass;
+            this.jsonEscapedString = jsonEscapedString;
+            this.lineSeparator = lineSeparator;
+        }
+
+        @Override
+        public boolean equals(final Object that) {
+            if (this == that) {
+                return true;
+            }
+            if (that == null || getClass() != that.getClass()) {
+                return false;
+            }
+            final SerializedFormKey thatSerializedFormKey = (SerializedFormKey) that;
+            return printerClass == thatSerializedFormKey.printerClass
+                    && jsonEscapedString == thatSerializedFormKey.jsonEscapedString
+                    && (lineSeparator == null ? thatSerializedFormKey.lineSeparator == null : lineSeparator.equals(thatSerializedFormKey.lineSeparator));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * printerClass.hashCode() + jsonEscapedString.hashCode()) + (lineSeparator == null ? 0 : lineSeparator.hashCode());
+        }
+    }
+
     static final class IORuntimeException extends RuntimeException {
 
         private final IOException typedCause;
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -343,7 +343,7 @@ public enum JsonStreamElementType {
 
     }
 
-    private static final class StringReader extends SingleCharacterReader {
+    static final class StringReader extends SingleCharacterReader {
 
         private final int openDoubleQuotesColumn;
         private final int openDoubleQuotesLine;
@@ -373,21 +373,60 @@ public enum JsonStreamElementType {
                 switch (nextChar) {
                     case -1:
                         ended = true;
-                        throw new InvalidSyntaxRuntimeException("Got opening [" + DOUBLE_QUOTE + "] without matching closing [" + DOUBLE_QUOTE + "]", new Position(openDoubleQuotesColumn, openDoubleQuotesLine));
+                        throw unmatchedDoubleQuotes();
                     case DOUBLE_QUOTE:
                         ended = true;
                         return -1;
                     case BACK_SLASH:
-                        return escapedStringChar(in);
+                        return escapedStringChar(in, null);
                     default:
                         return nextChar;
                 }
             }
         }
 
-        private char escapedStringChar(final PositionedPushbackReader in) throws IOException {
+        /**
+         * Reads the rest of the string into the given {@code StringBuilder} exactly as it appears in the JSON text,
+         * validating, but not unescaping, its escape sequences.
+         *
+         * @return whether the string contained any escape sequences.
+         */
+        boolean readEscaped(final StringBuilder stringBuilder) throws IOException {
+            ensureOpen();
+            boolean containsEscapeSequences = false;
+            while (!ended) {
+                final int nextChar = in.read();
+                switch (nextChar) {
+                    case -1:
+                        ended = true;
+                        throw unmatchedDoubleQuotes();
+                    case DOUBLE_QUOTE:
+                        ended = true;
+                        break;
+                    case BACK_SLASH:
+                        containsEscapeSequences = true;
+                        escapedStringChar(in, stringBuilder);
+                        break;
+                    default:
+                        stringBuilder.append((char) nextChar);
+                }
+            }
+            return containsEscapeSequences;
+        }
+
+        private InvalidSyntaxRuntimeException unmatchedDoubleQuotes() {
+            return new InvalidSyntaxRuntimeException("Got opening [" + DOUBLE_QUOTE + "] without matching closing [" + DOUBLE_QUOTE + "]", new Position(openDoubleQuotesColumn, openDoubleQuotesLine));
+        }
+
+        /**
+         * @param escapeSequence if not null, the escape sequence, including its leading backslash, is appended to it.
+         */
+        private char escapedStringChar(final PositionedPushbackReader in, final StringBuilder escapeSequence) throws IOException {
             final char result;
             final int firstChar = in.read();
+            if (escapeSequence != null) {
+                escapeSequence.append(BACK_SLASH).append((char) firstChar);
+            }
             switch (firstChar) {
                 case DOUBLE_QUOTE:
                     result = DOUBLE_QUOTE;
@@ -414,7 +453,7 @@ public enum JsonStreamElementType {
                     result = TAB;
                     break;
                 case 'u':
-                    result = (char) hexadecimalNumber(in);
+                    result = (char) hexadecimalNumber(in, escapeSequence);
                     break;
                 default:
                     ended = true;
@@ -423,25 +462,57 @@ public enum JsonStreamElementType {
             return result;
         }
 
-        private int hexadecimalNumber(final PositionedPushbackReader in) throws IOException {
-            final Position startPosition = in.position();
-            final char[] resultCharArray = new char[4];
-            for (int i = 0; i < resultCharArray.length; i++) {
+        /**
+         * Decodes four hexadecimal digits, accepting the same digits as {@code Integer.parseInt(String, 16)}, including
+         * a leading sign, without allocating.  The characters read are kept packed into a {@code long} in case they're
+         * needed for an error message.  Digits that aren't plain ASCII hexadecimal digits are appended to the escape
+         * sequence in that form, so that it's still valid for other parsers.
+         */
+        private int hexadecimalNumber(final PositionedPushbackReader in, final StringBuilder escapeSequence) throws IOException {
+            final int startColumn = in.column();
+            final int startLine = in.line();
+            long characters = 0;
+            int result = 0;
+            boolean negative = false;
+            boolean valid = true;
+            boolean asciiDigits = true;
+            for (int i = 0; i < 4; i++) {
                 final int character = in.read();
                 if (character == -1) {
                     ended = true;
-                    throw new InvalidSyntaxRuntimeException("Expected 4 hexadecimal digits" + ", but " + (i == 0 ? "reached end of input" : "got " + toCharacterArrayString(String.valueOf(resultCharArray, 0, i))), in.position());
+                    throw new InvalidSyntaxRuntimeException("Expected 4 hexadecimal digits" + ", but " + (i == 0 ? "reached end of input" : "got " + toCharacterArrayString(unpack(characters, i))), in.position());
+                }
+                characters = characters << 16 | character;
+                final int digit = Character.digit(character, 16);
+                if (digit != -1) {
+                    result = result * 16 + digit;
+                    asciiDigits &= character < 128;
+                } else if (i == 0 && (character == '+' || character == '-')) {
+                    negative = character == '-';
+                    asciiDigits = false;
                 } else {
-                    resultCharArray[i] = (char) character;
+                    valid = false;
                 }
             }
-            final String resultString = String.valueOf(resultCharArray);
-            try {
-                return Integer.parseInt(resultString, 16);
-            } catch (final NumberFormatException e) {
+            if (!valid) {
                 ended = true;
-                throw new InvalidSyntaxRuntimeException("Unable to parse escaped character " + toCharacterArrayString(resultString) + " as a hexadecimal number", e, startPosition);
+                throw new InvalidSyntaxRuntimeException("Unable to parse escaped character " + toCharacterArrayString(unpack(characters, 4)) + " as a hexadecimal number", new Position(startColumn, startLine));
+            }
+            final int value = negative ? -result : result;
+            if (escapeSequence != null) {
+                for (int i = 3; i >= 0; i--) {
+                    escapeSequence.append(asciiDigits ? (char) (characters >>> 16 * i) : Character.forDigit(value >>> 4 * i & 0xF, 16));
+                }
+            }
+            return value;
+        }
+
+        private static String unpack(final long characters, final int count) {
+            final char[] result = new char[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = (char) (characters >>> 16 * (count - 1 - i));
             }
+            return String.valueOf(result);
         }
 
         @Override
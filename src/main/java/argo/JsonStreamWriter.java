@@ -0,0 +1,544 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.format.PreparedJsonString;
+import argo.internal.PreparedJsonStringAccess;
+import argo.internal.RawJsonVisitor;
+import argo.internal.StringBuilderWriter;
+import argo.jdom.JsonField;
+import argo.jdom.JsonNode;
+import argo.jdom.JsonNodeVisitor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Writes a JSON document one event at a time, for example the start of an object, or the name of a field, as an
+ * alternative to the callbacks of {@code WriteableJsonObject} and {@code WriteableJsonArray}.  For example,
+ * <pre>{@code
+ * final JsonStreamWriter jsonStreamWriter = new JsonGenerator().jsonStreamWriter(writer);
+ * jsonStreamWriter.startObject();
+ * jsonStreamWriter.name("name");
+ * jsonStreamWriter.value("Black Lace");
+ * jsonStreamWriter.name("singles");
+ * jsonStreamWriter.startArray();
+ * jsonStreamWriter.value("Superman");
+ * jsonStreamWriter.value("Agadoo");
+ * jsonStreamWriter.endArray();
+ * jsonStreamWriter.endObject();
+ * jsonStreamWriter.finish();
+ * }</pre>
+ * <p>
+ * The sequence of events is checked as it's written, so that the output is always a prefix of a valid JSON document;
+ * an event that would make it invalid throws {@code IllegalStateException} without writing anything.  Writing events
+ * doesn't allocate, except when writing {@code double}s, {@code BigDecimal}s, and {@code BigInteger}s.
+ * <p>
+ * Output is buffered internally and passed to the target in blocks, and {@link #finish()} must be called once the
+ * document is complete to pass on the remainder.  The target is neither flushed nor closed.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @see JsonGenerator#jsonStreamWriter(Writer)
+ */
+public final class JsonStreamWriter {
+
+    private static final PreparedJsonStringAccess PREPARED_JSON_STRING_ACCESS = PreparedJsonStringAccess.preparedJsonStringAccess();
+    private static final int INITIAL_DEPTH_CAPACITY = 16;
+    private static final byte OBJECT = 1;
+    private static final byte HAS_CONTENT = 2;
+
+    private final Writer writer;
+    private final BufferingWriter bufferingWriter;
+    private final Utf8Writer utf8Writer;
+    private final JsonEscapedString jsonEscapedString;
+    private final String lineSeparator;
+    private final char[] tabs = new char[32];
+    private final JsonNumberWriter jsonNumberWriter = new JsonNumberWriter();
+    private final NodeWriter nodeWriter = new NodeWriter();
+    private char[] readBuffer;
+    private byte[] containers = new byte[INITIAL_DEPTH_CAPACITY];
+    private int depth;
+    private boolean afterName;
+    private boolean complete;
+
+    /**
+     * @param utf8Writer    the {@code Utf8Writer} to finish once the document is complete, or null if there isn't one.
+     * @param lineSeparator the line separator to write between elements, or null to write compact output.
+     */
+    JsonStreamWriter(final Writer target, final Utf8Writer utf8Writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+        if (target instanceof StringBuilderWriter) {
+            bufferingWriter = null;
+            writer = target;
+        } else {
+            bufferingWriter = new BufferingWriter(target);
+            writer = bufferingWriter;
+        }
+        this.utf8Writer = utf8Writer;
+        this.lineSeparator = lineSeparator;
+        this.jsonEscapedString = jsonEscapedString;
+        for (int i = 0; i < tabs.length; i++) {
+            tabs[i] = '\t';
+        }
+    }
+
+    /**
+     * Writes the start of an object, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void startObject() throws IOException {
+        beforeValue();
+        writer.write('{');
+        push(OBJECT);
+    }
+
+    /**
+     * Writes the end of the current object.
+     *
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if the innermost open value isn't an object, or its last field has no value.
+     */
+    public void endObject() throws IOException {
+        if (depth == 0 || (containers[depth - 1] & OBJECT) == 0) {
+            throw new IllegalStateException("Attempt to end an object when no object is open");
+        } else if (afterName) {
+            throw new IllegalStateException("Attempt to end an object before writing the value of its last field");
+        }
+        pop();
+        writer.write('}');
+        afterValue();
+    }
+
+    /**
+     * Writes the start of an array, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void startArray() throws IOException {
+        beforeValue();
+        writer.write('[');
+        push((byte) 0);
+    }
+
+    /**
+     * Writes the end of the current array.
+     *
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if the innermost open value isn't an array.
+     */
+    public void endArray() throws IOException {
+        if (depth == 0 || (containers[depth - 1] & OBJECT) != 0) {
+            throw new IllegalStateException("Attempt to end an array when no array is open");
+        }
+        pop();
+        writer.write(']');
+        afterValue();
+    }
+
+    /**
+     * Writes the name of the next field of the current object.  The next event must be its value.
+     *
+     * @param name the name of the field.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if the innermost open value isn't an object, or a name has already been written without a value.
+     */
+    public void name(final String name) throws IOException {
+        beforeName();
+        writer.write('"');
+        jsonEscapedString.escape(writer, name, 0, name.length());
+        writer.write('"');
+        afterName();
+    }
+
+    /**
+     * Writes the name of the next field of the current object.  The next event must be its value.  Names that don't
+     * need escaping are written with a single copy.
+     *
+     * @param name the name of the field.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if the innermost open value isn't an object, or a name has already been written without a value.
+     */
+    public void name(final PreparedJsonString name) throws IOException {
+        final String preEscapedForm = PREPARED_JSON_STRING_ACCESS.preEscapedForm(name);
+        if (preEscapedForm == null) {
+            name(name.getText());
+        } else {
+            beforeName();
+            writer.write(preEscapedForm);
+            afterName();
+        }
+    }
+
+    void name(final Reader name) throws IOException {
+        beforeName();
+        writeString(name);
+        afterName();
+    }
+
+    /**
+     * Writes a string, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the string to write.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void value(final String value) throws IOException {
+        beforeValue();
+        writer.write('"');
+        jsonEscapedString.escape(writer, value, 0, value.length());
+        writer.write('"');
+        afterValue();
+    }
+
+    void stringValue(final Reader value) throws IOException {
+        beforeValue();
+        writeString(value);
+        afterValue();
+    }
+
+    /**
+     * Writes a number, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the number to write.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void value(final long value) throws IOException {
+        beforeValue();
+        jsonNumberWriter.write(writer, value);
+        afterValue();
+    }
+
+    /**
+     * Writes a number, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the number to write.
+     * @throws IOException              if there was a problem writing to the target.
+     * @throws IllegalArgumentException if the value is NaN or infinite, neither of which can be represented as a JSON number.
+     * @throws IllegalStateException    if a value can't be written at this point.
+     */
+    public void value(final double value) throws IOException {
+        JsonNumberWriter.checkRepresentable(value);
+        beforeValue();
+        JsonNumberWriter.write(writer, value);
+        afterValue();
+    }
+
+    /**
+     * Writes a number, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the number to write.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void value(final BigDecimal value) throws IOException {
+        beforeValue();
+        writer.write(value.toString());
+        afterValue();
+    }
+
+    /**
+     * Writes a number, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the number to write.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void value(final BigInteger value) throws IOException {
+        beforeValue();
+        writer.write(value.toString());
+        afterValue();
+    }
+
+    /**
+     * Writes a number whose text is already known to be a valid JSON number.
+     */
+    void numberValue(final Reader value) throws IOException {
+        beforeValue();
+        final char[] buffer = readBuffer();
+        int length;
+        while ((length = value.read(buffer)) != -1) {
+            writer.write(buffer, 0, length);
+        }
+        afterValue();
+    }
+
+    /**
+     * Writes a boolean, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the boolean to write.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void value(final boolean value) throws IOException {
+        beforeValue();
+        writer.write(value ? "true" : "false");
+        afterValue();
+    }
+
+    /**
+     * Writes null, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void nullValue() throws IOException {
+        beforeValue();
+        writer.write("null");
+        afterValue();
+    }
+
+    /**
+     * Writes the given {@code JsonNode}, either as the top level value, an element of an array, or the value of a field.
+     *
+     * @param value the {@code JsonNode} to write.
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if a value can't be written at this point.
+     */
+    public void value(final JsonNode value) throws IOException {
+        try {
+            value.visit(nodeWriter);
+        } catch (final JsonPrinter.IORuntimeException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Passes any output buffered by this writer to the target, and flushes the target.  Calling this method isn't
+     * necessary for the document to be written, but can be used to make partial output available sooner.
+     *
+     * @throws IOException if there was a problem writing to or flushing the target.
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Passes any output buffered by this writer to the target.  Must be called once the document is complete.
+     *
+     * @throws IOException           if there was a problem writing to the target.
+     * @throws IllegalStateException if the document is incomplete.
+     */
+    public void finish() throws IOException {
+        if (!complete) {
+            throw new IllegalStateException("Attempt to finish an incomplete document");
+        }
+        flushBuffer();
+        if (utf8Writer != null) {
+            utf8Writer.finish();
+        }
+    }
+
+    /**
+     * @return the number of objects and arrays that have been started but not ended.
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Passes any output buffered by this writer to its target, without checking the document is complete.
+     */
+    void flushBuffer() throws IOException {
+        if (bufferingWriter != null) {
+            bufferingWriter.flushBuffer();
+        }
+    }
+
+    /**
+     * Passes any output buffered by this writer to its target after writing has failed part way, ignoring a failure of
+     * the target, so that it doesn't hide the original failure.
+     */
+    void flushBufferAfterFailure() {
+        try {
+            flushBuffer();
+        } catch (final IOException e) {
+            // the original failure is the one to report
+        }
+    }
+
+    private void writeString(final Reader value) throws IOException {
+        final char[] buffer = readBuffer();
+        writer.write('"');
+        int length;
+        while ((length = value.read(buffer)) != -1) {
+            jsonEscapedString.escape(writer, buffer, 0, length);
+        }
+        writer.write('"');
+    }
+
+    private char[] readBuffer() {
+        if (readBuffer == null) {
+            readBuffer = new char[WriteBufferHolder.WRITE_BUFFER_SIZE];
+        }
+        return readBuffer;
+    }
+
+    private void push(final byte container) {
+        if (depth == containers.length) {
+            final byte[] grown = new byte[containers.length * 2];
+            System.arraycopy(containers, 0, grown, 0, depth);
+            containers = grown;
+        }
+        containers[depth++] = container;
+    }
+
+    private void pop() throws IOException {
+        final boolean hadContent = (containers[--depth] & HAS_CONTENT) != 0;
+        if (hadContent && lineSeparator != null) {
+            newLine();
+        }
+    }
+
+    private void beforeName() throws IOException {
+        if (depth == 0 || (containers[depth - 1] & OBJECT) == 0) {
+            throw new IllegalStateException("Attempt to write a field name outside an object");
+        } else if (afterName) {
+            throw new IllegalStateException("Attempt to write a field name before writing the value of the previous field");
+        }
+        separate();
+    }
+
+    private void afterName() throws IOException {
+        if (lineSeparator == null) {
+            writer.write(':');
+        } else {
+            writer.write(": ");
+        }
+        afterName = true;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+        } else if (depth == 0) {
+            if (complete) {
+                throw new IllegalStateException("Attempt to write a second top level value");
+            }
+        } else if ((containers[depth - 1] & OBJECT) != 0) {
+            throw new IllegalStateException("Attempt to write a value in an object without first writing its field name");
+        } else {
+            separate();
+        }
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            complete = true;
+        }
+    }
+
+    private void separate() throws IOException {
+        if ((containers[depth - 1] & HAS_CONTENT) != 0) {
+            writer.write(',');
+        } else {
+            containers[depth - 1] |= HAS_CONTENT;
+        }
+        if (lineSeparator != null) {
+            newLine();
+        }
+    }
+
+    private void newLine() throws IOException {
+        writer.write(lineSeparator);
+        for (int i = 0; i < depth; i += tabs.length) {
+            writer.write(tabs, 0, Math.min(tabs.length, depth - i));
+        }
+    }
+
+    private final class NodeWriter implements JsonNodeVisitor, RawJsonVisitor {
+
+        public void object(final List<JsonField> fields) {
+            try {
+                startObject();
+                for (final JsonField field : fields) {
+                    name(field.getNameText());
+                    field.getValue().visit(this);
+                }
+                endObject();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public void array(final List<JsonNode> elements) {
+            try {
+                startArray();
+                for (final JsonNode element : elements) {
+                    element.visit(this);
+                }
+                endArray();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public void string(final String value) {
+            try {
+                value(value);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public void number(final String value) {
+            try {
+                beforeValue();
+                writer.write(value);
+                afterValue();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public void trueNode() {
+            try {
+                value(true);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public void falseNode() {
+            try {
+                value(false);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public void nullNode() {
+            try {
+                nullValue();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+
+        public boolean raw(final String json) {
+            try {
+                beforeValue();
+                jsonEscapedString.rawJson().escape(writer, json, 0, json.length());
+                afterValue();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -13,13 +13,16 @@ package argo;
 import java.io.IOException;
 import java.io.Writer;
 
-import static argo.JsonEscapedString.escapeCharBufferTo;
-
 final class JsonStringEscapingWriter extends Writer {
     private final WriteBufferHolder writeBufferHolder;
+    private final JsonEscapedString jsonEscapedString;
     private Writer out;
 
     JsonStringEscapingWriter(final Writer out, final WriteBufferHolder writeBufferHolder) {
+        this(out, writeBufferHolder, JsonEscapedString.MINIMAL);
+    }
+
+    JsonStringEscapingWriter(final Writer out, final WriteBufferHolder writeBufferHolder, final JsonEscapedString jsonEscapedString) {
         if (out == null) {
             throw new NullPointerException();
         }
@@ -28,6 +31,17 @@ final class JsonStringEscapingWriter extends Writer {
             throw new NullPointerException();
         }
         this.writeBufferHolder = writeBufferHolder;
+        this.jsonEscapedString = jsonEscapedString;
+    }
+
+    /**
+     * Reopens this writer, following {@code close}, to escape another string to the given target.
+     */
+    void open(final Writer out) {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        this.out = out;
     }
 
     private static void validateArguments(final char[] cbuf, final int offset, final int length) {
@@ -53,16 +67,14 @@ final class JsonStringEscapingWriter extends Writer {
     @Override
     public void write(final String str, final int off, final int len) throws IOException {
         ensureOpen();
-        final char[] cbuf = len <= WriteBufferHolder.WRITE_BUFFER_SIZE ? writeBufferHolder.writeBuffer() : new char[len];
-        str.getChars(off, off + len, cbuf, 0);
-        write(cbuf, 0, len);
+        jsonEscapedString.escape(out, str, off, len);
     }
 
     @Override
     public void write(@SuppressWarnings("NullableProblems") final char[] cbuf, final int offset, final int length) throws IOException {
         validateArguments(cbuf, offset, length);
         ensureOpen();
-        escapeCharBufferTo(out, cbuf, offset, length);
+        jsonEscapedString.escape(out, cbuf, offset, length);
     }
 
     @Override
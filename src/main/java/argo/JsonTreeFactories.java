@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JsonField;
+import argo.jdom.JsonNode;
+import argo.jdom.JsonNodeFactories;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ready-made {@code JsonTreeFactory}s for use with {@code JsonParser.parse(Reader, JsonTreeFactory)}.
+ *
+ * @see argo.jdom.MutableJsonTreeFactory
+ */
+public final class JsonTreeFactories {
+
+    private static final JsonTreeFactory<Map<String, Object>, List<Object>, Object> MAPS_AND_LISTS = new JsonTreeFactory<Map<String, Object>, List<Object>, Object>() {
+        public Map<String, Object> newObject() {
+            return new LinkedHashMap<String, Object>();
+        }
+
+        public void addField(final Map<String, Object> object, final String name, final Object value) {
+            object.put(name, value);
+        }
+
+        public Object endObject(final Map<String, Object> object) {
+            return object;
+        }
+
+        public List<Object> newArray() {
+            return new ArrayList<Object>();
+        }
+
+        public void addElement(final List<Object> array, final Object element) {
+            array.add(element);
+        }
+
+        public Object endArray(final List<Object> array) {
+            return array;
+        }
+
+        public Object string(final String value) {
+            return value;
+        }
+
+        public Object number(final String value) {
+            return new BigDecimal(value);
+        }
+
+        public Object trueValue() {
+            return Boolean.TRUE;
+        }
+
+        public Object falseValue() {
+            return Boolean.FALSE;
+        }
+
+        public Object nullValue() {
+            return null;
+        }
+    };
+
+    private static final JsonTreeFactory<List<JsonField>, List<JsonNode>, JsonNode> JSON_NODES = new JsonTreeFactory<List<JsonField>, List<JsonNode>, JsonNode>() {
+        public List<JsonField> newObject() {
+            return new ArrayList<JsonField>();
+        }
+
+        public void addField(final List<JsonField> object, final String name, final JsonNode value) {
+            object.add(JsonNodeFactories.field(name, value));
+        }
+
+        public JsonNode endObject(final List<JsonField> object) {
+            return JsonNodeFactories.object(object);
+        }
+
+        public List<JsonNode> newArray() {
+            return new ArrayList<JsonNode>();
+        }
+
+        public void addElement(final List<JsonNode> array, final JsonNode element) {
+            array.add(element);
+        }
+
+        public JsonNode endArray(final List<JsonNode> array) {
+            return JsonNodeFactories.array(array);
+        }
+
+        public JsonNode string(final String value) {
+            return JsonNodeFactories.string(value);
+        }
+
+        public JsonNode number(final String value) {
+            return JsonNodeFactories.prevalidatedNumber(new JsonParser.PrevalidatedNumber(value));
+        }
+
+        public JsonNode trueValue() {
+            return JsonNodeFactories.trueNode();
+        }
+
+        public JsonNode falseValue() {
+            return JsonNodeFactories.falseNode();
+        }
+
+        public JsonNode nullValue() {
+            return JsonNodeFactories.nullNode();
+        }
+    };
+
+    private JsonTreeFactories() {
+    }
+
+    /**
+     * A {@code JsonTreeFactory} that builds plain Java objects: objects become {@code LinkedHashMap}s, preserving
+     * the order of their fields, with the last of any fields that share a name taking precedence; arrays become
+     * {@code ArrayList}s; strings become {@code String}s; numbers become {@code BigDecimal}s; {@code true} and
+     * {@code false} become {@code Boolean}s, and {@code null} becomes {@code null}.
+     *
+     * @return a {@code JsonTreeFactory} that builds {@code Map}s and {@code List}s.
+     */
+    public static JsonTreeFactory<Map<String, Object>, List<Object>, Object> mapsAndLists() {
+        return MAPS_AND_LISTS;
+    }
+
+    /**
+     * A {@code JsonTreeFactory} that builds {@code JsonNode}s, for use where a {@code JsonTreeFactory} is needed, for
+     * example when delegating to it from another {@code JsonTreeFactory}.  {@code JsonParser.parse(Reader)} builds the
+     * same tree more efficiently.
+     *
+     * @return a {@code JsonTreeFactory} that builds {@code JsonNode}s.
+     */
+    public static JsonTreeFactory<List<JsonField>, List<JsonNode>, JsonNode> jsonNodes() {
+        return JSON_NODES;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+/**
+ * Builds a tree of some type from the parts of a JSON document, so that {@code JsonParser} can parse directly into
+ * that type, rather than into {@code JsonNode}s that then need converting.
+ * <p>
+ * For each object, the parser calls {@code newObject}, then {@code addField} for each of its fields, in order, then
+ * {@code endObject}; arrays are built likewise.  The value passed to {@code addField} or {@code addElement} is always
+ * complete, so the children of a container are finished before the container itself.
+ *
+ * @param <O> the type of an object under construction.
+ * @param <A> the type of an array under construction.
+ * @param <V> the type of a finished value.
+ * @see JsonParser#parse(java.io.Reader, JsonTreeFactory)
+ * @see JsonTreeFactories
+ */
+public interface JsonTreeFactory<O, A, V> {
+
+    O newObject();
+
+    void addField(O object, String name, V value);
+
+    V endObject(O object);
+
+    A newArray();
+
+    void addElement(A array, V element);
+
+    V endArray(A array);
+
+    V string(String value);
+
+    /**
+     * @param value the text of a number, exactly as it appears in the document, which is guaranteed to be a valid JSON number.
+     * @return the given number.
+     */
+    V number(String value);
+
+    V trueValue();
+
+    V falseValue();
+
+    V nullValue();
+}
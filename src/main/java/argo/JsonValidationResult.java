@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+/**
+ * The outcome of validating JSON text using {@code JsonParser.validate}: either valid, or invalid with an explanation
+ * and the position at which the text was found to be invalid.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @see JsonParser#validate(java.io.Reader)
+ */
+public final class JsonValidationResult {
+
+    static final JsonValidationResult VALID = new JsonValidationResult(null, -1, -1, -1);
+
+    private final String explanation;
+    private final long offset;
+    private final int line;
+    private final int column;
+
+    private JsonValidationResult(final String explanation, final long offset, final int line, final int column) {
+        this.explanation = explanation;
+        this.offset = offset;
+        this.line = line;
+        this.column = column;
+    }
+
+    static JsonValidationResult invalid(final String explanation, final long offset, final int line, final int column) {
+        return new JsonValidationResult(explanation, offset, line, column);
+    }
+
+    /**
+     * @return true if the text was valid JSON within the given limits.
+     */
+    public boolean isValid() {
+        return explanation == null;
+    }
+
+    /**
+     * A message describing why the text was invalid, in the same form as the message of an {@code InvalidSyntaxException}.
+     *
+     * @return a message describing why the text was invalid, or null if it was valid.
+     */
+    public String getMessage() {
+        return explanation == null ? null : "At " + (line == -1 ? "unknown line" : "line " + line) + ", " + (column == -1 ? "unknown column" : "column " + column) + ":  " + explanation;
+    }
+
+    /**
+     * The number of characters preceding the character at which the text was found to be invalid, or -1 if the text was valid.
+     *
+     * @return the number of characters preceding the character at which the text was found to be invalid, or -1 if the text was valid.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * The line number at which the invalid syntax occurred, or -1 if the text was valid or the line number is unknown.
+     *
+     * @return the line number at which the invalid syntax occurred, or -1 if the text was valid or the line number is unknown.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * The column number at which the invalid syntax occurred, or -1 if the text was valid or the column number is unknown.
+     *
+     * @return the column number at which the invalid syntax occurred, or -1 if the text was valid or the column number is unknown.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return explanation == null ? "JsonValidationResult{valid}" : "JsonValidationResult{" + getMessage() + "}";
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+import static argo.CharacterUtilities.toCharacterArrayString;
+import static argo.CharacterUtilities.toPrintableString;
+
+/**
+ * Checks whether text is valid JSON without producing anything from it.  Characters are examined in place in a buffer,
+ * so no {@code String}s, {@code Reader}s, or {@code JsonStreamElement}s are created for valid text.
+ * <p>
+ * Accepts exactly the text {@code JsonParser} accepts, and reports the same explanations for invalid text.
+ */
+abstract class JsonValidator {
+
+    private static final char DOUBLE_QUOTE = '"';
+    private static final char BACK_SLASH = '\\';
+    private static final char TAB = '\t';
+    private static final char NEWLINE = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    final char[] buffer;
+    int position;
+    int end;
+    private long bufferOffset;
+
+    private final boolean trackPosition;
+    private final int maximumDepth;
+    private final long maximumLength;
+    private final char[] hexadecimalCharacters = new char[4];
+    private boolean[] isObject = new boolean[16];
+    private int depth;
+    private int line = 1;
+    private long lineStart;
+    private long lastCarriageReturn = Long.MIN_VALUE;
+
+    JsonValidator(final int bufferSize, final boolean trackPosition, final int maximumDepth, final long maximumLength) {
+        this.buffer = new char[bufferSize];
+        this.trackPosition = trackPosition;
+        this.maximumDepth = maximumDepth;
+        this.maximumLength = maximumLength;
+    }
+
+    static JsonValidator readerJsonValidator(final Reader reader, final int bufferSize, final boolean trackPosition, final int maximumDepth, final long maximumLength) {
+        return new JsonValidator(bufferSize, trackPosition, maximumDepth, maximumLength) {
+            @Override
+            int read(final char[] buffer) throws IOException {
+                return reader.read(buffer);
+            }
+        };
+    }
+
+    static JsonValidator stringJsonValidator(final String json, final int bufferSize, final boolean trackPosition, final int maximumDepth, final long maximumLength) {
+        return new JsonValidator(bufferSize, trackPosition, maximumDepth, maximumLength) {
+            private int stringPosition;
+
+            @Override
+            int read(final char[] buffer) {
+                final int length = Math.min(buffer.length, json.length() - stringPosition);
+                if (length == 0) {
+                    return -1;
+                }
+                json.getChars(stringPosition, stringPosition + length, buffer, 0);
+                stringPosition += length;
+                return length;
+            }
+        };
+    }
+
+    static JsonValidator utf8JsonValidator(final byte[] json, final CharsetDecoder utf8Decoder, final int bufferSize, final boolean trackPosition, final int maximumDepth, final long maximumLength) {
+        return new JsonValidator(bufferSize, trackPosition, maximumDepth, maximumLength) {
+            private final ByteBuffer byteBuffer = ByteBuffer.wrap(json);
+            private final CharBuffer charBuffer = CharBuffer.wrap(buffer);
+            private boolean malformed;
+            private boolean finished;
+
+            @Override
+            int read(final char[] buffer) {
+                if (finished) {
+                    return -1;
+                } else if (malformed) {
+                    throw failure("Invalid UTF-8 byte sequence", offset());
+                }
+                charBuffer.clear();
+                final CoderResult coderResult = utf8Decoder.decode(byteBuffer, charBuffer, true);
+                if (coderResult.isError()) {
+                    malformed = true;
+                } else if (coderResult.isUnderflow()) {
+                    utf8Decoder.flush(charBuffer);
+                    finished = true;
+                }
+                if (charBuffer.position() == 0) {
+                    return read(buffer);
+                }
+                return charBuffer.position();
+            }
+        };
+    }
+
+    /**
+     * Reads characters into the start of the given buffer.
+     *
+     * @return the number of characters read, or -1 at the end of the input.
+     */
+    abstract int read(char[] buffer) throws IOException;
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    final JsonValidationResult validate() throws IOException {
+        try {
+            int nextChar = nextNonWhitespaceChar();
+            while (true) {
+                boolean valueEnded = true;
+                switch (nextChar) {
+                    case '{':
+                        push(true);
+                        nextChar = nextNonWhitespaceChar();
+                        if ('}' == nextChar) {
+                            depth--;
+                        } else {
+                            fieldName(nextChar);
+                            nextChar = nextNonWhitespaceChar();
+                            valueEnded = false;
+                        }
+                        break;
+                    case '[':
+                        push(false);
+                        nextChar = nextNonWhitespaceChar();
+                        if (']' == nextChar) {
+                            depth--;
+                        } else {
+                            valueEnded = false;
+                        }
+                        break;
+                    case DOUBLE_QUOTE:
+                        string();
+                        break;
+                    case 't':
+                        constant("true");
+                        break;
+                    case 'f':
+                        constant("false");
+                        break;
+                    case 'n':
+                        constant("null");
+                        break;
+                    case '-':
+                    case '0':
+                    case '1':
+                    case '2':
+                    case '3':
+                    case '4':
+                    case '5':
+                    case '6':
+                    case '7':
+                    case '8':
+                    case '9':
+                        number(nextChar);
+                        break;
+                    default:
+                        throw failure(-1 == nextChar ? "Expected a value but reached end of input" : "Invalid character [" + toPrintableString((char) nextChar) + "] at start of value", offset() - (nextChar == -1 ? 0 : 1));
+                }
+                while (valueEnded) {
+                    nextChar = nextNonWhitespaceChar();
+                    if (depth == 0) {
+                        if (nextChar == -1) {
+                            return JsonValidationResult.VALID;
+                        }
+                        throw unexpectedCharacterFailure("Expected end of stream or whitespace", nextChar);
+                    } else if (isObject[depth - 1]) {
+                        if (',' == nextChar) {
+                            nextChar = nextNonWhitespaceChar();
+                            // the parser permits a trailing comma after the last field of an object
+                            if ('}' != nextChar) {
+                                fieldName(nextChar);
+                                nextChar = nextNonWhitespaceChar();
+                                valueEnded = false;
+                            } else {
+                                depth--;
+                            }
+                        } else if ('}' == nextChar) {
+                            depth--;
+                        } else {
+                            throw unexpectedCharacterFailure("Expected either , or }", nextChar);
+                        }
+                    } else {
+                        if (',' == nextChar) {
+                            nextChar = nextNonWhitespaceChar();
+                            valueEnded = false;
+                        } else if (']' == nextChar) {
+                            depth--;
+                        } else {
+                            throw unexpectedCharacterFailure("Expected either , or ]", nextChar);
+                        }
+                    }
+                }
+            }
+        } catch (final ValidationFailure validationFailure) {
+            return validationFailure.jsonValidationResult;
+        }
+    }
+
+    private void push(final boolean object) {
+        if (depth == maximumDepth) {
+            throw failure("Nesting exceeds maximum depth of " + maximumDepth, offset() - 1);
+        }
+        if (depth == isObject.length) {
+            final boolean[] grown = new boolean[isObject.length * 2];
+            System.arraycopy(isObject, 0, grown, 0, depth);
+            isObject = grown;
+        }
+        isObject[depth++] = object;
+    }
+
+    private void fieldName(final int firstChar) throws IOException {
+        if (DOUBLE_QUOTE != firstChar) {
+            throw unexpectedCharacterFailure("Expected object identifier to begin with [\"]", firstChar);
+        }
+        string();
+        final int nextChar = nextNonWhitespaceChar();
+        if (nextChar != ':') {
+            throw unexpectedCharacterFailure("Expected object identifier to be followed by :", nextChar);
+        }
+    }
+
+    private void string() throws IOException {
+        final long openDoubleQuotesOffset = offset() - 1;
+        final int openDoubleQuotesLine = line;
+        final long openDoubleQuotesLineStart = lineStart;
+        while (true) {
+            if (position == end && !fill()) {
+                throw failure("Got opening [" + DOUBLE_QUOTE + "] without matching closing [" + DOUBLE_QUOTE + "]", openDoubleQuotesOffset, openDoubleQuotesLine, openDoubleQuotesLineStart);
+            }
+            final char character = buffer[position++];
+            if (DOUBLE_QUOTE == character) {
+                return;
+            } else if (BACK_SLASH == character) {
+                escape();
+            } else if (character < ' ' && (NEWLINE == character || CARRIAGE_RETURN == character)) {
+                lineBreak(character);
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private void escape() throws IOException {
+        final int firstChar = read();
+        switch (firstChar) {
+            case DOUBLE_QUOTE:
+            case BACK_SLASH:
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                break;
+            case 'u':
+                hexadecimalNumber();
+                break;
+            default:
+                throw unexpectedCharacterFailure("Expected \\ to be followed by one of \", \\, /, b, f, n, r, t, or u", firstChar);
+        }
+    }
+
+    private void hexadecimalNumber() throws IOException {
+        final long startOffset = offset() - 1;
+        final int startLine = line;
+        final long startLineStart = lineStart;
+        final char[] characters = hexadecimalCharacters;
+        boolean valid = true;
+        for (int i = 0; i < characters.length; i++) {
+            final int character = read();
+            if (character == -1) {
+                throw failure("Expected 4 hexadecimal digits" + ", but " + (i == 0 ? "reached end of input" : "got " + toCharacterArrayString(String.valueOf(characters, 0, i))), offset());
+            }
+            lineBreakIfAny(character);
+            characters[i] = (char) character;
+            // the parser accepts the same digits as Integer.parseInt, which permits a leading sign
+            valid &= Character.digit(character, 16) != -1 || i == 0 && (character == '+' || character == '-');
+        }
+        if (!valid) {
+            throw failure("Unable to parse escaped character " + toCharacterArrayString(String.valueOf(characters)) + " as a hexadecimal number", startOffset, startLine, startLineStart);
+        }
+    }
+
+    private void constant(final String expectedCharacters) throws IOException {
+        for (int i = 1; i < expectedCharacters.length(); i++) {
+            final int character = read();
+            if (character != expectedCharacters.charAt(i)) {
+                lineBreakIfAny(character);
+                final String actual;
+                if (character == -1) {
+                    actual = expectedCharacters.substring(1, i);
+                } else {
+                    actual = expectedCharacters.substring(1, i) + (char) character;
+                }
+                throw failure("Expected '" + expectedCharacters.charAt(0) + "' to be followed by "
+                        + toCharacterArrayString(expectedCharacters, 1, expectedCharacters.length()) + ", but "
+                        + (character == -1 && i == 1 ? "reached end of input" : "got " + toCharacterArrayString(actual)), character == -1 ? offset() : offset() - 1);
+            }
+        }
+    }
+
+    private void number(final int firstChar) throws IOException {
+        int nextChar = firstChar;
+        if ('-' == nextChar) {
+            nextChar = read();
+            if (!isDigit(nextChar)) {
+                throw unexpectedCharacterFailure("Expected a digit 0 - 9", nextChar);
+            }
+        }
+        if ('0' == nextChar) {
+            nextChar = read();
+        } else {
+            nextChar = digits();
+        }
+        if ('.' == nextChar) {
+            nextChar = read();
+            if (!isDigit(nextChar)) {
+                throw unexpectedCharacterFailure("Expected a digit 0 - 9", nextChar);
+            }
+            nextChar = digits();
+        }
+        if ('e' == nextChar || 'E' == nextChar) {
+            nextChar = read();
+            if ('+' == nextChar || '-' == nextChar) {
+                nextChar = read();
+                if (!isDigit(nextChar)) {
+                    throw unexpectedCharacterFailure("Expected a digit 0 - 9", nextChar);
+                }
+            } else if (!isDigit(nextChar)) {
+                throw unexpectedCharacterFailure("Expected '+' or '-' or a digit 0 - 9", nextChar);
+            }
+            nextChar = digits();
+        }
+        if (nextChar != -1) {
+            position--;
+        }
+    }
+
+    private int digits() throws IOException {
+        int nextChar;
+        do {
+            nextChar = read();
+        } while (isDigit(nextChar));
+        return nextChar;
+    }
+
+    private static boolean isDigit(final int character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private int read() throws IOException {
+        if (position == end && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int nextNonWhitespaceChar() throws IOException {
+        while (true) {
+            if (position == end && !fill()) {
+                return -1;
+            }
+            final char character = buffer[position++];
+            if (character != ' ' && character != TAB) {
+                if (character == NEWLINE || character == CARRIAGE_RETURN) {
+                    lineBreak(character);
+                } else {
+                    return character;
+                }
+            }
+        }
+    }
+
+    private void lineBreak(final char character) {
+        final long characterOffset = offset() - 1;
+        if (NEWLINE != character || lastCarriageReturn != characterOffset - 1) {
+            line++;
+        }
+        if (CARRIAGE_RETURN == character) {
+            lastCarriageReturn = characterOffset;
+        }
+        lineStart = characterOffset + 1;
+    }
+
+    /**
+     * Accounts for an unexpected character being a line break, as the parser does when reporting its position.
+     */
+    private void lineBreakIfAny(final int character) {
+        if (NEWLINE == character || CARRIAGE_RETURN == character) {
+            lineBreak((char) character);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        bufferOffset += end;
+        position = 0;
+        end = 0;
+        final int length = read(buffer);
+        if (length <= 0) {
+            return false;
+        }
+        end = length;
+        if (bufferOffset + end > maximumLength) {
+            throw failure("Input exceeds maximum length of " + maximumLength + " characters", maximumLength);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of characters read so far.
+     */
+    final long offset() {
+        return bufferOffset + position;
+    }
+
+    private ValidationFailure unexpectedCharacterFailure(final String expectation, final int actualCharacter) {
+        lineBreakIfAny(actualCharacter);
+        final String explanation = expectation + (-1 == actualCharacter ? " but reached end of input" : " but got [" + toPrintableString((char) actualCharacter) + "]");
+        return failure(explanation, -1 == actualCharacter ? offset() : offset() - 1);
+    }
+
+    final ValidationFailure failure(final String explanation, final long failureOffset) {
+        return failure(explanation, failureOffset, line, lineStart);
+    }
+
+    private ValidationFailure failure(final String explanation, final long failureOffset, final int failureLine, final long failureLineStart) {
+        final long column = failureOffset - failureLineStart + 1;
+        return new ValidationFailure(JsonValidationResult.invalid(
+                explanation,
+                failureOffset,
+                trackPosition ? failureLine : -1,
+                trackPosition && column <= Integer.MAX_VALUE ? (int) column : -1
+        ));
+    }
+
+    /**
+     * Unwinds validation once the text is known to be invalid.  Has no stack trace, because it never escapes.
+     */
+    static final class ValidationFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient JsonValidationResult jsonValidationResult;
+
+        ValidationFailure(final JsonValidationResult jsonValidationResult) {
+            super(jsonValidationResult.getMessage());
+            this.jsonValidationResult = jsonValidationResult;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
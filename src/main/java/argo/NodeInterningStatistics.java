@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+/**
+ * A snapshot of how effectively a {@code JsonParser} has shared objects and arrays between the places they occur in the
+ * documents it has parsed, using {@link JsonParser.NodeInterningStrategy#INTERN_ALL_NODES}.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @see JsonParser#nodeInterningStatistics()
+ */
+public final class NodeInterningStatistics {
+
+    private final long lookups;
+    private final long hits;
+    private final long evictions;
+
+    NodeInterningStatistics(final long lookups, final long hits, final long evictions) {
+        this.lookups = lookups;
+        this.hits = hits;
+        this.evictions = evictions;
+    }
+
+    /**
+     * @return the number of non-empty objects and arrays looked up in the interning table.
+     */
+    public long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * @return the number of lookups that found an equal object or array, which was used in place of the one parsed.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of objects and arrays dropped from the interning table to make room for others, which
+     * subsequent equal objects and arrays couldn't then share.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeInterningStatistics{lookups=" + lookups + ", hits=" + hits + ", evictions=" + evictions + "}";
+    }
+}
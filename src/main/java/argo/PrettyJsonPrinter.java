@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -13,11 +13,11 @@ package argo;
 import argo.format.*;
 import argo.jdom.JsonField;
 import argo.jdom.JsonNode;
-import argo.jdom.JsonNodeFactories;
 import argo.jdom.JsonStringNode;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,21 +29,60 @@ class PrettyJsonPrinter extends JsonPrinter {
 
     private final String lineSeparator;
     private final char[] tabs;
+    private final List<PrettyArrayWriter> arrayWriters = new ArrayList<PrettyArrayWriter>();
+    private final List<PrettyObjectWriter> objectWriters = new ArrayList<PrettyObjectWriter>();
     private int depth = 0;
+    private int arrayWriterDepth;
+    private int objectWriterDepth;
 
-    private PrettyJsonPrinter(final Writer writer, final String lineSeparator) {
-        super(writer);
+    private PrettyJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+        super(writer, jsonEscapedString);
         this.lineSeparator = lineSeparator;
         tabs = new char[32];
         Arrays.fill(tabs, '\t');
     }
 
-    static PrettyJsonPrinter prettyJsonPrinter(final Writer writer, final String lineSeparator) {
-        return new PrettyJsonPrinter(writer, lineSeparator);
+    static PrettyJsonPrinter prettyJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+        return new PrettyJsonPrinter(writer, lineSeparator, jsonEscapedString);
     }
 
-    static PrettyJsonPrinter fieldSortingPrettyJsonPrinter(final Writer writer, final String lineSeparator) {
-        return new FieldSortingPrettyJsonPrinter(writer, lineSeparator);
+    static PrettyJsonPrinter fieldSortingPrettyJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+        return new FieldSortingPrettyJsonPrinter(writer, lineSeparator, jsonEscapedString);
+    }
+
+    @Override
+    final void resetState() {
+        depth = 0;
+        arrayWriterDepth = 0;
+        objectWriterDepth = 0;
+    }
+
+    @Override
+    final String lineSeparator() {
+        return lineSeparator;
+    }
+
+    @Override
+    final int depth() {
+        return depth;
+    }
+
+    private PrettyArrayWriter arrayWriter() {
+        if (arrayWriterDepth == arrayWriters.size()) {
+            arrayWriters.add(new PrettyArrayWriter());
+        }
+        final PrettyArrayWriter arrayWriter = arrayWriters.get(arrayWriterDepth++);
+        arrayWriter.isFirst = true;
+        return arrayWriter;
+    }
+
+    private PrettyObjectWriter objectWriter() {
+        if (objectWriterDepth == objectWriters.size()) {
+            objectWriters.add(new PrettyObjectWriter());
+        }
+        final PrettyObjectWriter objectWriter = objectWriters.get(objectWriterDepth++);
+        objectWriter.isFirst = true;
+        return objectWriter;
     }
 
     private void addTabs() throws IOException {
@@ -99,53 +138,44 @@ class PrettyJsonPrinter extends JsonPrinter {
     }
 
     @Override
-    final void write(final WriteableJsonArray writeableJsonArray) throws IOException {
-        writer.write('[');
+    final void startContainer(final char openingCharacter) throws IOException {
+        writer.write(openingCharacter);
         depth++;
-        final WriteAwareArrayWriter writeAwareArrayWriter = new WriteAwareArrayWriter() {
-            private boolean isFirst = true;
-
-            public void writeElement(final WriteableJsonObject element) throws IOException {
-                writePreamble();
-                write(element);
-            }
-
-            public void writeElement(final WriteableJsonArray element) throws IOException {
-                writePreamble();
-                write(element);
-            }
-
-            public void writeElement(final WriteableJsonString element) throws IOException {
-                writePreamble();
-                write(element);
-            }
+    }
 
-            public void writeElement(final WriteableJsonNumber element) throws IOException {
-                writePreamble();
-                write(element);
-            }
+    @Override
+    final void startMember(final boolean isFirst) throws IOException {
+        if (!isFirst) {
+            writer.write(',');
+        }
+        writer.write(lineSeparator);
+        addTabs();
+    }
 
-            public void writeElement(final JsonNode element) throws IOException {
-                writePreamble();
-                write(element);
-            }
+    @Override
+    final void endFieldName() throws IOException {
+        writer.write(": ");
+    }
 
-            private void writePreamble() throws IOException {
-                if (!isFirst) {
-                    writer.write(',');
-                }
-                isFirst = false;
-                writer.write(lineSeparator);
-                addTabs();
-            }
+    @Override
+    final void endContainer(final char closingCharacter, final boolean isEmpty) throws IOException {
+        depth--;
+        if (!isEmpty) {
+            writer.write(lineSeparator);
+            addTabs();
+        }
+        writer.write(closingCharacter);
+    }
 
-            public boolean wrote() {
-                return !isFirst;
-            }
-        };
-        writeableJsonArray.writeTo(writeAwareArrayWriter);
+    @Override
+    final void write(final WriteableJsonArray writeableJsonArray) throws IOException {
+        writer.write('[');
+        depth++;
+        final PrettyArrayWriter arrayWriter = arrayWriter();
+        writeableJsonArray.writeTo(arrayWriter);
+        arrayWriterDepth--;
         depth--;
-        if (writeAwareArrayWriter.wrote()) {
+        if (arrayWriter.wrote()) {
             writer.write(lineSeparator);
             addTabs();
         }
@@ -156,128 +186,261 @@ class PrettyJsonPrinter extends JsonPrinter {
     final void write(final WriteableJsonObject writeableJsonObject) throws IOException {
         writer.write('{');
         depth++;
-        final WriteAwareObjectWriter writeAwareObjectWriter = new WriteAwareObjectWriter() {
-            private boolean isFirst = true;
+        final PrettyObjectWriter objectWriter = objectWriter();
+        writeableJsonObject.writeTo(objectWriter);
+        objectWriterDepth--;
+        depth--;
+        if (objectWriter.wrote()) {
+            writer.write(lineSeparator);
+            addTabs();
+        }
+        writer.write('}');
+    }
 
-            public void writeField(final String name, final WriteableJsonObject value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+    private final class PrettyArrayWriter implements ArrayWriter {
+        private boolean isFirst;
 
-            public void writeField(final String name, final WriteableJsonArray value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonObject element) throws IOException {
+            writePreamble();
+            write(element);
+        }
 
-            public void writeField(final String name, final WriteableJsonString value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonArray element) throws IOException {
+            writePreamble();
+            write(element);
+        }
 
-            public void writeField(final String name, final WriteableJsonNumber value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonString element) throws IOException {
+            writePreamble();
+            write(element);
+        }
 
-            public void writeField(final String name, final JsonNode value) throws IOException {
-                writeField(JsonNodeFactories.string(name), value);
-            }
+        public void writeElement(final WriteableJsonNumber element) throws IOException {
+            writePreamble();
+            write(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonObject value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final WriteableJsonRaw element) throws IOException {
+            writePreamble();
+            writeRaw(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonArray value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final JsonNode element) throws IOException {
+            writePreamble();
+            write(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonString value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final long element) throws IOException {
+            writePreamble();
+            writeNumber(element);
+        }
 
-            public void writeField(final JsonStringNode name, final WriteableJsonNumber value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final double element) throws IOException {
+            writePreamble();
+            writeNumber(element);
+        }
 
-            public void writeField(final JsonStringNode name, final JsonNode value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeElement(final BigDecimal element) throws IOException {
+            writePreamble();
+            writeNumber(element);
+        }
 
-            private void writeName(final JsonStringNode name) throws IOException {
-                writePreamble();
-                write(name);
-                writer.write(": ");
+        private void writePreamble() throws IOException {
+            if (!isFirst) {
+                writer.write(',');
             }
+            isFirst = false;
+            writer.write(lineSeparator);
+            addTabs();
+        }
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonObject value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        boolean wrote() {
+            return !isFirst;
+        }
+    }
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonArray value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+    private final class PrettyObjectWriter implements ObjectWriter {
+        private boolean isFirst;
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonString value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonObject value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            public void writeField(final WriteableJsonString name, final WriteableJsonNumber value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonArray value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            public void writeField(final WriteableJsonString name, final JsonNode value) throws IOException {
-                writeName(name);
-                write(value);
-            }
+        public void writeField(final String name, final WriteableJsonString value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            private void writeName(final WriteableJsonString name) throws IOException {
-                writePreamble();
-                write(name);
-                writer.write(": ");
-            }
+        public void writeField(final String name, final WriteableJsonNumber value) throws IOException {
+            writeName(name);
+            write(value);
+        }
 
-            public void writeField(final JsonField jsonField) throws IOException {
-                writeField(jsonField.getName(), jsonField.getValue());
-            }
+        public void writeField(final String name, final WriteableJsonRaw value) throws IOException {
+            writeName(name);
+            writeRaw(value);
+        }
 
-            private void writePreamble() throws IOException {
-                if (!isFirst) {
-                    writer.write(',');
-                }
-                isFirst = false;
-                writer.write(lineSeparator);
-                addTabs();
-            }
+        public void writeField(final String name, final JsonNode value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final String name, final long value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final String name, final double value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final String name, final BigDecimal value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonObject value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonArray value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonString value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonNumber value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final WriteableJsonRaw value) throws IOException {
+            writeName(name);
+            writeRaw(value);
+        }
+
+        public void writeField(final JsonStringNode name, final JsonNode value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final JsonStringNode name, final long value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final JsonStringNode name, final double value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final JsonStringNode name, final BigDecimal value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        private void writeName(final JsonStringNode name) throws IOException {
+            writePreamble();
+            write(name);
+            writer.write(": ");
+        }
 
-            public boolean wrote() {
-                return !isFirst;
+        private void writeName(final String name) throws IOException {
+            writePreamble();
+            write(name);
+            writer.write(": ");
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonObject value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonArray value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonString value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonNumber value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final WriteableJsonRaw value) throws IOException {
+            writeName(name);
+            writeRaw(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final JsonNode value) throws IOException {
+            writeName(name);
+            write(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final long value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final double value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        public void writeField(final WriteableJsonString name, final BigDecimal value) throws IOException {
+            writeName(name);
+            writeNumber(value);
+        }
+
+        private void writeName(final WriteableJsonString name) throws IOException {
+            writePreamble();
+            write(name);
+            writer.write(": ");
+        }
+
+        public void writeField(final JsonField jsonField) throws IOException {
+            writeField(jsonField.getName(), jsonField.getValue());
+        }
+
+        private void writePreamble() throws IOException {
+            if (!isFirst) {
+                writer.write(',');
             }
-        };
-        writeableJsonObject.writeTo(writeAwareObjectWriter);
-        depth--;
-        if (writeAwareObjectWriter.wrote()) {
+            isFirst = false;
             writer.write(lineSeparator);
             addTabs();
         }
-        writer.write('}');
-    }
 
-    private interface WriteAwareArrayWriter extends ArrayWriter {
-        boolean wrote();
-    }
-
-    private interface WriteAwareObjectWriter extends ObjectWriter {
-        boolean wrote();
+        boolean wrote() {
+            return !isFirst;
+        }
     }
 
     private static final class FieldSortingPrettyJsonPrinter extends PrettyJsonPrinter {
-        FieldSortingPrettyJsonPrinter(final Writer writer, final String lineSeparator) {
-            super(writer, lineSeparator);
+        FieldSortingPrettyJsonPrinter(final Writer writer, final String lineSeparator, final JsonEscapedString jsonEscapedString) {
+            super(writer, lineSeparator, jsonEscapedString);
+        }
+
+        @Override
+        public boolean raw(final String json) {
+            return false;
         }
 
         @Override
@@ -286,6 +449,11 @@ class PrettyJsonPrinter extends JsonPrinter {
             Collections.sort(sorted, JSON_FIELD_COMPARATOR);
             super.throwingObject(sorted);
         }
+
+        @Override
+        JsonNode[] fieldOrder(final JsonNode[] namesAndValues) {
+            return sortedFieldOrder(namesAndValues);
+        }
     }
 
 }
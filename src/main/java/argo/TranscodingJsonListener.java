@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Passes events from the streaming parser straight to a {@code JsonStreamWriter}, applying a
+ * {@code JsonFieldTransformer}, if there is one, to each field.
+ * <p>
+ * The text of strings and numbers is copied from the parser to the writer without being collected into
+ * {@code String}s, other than field names when there is a {@code JsonFieldTransformer}.
+ */
+final class TranscodingJsonListener implements JsonListener {
+
+    private final JsonStreamWriter jsonStreamWriter;
+    private final JsonFieldTransformer jsonFieldTransformer;
+    private final StringBuilder stringBuilder = new StringBuilder(32);
+    private final char[] readBuffer = new char[WriteBufferHolder.WRITE_BUFFER_SIZE];
+    private boolean skipping;
+    private int skippedDepth;
+
+    /**
+     * @param jsonFieldTransformer the transformer to apply to each field, or null to write every field unchanged.
+     */
+    TranscodingJsonListener(final JsonStreamWriter jsonStreamWriter, final JsonFieldTransformer jsonFieldTransformer) {
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.jsonFieldTransformer = jsonFieldTransformer;
+    }
+
+    public void startDocument() {
+    }
+
+    public void endDocument() {
+    }
+
+    public void startArray() {
+        if (skipping) {
+            skippedDepth++;
+        } else {
+            try {
+                jsonStreamWriter.startArray();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void endArray() {
+        if (skipping) {
+            skippedDepth--;
+        } else {
+            try {
+                jsonStreamWriter.endArray();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void startObject() {
+        if (skipping) {
+            skippedDepth++;
+        } else {
+            try {
+                jsonStreamWriter.startObject();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void endObject() {
+        if (skipping) {
+            skippedDepth--;
+        } else {
+            try {
+                jsonStreamWriter.endObject();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void startField(final Reader name) {
+        if (!skipping) {
+            try {
+                if (jsonFieldTransformer == null) {
+                    jsonStreamWriter.name(name);
+                } else {
+                    startTransformedField(name);
+                }
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    private void startTransformedField(final Reader name) throws IOException {
+        stringBuilder.setLength(0);
+        int length;
+        while ((length = name.read(readBuffer)) != -1) {
+            stringBuilder.append(readBuffer, 0, length);
+        }
+        final String nameText = stringBuilder.toString();
+        final TransformedField transformedField = jsonFieldTransformer.transform(nameText, jsonStreamWriter.depth());
+        if (transformedField == null) {
+            throw new NullPointerException("JsonFieldTransformer returned null for field [" + nameText + "]");
+        } else if (transformedField.isDropped()) {
+            skipping = true;
+        } else {
+            jsonStreamWriter.name(transformedField.name() == null ? nameText : transformedField.name());
+            if (transformedField.value() != null) {
+                jsonStreamWriter.value(transformedField.value());
+                skipping = true;
+            }
+        }
+    }
+
+    public void endField() {
+        if (skipping && skippedDepth == 0) {
+            skipping = false;
+        }
+    }
+
+    public void stringValue(final Reader value) {
+        if (!skipping) {
+            try {
+                jsonStreamWriter.stringValue(value);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void numberValue(final Reader value) {
+        if (!skipping) {
+            try {
+                jsonStreamWriter.numberValue(value);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void trueValue() {
+        if (!skipping) {
+            try {
+                jsonStreamWriter.value(true);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void falseValue() {
+        if (!skipping) {
+            try {
+                jsonStreamWriter.value(false);
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+
+    public void nullValue() {
+        if (!skipping) {
+            try {
+                jsonStreamWriter.nullValue();
+            } catch (final IOException e) {
+                throw new JsonPrinter.IORuntimeException(e);
+            }
+        }
+    }
+}
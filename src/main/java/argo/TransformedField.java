@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JsonNode;
+
+/**
+ * What a {@code JsonFieldTransformer} does with a field: keep it, drop it, rename it, or replace its value.
+ * <p>
+ * Instances of this class are immutable, reusable, and thread-safe.
+ */
+public final class TransformedField {
+
+    private static final TransformedField KEEP = new TransformedField(null, null, false);
+    private static final TransformedField DROP = new TransformedField(null, null, true);
+
+    private final String name;
+    private final JsonNode value;
+    private final boolean dropped;
+
+    private TransformedField(final String name, final JsonNode value, final boolean dropped) {
+        this.name = name;
+        this.value = value;
+        this.dropped = dropped;
+    }
+
+    /**
+     * @return a {@code TransformedField} that writes the field unchanged.
+     */
+    public static TransformedField keep() {
+        return KEEP;
+    }
+
+    /**
+     * @return a {@code TransformedField} that omits the field, including its value.
+     */
+    public static TransformedField drop() {
+        return DROP;
+    }
+
+    /**
+     * @param name the name to write in place of the field's name.
+     * @return a {@code TransformedField} that writes the field's value under the given name.
+     */
+    public static TransformedField rename(final String name) {
+        if (name == null) {
+            throw new NullPointerException("Name is null");
+        }
+        return new TransformedField(name, null, false);
+    }
+
+    /**
+     * @param value the value to write in place of the field's value.
+     * @return a {@code TransformedField} that writes the field's name with the given value.
+     */
+    public static TransformedField replace(final JsonNode value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        return new TransformedField(null, value, false);
+    }
+
+    /**
+     * @param name  the name to write in place of the field's name.
+     * @param value the value to write in place of the field's value.
+     * @return a {@code TransformedField} that writes the given name and value in place of the field.
+     */
+    public static TransformedField replace(final String name, final JsonNode value) {
+        if (name == null) {
+            throw new NullPointerException("Name is null");
+        }
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        return new TransformedField(name, value, false);
+    }
+
+    boolean isDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return the replacement name, or null if the name is unchanged.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return the replacement value, or null if the value is unchanged.
+     */
+    JsonNode value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "TransformedField{name=" + name + ", value=" + value + ", dropped=" + dropped + "}";
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@code Writer} that encodes characters as UTF-8 into an internal byte buffer, and passes the buffer to a byte
+ * oriented target when it fills.
+ * <p>
+ * Unpaired surrogates are encoded as {@code '?'}, matching the behaviour of {@code String.getBytes("UTF-8")}.
+ */
+abstract class Utf8Writer extends Writer {
+
+    static final int BYTE_BUFFER_SIZE = 8192;
+    private static final int MAXIMUM_BYTES_PER_CHARACTER = 8; // a replaced unpaired high surrogate followed by a supplementary code point's worth
+    private static final int CHAR_BUFFER_SIZE = 1024;
+
+    private final byte[] bytes;
+    private char[] chars;
+    private int position;
+    private char highSurrogate;
+
+    Utf8Writer() {
+        this(BYTE_BUFFER_SIZE);
+    }
+
+    Utf8Writer(final int bufferSize) {
+        if (bufferSize < MAXIMUM_BYTES_PER_CHARACTER) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MAXIMUM_BYTES_PER_CHARACTER + " but was " + bufferSize);
+        }
+        bytes = new byte[bufferSize];
+    }
+
+    static Utf8Writer utf8Writer(final OutputStream outputStream) {
+        return new OutputStreamUtf8Writer(outputStream);
+    }
+
+    static Utf8Writer utf8Writer(final WritableByteChannel writableByteChannel) {
+        if (writableByteChannel == null) {
+            throw new NullPointerException("writableByteChannel");
+        }
+        return new Utf8Writer() {
+            private ByteBuffer byteBuffer;
+
+            @Override
+            void writeBytes(final byte[] bytes, final int length) throws IOException {
+                if (byteBuffer == null) {
+                    byteBuffer = ByteBuffer.wrap(bytes);
+                }
+                byteBuffer.clear();
+                byteBuffer.limit(length);
+                while (byteBuffer.hasRemaining()) {
+                    writableByteChannel.write(byteBuffer);
+                }
+            }
+        };
+    }
+
+    static Utf8Writer utf8Writer(final ByteBuffer byteBuffer) {
+        if (byteBuffer == null) {
+            throw new NullPointerException("byteBuffer");
+        }
+        return new Utf8Writer() {
+            @Override
+            void writeBytes(final byte[] bytes, final int length) {
+                byteBuffer.put(bytes, 0, length);
+            }
+        };
+    }
+
+    /**
+     * Passes the first {@code length} bytes of the given array to the target.  The array is reused once this method returns.
+     */
+    abstract void writeBytes(byte[] bytes, int length) throws IOException;
+
+    void flushTarget() throws IOException {
+        // most targets have no buffering of their own
+    }
+
+    /**
+     * Discards any buffered bytes and pending surrogate, so that this writer can be reused.
+     */
+    final void reset() {
+        position = 0;
+        highSurrogate = 0;
+    }
+
+    @Override
+    public final void write(final int c) throws IOException {
+        if (bytes.length - position < MAXIMUM_BYTES_PER_CHARACTER) {
+            flushBuffer();
+        }
+        writeCharacter((char) c);
+    }
+
+    @Override
+    public final void write(@SuppressWarnings("NullableProblems") final char[] cbuf, final int offset, final int length) throws IOException {
+        if (offset < 0 || offset > cbuf.length || length < 0 || offset + length > cbuf.length || offset + length < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            if (bytes.length - position < MAXIMUM_BYTES_PER_CHARACTER) {
+                flushBuffer();
+            }
+            if (highSurrogate == 0) {
+                final int asciiEnd = Math.min(end, index + bytes.length - position);
+                while (index < asciiEnd && cbuf[index] < 0x80) {
+                    bytes[position++] = (byte) cbuf[index++];
+                }
+            }
+            if (index < end && bytes.length - position >= MAXIMUM_BYTES_PER_CHARACTER) {
+                writeCharacter(cbuf[index++]);
+            }
+        }
+    }
+
+    @Override
+    public final void write(@SuppressWarnings("NullableProblems") final String str, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > str.length() || offset + length < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (chars == null) {
+            chars = new char[CHAR_BUFFER_SIZE];
+        }
+        int written = 0;
+        while (written < length) {
+            final int chunkLength = Math.min(CHAR_BUFFER_SIZE, length - written);
+            str.getChars(offset + written, offset + written + chunkLength, chars, 0);
+            write(chars, 0, chunkLength);
+            written += chunkLength;
+        }
+    }
+
+    /**
+     * Encodes any trailing unpaired high surrogate, and passes all buffered bytes to the target.
+     */
+    final void finish() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            if (bytes.length == position) {
+                flushBuffer();
+            }
+            bytes[position++] = '?';
+        }
+        flushBuffer();
+    }
+
+    /**
+     * Passes all buffered bytes to the target after writing has failed part way, as {@code finish} does, except that a
+     * failure of the target is ignored, so that it doesn't hide the original failure.
+     */
+    final void finishAfterFailure() {
+        try {
+            finish();
+        } catch (final IOException e) {
+            // the original failure is the one to report
+        }
+    }
+
+    @Override
+    public final void flush() throws IOException {
+        flushBuffer();
+        flushTarget();
+    }
+
+    @Override
+    public final void close() throws IOException {
+        finish();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position != 0) {
+            final int length = position;
+            position = 0;
+            writeBytes(bytes, length);
+        }
+    }
+
+    private void writeCharacter(final char c) {
+        if (highSurrogate != 0) {
+            final char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                bytes[position++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint & 0x3F);
+                return;
+            }
+            bytes[position++] = '?';
+        }
+        if (c < 0x80) {
+            bytes[position++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[position++] = (byte) (0xC0 | c >> 6);
+            bytes[position++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[position++] = '?';
+        } else {
+            bytes[position++] = (byte) (0xE0 | c >> 12);
+            bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+            bytes[position++] = (byte) (0x80 | c & 0x3F);
+        }
+    }
+
+    /**
+     * A {@code Utf8Writer} whose target {@code OutputStream} can be replaced, so that it can be reused.
+     */
+    static final class OutputStreamUtf8Writer extends Utf8Writer {
+        private OutputStream outputStream;
+
+        OutputStreamUtf8Writer(final OutputStream outputStream) {
+            target(outputStream);
+        }
+
+        void target(final OutputStream outputStream) {
+            if (outputStream == null) {
+                throw new NullPointerException("outputStream");
+            }
+            this.outputStream = outputStream;
+            reset();
+        }
+
+        void detach() {
+            outputStream = null;
+        }
+
+        @Override
+        void writeBytes(final byte[] bytes, final int length) throws IOException {
+            outputStream.write(bytes, 0, length);
+        }
+
+        @Override
+        void flushTarget() throws IOException {
+            outputStream.flush();
+        }
+    }
+}
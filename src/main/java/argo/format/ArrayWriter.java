@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -13,6 +13,7 @@ package argo.format;
 import argo.jdom.JsonNode;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 
 /**
  * An {@code ArrayWriter} provides operations for outputting the elements of a JSON array.
@@ -52,6 +53,14 @@ public interface ArrayWriter {
      */
     void writeElement(WriteableJsonNumber element) throws IOException;
 
+    /**
+     * Writes the given {@code WriteableJsonRaw} as the next element of the array.
+     *
+     * @param element the {@code WriteableJsonRaw} to write.
+     * @throws IOException if there was a problem writing the {@code WriteableJsonRaw}
+     */
+    void writeElement(WriteableJsonRaw element) throws IOException;
+
     /**
      * Writes the given {@code JsonNode} as the next element of the array.
      *
@@ -59,4 +68,29 @@ public interface ArrayWriter {
      * @throws IOException if there was a problem writing the {@code JsonNode}
      */
     void writeElement(JsonNode element) throws IOException;
+
+    /**
+     * Writes the given {@code long} as the next element of the array.
+     *
+     * @param element the {@code long} to write.
+     * @throws IOException if there was a problem writing the {@code long}
+     */
+    void writeElement(long element) throws IOException;
+
+    /**
+     * Writes the given {@code double} as the next element of the array.
+     *
+     * @param element the {@code double} to write.
+     * @throws IOException              if there was a problem writing the {@code double}
+     * @throws IllegalArgumentException if the {@code double} is NaN or infinite, neither of which can be represented as a JSON number.
+     */
+    void writeElement(double element) throws IOException;
+
+    /**
+     * Writes the given {@code BigDecimal} as the next element of the array.
+     *
+     * @param element the {@code BigDecimal} to write.
+     * @throws IOException if there was a problem writing the {@code BigDecimal}
+     */
+    void writeElement(BigDecimal element) throws IOException;
 }
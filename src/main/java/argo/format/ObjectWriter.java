@@ -1,5 +1,5 @@
 /*
- *  Copyright  2020 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -15,6 +15,7 @@ import argo.jdom.JsonNode;
 import argo.jdom.JsonStringNode;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 
 /**
  * An {@code ObjectWriter} provides operations for outputting the fields of a JSON object.
@@ -58,6 +59,15 @@ public interface ObjectWriter {
      */
     void writeField(String name, WriteableJsonNumber value) throws IOException;
 
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(String name, WriteableJsonRaw value) throws IOException;
+
     /**
      * Writes the given name and value as the next field of the object.
      *
@@ -67,6 +77,34 @@ public interface ObjectWriter {
      */
     void writeField(String name, JsonNode value) throws IOException;
 
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(String name, long value) throws IOException;
+
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException              if there was a problem writing the field.
+     * @throws IllegalArgumentException if the value is NaN or infinite, neither of which can be represented as a JSON number.
+     */
+    void writeField(String name, double value) throws IOException;
+
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(String name, BigDecimal value) throws IOException;
+
     /**
      * Writes the given name and value as the next field of the object.
      *
@@ -104,6 +142,15 @@ public interface ObjectWriter {
      */
     void writeField(JsonStringNode name, WriteableJsonNumber value) throws IOException;
 
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(JsonStringNode name, WriteableJsonRaw value) throws IOException;
+
     /**
      * Writes the given name and value as the next field of the object.
      *
@@ -113,6 +160,34 @@ public interface ObjectWriter {
      */
     void writeField(JsonStringNode name, JsonNode value) throws IOException;
 
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(JsonStringNode name, long value) throws IOException;
+
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException              if there was a problem writing the field.
+     * @throws IllegalArgumentException if the value is NaN or infinite, neither of which can be represented as a JSON number.
+     */
+    void writeField(JsonStringNode name, double value) throws IOException;
+
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(JsonStringNode name, BigDecimal value) throws IOException;
+
     /**
      * Writes the given name and value as the next field of the object.
      *
@@ -150,6 +225,15 @@ public interface ObjectWriter {
      */
     void writeField(WriteableJsonString name, WriteableJsonNumber value) throws IOException;
 
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(WriteableJsonString name, WriteableJsonRaw value) throws IOException;
+
     /**
      * Writes the given name and value as the next field of the object.
      *
@@ -159,6 +243,34 @@ public interface ObjectWriter {
      */
     void writeField(WriteableJsonString name, JsonNode value) throws IOException;
 
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(WriteableJsonString name, long value) throws IOException;
+
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException              if there was a problem writing the field.
+     * @throws IllegalArgumentException if the value is NaN or infinite, neither of which can be represented as a JSON number.
+     */
+    void writeField(WriteableJsonString name, double value) throws IOException;
+
+    /**
+     * Writes the given name and value as the next field of the object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @throws IOException if there was a problem writing the field.
+     */
+    void writeField(WriteableJsonString name, BigDecimal value) throws IOException;
+
     /**
      * Writes the given name and value as the next field of the object.
      *
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.format;
+
+import argo.internal.PreparedJsonStringAccess;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@code WriteableJsonString} with a fixed value, intended for strings such as field names that are written many times.
+ * <p>
+ * Whether the value contains any characters that might need escaping is determined once, when the instance is
+ * created.  If it doesn't, {@code argo.JsonGenerator} writes it with a single copy, rather than examining each
+ * character every time it's written.  For example,
+ * <pre>{@code
+ * private static final PreparedJsonString TIMESTAMP = preparedJsonString("timestamp");
+ * ...
+ * objectWriter.writeField(TIMESTAMP, number(timestamp));
+ * }</pre>
+ * <p>
+ * Instances of this class are immutable, reusable, and thread-safe.
+ */
+public final class PreparedJsonString implements WriteableJsonString {
+
+    static {
+        PreparedJsonStringAccess.register(new PreparedJsonStringAccess() {
+            @Override
+            public String preEscapedForm(final PreparedJsonString preparedJsonString) {
+                return preparedJsonString.preEscapedForm();
+            }
+        });
+    }
+
+    private final String value;
+    private final String preEscapedForm;
+
+    private PreparedJsonString(final String value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        this.value = value;
+        this.preEscapedForm = isUnaffectedByEscaping(value) ? '"' + value + '"' : null;
+    }
+
+    /**
+     * Creates a {@code PreparedJsonString} representing the given value.
+     *
+     * @param value the value of the string.
+     * @return a {@code PreparedJsonString} representing the given value.
+     */
+    public static PreparedJsonString preparedJsonString(final String value) {
+        return new PreparedJsonString(value);
+    }
+
+    private static boolean isUnaffectedByEscaping(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < ' ' || c > '~' || c == '"' || c == '\\' || c == '<' || c == '>' || c == '&' || c == '\'') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the unescaped value of this string.
+     *
+     * @return the unescaped value of this string.
+     */
+    public String getText() {
+        return value;
+    }
+
+    /**
+     * @return this string in its JSON form, including the enclosing quotes, or null if it contains characters that would be escaped by any style of escaping.
+     */
+    String preEscapedForm() {
+        return preEscapedForm;
+    }
+
+    public void writeTo(final Writer writer) throws IOException {
+        writer.write(value);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (this == that) {
+            return true;
+        }
+        if (that == null || getClass() != that.getClass()) {
+            return false;
+        }
+
+        final PreparedJsonString thatPreparedJsonString = (PreparedJsonString) that;
+        return this.value.equals(thatPreparedJsonString.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedJsonString{value='" + value + "'}";
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.internal;
+
+public final class Fingerprints {
+
+    public static final long TRUE = 0x5A3C96E1F0B2D487L;
+    public static final long FALSE = 0x2F8E4B17C6D9A035L;
+    public static final long NULL = 0x71D24C8A9E3F605BL;
+    public static final long EMPTY_ARRAY = 0x4C1B7E93A5D82F06L;
+    public static final long EMPTY_OBJECT = 0x0E96F3D5287BC41AL;
+
+    private static final long STRING_SEED = 0x3B7A1C5E9D2F8064L;
+    private static final long NUMBER_SEED = 0x68E2D4B0F1A9357CL;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private Fingerprints() {
+    }
+
+    public static long string(final String value) {
+        return text(STRING_SEED, value);
+    }
+
+    public static long number(final String value) {
+        return text(NUMBER_SEED, value);
+    }
+
+    public static long add(final long containerFingerprint, final long memberFingerprint) {
+        return mix(containerFingerprint * GOLDEN_RATIO + memberFingerprint);
+    }
+
+    private static long text(final long seed, final String value) {
+        long fingerprint = seed;
+        for (int i = 0; i < value.length(); i++) {
+            fingerprint = (fingerprint ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(fingerprint ^ value.length());
+    }
+
+    private static long mix(final long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xFF51AFD7ED558CCDL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xC4CEB9FE1A85EC53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package argo.internal;
+
+import java.io.IOException;
+
+/**
+ * Carries an {@code IOException} through methods that can't throw it, such as those of {@code JsonListener}, to be
+ * unwrapped and rethrown by the code that called them.
+ */
+public final class IORuntimeException extends RuntimeException {
+    private final IOException typedCause;
+
+    public IORuntimeException(final IOException cause) {
+        super(cause);
+        this.typedCause = cause;
+    }
+
+    @Override
+    public IOException getCause() {
+        return typedCause;
+    }
+}
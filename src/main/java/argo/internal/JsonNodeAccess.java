@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.internal;
+
+import argo.jdom.JsonNode;
+import argo.jdom.JsonStringNode;
+
+/**
+ * Gives other Argo packages access to the package-private internals of {@code JsonNode}, without making them part of
+ * its public API.  {@code JsonNode} registers the only implementation when it's initialized.
+ */
+public abstract class JsonNodeAccess {
+
+    private static volatile JsonNodeAccess jsonNodeAccess;
+
+    public static void register(final JsonNodeAccess implementation) {
+        synchronized (JsonNodeAccess.class) {
+            if (jsonNodeAccess != null) {
+                throw new IllegalStateException("JsonNodeAccess is already registered");
+            }
+            jsonNodeAccess = implementation;
+        }
+    }
+
+    public static JsonNodeAccess jsonNodeAccess() {
+        if (jsonNodeAccess == null) {
+            try {
+                Class.forName(JsonNode.class.getName(), true, JsonNode.class.getClassLoader());
+            } catch (final ClassNotFoundException e) {
+                throw new RuntimeException("Coding failure in Argo:  Failed to initialize JsonNode", e);
+            }
+        }
+        return jsonNodeAccess;
+    }
+
+    /**
+     * @return the array backing the given node, holding the names and values of its fields alternately if it's an
+     * object, or its elements if it's an array, or null if it isn't backed by such an array.  The array must not be
+     * modified.
+     */
+    public abstract JsonNode[] backingArray(JsonNode jsonNode);
+
+    /**
+     * @return the cache of the given node's serialized forms, or null if it doesn't cache its serialized forms.
+     */
+    public abstract SerializedForms serializedForms(JsonNode jsonNode);
+
+    /**
+     * @return a string node for the given JSON string literal, which must be valid, and is only unescaped when the
+     * node's text is first needed.
+     */
+    public abstract JsonStringNode escapedJsonStringNode(String json);
+
+    /**
+     * @return the JSON string literal the given node was made from, if it's a string node made from one, or null
+     * otherwise.
+     */
+    public abstract String escapedForm(JsonNode jsonNode);
+}
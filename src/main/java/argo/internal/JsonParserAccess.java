@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package argo.internal;
+
+import argo.JsonListener;
+import argo.JsonParser;
+import argo.jdom.JsonNode;
+
+/**
+ * Gives other Argo packages access to the package-private internals of {@code JsonParser}, without making them part of
+ * its public API.  {@code JsonParser} registers the only implementation when it's initialized.
+ */
+public abstract class JsonParserAccess {
+
+    private static volatile JsonParserAccess jsonParserAccess;
+
+    public static void register(final JsonParserAccess implementation) {
+        synchronized (JsonParserAccess.class) {
+            if (jsonParserAccess != null) {
+                throw new IllegalStateException("JsonParserAccess is already registered");
+            }
+            jsonParserAccess = implementation;
+        }
+    }
+
+    public static JsonParserAccess jsonParserAccess() {
+        if (jsonParserAccess == null) {
+            try {
+                Class.forName(JsonParser.class.getName(), true, JsonParser.class.getClassLoader());
+            } catch (final ClassNotFoundException e) {
+                throw new RuntimeException("Coding failure in Argo:  Failed to initialize JsonParser", e);
+            }
+        }
+        return jsonParserAccess;
+    }
+
+    /**
+     * @return a listener that builds a {@code JsonNode} from the callbacks for a single JSON document, in the same way
+     * as {@code JsonParser} does, and passes it to the given receiver when the document ends.  If reading the text of a
+     * field name or value throws {@code IOException}, the listener throws it wrapped in an {@code IORuntimeException}.
+     */
+    public abstract JsonListener jsonNodeBuildingListener(JsonNodeReceiver jsonNodeReceiver);
+
+    /**
+     * Receives the {@code JsonNode} built from a document.
+     */
+    public interface JsonNodeReceiver {
+        void jsonNode(JsonNode jsonNode);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.internal;
+
+import argo.format.PreparedJsonString;
+
+/**
+ * Gives other Argo packages access to the package-private internals of {@code PreparedJsonString}, without making them
+ * part of its public API.  {@code PreparedJsonString} registers the only implementation when it's initialized.
+ */
+public abstract class PreparedJsonStringAccess {
+
+    private static volatile PreparedJsonStringAccess preparedJsonStringAccess;
+
+    public static void register(final PreparedJsonStringAccess implementation) {
+        synchronized (PreparedJsonStringAccess.class) {
+            if (preparedJsonStringAccess != null) {
+                throw new IllegalStateException("PreparedJsonStringAccess is already registered");
+            }
+            preparedJsonStringAccess = implementation;
+        }
+    }
+
+    public static PreparedJsonStringAccess preparedJsonStringAccess() {
+        if (preparedJsonStringAccess == null) {
+            try {
+                Class.forName(PreparedJsonString.class.getName(), true, PreparedJsonString.class.getClassLoader());
+            } catch (final ClassNotFoundException e) {
+                throw new RuntimeException("Coding failure in Argo:  Failed to initialize PreparedJsonString", e);
+            }
+        }
+        return preparedJsonStringAccess;
+    }
+
+    /**
+     * @return the given string in its JSON form, including the enclosing quotes, or null if it contains characters
+     * that would be escaped by any style of escaping.
+     */
+    public abstract String preEscapedForm(PreparedJsonString preparedJsonString);
+}
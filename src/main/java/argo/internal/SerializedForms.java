@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.internal;
+
+import java.lang.ref.SoftReference;
+
+public final class SerializedForms {
+
+    public static final int MAXIMUM_LENGTH = 1 << 20;
+    private static final int MAXIMUM_ENTRIES = 8;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private volatile Entry[] entries = NO_ENTRIES;
+    private volatile boolean cacheable = true;
+
+    public char[] get(final Object key, final int variant) {
+        for (final Entry entry : entries) {
+            if (entry.variant == variant && entry.key.equals(key)) {
+                return entry.get();
+            }
+        }
+        return null;
+    }
+
+    public void put(final Object key, final int variant, final char[] serializedForm) {
+        final Entry[] current = entries;
+        final Entry[] updated = new Entry[Math.min(current.length + 1, MAXIMUM_ENTRIES)];
+        updated[0] = new Entry(key, variant, serializedForm);
+        int length = 1;
+        for (int i = 0; i < current.length && length < updated.length; i++) {
+            if (current[i].variant != variant || !current[i].key.equals(key)) {
+                updated[length++] = current[i];
+            }
+        }
+        if (length == updated.length) {
+            entries = updated;
+        } else {
+            final Entry[] trimmed = new Entry[length];
+            System.arraycopy(updated, 0, trimmed, 0, length);
+            entries = trimmed;
+        }
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    public void markUncacheable() {
+        cacheable = false;
+        entries = NO_ENTRIES;
+    }
+
+    private static final class Entry extends SoftReference<char[]> {
+        private final Object key;
+        private final int variant;
+
+        Entry(final Object key, final int variant, final char[] serializedForm) {
+            super(serializedForm);
+            this.key = key;
+            this.variant = variant;
+        }
+    }
+}
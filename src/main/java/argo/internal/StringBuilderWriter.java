@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -16,6 +16,14 @@ public final class StringBuilderWriter extends Writer {
 
     private final StringBuilder stringBuilder = new StringBuilder();
 
+    public void clear() {
+        stringBuilder.setLength(0);
+    }
+
+    public int capacity() {
+        return stringBuilder.capacity();
+    }
+
     @Override
     public void write(@SuppressWarnings("NullableProblems") final char[] cbuf, final int off, final int len) {
         stringBuilder.append(cbuf, off, len);
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -10,6 +10,8 @@
 
 package argo.jdom;
 
+import argo.internal.SerializedForms;
+
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -26,8 +28,15 @@ final class JsonArray extends JsonNode {
 
     private int cachedHashCode;
 
+    private final SerializedForms serializedForms;
+
     private JsonArray(final JsonNode[] elements) {
+        this(elements, null);
+    }
+
+    private JsonArray(final JsonNode[] elements, final SerializedForms serializedForms) {
         this.elements = elements;
+        this.serializedForms = serializedForms;
     }
 
     static JsonArray jsonArray(final Iterator<? extends JsonNode> elements) {
@@ -38,6 +47,10 @@ final class JsonArray extends JsonNode {
         return jsonArray(nullFreeArrayOf(elements, EMPTY_JSON_NODES_ARRAY));
     }
 
+    static JsonArray prevalidatedJsonArray(final JsonNode[] elements) {
+        return jsonArray(elements);
+    }
+
     private static JsonArray jsonArray(final JsonNode[] elements) {
         return elements.length == 0 ? EMPTY_ARRAY : new JsonArray(elements);
     }
@@ -82,6 +95,27 @@ final class JsonArray extends JsonNode {
         return new UnmodifiableListArrayView<JsonNode>(elements);
     }
 
+    @Override
+    JsonNode elementValue(final int index) {
+        return index < elements.length ? elements[index] : null;
+    }
+
+    @Override
+    JsonNode memoized() {
+        return serializedForms != null || elements.length == 0 ? this : new JsonArray(elements, new SerializedForms());
+    }
+
+    @Override
+    SerializedForms serializedForms() {
+        return serializedForms;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    JsonNode[] backingArray() {
+        return elements;
+    }
+
     @Override
     public void visit(final JsonNodeVisitor jsonNodeVisitor) {
         jsonNodeVisitor.array(getElements());
@@ -92,24 +126,35 @@ final class JsonArray extends JsonNode {
         if (this == that) {
             return true;
         }
+        if (that instanceof RawJsonNode) {
+            return equals(((RawJsonNode) that).tree());
+        }
         if (that == null || getClass() != that.getClass()) {
             return false;
         }
 
         final JsonArray thatJsonArray = (JsonArray) that;
-        return Arrays.equals(elements, thatJsonArray.elements);
+        return (cachedHashCode == 0 || thatJsonArray.cachedHashCode == 0 || cachedHashCode == thatJsonArray.cachedHashCode)
+                && JsonTrees.equal(elements, thatJsonArray.elements);
     }
 
     @Override
     public int hashCode() {
-        int hashCode = cachedHashCode;
+        final int hashCode = cachedHashCode;
         if (hashCode == 0 && elements.length != 0) {
-            hashCode = Arrays.hashCode(elements);
-            cachedHashCode = hashCode;
+            return JsonTrees.hashCode(this);
         }
         return hashCode;
     }
 
+    int cachedHashCode() {
+        return cachedHashCode;
+    }
+
+    void cachedHashCode(final int hashCode) {
+        cachedHashCode = hashCode;
+    }
+
     @Override
     public String toString() {
         return "JsonArray{elements=" + Arrays.toString(elements) + "}";
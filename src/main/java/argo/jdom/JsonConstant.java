@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -61,6 +61,16 @@ abstract class JsonConstant extends JsonNode implements JsonNodeBuilder<JsonNode
         return this;
     }
 
+    @Override
+    public final boolean equals(final Object that) {
+        return this == that || that instanceof RawJsonNode && this == ((RawJsonNode) that).tree();
+    }
+
+    @Override
+    public final int hashCode() {
+        return System.identityHashCode(this);
+    }
+
     @Override
     public final String toString() {
         return "JsonNode{jsonNodeType=" + getType() + '}';
@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.internal.Fingerprints;
+
+/**
+ * Computes structural fingerprints of {@code JsonNode}s.
+ * <p>
+ * A structural fingerprint is a 64 bit hash of the whole of a node, including the order of the fields of objects.
+ * Equal nodes always have equal fingerprints, and unequal nodes are very unlikely to, so comparing the fingerprints of
+ * two documents is a cheap way of establishing that they are probably unchanged, without comparing them node by node.
+ * Fingerprints are not cryptographic, so they should not be relied upon to distinguish documents constructed
+ * deliberately to collide.  They are not guaranteed to be the same between versions of Argo.
+ * <p>
+ * {@code argo.JsonParser.parseWithFingerprint} computes the same fingerprint as it parses.
+ */
+public final class JsonFingerprints {
+
+    private JsonFingerprints() {
+    }
+
+    /**
+     * Computes the structural fingerprint of the given node.  Objects and arrays are walked using an explicit stack, so
+     * the depth of nesting isn't limited by the size of the call stack.
+     *
+     * @param jsonNode the node to fingerprint.
+     * @return the structural fingerprint of the given node.
+     */
+    public static long fingerprint(final JsonNode jsonNode) {
+        JsonNode[][] frameNodes = null;
+        int[] framePositions = null;
+        long[] frameFingerprints = null;
+        int depth = 0;
+        final JsonNode root = JsonTrees.resolve(jsonNode);
+        if (!isContainer(root)) {
+            return leafFingerprint(root);
+        }
+        JsonNode[] current = root.backingArray();
+        int position = 0;
+        long fingerprint = root instanceof JsonObject ? Fingerprints.EMPTY_OBJECT : Fingerprints.EMPTY_ARRAY;
+        while (true) {
+            if (position == current.length) {
+                if (depth == 0) {
+                    return fingerprint;
+                }
+                depth--;
+                current = frameNodes[depth];
+                position = framePositions[depth];
+                fingerprint = Fingerprints.add(frameFingerprints[depth], fingerprint);
+            } else {
+                final JsonNode node = JsonTrees.resolve(current[position++]);
+                if (isContainer(node)) {
+                    if (frameNodes == null) {
+                        frameNodes = new JsonNode[16][];
+                        framePositions = new int[16];
+                        frameFingerprints = new long[16];
+                    } else if (depth == frameNodes.length) {
+                        frameNodes = JsonTrees.grow(frameNodes);
+                        framePositions = JsonTrees.grow(framePositions);
+                        frameFingerprints = grow(frameFingerprints);
+                    }
+                    frameNodes[depth] = current;
+                    framePositions[depth] = position;
+                    frameFingerprints[depth] = fingerprint;
+                    depth++;
+                    current = node.backingArray();
+                    position = 0;
+                    fingerprint = node instanceof JsonObject ? Fingerprints.EMPTY_OBJECT : Fingerprints.EMPTY_ARRAY;
+                } else {
+                    fingerprint = Fingerprints.add(fingerprint, leafFingerprint(node));
+                }
+            }
+        }
+    }
+
+    private static boolean isContainer(final JsonNode jsonNode) {
+        return jsonNode instanceof JsonObject || jsonNode instanceof JsonArray;
+    }
+
+    private static long leafFingerprint(final JsonNode jsonNode) {
+        switch (jsonNode.getType()) {
+            case STRING:
+                return Fingerprints.string(jsonNode.getText());
+            case NUMBER:
+                return Fingerprints.number(jsonNode.getText());
+            case TRUE:
+                return Fingerprints.TRUE;
+            case FALSE:
+                return Fingerprints.FALSE;
+            case NULL:
+                return Fingerprints.NULL;
+            default:
+                throw new RuntimeException("Coding failure in Argo:  Attempt to fingerprint a " + jsonNode.getType() + " as a leaf");
+        }
+    }
+
+    private static long[] grow(final long[] array) {
+        final long[] grown = new long[array.length * 2];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -10,10 +10,14 @@
 
 package argo.jdom;
 
+import argo.internal.JsonNodeAccess;
+import argo.internal.SerializedForms;
+
 import java.util.List;
 import java.util.Map;
 
 import static argo.jdom.JsonNodeDoesNotMatchPathElementsException.jsonNodeDoesNotMatchPathElementsException;
+import static argo.jdom.JsonNodeType.*;
 
 /**
  * <p>A node (leaf or otherwise) in a JSON document.</p>
@@ -32,9 +36,39 @@ import static argo.jdom.JsonNodeDoesNotMatchPathElementsException.jsonNodeDoesNo
  * or not the element at the given path exists and is of the type specified, for example,
  * {@code getStringValue("my field")} returns {@code true} if the node has a field called
  * "{@code my field}", and its value is a JSON string.</p>
+ *
+ * <p>Each of these methods is overloaded to accept a {@link JsonNodePath}, which is compiled once and can be
+ * reused to navigate the hierarchy with less overhead.</p>
+ *
+ * <p>Nodes are immutable, but {@link #set(JsonNodePath, JsonNode)}, {@link #insert(JsonNodePath, int, JsonNode)}, and
+ * {@link #remove(JsonNodePath)} make updated copies, copying only the objects and arrays on the path to the change.</p>
  */
 public abstract class JsonNode {
 
+    static {
+        JsonNodeAccess.register(new JsonNodeAccess() {
+            @Override
+            public JsonNode[] backingArray(final JsonNode jsonNode) {
+                return jsonNode.backingArray();
+            }
+
+            @Override
+            public SerializedForms serializedForms(final JsonNode jsonNode) {
+                return jsonNode.serializedForms();
+            }
+
+            @Override
+            public JsonStringNode escapedJsonStringNode(final String json) {
+                return JsonStringNode.escapedJsonStringNode(json);
+            }
+
+            @Override
+            public String escapedForm(final JsonNode jsonNode) {
+                return jsonNode instanceof JsonStringNode ? ((JsonStringNode) jsonNode).escapedForm() : null;
+            }
+        });
+    }
+
     // Only extensible by classes in this package
     JsonNode() {
     }
@@ -72,6 +106,16 @@ public abstract class JsonNode {
      */
     public abstract Map<JsonStringNode, JsonNode> getFields();
 
+    /**
+     * Gets the value of the field with the given name, without requiring the map returned by {@code getFields()}.
+     *
+     * @param name the name of the field to find.
+     * @return the value of the last field with the given name, or null if there is no such field.
+     */
+    JsonNode fieldValue(final JsonStringNode name) {
+        return getFields().get(name);
+    }
+
     /**
      * Gets the fields associated with this node as a list of {@code JsonFields}.  This method allows
      * the retrieval of all fields in an object even when the fields have duplicate keys.  This method
@@ -90,6 +134,41 @@ public abstract class JsonNode {
      */
     public abstract List<JsonNode> getElements();
 
+    /**
+     * Gets the element at the given index, without requiring the list returned by {@code getElements()}.
+     *
+     * @param index the index of the element to find.
+     * @return the element at the given index, or null if there is no such element.
+     */
+    JsonNode elementValue(final int index) {
+        final List<JsonNode> elements = getElements();
+        return index < elements.size() ? elements.get(index) : null;
+    }
+
+    /**
+     * Gets a node equal to this one that caches its serialized forms, or this node if no caching is possible.
+     *
+     * @return a node equal to this one that caches its serialized forms.
+     */
+    JsonNode memoized() {
+        return this;
+    }
+
+    /**
+     * @return the cache of this node's serialized forms, or null if this node doesn't cache its serialized forms.
+     */
+    SerializedForms serializedForms() {
+        return null;
+    }
+
+    /**
+     * @return the array backing this node, holding the names and values of its fields alternately if it's an object, or
+     * its elements if it's an array, or null if this node isn't backed by such an array.  The array must not be modified.
+     */
+    JsonNode[] backingArray() {
+        return null;
+    }
+
     /**
      * Determines whether the node at the given path exists.
      *
@@ -354,6 +433,373 @@ public abstract class JsonNode {
         return wrapExceptionsFor(JsonNodeSelectors.aNullableArrayNode(pathElements), this, pathElements);
     }
 
+    /**
+     * Determines whether the node at the given path exists.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON node exists at the path given.
+     */
+    public final boolean isNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null;
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the {@code JsonNode} at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path.
+     */
+    public final JsonNode getNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null) {
+            return node;
+        } else {
+            return getNode(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON boolean.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON boolean exists at the path given.
+     */
+    public final boolean isBooleanValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && (TRUE == node.getType() || FALSE == node.getType());
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the {@code Boolean} at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON boolean.
+     */
+    public final Boolean getBooleanValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && (TRUE == node.getType() || FALSE == node.getType())) {
+            return TRUE == node.getType();
+        } else {
+            return getBooleanValue(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON boolean or a JSON null.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON boolean or a JSON null exists at the path given.
+     */
+    public final boolean isNullableBooleanValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && (TRUE == node.getType() || FALSE == node.getType() || NULL == node.getType());
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the {@code Boolean} at the path given, or null, if there is a JSON null at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON boolean or a JSON null.
+     */
+    public final Boolean getNullableBooleanValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && (TRUE == node.getType() || FALSE == node.getType() || NULL == node.getType())) {
+            return NULL == node.getType() ? null : TRUE == node.getType();
+        } else {
+            return getNullableBooleanValue(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON string.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON string exists at the path given.
+     */
+    public final boolean isStringValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && STRING == node.getType();
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the {@code String} at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON string.
+     */
+    public final String getStringValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && STRING == node.getType()) {
+            return node.getText();
+        } else {
+            return getStringValue(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON string or a JSON null.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON string or a JSON null exists at the path given.
+     */
+    public final boolean isNullableStringValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && (STRING == node.getType() || NULL == node.getType());
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the {@code String} at the path given, or null, if there is a JSON null at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON string or a JSON null.
+     */
+    public final String getNullableStringValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && (STRING == node.getType() || NULL == node.getType())) {
+            return NULL == node.getType() ? null : node.getText();
+        } else {
+            return getNullableStringValue(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON number.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON number exists at the path given.
+     */
+    public final boolean isNumberValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && NUMBER == node.getType();
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the numeric {@code String} at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON number.
+     */
+    public final String getNumberValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && NUMBER == node.getType()) {
+            return node.getText();
+        } else {
+            return getNumberValue(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON number or a JSON null.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON number or a JSON null exists at the path given.
+     */
+    public final boolean isNullableNumberValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && (NUMBER == node.getType() || NULL == node.getType());
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return the numeric {@code String} at the path given, or null, if there is a JSON null at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON number or a JSON null.
+     */
+    public final String getNullableNumberValue(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && (NUMBER == node.getType() || NULL == node.getType())) {
+            return NULL == node.getType() ? null : node.getText();
+        } else {
+            return getNullableNumberValue(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON null.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON null exists at the path given.
+     */
+    public final boolean isNullNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && NULL == node.getType();
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return a {@code JsonNode} representing null.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON null.
+     */
+    public final JsonNode getNullNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && NULL == node.getType()) {
+            return node;
+        } else {
+            return getNullNode(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON object.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON object exists at the path given.
+     */
+    public final boolean isObjectNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && OBJECT == node.getType();
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return a {@code Map} of {@code String} field names to {@code JsonNode}s representing a JSON object.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON object.
+     */
+    public final Map<JsonStringNode, JsonNode> getObjectNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && OBJECT == node.getType()) {
+            return node.getFields();
+        } else {
+            return getObjectNode(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON object or a JSON null.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON object or a JSON null exists at the path given.
+     */
+    public final boolean isNullableObjectNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && (OBJECT == node.getType() || NULL == node.getType());
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return a {@code Map} of {@code String} field names to {@code JsonNode}s representing a JSON object at the path given, or null, if there is a JSON null at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON object or a JSON null.
+     */
+    public final Map<JsonStringNode, JsonNode> getNullableObjectNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && (OBJECT == node.getType() || NULL == node.getType())) {
+            return NULL == node.getType() ? null : node.getFields();
+        } else {
+            return getNullableObjectNode(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON array.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON array exists at the path given.
+     */
+    public final boolean isArrayNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && ARRAY == node.getType();
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return a {@code List} of {@code JsonNode}s representing a JSON array.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON array.
+     */
+    public final List<JsonNode> getArrayNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && ARRAY == node.getType()) {
+            return node.getElements();
+        } else {
+            return getArrayNode(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Determines whether the node at the given path exists and is a JSON array or a JSON null.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return whether a JSON array or a JSON null exists at the path given.
+     */
+    public final boolean isNullableArrayNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        return node != null && (ARRAY == node.getType() || NULL == node.getType());
+    }
+
+    /**
+     * Gets the value at the given path below this node.
+     *
+     * @param path the {@code JsonNodePath} to navigate from this node.
+     * @return a {@code List} of {@code JsonNode}s representing a JSON array, or null, if there is a JSON null at the path given.
+     * @throws IllegalArgumentException if there is no node at the given path, or the node at the given path is not a JSON array or a JSON null.
+     */
+    public final List<JsonNode> getNullableArrayNode(final JsonNodePath path) {
+        final JsonNode node = path.resolve(this);
+        if (node != null && (ARRAY == node.getType() || NULL == node.getType())) {
+            return NULL == node.getType() ? null : node.getElements();
+        } else {
+            return getNullableArrayNode(path.pathElements(this));
+        }
+    }
+
+    /**
+     * Gets a copy of this node with the node at the given path set to the given value.  If the path ends in the name
+     * of a field that the object it leads to doesn't have, the field is added to the end of the object.  This node is
+     * unchanged; the copy shares every node that isn't an object or array on the path to the change, so the cost is
+     * proportional to the sizes of those objects and arrays, rather than the size of the whole hierarchy.
+     *
+     * @param path  the {@code JsonNodePath} of the node to set.
+     * @param value the {@code JsonNode} to set at the given path.
+     * @return a copy of this node with the given value at the given path, or the given value itself if the path is empty.
+     * @throws IllegalArgumentException if there is no object or array at the path's parent, or the path ends in an index outside the array.
+     */
+    public final JsonNode set(final JsonNodePath path, final JsonNode value) {
+        return path.set(this, value);
+    }
+
+    /**
+     * Gets a copy of this node with the given value inserted into the array at the given path, sharing every node that
+     * isn't an object or array on the path to the change, as {@link #set(JsonNodePath, JsonNode)}.
+     *
+     * @param path  the {@code JsonNodePath} of the array to insert into.
+     * @param index the index at which to insert the given value, which may be the size of the array to append it.
+     * @param value the {@code JsonNode} to insert.
+     * @return a copy of this node with the given value inserted into the array at the given path.
+     * @throws IllegalArgumentException  if there is no array at the given path.
+     * @throws IndexOutOfBoundsException if the index is negative, or greater than the size of the array.
+     */
+    public final JsonNode insert(final JsonNodePath path, final int index, final JsonNode value) {
+        return path.insert(this, index, value);
+    }
+
+    /**
+     * Gets a copy of this node without the node at the given path, sharing every node that isn't an object or array on
+     * the path to the change, as {@link #set(JsonNodePath, JsonNode)}.  Later elements of an array move down one
+     * index.  Removing a field removes every field with the same name.
+     *
+     * @param path the {@code JsonNodePath} of the node to remove.
+     * @return a copy of this node without the node at the given path.
+     * @throws IllegalArgumentException if there is no node at the given path, or the path is empty.
+     */
+    public final JsonNode remove(final JsonNodePath path) {
+        return path.remove(this);
+    }
+
     /**
      * Executes a callback to the method corresponding to the type of this {@code JsonNode}.
      *
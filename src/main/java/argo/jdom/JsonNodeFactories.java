@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -14,9 +14,7 @@ import argo.JsonParser;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
@@ -79,7 +77,7 @@ public final class JsonNodeFactories {
      * @return a JSON number representation of the given BigDecimal
      */
     public static JsonNode number(final BigDecimal value) {
-        return JsonNumberNode.jsonNumberNode(value.toString());
+        return JsonNumberNode.prevalidatedJsonNumberNode(value.toString());
     }
 
     /**
@@ -87,7 +85,7 @@ public final class JsonNodeFactories {
      * @return a JSON number representation of the given BigInteger
      */
     public static JsonNode number(final BigInteger value) {
-        return JsonNumberNode.jsonNumberNode(value.toString());
+        return JsonNumberNode.prevalidatedJsonNumberNode(value.toString());
     }
 
     /**
@@ -95,7 +93,19 @@ public final class JsonNodeFactories {
      * @return a JSON number representation of the given BigInteger
      */
     public static JsonNode number(final long value) {
-        return JsonNumberNode.jsonNumberNode(Long.toString(value));
+        return JsonNumberNode.jsonNumberNode(value);
+    }
+
+    /**
+     * @param value a Java double to represent as a JSON number
+     * @return a JSON number representation of the given double
+     * @throws IllegalArgumentException if the given double is NaN or infinite, neither of which can be represented as a JSON number
+     */
+    public static JsonNode number(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Attempt to construct a JsonNumber with a double [" + value + "] that cannot be represented as a JSON number");
+        }
+        return JsonNumberNode.prevalidatedJsonNumberNode(Double.toString(value));
     }
 
     /**
@@ -111,7 +121,7 @@ public final class JsonNodeFactories {
      * @return a JSON number representation of the given BigDecimal or a JSON null if the Java BigDecimal is null
      */
     public static JsonNode nullableNumber(final BigDecimal value) {
-        return value == null ? nullNode() : JsonNumberNode.jsonNumberNode(value.toString());
+        return value == null ? nullNode() : JsonNumberNode.prevalidatedJsonNumberNode(value.toString());
     }
 
     /**
@@ -119,7 +129,7 @@ public final class JsonNodeFactories {
      * @return a JSON number representation of the given BigInteger or a JSON null if the Java BigInteger is null
      */
     public static JsonNode nullableNumber(final BigInteger value) {
-        return value == null ? nullNode() : JsonNumberNode.jsonNumberNode(value.toString());
+        return value == null ? nullNode() : JsonNumberNode.prevalidatedJsonNumberNode(value.toString());
     }
 
     /**
@@ -127,7 +137,7 @@ public final class JsonNodeFactories {
      * @return a JSON number representation of the given BigInteger or a JSON null if the Java Long is null
      */
     public static JsonNode nullableNumber(final Long value) {
-        return value == null ? nullNode() : JsonNumberNode.jsonNumberNode(Long.toString(value));
+        return value == null ? nullNode() : JsonNumberNode.jsonNumberNode(value);
     }
 
     /**
@@ -140,6 +150,26 @@ public final class JsonNodeFactories {
         return JsonNumberNode.prevalidatedJsonNumberNode(prevalidatedNumber.value);
     }
 
+    /**
+     * Internal method.
+     *
+     * @param prevalidatedNodes nodes collected by a parser, the most recently started container of which holds the elements
+     * @return a JSON array of the elements of the most recently started container
+     */
+    public static JsonNode prevalidatedArray(final JsonParser.PrevalidatedNodes prevalidatedNodes) {
+        return JsonArray.prevalidatedJsonArray(prevalidatedNodes.endContainer());
+    }
+
+    /**
+     * Internal method.
+     *
+     * @param prevalidatedNodes nodes collected by a parser, the most recently started container of which holds the names and values of the fields, alternately
+     * @return a JSON object of the fields of the most recently started container
+     */
+    public static JsonNode prevalidatedObject(final JsonParser.PrevalidatedNodes prevalidatedNodes) {
+        return JsonObject.prevalidatedJsonObject(prevalidatedNodes.endContainer());
+    }
+
     /**
      * @param elements {@code JsonNode}s that will populate the array
      * @return a JSON array of the given {@code JsonNode}s
@@ -193,11 +223,7 @@ public final class JsonNodeFactories {
      * @return a JSON object containing the given fields
      */
     public static JsonNode object(final Map<JsonStringNode, ? extends JsonNode> fields) {
-        final List<JsonField> result = new ArrayList<JsonField>(fields.size());
-        for (final Map.Entry<JsonStringNode, ? extends JsonNode> entry : fields.entrySet()) {
-            result.add(field(entry.getKey(), entry.getValue()));
-        }
-        return JsonObject.jsonObject(result);
+        return JsonObject.jsonObject(fields);
     }
 
     /**
@@ -256,6 +282,48 @@ public final class JsonNodeFactories {
         return fields == null ? nullNode() : object(fields);
     }
 
+    /**
+     * Gets a node equal to the given node that remembers how it was serialized by {@code argo.JsonGenerator}, so that
+     * generating it again is a copy rather than a traversal.  Intended for large, frequently generated fragments, such
+     * as reference data that's included in many documents.
+     * <p>
+     * Serialized forms are cached separately for each style of output, are softly referenced, and aren't cached at all
+     * for nodes whose serialized form is very large.  Nodes other than non-empty objects and arrays are returned as is.
+     *
+     * @param jsonNode the node to memoize
+     * @return a node equal to the given node that caches its serialized forms
+     */
+    public static JsonNode memoized(final JsonNode jsonNode) {
+        return jsonNode.memoized();
+    }
+
+    /**
+     * Gets a node representing the given JSON text, for example a fragment of JSON held in a database.  The text is
+     * validated, but is only parsed into a tree of nodes if the node is examined.  {@code argo.JsonGenerator} writes
+     * the text as is, except when sorting fields, and escapes characters in its strings if its escaping requires it.
+     *
+     * @param json a single, complete, JSON value
+     * @return a node representing the given JSON text
+     * @throws IllegalArgumentException if the given text isn't valid JSON
+     */
+    public static JsonNode raw(final String json) {
+        return RawJsonNode.rawJsonNode(json);
+    }
+
+    /**
+     * Gets a node representing the given JSON text, as {@link #raw(String)}, but without validating it.  The text must
+     * be known to be valid JSON, for example because Argo generated it; if it isn't, the resulting output will be
+     * invalid, and examining the node will throw {@code IllegalStateException}.
+     *
+     * @param json a single, complete, JSON value
+     * @return a node representing the given JSON text
+     * @throws IllegalArgumentException if the given text is blank, or its first non-whitespace character can't start a
+     *                                  JSON value
+     */
+    public static JsonNode trustedRaw(final String json) {
+        return RawJsonNode.trustedRawJsonNode(json);
+    }
+
     /**
      * @param name  the name of the field
      * @param value the value of the field
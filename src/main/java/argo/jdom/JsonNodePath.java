@@ -0,0 +1,416 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static argo.jdom.JsonNodeType.ARRAY;
+import static argo.jdom.JsonNodeType.OBJECT;
+
+/**
+ * <p>A precompiled path from a {@code JsonNode} to one of its descendants.  Immutable, and safe to share between threads.</p>
+ *
+ * <p>A {@code JsonNodePath} is intended to be constructed once and used many times, for example by holding it in a
+ * constant.  Resolving it walks the hierarchy in a single pass without allocating, and reports a missing node by
+ * returning {@code null} rather than by throwing an exception.</p>
+ *
+ * <p>For example, given a {@code JsonNode} representing {@code {"Fee":[{"fi":"fo"}]}},
+ * {@code jsonNode.getStringValue(JsonNodePath.path("Fee", 0, "fi"))} and
+ * {@code jsonNode.getStringValue(JsonNodePath.jsonPointer("/Fee/0/fi"))} both return the {@code String} "fo".</p>
+ *
+ * @see JsonNode#getStringValue(JsonNodePath)
+ */
+public final class JsonNodePath {
+
+    private static final JsonStringNode[] NO_NAMES = new JsonStringNode[0];
+    private static final int[] NO_INDICES = new int[0];
+
+    /**
+     * The field name to select at each step, or null if the step can only select an array element.
+     */
+    private final JsonStringNode[] names;
+    /**
+     * The array index to select at each step, or -1 if the step can only select an object field.
+     */
+    private final int[] indices;
+    private final String description;
+
+    private JsonNodePath(final JsonStringNode[] names, final int[] indices, final String description) {
+        this.names = names;
+        this.indices = indices;
+        this.description = description;
+    }
+
+    /**
+     * Compiles a path from a series of {@code String}s and {@code Integer}s, interpreted in the same way as the
+     * {@code pathElements} arguments of methods on {@code JsonNode}.
+     *
+     * @param pathElements a series of {@code String}s, representing the names of fields on objects, and {@code Integer}s, representing elements of arrays.
+     * @return a {@code JsonNodePath} that navigates the given path.
+     * @throws IllegalArgumentException if any element is neither a {@code String} nor a non-negative {@code Integer}.
+     */
+    public static JsonNodePath path(final Object... pathElements) {
+        final JsonStringNode[] names = new JsonStringNode[pathElements.length];
+        final int[] indices = new int[pathElements.length];
+        for (int i = 0; i < pathElements.length; i++) {
+            if (pathElements[i] instanceof Integer) {
+                final int index = (Integer) pathElements[i];
+                if (index < 0) {
+                    throw new IllegalArgumentException(Integer.toString(index));
+                }
+                indices[i] = index;
+            } else if (pathElements[i] instanceof String) {
+                names[i] = JsonNodeFactories.string((String) pathElements[i]);
+                indices[i] = -1;
+            } else {
+                throw new IllegalArgumentException("Element [" + pathElements[i] + "] of path elements" +
+                        " [" + Arrays.toString(pathElements) + "] was of illegal type [" + pathElements[i].getClass().getCanonicalName()
+                        + "]; only Integer and String are valid");
+            }
+        }
+        return new JsonNodePath(names, indices, Arrays.toString(pathElements));
+    }
+
+    /**
+     * Compiles a path from a JSON Pointer, as defined in RFC 6901.  A reference token consisting of an array index
+     * selects an element when applied to an array, and a field when applied to an object.
+     *
+     * @param jsonPointer a JSON Pointer, such as {@code "/foo/0/bar"}.
+     * @return a {@code JsonNodePath} that navigates the given JSON Pointer.
+     * @throws IllegalArgumentException if the given {@code String} is not a valid JSON Pointer.
+     */
+    public static JsonNodePath jsonPointer(final String jsonPointer) {
+        if (jsonPointer.length() == 0) {
+            return new JsonNodePath(NO_NAMES, NO_INDICES, jsonPointer);
+        }
+        if (jsonPointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("JSON Pointer [" + jsonPointer + "] does not start with '/'");
+        }
+        final List<String> referenceTokens = new ArrayList<String>();
+        final StringBuilder referenceToken = new StringBuilder();
+        int position = 1;
+        while (position < jsonPointer.length()) {
+            final char character = jsonPointer.charAt(position);
+            if (character == '/') {
+                referenceTokens.add(referenceToken.toString());
+                referenceToken.setLength(0);
+                position++;
+            } else if (character == '~') {
+                final char escaped = position + 1 < jsonPointer.length() ? jsonPointer.charAt(position + 1) : 0;
+                if (escaped == '0') {
+                    referenceToken.append('~');
+                } else if (escaped == '1') {
+                    referenceToken.append('/');
+                } else {
+                    throw new IllegalArgumentException("JSON Pointer [" + jsonPointer + "] contains invalid escape sequence at index " + position);
+                }
+                position += 2;
+            } else {
+                referenceToken.append(character);
+                position++;
+            }
+        }
+        referenceTokens.add(referenceToken.toString());
+        final JsonStringNode[] names = new JsonStringNode[referenceTokens.size()];
+        final int[] indices = new int[referenceTokens.size()];
+        for (int i = 0; i < names.length; i++) {
+            final String token = referenceTokens.get(i);
+            names[i] = JsonNodeFactories.string(token);
+            indices[i] = arrayIndex(token);
+        }
+        return new JsonNodePath(names, indices, jsonPointer);
+    }
+
+    private static int arrayIndex(final String referenceToken) {
+        final int length = referenceToken.length();
+        if (length == 0 || length > 9 || (length > 1 && referenceToken.charAt(0) == '0')) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            final char character = referenceToken.charAt(i);
+            if (character < '0' || character > '9') {
+                return -1;
+            }
+            result = result * 10 + (character - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Finds the node at the end of this path.
+     *
+     * @param jsonNode the {@code JsonNode} to navigate from.
+     * @return the {@code JsonNode} at the end of this path, or {@code null} if there is no node at this path.
+     */
+    public JsonNode resolve(final JsonNode jsonNode) {
+        JsonNode current = jsonNode;
+        for (int i = 0; i < names.length && current != null; i++) {
+            final JsonNodeType type = current.getType();
+            if (OBJECT == type && names[i] != null) {
+                current = current.fieldValue(names[i]);
+            } else if (ARRAY == type && indices[i] >= 0) {
+                current = current.elementValue(indices[i]);
+            } else {
+                current = null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Gets a copy of the given node with the node at the end of this path replaced by the given value, or added, if
+     * this path ends in the name of a field the object it leads to doesn't have.  Of several fields with that name, the
+     * one this path resolves to is replaced.  Only the objects and arrays on the way to the change are copied.
+     */
+    JsonNode set(final JsonNode jsonNode, final JsonNode value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        if (names.length == 0) {
+            return value;
+        }
+        final int last = names.length - 1;
+        final int[] positions = new int[last];
+        final JsonNode[] containers = containers(jsonNode, last, positions);
+        final JsonNode parent = containers[last];
+        final JsonNode[] contents = parent.backingArray();
+        final JsonNode[] updated;
+        if (parent instanceof JsonObject && names[last] != null) {
+            final int position = fieldPosition(contents, names[last]);
+            if (position == -1) {
+                updated = new JsonNode[contents.length + 2];
+                System.arraycopy(contents, 0, updated, 0, contents.length);
+                updated[contents.length] = names[last];
+                updated[contents.length + 1] = value;
+            } else {
+                updated = contents.clone();
+                updated[position + 1] = value;
+            }
+        } else if (parent instanceof JsonArray && indices[last] >= 0 && indices[last] < contents.length) {
+            updated = contents.clone();
+            updated[indices[last]] = value;
+        } else {
+            throw noNodeException(jsonNode, names.length);
+        }
+        return rebuild(containers, positions, withContents(parent, updated));
+    }
+
+    /**
+     * Gets a copy of the given node with the array at the end of this path having the given value inserted at the
+     * given index.  Only the objects and arrays on the way to the change are copied.
+     */
+    JsonNode insert(final JsonNode jsonNode, final int index, final JsonNode value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        final int[] positions = new int[names.length];
+        final JsonNode[] containers = containers(jsonNode, names.length, positions);
+        final JsonNode array = containers[names.length];
+        if (!(array instanceof JsonArray)) {
+            throw new IllegalArgumentException("Failed to find a JSON array at " + describe(jsonNode, names.length));
+        }
+        final JsonNode[] contents = array.backingArray();
+        if (index < 0 || index > contents.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + contents.length);
+        }
+        return rebuild(containers, positions, JsonArray.prevalidatedJsonArray(inserted(contents, index, value)));
+    }
+
+    /**
+     * Gets a copy of the given node with the given value added at the end of this path, as a JSON Patch "add" operation
+     * does: if this path leads to an array, the value is inserted at the index this path ends in, or appended if it ends
+     * in "-", and otherwise it's set as by {@code set}.  Only the objects and arrays on the way to the change are copied.
+     */
+    JsonNode add(final JsonNode jsonNode, final JsonNode value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        if (names.length == 0) {
+            return value;
+        }
+        final int last = names.length - 1;
+        final int[] positions = new int[last];
+        final JsonNode[] containers = containers(jsonNode, last, positions);
+        final JsonNode parent = containers[last];
+        if (!(parent instanceof JsonArray)) {
+            return set(jsonNode, value);
+        }
+        final JsonNode[] contents = parent.backingArray();
+        final int index;
+        if (indices[last] >= 0 && indices[last] <= contents.length) {
+            index = indices[last];
+        } else if (names[last] != null && "-".equals(names[last].getText())) {
+            index = contents.length;
+        } else {
+            throw noNodeException(jsonNode, names.length);
+        }
+        return rebuild(containers, positions, JsonArray.prevalidatedJsonArray(inserted(contents, index, value)));
+    }
+
+    /**
+     * Gets a copy of the given node without the node at the end of this path, along with any other fields of the same
+     * name, so that this path no longer resolves.  Only the objects and arrays on the way to the change are copied.
+     */
+    JsonNode remove(final JsonNode jsonNode) {
+        if (names.length == 0) {
+            throw new IllegalArgumentException("Cannot remove the node an empty path resolves to");
+        }
+        final int last = names.length - 1;
+        final int[] positions = new int[last];
+        final JsonNode[] containers = containers(jsonNode, last, positions);
+        final JsonNode parent = containers[last];
+        final JsonNode[] contents = parent.backingArray();
+        final JsonNode[] updated;
+        if (parent instanceof JsonObject && names[last] != null && fieldPosition(contents, names[last]) != -1) {
+            int length = 0;
+            for (int i = 0; i < contents.length; i += 2) {
+                if (!contents[i].equals(names[last])) {
+                    length += 2;
+                }
+            }
+            updated = new JsonNode[length];
+            length = 0;
+            for (int i = 0; i < contents.length; i += 2) {
+                if (!contents[i].equals(names[last])) {
+                    updated[length++] = contents[i];
+                    updated[length++] = contents[i + 1];
+                }
+            }
+        } else if (parent instanceof JsonArray && indices[last] >= 0 && indices[last] < contents.length) {
+            final int index = indices[last];
+            updated = new JsonNode[contents.length - 1];
+            System.arraycopy(contents, 0, updated, 0, index);
+            System.arraycopy(contents, index + 1, updated, index, updated.length - index);
+        } else {
+            throw noNodeException(jsonNode, names.length);
+        }
+        return rebuild(containers, positions, withContents(parent, updated));
+    }
+
+    /**
+     * Resolves the first {@code length} steps of this path, each of which has to lead to an object or an array.
+     *
+     * @param positions receives the position in the backing array of each container of the next container.
+     * @return the containers on the way, starting with the given node, with any raw nodes parsed.
+     */
+    private JsonNode[] containers(final JsonNode jsonNode, final int length, final int[] positions) {
+        final JsonNode[] containers = new JsonNode[length + 1];
+        JsonNode current = JsonTrees.resolve(jsonNode);
+        for (int i = 0; i < length; i++) {
+            containers[i] = current;
+            final int position;
+            if (current instanceof JsonObject && names[i] != null) {
+                final int fieldPosition = fieldPosition(current.backingArray(), names[i]);
+                position = fieldPosition == -1 ? -1 : fieldPosition + 1;
+            } else if (current instanceof JsonArray && indices[i] >= 0 && indices[i] < current.backingArray().length) {
+                position = indices[i];
+            } else {
+                position = -1;
+            }
+            if (position == -1) {
+                throw noNodeException(jsonNode, i + 1);
+            }
+            positions[i] = position;
+            current = JsonTrees.resolve(current.backingArray()[position]);
+        }
+        containers[length] = current;
+        return containers;
+    }
+
+    /**
+     * @return the position of the last field with the given name, as that's the one that {@code resolve} finds, or -1.
+     */
+    private static int fieldPosition(final JsonNode[] namesAndValues, final JsonStringNode name) {
+        for (int i = namesAndValues.length - 2; i >= 0; i -= 2) {
+            if (namesAndValues[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static JsonNode[] inserted(final JsonNode[] contents, final int index, final JsonNode value) {
+        final JsonNode[] updated = new JsonNode[contents.length + 1];
+        System.arraycopy(contents, 0, updated, 0, index);
+        updated[index] = value;
+        System.arraycopy(contents, index, updated, index + 1, contents.length - index);
+        return updated;
+    }
+
+    private static JsonNode rebuild(final JsonNode[] containers, final int[] positions, final JsonNode replacement) {
+        JsonNode result = replacement;
+        for (int i = positions.length - 1; i >= 0; i--) {
+            final JsonNode[] contents = containers[i].backingArray().clone();
+            contents[positions[i]] = result;
+            result = withContents(containers[i], contents);
+        }
+        return result;
+    }
+
+    private static JsonNode withContents(final JsonNode container, final JsonNode[] contents) {
+        return container instanceof JsonObject ? JsonObject.prevalidatedJsonObject(contents) : JsonArray.prevalidatedJsonArray(contents);
+    }
+
+    private IllegalArgumentException noNodeException(final JsonNode jsonNode, final int length) {
+        return new IllegalArgumentException("Failed to find a node at " + describe(jsonNode, length));
+    }
+
+    private String describe(final JsonNode jsonNode, final int length) {
+        final Object[] pathElements = pathElements(jsonNode);
+        final Object[] prefix = new Object[length];
+        System.arraycopy(pathElements, 0, prefix, 0, length);
+        return Arrays.toString(prefix);
+    }
+
+    /**
+     * Gets this path as a series of {@code String}s and {@code Integer}s, choosing whichever form of an ambiguous step
+     * matches the given node.  Only used to describe a failed resolution, so performance is unimportant.
+     */
+    Object[] pathElements(final JsonNode jsonNode) {
+        final Object[] result = new Object[names.length];
+        JsonNode current = jsonNode;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == null || (indices[i] >= 0 && current != null && ARRAY == current.getType())) {
+                result[i] = indices[i];
+            } else {
+                result[i] = names[i].getText();
+            }
+            current = current == null ? null : path(result[i]).resolve(current);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (this == that) {
+            return true;
+        }
+        if (that == null || getClass() != that.getClass()) {
+            return false;
+        }
+
+        final JsonNodePath thatJsonNodePath = (JsonNodePath) that;
+        return Arrays.equals(names, thatJsonNodePath.names) && Arrays.equals(indices, thatJsonNodePath.indices);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(names) + Arrays.hashCode(indices);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonNodePath{" + description + "}";
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -337,11 +337,60 @@ public final class JsonNodeSelectors {
     }
 
     public static JsonNodeSelector<JsonNode, JsonNode> anObjectNodeWithField(final JsonStringNode fieldName) {
-        return anObjectNode().with(aField(fieldName));
+        return chainedJsonNodeSelector(anObjectNodeItself(), aFieldOfAnObjectNode(fieldName));
     }
 
     public static JsonNodeSelector<JsonNode, JsonNode> anObjectNodeWithField(final String fieldName) {
-        return anObjectNode().with(aField(fieldName));
+        return anObjectNodeWithField(JsonNodeFactories.string(fieldName));
+    }
+
+    private static JsonNodeSelector<JsonNode, JsonNode> anObjectNodeItself() {
+        return new JsonNodeSelector<JsonNode, JsonNode>(new LeafFunctor<JsonNode, JsonNode>() {
+            public boolean matchesNode(final JsonNode jsonNode) {
+                return OBJECT == jsonNode.getType();
+            }
+
+            public String shortForm() {
+                return "an object";
+            }
+
+            public JsonNode typeSafeApplyTo(final JsonNode jsonNode) {
+                return jsonNode;
+            }
+
+            @Override
+            public String toString() {
+                return shortForm();
+            }
+        });
+    }
+
+    /**
+     * Equivalent to {@code aField(fieldName)}, but looks the field up directly on the object node rather than via
+     * the map returned by {@code getFields()}.
+     */
+    private static JsonNodeSelector<JsonNode, JsonNode> aFieldOfAnObjectNode(final JsonStringNode fieldName) {
+        if (fieldName == null) {
+            throw new NullPointerException();
+        }
+        return new JsonNodeSelector<JsonNode, JsonNode>(new LeafFunctor<JsonNode, JsonNode>() {
+            public boolean matchesNode(final JsonNode jsonNode) {
+                return jsonNode.fieldValue(fieldName) != null;
+            }
+
+            public String shortForm() {
+                return "\"" + fieldName.getText() + "\"";
+            }
+
+            public JsonNode typeSafeApplyTo(final JsonNode jsonNode) {
+                return jsonNode.fieldValue(fieldName);
+            }
+
+            @Override
+            public String toString() {
+                return "a field called [\"" + fieldName.getText() + "\"]";
+            }
+        });
     }
 
     public static JsonNodeSelector<List<JsonNode>, JsonNode> anElement(final int index) {
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -32,6 +32,16 @@ final class JsonNumberNode extends JsonNode implements JsonNodeBuilder<JsonNode>
         return singletonAwareJsonNumberNode(value, true);
     }
 
+    static JsonNumberNode jsonNumberNode(final long value) {
+        if (value == 0) {
+            return ZERO;
+        } else if (value == 1) {
+            return ONE;
+        } else {
+            return new JsonNumberNode(Long.toString(value));
+        }
+    }
+
     static JsonNumberNode prevalidatedJsonNumberNode(final String value) {
         return singletonAwareJsonNumberNode(value, false);
     }
@@ -115,6 +125,9 @@ final class JsonNumberNode extends JsonNode implements JsonNodeBuilder<JsonNode>
         if (this == that) {
             return true;
         }
+        if (that instanceof RawJsonNode) {
+            return equals(((RawJsonNode) that).tree());
+        }
         if (that == null || getClass() != that.getClass()) {
             return false;
         }
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -10,36 +10,108 @@
 
 package argo.jdom;
 
+import argo.internal.SerializedForms;
+
 import java.util.*;
 
-import static argo.jdom.ArrayFactories.nullFreeArrayOf;
 import static java.util.Collections.unmodifiableMap;
 
 final class JsonObject extends JsonNode {
 
-    private static final JsonField[] EMPTY_FIELDS_ARRAY = new JsonField[0];
-    private static final JsonObject EMPTY_OBJECT = new JsonObject(EMPTY_FIELDS_ARRAY);
+    private static final JsonNode[] EMPTY_NAMES_AND_VALUES_ARRAY = new JsonNode[0];
+    private static final JsonObject EMPTY_OBJECT = new JsonObject(EMPTY_NAMES_AND_VALUES_ARRAY);
+
+    /**
+     * Objects with fewer fields than this are searched linearly rather than via a field index.
+     */
+    private static final int FIELD_INDEX_THRESHOLD = 8;
 
-    private final JsonField[] fields;
+    /**
+     * Field names at even indices, each followed by the corresponding field value at the next odd index.
+     */
+    private final JsonNode[] namesAndValues;
 
     private int cachedHashCode;
 
     private transient volatile Map<JsonStringNode, JsonNode> fieldMap;
 
-    private JsonObject(final JsonField[] fields) {
-        this.fields = fields;
+    /**
+     * Open addressing hash table of positions in {@code namesAndValues}, offset by one so that zero marks an empty slot.
+     */
+    private transient volatile int[] fieldIndex;
+
+    private final SerializedForms serializedForms;
+
+    private JsonObject(final JsonNode[] namesAndValues) {
+        this(namesAndValues, null);
+    }
+
+    private JsonObject(final JsonNode[] namesAndValues, final SerializedForms serializedForms) {
+        this.namesAndValues = namesAndValues;
+        this.serializedForms = serializedForms;
     }
 
     static JsonObject jsonObject(final Iterator<JsonField> fields) {
-        return jsonObject(nullFreeArrayOf(fields, EMPTY_FIELDS_ARRAY));
+        return jsonObject(fields, 8);
     }
 
     static JsonObject jsonObject(final Iterable<JsonField> fields) {
-        return jsonObject(nullFreeArrayOf(fields, EMPTY_FIELDS_ARRAY));
+        if (fields instanceof Collection) {
+            return jsonObject(fields.iterator(), ((Collection<JsonField>) fields).size());
+        } else {
+            return jsonObject(fields.iterator());
+        }
+    }
+
+    static JsonObject jsonObject(final Map<JsonStringNode, ? extends JsonNode> fields) {
+        final JsonNode[] namesAndValues = new JsonNode[fields.size() * 2];
+        int length = 0;
+        for (final Map.Entry<JsonStringNode, ? extends JsonNode> entry : fields.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new NullPointerException("Name is null");
+            }
+            if (entry.getValue() == null) {
+                throw new NullPointerException("Value is null");
+            }
+            namesAndValues[length++] = entry.getKey();
+            namesAndValues[length++] = entry.getValue();
+        }
+        return jsonObject(namesAndValues, length);
+    }
+
+    private static JsonObject jsonObject(final Iterator<JsonField> fields, final int expectedSize) {
+        JsonNode[] namesAndValues = new JsonNode[expectedSize * 2];
+        int length = 0;
+        while (fields.hasNext()) {
+            final JsonField field = fields.next();
+            if (field == null) {
+                throw new NullPointerException();
+            }
+            if (length == namesAndValues.length) {
+                final JsonNode[] grown = new JsonNode[Math.max(8, length * 2)];
+                System.arraycopy(namesAndValues, 0, grown, 0, length);
+                namesAndValues = grown;
+            }
+            namesAndValues[length++] = field.getName();
+            namesAndValues[length++] = field.getValue();
+        }
+        return jsonObject(namesAndValues, length);
     }
 
-    private static JsonObject jsonObject(final JsonField[] fields) {
-        return fields.length == 0 ? EMPTY_OBJECT : new JsonObject(fields);
+    static JsonObject prevalidatedJsonObject(final JsonNode[] namesAndValues) {
+        return jsonObject(namesAndValues, namesAndValues.length);
+    }
+
+    private static JsonObject jsonObject(final JsonNode[] namesAndValues, final int length) {
+        if (length == 0) {
+            return EMPTY_OBJECT;
+        } else if (length == namesAndValues.length) {
+            return new JsonObject(namesAndValues);
+        } else {
+            final JsonNode[] trimmed = new JsonNode[length];
+            System.arraycopy(namesAndValues, 0, trimmed, 0, length);
+            return new JsonObject(trimmed);
+        }
     }
 
     @Override
@@ -65,18 +137,76 @@ final class JsonObject extends JsonNode {
     @Override
     public Map<JsonStringNode, JsonNode> getFields() {
         if (fieldMap == null) {
-            final Map<JsonStringNode, JsonNode> modifiableFieldMap = new LinkedHashMap<JsonStringNode, JsonNode>((fields.length * 4 + 2) / 3);
-            for (final JsonField field : fields) {
-                modifiableFieldMap.put(field.getName(), field.getValue());
+            final Map<JsonStringNode, JsonNode> modifiableFieldMap = new LinkedHashMap<JsonStringNode, JsonNode>((namesAndValues.length * 2 + 2) / 3);
+            for (int i = 0; i < namesAndValues.length; i += 2) {
+                modifiableFieldMap.put((JsonStringNode) namesAndValues[i], namesAndValues[i + 1]);
             }
             fieldMap = unmodifiableMap(modifiableFieldMap);
         }
         return fieldMap;
     }
 
+    @Override
+    JsonNode fieldValue(final JsonStringNode name) {
+        if (namesAndValues.length < FIELD_INDEX_THRESHOLD * 2) {
+            for (int i = namesAndValues.length - 2; i >= 0; i -= 2) {
+                if (namesAndValues[i].equals(name)) {
+                    return namesAndValues[i + 1];
+                }
+            }
+            return null;
+        } else {
+            final int[] index = fieldIndex();
+            final int mask = index.length - 1;
+            for (int slot = spread(name.hashCode()) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+                final int position = index[slot] - 1;
+                if (namesAndValues[position].equals(name)) {
+                    return namesAndValues[position + 1];
+                }
+            }
+            return null;
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    private int[] fieldIndex() {
+        int[] index = fieldIndex;
+        if (index == null) {
+            synchronized (namesAndValues) {
+                index = fieldIndex;
+                if (index == null) {
+                    index = buildFieldIndex(namesAndValues);
+                    fieldIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static int[] buildFieldIndex(final JsonNode[] namesAndValues) {
+        int capacity = 1;
+        while (capacity < namesAndValues.length) { // at least twice the number of fields, so the table is at most half full
+            capacity <<= 1;
+        }
+        final int[] index = new int[capacity];
+        final int mask = capacity - 1;
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            int slot = spread(namesAndValues[i].hashCode()) & mask;
+            while (index[slot] != 0 && !namesAndValues[index[slot] - 1].equals(namesAndValues[i])) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = i + 1; // a later duplicate replaces an earlier one, consistent with getFields()
+        }
+        return index;
+    }
+
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
     @Override
     public List<JsonField> getFieldList() {
-        return new UnmodifiableListArrayView<JsonField>(fields);
+        return new FieldListView(namesAndValues);
     }
 
     @Override
@@ -89,6 +219,22 @@ final class JsonObject extends JsonNode {
         throw new UnsupportedOperationException("Objects do not have elements");
     }
 
+    @Override
+    JsonNode memoized() {
+        return serializedForms != null || namesAndValues.length == 0 ? this : new JsonObject(namesAndValues, new SerializedForms());
+    }
+
+    @Override
+    SerializedForms serializedForms() {
+        return serializedForms;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    JsonNode[] backingArray() {
+        return namesAndValues;
+    }
+
     @Override
     public void visit(final JsonNodeVisitor jsonNodeVisitor) {
         jsonNodeVisitor.object(getFieldList());
@@ -99,26 +245,80 @@ final class JsonObject extends JsonNode {
         if (this == that) {
             return true;
         }
+        if (that instanceof RawJsonNode) {
+            return equals(((RawJsonNode) that).tree());
+        }
         if (that == null || getClass() != that.getClass()) {
             return false;
         }
 
         final JsonObject thatJsonObject = (JsonObject) that;
-        return Arrays.equals(this.fields, thatJsonObject.fields);
+        return (cachedHashCode == 0 || thatJsonObject.cachedHashCode == 0 || cachedHashCode == thatJsonObject.cachedHashCode)
+                && JsonTrees.equal(this.namesAndValues, thatJsonObject.namesAndValues);
     }
 
     @Override
     public int hashCode() {
-        int hashCode = cachedHashCode;
-        if (hashCode == 0 && fields.length != 0) {
-            hashCode = Arrays.hashCode(fields);
-            cachedHashCode = hashCode;
+        final int hashCode = cachedHashCode;
+        if (hashCode == 0 && namesAndValues.length != 0) {
+            return JsonTrees.hashCode(this);
         }
         return hashCode;
     }
 
+    int cachedHashCode() {
+        return cachedHashCode;
+    }
+
+    void cachedHashCode(final int hashCode) {
+        cachedHashCode = hashCode;
+    }
+
     @Override
     public String toString() {
         return "JsonObject{fields=" + getFieldList() + "}";
     }
+
+    private static final class FieldListView extends AbstractList<JsonField> {
+
+        private final JsonNode[] namesAndValues;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        FieldListView(final JsonNode[] namesAndValues) {
+            this.namesAndValues = namesAndValues;
+        }
+
+        public JsonField get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index out of range: " + index);
+            }
+            return new JsonField((JsonStringNode) namesAndValues[index * 2], namesAndValues[index * 2 + 1]);
+        }
+
+        public int size() {
+            return namesAndValues.length / 2;
+        }
+
+        @Override
+        @SuppressWarnings("NullableProblems")
+        public Iterator<JsonField> iterator() {
+            return new UnmodifiableIterator<JsonField>() {
+                private int cursor = 0;
+
+                public boolean hasNext() {
+                    return cursor < namesAndValues.length;
+                }
+
+                public JsonField next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final JsonField result = new JsonField((JsonStringNode) namesAndValues[cursor], namesAndValues[cursor + 1]);
+                    cursor += 2;
+                    return result;
+                }
+            };
+        }
+
+    }
 }
@@ -0,0 +1,565 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static argo.jdom.JsonNodeFactories.string;
+
+/**
+ * Computes and applies differences between {@code JsonNode}s, as JSON Patch documents, defined in RFC 6902, and JSON
+ * Merge Patch documents, defined in RFC 7386.
+ * <p>
+ * Patches are applied without modifying the nodes involved: the result shares every object and array the patch doesn't
+ * change with the original node, and only the objects and arrays on the way to each change are copied.
+ * <p>
+ * As in the RFCs, objects are treated as unordered, so fields added by a patch are added after any existing fields, and
+ * of several fields with the same name, the last is the one that is read or replaced.
+ */
+public final class JsonPatches {
+
+    private static final int ALIGNMENT_WINDOW = 256;
+    private static final int POSITION_INDEX_THRESHOLD = 16;
+    private static final JsonNode[] NO_NODES = new JsonNode[0];
+
+    private static final JsonStringNode OP = string("op");
+    private static final JsonStringNode PATH = string("path");
+    private static final JsonStringNode FROM = string("from");
+    private static final JsonStringNode VALUE = string("value");
+    private static final JsonStringNode ADD = string("add");
+    private static final JsonStringNode REMOVE = string("remove");
+    private static final JsonStringNode REPLACE = string("replace");
+    private static final JsonStringNode MOVE = string("move");
+    private static final JsonStringNode COPY = string("copy");
+    private static final JsonStringNode TEST = string("test");
+
+    private JsonPatches() {
+    }
+
+    /**
+     * Computes a JSON Patch that transforms one node into another.
+     * <p>
+     * Objects and arrays that are the same instance, or that have the same hash code and are equal, are skipped without
+     * being examined further, so the cost of diffing is mostly proportional to the size of the differences, plus the
+     * cost of hashing each node the first time.  The elements of two arrays are aligned by their longest common
+     * subsequence, found within windows of 256 elements from each array starting at each difference, so an element
+     * added or removed is found wherever it is in the array, provided the elements either side of it have shifted by
+     * fewer than 256 places.  Elements that take each other's place are diffed in turn, rather than removed and added.
+     * <p>
+     * Applying the resulting patch to {@code source} gives a node equal to {@code target}, except that fields added to
+     * objects come after the existing ones, and only the last of several fields with the same name is compared.
+     *
+     * @param source the node to transform.
+     * @param target the node to transform it into.
+     * @return a JSON array of JSON Patch operations, using only "add", "remove", and "replace".
+     */
+    public static JsonNode diff(final JsonNode source, final JsonNode target) {
+        final Differ differ = new Differ();
+        differ.diff(source, target);
+        return differ.operations();
+    }
+
+    /**
+     * Applies a JSON Patch to a node.  The operations are applied in turn, and the first to fail, for example because
+     * a path it refers to doesn't exist or a "test" operation finds a different value, causes the whole patch to fail.
+     * "test" operations compare values using {@code equals}, so numbers only match if they're written identically.
+     *
+     * @param jsonNode  the node to apply the patch to.
+     * @param jsonPatch a JSON array of JSON Patch operations.
+     * @return a copy of the given node with the given patch applied.
+     * @throws IllegalArgumentException if the patch is malformed, or any of its operations fails.
+     */
+    public static JsonNode patch(final JsonNode jsonNode, final JsonNode jsonPatch) {
+        final JsonNode operations = JsonTrees.resolve(jsonPatch);
+        if (!(operations instanceof JsonArray)) {
+            throw new IllegalArgumentException("JSON Patch is not an array");
+        }
+        JsonNode result = jsonNode;
+        final JsonNode[] elements = operations.backingArray();
+        for (int i = 0; i < elements.length; i++) {
+            try {
+                result = apply(result, JsonTrees.resolve(elements[i]));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Operation " + i + " of JSON Patch failed: " + e.getMessage(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies a JSON Merge Patch to a node.  Fields of a merge patch that are objects are merged into the corresponding
+     * fields of the node recursively, fields that are null remove the corresponding fields, and other fields replace
+     * them.  A merge patch that isn't an object replaces the node outright.
+     *
+     * @param jsonNode   the node to apply the merge patch to.
+     * @param mergePatch the merge patch.
+     * @return a copy of the given node with the given merge patch applied.
+     */
+    public static JsonNode mergePatch(final JsonNode jsonNode, final JsonNode mergePatch) {
+        final JsonNode patch = JsonTrees.resolve(mergePatch);
+        if (!(patch instanceof JsonObject)) {
+            return mergePatch;
+        }
+        final JsonNode target = JsonTrees.resolve(jsonNode);
+        return mergeObject(target instanceof JsonObject ? target : null, patch);
+    }
+
+    private static JsonNode apply(final JsonNode jsonNode, final JsonNode operation) {
+        if (!(operation instanceof JsonObject)) {
+            throw new IllegalArgumentException("Operation is not an object");
+        }
+        final String op = text(operation, OP);
+        final String pathText = text(operation, PATH);
+        final JsonNodePath path = JsonNodePath.jsonPointer(pathText);
+        if (ADD.getText().equals(op)) {
+            return path.add(jsonNode, member(operation, VALUE));
+        } else if (REMOVE.getText().equals(op)) {
+            return path.remove(jsonNode);
+        } else if (REPLACE.getText().equals(op)) {
+            existing(jsonNode, path, pathText);
+            return path.set(jsonNode, member(operation, VALUE));
+        } else if (MOVE.getText().equals(op)) {
+            final String fromText = text(operation, FROM);
+            if (pathText.startsWith(fromText + "/")) {
+                throw new IllegalArgumentException("Cannot move [" + fromText + "] into its own descendant [" + pathText + "]");
+            }
+            final JsonNodePath from = JsonNodePath.jsonPointer(fromText);
+            final JsonNode value = existing(jsonNode, from, fromText);
+            return fromText.equals(pathText) ? jsonNode : path.add(from.remove(jsonNode), value);
+        } else if (COPY.getText().equals(op)) {
+            final String fromText = text(operation, FROM);
+            return path.add(jsonNode, existing(jsonNode, JsonNodePath.jsonPointer(fromText), fromText));
+        } else if (TEST.getText().equals(op)) {
+            if (!member(operation, VALUE).equals(existing(jsonNode, path, pathText))) {
+                throw new IllegalArgumentException("Value at [" + pathText + "] does not match the value tested for");
+            }
+            return jsonNode;
+        } else {
+            throw new IllegalArgumentException("Unknown operation [" + op + "]");
+        }
+    }
+
+    private static JsonNode member(final JsonNode operation, final JsonStringNode name) {
+        final JsonNode value = operation.fieldValue(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Operation is missing [" + name.getText() + "]");
+        }
+        return value;
+    }
+
+    private static String text(final JsonNode operation, final JsonStringNode name) {
+        final JsonNode value = member(operation, name);
+        if (JsonNodeType.STRING != value.getType()) {
+            throw new IllegalArgumentException("Operation member [" + name.getText() + "] is not a string");
+        }
+        return value.getText();
+    }
+
+    private static JsonNode existing(final JsonNode jsonNode, final JsonNodePath path, final String pathText) {
+        final JsonNode value = path.resolve(jsonNode);
+        if (value == null) {
+            throw new IllegalArgumentException("Failed to find a node at [" + pathText + "]");
+        }
+        return value;
+    }
+
+    /**
+     * Merges a patch into an object, or into an empty object if {@code target} is null, copying the target's fields
+     * only once the first change is made to them.  Removed fields are nulled out as they're found, and squeezed out at
+     * the end, so that the positions of the remaining fields are stable while the patch is applied.
+     */
+    private static JsonNode mergeObject(final JsonNode target, final JsonNode patch) {
+        final JsonNode[] original = target == null ? NO_NODES : target.backingArray();
+        final JsonNode[] patchFields = patch.backingArray();
+        JsonNode[] fields = original;
+        int length = original.length;
+        boolean removed = false;
+        Map<JsonNode, Integer> positions = null;
+        if (original.length > POSITION_INDEX_THRESHOLD && patchFields.length > 2) {
+            positions = new HashMap<JsonNode, Integer>();
+            for (int i = 0; i < original.length; i += 2) {
+                positions.put(original[i], i);
+            }
+        }
+        for (int p = 0; p < patchFields.length; p += 2) {
+            final JsonNode name = patchFields[p];
+            final JsonNode value = JsonTrees.resolve(patchFields[p + 1]);
+            final int position = position(fields, length, name, positions);
+            if (JsonNodeType.NULL == value.getType()) {
+                if (position != -1) {
+                    if (fields == original) {
+                        fields = copy(original, patchFields.length);
+                    }
+                    for (int i = 0; i < length; i += 2) {
+                        if (name.equals(fields[i])) {
+                            fields[i] = null;
+                            fields[i + 1] = null;
+                        }
+                    }
+                    if (positions != null) {
+                        positions.remove(name);
+                    }
+                    removed = true;
+                }
+            } else {
+                final JsonNode existing = position == -1 ? null : JsonTrees.resolve(fields[position + 1]);
+                final JsonNode merged = value instanceof JsonObject ? mergeObject(existing instanceof JsonObject ? existing : null, value) : value;
+                if (position == -1 || merged != existing) {
+                    if (fields == original) {
+                        fields = copy(original, patchFields.length);
+                    }
+                    if (position == -1) {
+                        fields[length] = name;
+                        fields[length + 1] = merged;
+                        if (positions != null) {
+                            positions.put(name, length);
+                        }
+                        length += 2;
+                    } else {
+                        fields[position + 1] = merged;
+                    }
+                }
+            }
+        }
+        if (fields == original) {
+            return target == null ? JsonObject.prevalidatedJsonObject(NO_NODES) : target;
+        }
+        int retained = 0;
+        for (int i = 0; i < length; i += 2) {
+            if (fields[i] != null) {
+                retained += 2;
+            }
+        }
+        final JsonNode[] result = new JsonNode[retained];
+        if (removed) {
+            retained = 0;
+            for (int i = 0; i < length; i += 2) {
+                if (fields[i] != null) {
+                    result[retained++] = fields[i];
+                    result[retained++] = fields[i + 1];
+                }
+            }
+        } else {
+            System.arraycopy(fields, 0, result, 0, retained);
+        }
+        return JsonObject.prevalidatedJsonObject(result);
+    }
+
+    private static int position(final JsonNode[] fields, final int length, final JsonNode name, final Map<JsonNode, Integer> positions) {
+        if (positions != null) {
+            final Integer position = positions.get(name);
+            return position == null ? -1 : position;
+        }
+        for (int i = length - 2; i >= 0; i -= 2) {
+            if (name.equals(fields[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static JsonNode[] copy(final JsonNode[] original, final int spareCapacity) {
+        final JsonNode[] copy = new JsonNode[original.length + spareCapacity];
+        System.arraycopy(original, 0, copy, 0, original.length);
+        return copy;
+    }
+
+    private static boolean same(final JsonNode left, final JsonNode right) {
+        return left == right || (left.hashCode() == right.hashCode() && left.equals(right));
+    }
+
+    /**
+     * The longest common subsequence of windows of up to {@code ALIGNMENT_WINDOW} elements of two arrays, found by
+     * dynamic programming over small integers standing for the distinct values in the windows.  Positions are given as
+     * indexes of the whole arrays.
+     */
+    private static final class Alignment {
+        private final Map<JsonNode, Integer> ids = new HashMap<JsonNode, Integer>();
+        private int[] sourceIds;
+        private int[] targetIds;
+        private int[] lengths;
+        private int sourceStart;
+        private int targetStart;
+        private int sourceLength;
+        private int targetLength;
+        private boolean complete;
+
+        /**
+         * Aligns the windows starting at the given indexes, which reach the given ends if they're no further than
+         * {@code ALIGNMENT_WINDOW} elements away.
+         */
+        void align(final JsonNode[] source, final int sourceStart, final int sourceEnd, final JsonNode[] target, final int targetStart, final int targetEnd) {
+            this.sourceStart = sourceStart;
+            this.targetStart = targetStart;
+            sourceLength = Math.min(sourceEnd - sourceStart, ALIGNMENT_WINDOW);
+            targetLength = Math.min(targetEnd - targetStart, ALIGNMENT_WINDOW);
+            complete = sourceStart + sourceLength == sourceEnd && targetStart + targetLength == targetEnd;
+            if (sourceIds == null || sourceIds.length < sourceLength) {
+                sourceIds = new int[sourceLength];
+            }
+            if (targetIds == null || targetIds.length < targetLength) {
+                targetIds = new int[targetLength];
+            }
+            if (lengths == null || lengths.length < (sourceLength + 1) * (targetLength + 1)) {
+                lengths = new int[(sourceLength + 1) * (targetLength + 1)];
+            }
+            ids.clear();
+            for (int i = 0; i < sourceLength; i++) {
+                sourceIds[i] = id(source[sourceStart + i]);
+            }
+            for (int j = 0; j < targetLength; j++) {
+                targetIds[j] = id(target[targetStart + j]);
+            }
+            final int width = targetLength + 1;
+            for (int j = 0; j <= targetLength; j++) {
+                lengths[sourceLength * width + j] = 0;
+            }
+            for (int i = sourceLength - 1; i >= 0; i--) {
+                lengths[i * width + targetLength] = 0;
+                for (int j = targetLength - 1; j >= 0; j--) {
+                    lengths[i * width + j] = sourceIds[i] == targetIds[j]
+                            ? lengths[(i + 1) * width + j + 1] + 1
+                            : Math.max(lengths[(i + 1) * width + j], lengths[i * width + j + 1]);
+                }
+            }
+        }
+
+        /**
+         * Whether the alignment can be followed from the given position.  Unless the windows reach the ends of the
+         * ranges being aligned, elements beyond them could change how the end of the windows is best aligned, so only
+         * the first half of each window is followed, and only up to its last common element.
+         */
+        boolean reliableFrom(final int i, final int j) {
+            return lengths != null
+                    && i >= sourceStart && j >= targetStart
+                    && (complete
+                    || (i == sourceStart && j == targetStart)
+                    || (i - sourceStart <= ALIGNMENT_WINDOW / 2 && j - targetStart <= ALIGNMENT_WINDOW / 2 && commonLength(i, j) > 0));
+        }
+
+        int commonLength(final int i, final int j) {
+            return lengths[(i - sourceStart) * (targetLength + 1) + j - targetStart];
+        }
+
+        boolean matches(final int i, final int j) {
+            return sourceIds[i - sourceStart] == targetIds[j - targetStart];
+        }
+
+        boolean prefersRemoval(final int i, final int j) {
+            return commonLength(i + 1, j) >= commonLength(i, j + 1);
+        }
+
+        int sourceEnd() {
+            return sourceStart + sourceLength;
+        }
+
+        int targetEnd() {
+            return targetStart + targetLength;
+        }
+
+        private int id(final JsonNode jsonNode) {
+            final JsonNode resolved = JsonTrees.resolve(jsonNode);
+            final Integer id = ids.get(resolved);
+            if (id == null) {
+                final int newId = ids.size();
+                ids.put(resolved, newId);
+                return newId;
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Accumulates the operations of a JSON Patch, along with the JSON Pointer of the node currently being diffed.
+     */
+    private static final class Differ {
+        private final List<JsonNode> operations = new ArrayList<JsonNode>();
+        private final StringBuilder path = new StringBuilder();
+
+        JsonNode operations() {
+            return JsonArray.prevalidatedJsonArray(operations.toArray(new JsonNode[operations.size()]));
+        }
+
+        void diff(final JsonNode source, final JsonNode target) {
+            if (source == target) {
+                return;
+            }
+            final JsonNode resolvedSource = JsonTrees.resolve(source);
+            final JsonNode resolvedTarget = JsonTrees.resolve(target);
+            if (resolvedSource instanceof JsonObject && resolvedTarget instanceof JsonObject) {
+                if (!same(resolvedSource, resolvedTarget)) {
+                    diffObjects(resolvedSource, resolvedTarget);
+                }
+            } else if (resolvedSource instanceof JsonArray && resolvedTarget instanceof JsonArray) {
+                if (!same(resolvedSource, resolvedTarget)) {
+                    diffArrays(resolvedSource.backingArray(), resolvedTarget.backingArray());
+                }
+            } else if (!resolvedSource.equals(resolvedTarget)) {
+                operation(REPLACE, target);
+            }
+        }
+
+        private void diffObjects(final JsonNode source, final JsonNode target) {
+            final JsonNode[] sourceFields = source.backingArray();
+            final boolean[] sourceFieldIsLast = lastOfEachName(sourceFields);
+            for (int i = 0; i < sourceFields.length; i += 2) {
+                final JsonStringNode name = (JsonStringNode) sourceFields[i];
+                if (sourceFieldIsLast[i / 2] && target.fieldValue(name) == null) {
+                    final int mark = push(name.getText());
+                    operation(REMOVE, null);
+                    path.setLength(mark);
+                }
+            }
+            final JsonNode[] targetFields = target.backingArray();
+            final boolean[] targetFieldIsLast = lastOfEachName(targetFields);
+            for (int i = 0; i < targetFields.length; i += 2) {
+                if (targetFieldIsLast[i / 2]) {
+                    final JsonStringNode name = (JsonStringNode) targetFields[i];
+                    final JsonNode sourceValue = source.fieldValue(name);
+                    final int mark = push(name.getText());
+                    if (sourceValue == null) {
+                        operation(ADD, targetFields[i + 1]);
+                    } else {
+                        diff(sourceValue, targetFields[i + 1]);
+                    }
+                    path.setLength(mark);
+                }
+            }
+        }
+
+        private void diffArrays(final JsonNode[] source, final JsonNode[] target) {
+            final int commonLength = Math.min(source.length, target.length);
+            int prefix = 0;
+            while (prefix < commonLength && same(source[prefix], target[prefix])) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < commonLength - prefix && same(source[source.length - 1 - suffix], target[target.length - 1 - suffix])) {
+                suffix++;
+            }
+            final int sourceEnd = source.length - suffix;
+            final int targetEnd = target.length - suffix;
+            Alignment alignment = null;
+            int i = prefix;
+            int j = prefix;
+            while (i < sourceEnd || j < targetEnd) {
+                if (i < sourceEnd && j < targetEnd && same(source[i], target[j])) {
+                    i++;
+                    j++;
+                } else if (i == sourceEnd || j == targetEnd) {
+                    diffRun(source, i, sourceEnd - i, target, j, targetEnd - j);
+                    i = sourceEnd;
+                    j = targetEnd;
+                } else {
+                    if (alignment == null) {
+                        alignment = new Alignment();
+                    }
+                    if (!alignment.reliableFrom(i, j)) {
+                        alignment.align(source, i, sourceEnd, target, j, targetEnd);
+                    }
+                    final int runSourceStart = i;
+                    final int runTargetStart = j;
+                    if (alignment.commonLength(i, j) == 0) {
+                        i = alignment.sourceEnd();
+                        j = alignment.targetEnd();
+                    } else {
+                        while (!alignment.matches(i, j)) {
+                            if (alignment.prefersRemoval(i, j)) {
+                                i++;
+                            } else {
+                                j++;
+                            }
+                        }
+                    }
+                    if (i == runSourceStart && j == runTargetStart) {
+                        i++;
+                        j++;
+                    } else {
+                        diffRun(source, runSourceStart, i - runSourceStart, target, runTargetStart, j - runTargetStart);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Diffs a run of elements of the source array that are replaced by a run of elements of the target array.  The
+         * elements before the run already match the target, so the run starts at the same index of the array as it
+         * stands after the preceding operations as it does in the target.  Elements are diffed pairwise, and any left
+         * over are removed or added.
+         */
+        private void diffRun(final JsonNode[] source, final int sourceStart, final int sourceLength, final JsonNode[] target, final int targetStart, final int targetLength) {
+            int index = targetStart;
+            final int pairs = Math.min(sourceLength, targetLength);
+            for (int k = 0; k < pairs; k++) {
+                final int mark = push(index++);
+                diff(source[sourceStart + k], target[targetStart + k]);
+                path.setLength(mark);
+            }
+            for (int k = pairs; k < sourceLength; k++) {
+                final int mark = push(index);
+                operation(REMOVE, null);
+                path.setLength(mark);
+            }
+            for (int k = pairs; k < targetLength; k++) {
+                final int mark = push(index++);
+                operation(ADD, target[targetStart + k]);
+                path.setLength(mark);
+            }
+        }
+
+        private int push(final String name) {
+            final int mark = path.length();
+            path.append('/');
+            for (int i = 0; i < name.length(); i++) {
+                final char character = name.charAt(i);
+                if (character == '~') {
+                    path.append("~0");
+                } else if (character == '/') {
+                    path.append("~1");
+                } else {
+                    path.append(character);
+                }
+            }
+            return mark;
+        }
+
+        private int push(final int index) {
+            final int mark = path.length();
+            path.append('/').append(index);
+            return mark;
+        }
+
+        private void operation(final JsonStringNode op, final JsonNode value) {
+            final JsonNode pathNode = string(path.toString());
+            operations.add(JsonObject.prevalidatedJsonObject(value == null
+                    ? new JsonNode[]{OP, op, PATH, pathNode}
+                    : new JsonNode[]{OP, op, PATH, pathNode, VALUE, value}
+            ));
+        }
+
+        /**
+         * @return for each field, whether no later field has the same name.
+         */
+        private static boolean[] lastOfEachName(final JsonNode[] fields) {
+            final boolean[] result = new boolean[fields.length / 2];
+            final Set<JsonNode> names = new HashSet<JsonNode>();
+            for (int i = fields.length - 2; i >= 0; i -= 2) {
+                result[i / 2] = names.add(fields[i]);
+            }
+            return result;
+        }
+    }
+}
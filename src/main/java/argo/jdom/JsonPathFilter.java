@@ -0,0 +1,277 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static argo.jdom.JsonNodeType.NUMBER;
+import static argo.jdom.JsonNodeType.STRING;
+
+/**
+ * A logical expression in a filter selector of a {@code JsonPathQuery}.
+ */
+abstract class JsonPathFilter {
+
+    abstract boolean test(JsonNode current, JsonNode root);
+
+    static final class Or extends JsonPathFilter {
+        private final JsonPathFilter left;
+        private final JsonPathFilter right;
+
+        Or(final JsonPathFilter left, final JsonPathFilter right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(final JsonNode current, final JsonNode root) {
+            return left.test(current, root) || right.test(current, root);
+        }
+    }
+
+    static final class And extends JsonPathFilter {
+        private final JsonPathFilter left;
+        private final JsonPathFilter right;
+
+        And(final JsonPathFilter left, final JsonPathFilter right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(final JsonNode current, final JsonNode root) {
+            return left.test(current, root) && right.test(current, root);
+        }
+    }
+
+    static final class Not extends JsonPathFilter {
+        private final JsonPathFilter delegate;
+
+        Not(final JsonPathFilter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        boolean test(final JsonNode current, final JsonNode root) {
+            return !delegate.test(current, root);
+        }
+    }
+
+    static final class Exists extends JsonPathFilter {
+        private final Operand.Query query;
+
+        Exists(final Operand.Query query) {
+            this.query = query;
+        }
+
+        @Override
+        boolean test(final JsonNode current, final JsonNode root) {
+            return query.exists(current, root);
+        }
+    }
+
+    static final class Comparison extends JsonPathFilter {
+        private final Operand left;
+        private final ComparisonOperator operator;
+        private final Operand right;
+
+        Comparison(final Operand left, final ComparisonOperator operator, final Operand right) {
+            this.left = left;
+            this.operator = operator;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(final JsonNode current, final JsonNode root) {
+            return operator.compare(left.value(current, root), right.value(current, root));
+        }
+    }
+
+    enum ComparisonOperator {
+        EQUAL {
+            @Override
+            boolean compare(final JsonNode left, final JsonNode right) {
+                return isEqual(left, right);
+            }
+        },
+        NOT_EQUAL {
+            @Override
+            boolean compare(final JsonNode left, final JsonNode right) {
+                return !isEqual(left, right);
+            }
+        },
+        LESS_THAN {
+            @Override
+            boolean compare(final JsonNode left, final JsonNode right) {
+                return isLessThan(left, right);
+            }
+        },
+        LESS_THAN_OR_EQUAL {
+            @Override
+            boolean compare(final JsonNode left, final JsonNode right) {
+                return isLessThan(left, right) || isEqual(left, right);
+            }
+        },
+        GREATER_THAN {
+            @Override
+            boolean compare(final JsonNode left, final JsonNode right) {
+                return isLessThan(right, left);
+            }
+        },
+        GREATER_THAN_OR_EQUAL {
+            @Override
+            boolean compare(final JsonNode left, final JsonNode right) {
+                return isLessThan(right, left) || isEqual(left, right);
+            }
+        };
+
+        /**
+         * @param left  the left hand value, or null if the left hand query selected nothing.
+         * @param right the right hand value, or null if the right hand query selected nothing.
+         */
+        abstract boolean compare(JsonNode left, JsonNode right);
+
+        private static boolean isEqual(final JsonNode left, final JsonNode right) {
+            if (left == null || right == null) {
+                return left == right;
+            } else if (left.getType() != right.getType()) {
+                return false;
+            } else {
+                switch (left.getType()) {
+                    case NUMBER:
+                        return new BigDecimal(left.getText()).compareTo(new BigDecimal(right.getText())) == 0;
+                    case ARRAY:
+                        final List<JsonNode> leftElements = left.getElements();
+                        final List<JsonNode> rightElements = right.getElements();
+                        if (leftElements.size() != rightElements.size()) {
+                            return false;
+                        }
+                        for (int i = 0; i < leftElements.size(); i++) {
+                            if (!isEqual(leftElements.get(i), rightElements.get(i))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    case OBJECT:
+                        final Map<JsonStringNode, JsonNode> leftFields = left.getFields();
+                        if (leftFields.size() != right.getFields().size()) {
+                            return false;
+                        }
+                        for (final Map.Entry<JsonStringNode, JsonNode> leftField : leftFields.entrySet()) {
+                            final JsonNode rightValue = right.fieldValue(leftField.getKey());
+                            if (rightValue == null || !isEqual(leftField.getValue(), rightValue)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    default:
+                        return left.equals(right);
+                }
+            }
+        }
+
+        private static boolean isLessThan(final JsonNode left, final JsonNode right) {
+            if (left == null || right == null) {
+                return false;
+            } else if (NUMBER == left.getType() && NUMBER == right.getType()) {
+                return new BigDecimal(left.getText()).compareTo(new BigDecimal(right.getText())) < 0;
+            } else if (STRING == left.getType() && STRING == right.getType()) {
+                return compareCodePoints(left.getText(), right.getText()) < 0;
+            } else {
+                return false;
+            }
+        }
+
+        /**
+         * Compares strings by Unicode code point, rather than by UTF-16 code unit like {@code String.compareTo}.  The
+         * two orders differ only where a surrogate meets a code unit above the surrogate range, in which case the
+         * surrogate starts the greater code point.
+         */
+        private static int compareCodePoints(final String left, final String right) {
+            final int length = Math.min(left.length(), right.length());
+            for (int i = 0; i < length; i++) {
+                final char leftChar = left.charAt(i);
+                final char rightChar = right.charAt(i);
+                if (leftChar != rightChar) {
+                    final boolean leftSurrogate = isSurrogate(leftChar);
+                    if (leftSurrogate == isSurrogate(rightChar)) {
+                        return leftChar - rightChar;
+                    } else {
+                        return leftSurrogate ? 1 : -1;
+                    }
+                }
+            }
+            return left.length() - right.length();
+        }
+
+        private static boolean isSurrogate(final char character) {
+            return Character.isHighSurrogate(character) || Character.isLowSurrogate(character);
+        }
+    }
+
+    abstract static class Operand {
+
+        /**
+         * @return the value of this operand, or null if it is a query that does not select exactly one node.
+         */
+        abstract JsonNode value(JsonNode current, JsonNode root);
+
+        static final class Literal extends Operand {
+            private final JsonNode value;
+
+            Literal(final JsonNode value) {
+                this.value = value;
+            }
+
+            @Override
+            JsonNode value(final JsonNode current, final JsonNode root) {
+                return value;
+            }
+        }
+
+        static final class Query extends Operand {
+            private final JsonPathQuery query;
+            private final boolean relative;
+
+            Query(final JsonPathQuery query, final boolean relative) {
+                this.query = query;
+                this.relative = relative;
+            }
+
+            @Override
+            JsonNode value(final JsonNode current, final JsonNode root) {
+                final JsonNode[] result = new JsonNode[1];
+                final boolean singular = query.evaluate(relative ? current : root, root, new JsonPathQuery.Emitter() {
+                    public boolean emit(final JsonNode selected) {
+                        if (result[0] == null) {
+                            result[0] = selected;
+                            return true;
+                        } else {
+                            result[0] = null;
+                            return false;
+                        }
+                    }
+                });
+                return singular ? result[0] : null;
+            }
+
+            boolean exists(final JsonNode current, final JsonNode root) {
+                return !query.evaluate(relative ? current : root, root, new JsonPathQuery.Emitter() {
+                    public boolean emit(final JsonNode selected) {
+                        return false;
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A compiled JSONPath query, as described in RFC 9535, that selects a set of nodes from a {@code JsonNode}.
+ * Immutable, and safe to share between threads.</p>
+ *
+ * <p>Supported syntax comprises the root identifier {@code $}; name selectors, in either dot ({@code .name}) or bracket
+ * ({@code ['name']}) notation; wildcards ({@code .*} or {@code [*]}); array indices, including negative indices
+ * counting from the end of the array ({@code [-1]}); array slices ({@code [start:end:step]}); unions of selectors
+ * ({@code ['a','b']}); descendant segments ({@code ..name}, {@code ..*}, {@code ..[0]}); and filter selectors
+ * ({@code [?@.qty > 0]}, or equivalently {@code [?(@.qty > 0)]}).  Filter expressions may compare queries relative to
+ * the current node ({@code @}) or the root node ({@code $}) with each other or with string, number, {@code true},
+ * {@code false}, and {@code null} literals using {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >}, and
+ * {@code >=}; may test for the existence of a query result; and may be combined using {@code &&}, {@code ||},
+ * {@code !}, and parentheses.  Function extensions are not supported.</p>
+ *
+ * <p>For example, given a {@code JsonNode} representing
+ * {@code {"items":[{"price":3,"qty":0},{"price":5,"qty":2}]}},
+ * {@code JsonPathQuery.jsonPath("$.items[?@.qty > 0].price").select(jsonNode)} returns a list containing the
+ * JSON number {@code 5}.</p>
+ */
+public final class JsonPathQuery {
+
+    private final String expression;
+    private final JsonPathSegment[] segments;
+
+    JsonPathQuery(final String expression, final JsonPathSegment[] segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the given JSONPath expression.
+     *
+     * @param expression a JSONPath expression, such as {@code "$.items[*].price"}.
+     * @return a {@code JsonPathQuery} that evaluates the given expression.
+     * @throws IllegalArgumentException if the given {@code String} is not a valid JSONPath expression.
+     */
+    public static JsonPathQuery jsonPath(final String expression) {
+        return new JsonPathQueryParser(expression).query();
+    }
+
+    /**
+     * Selects all the nodes matched by this query, in document order.
+     *
+     * @param jsonNode the root {@code JsonNode} to evaluate this query against.
+     * @return a new {@code List} of the selected nodes, which is empty if none are selected.
+     */
+    public List<JsonNode> select(final JsonNode jsonNode) {
+        final List<JsonNode> result = new ArrayList<JsonNode>();
+        evaluate(jsonNode, jsonNode, new Emitter() {
+            public boolean emit(final JsonNode selected) {
+                result.add(selected);
+                return true;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Selects the first node matched by this query, in document order, stopping evaluation as soon as it is found.
+     *
+     * @param jsonNode the root {@code JsonNode} to evaluate this query against.
+     * @return the first selected node, or {@code null} if none are selected.
+     */
+    public JsonNode selectFirst(final JsonNode jsonNode) {
+        final JsonNode[] result = new JsonNode[1];
+        evaluate(jsonNode, jsonNode, new Emitter() {
+            public boolean emit(final JsonNode selected) {
+                result[0] = selected;
+                return false;
+            }
+        });
+        return result[0];
+    }
+
+    /**
+     * Determines whether this query selects any nodes, stopping evaluation as soon as one is found.
+     *
+     * @param jsonNode the root {@code JsonNode} to evaluate this query against.
+     * @return whether this query selects at least one node.
+     */
+    public boolean matches(final JsonNode jsonNode) {
+        return selectFirst(jsonNode) != null;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    JsonPathSegment segment(final int index) {
+        return segments[index];
+    }
+
+    /**
+     * Evaluates this query starting from the given node.
+     *
+     * @return false if the emitter requested that evaluation stop, true otherwise.
+     */
+    boolean evaluate(final JsonNode jsonNode, final JsonNode root, final Emitter emitter) {
+        return evaluate(0, jsonNode, root, emitter);
+    }
+
+    private boolean evaluate(final int segmentIndex, final JsonNode jsonNode, final JsonNode root, final Emitter emitter) {
+        if (segmentIndex == segments.length) {
+            return emitter.emit(jsonNode);
+        } else {
+            return segments[segmentIndex].select(jsonNode, root, new Emitter() {
+                public boolean emit(final JsonNode selected) {
+                    return evaluate(segmentIndex + 1, selected, root, emitter);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonPathQuery{" + expression + "}";
+    }
+
+    /**
+     * Receives nodes selected during evaluation of a query.
+     */
+    interface Emitter {
+        /**
+         * @return false to stop evaluation, true to continue.
+         */
+        boolean emit(JsonNode selected);
+    }
+}
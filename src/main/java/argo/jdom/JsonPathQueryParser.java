@@ -0,0 +1,350 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive descent parser that compiles a JSONPath expression into a {@code JsonPathQuery}.
+ */
+final class JsonPathQueryParser {
+
+    private final String expression;
+    private int position;
+
+    JsonPathQueryParser(final String expression) {
+        if (expression == null) {
+            throw new NullPointerException("Expression is null");
+        }
+        this.expression = expression;
+    }
+
+    JsonPathQuery query() {
+        expect('$');
+        final JsonPathQuery result = segments(0);
+        skipBlankSpace();
+        if (position != expression.length()) {
+            throw invalid("end of expression");
+        }
+        return result;
+    }
+
+    private JsonPathQuery segments(final int start) {
+        final List<JsonPathSegment> segments = new ArrayList<JsonPathSegment>();
+        int segmentStart = position;
+        skipBlankSpace();
+        while (position < expression.length() && (peek() == '.' || peek() == '[')) {
+            if (expression.startsWith("..", position)) {
+                position += 2;
+                segments.add(new JsonPathSegment(peek() == '[' ? bracketedSelectors() : new JsonPathSelector[]{memberNameOrWildcard()}, true));
+            } else if (peek() == '.') {
+                position++;
+                segments.add(new JsonPathSegment(new JsonPathSelector[]{memberNameOrWildcard()}, false));
+            } else {
+                segments.add(new JsonPathSegment(bracketedSelectors(), false));
+            }
+            segmentStart = position;
+            skipBlankSpace();
+        }
+        position = segmentStart;
+        return new JsonPathQuery(expression.substring(start, position), segments.toArray(new JsonPathSegment[segments.size()]));
+    }
+
+    private JsonPathSelector memberNameOrWildcard() {
+        if (position < expression.length() && peek() == '*') {
+            position++;
+            return new JsonPathSelector.WildcardSelector();
+        }
+        final int start = position;
+        while (position < expression.length() && isNameCharacter(peek(), position == start)) {
+            position++;
+        }
+        if (start == position) {
+            throw invalid("member name or '*'");
+        }
+        return new JsonPathSelector.NameSelector(JsonNodeFactories.string(expression.substring(start, position)));
+    }
+
+    private static boolean isNameCharacter(final char character, final boolean first) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || character == '_'
+                || character >= 0x80
+                || (!first && character >= '0' && character <= '9');
+    }
+
+    private JsonPathSelector[] bracketedSelectors() {
+        expect('[');
+        final List<JsonPathSelector> selectors = new ArrayList<JsonPathSelector>();
+        skipBlankSpace();
+        selectors.add(selector());
+        skipBlankSpace();
+        while (position < expression.length() && peek() == ',') {
+            position++;
+            skipBlankSpace();
+            selectors.add(selector());
+            skipBlankSpace();
+        }
+        expect(']');
+        return selectors.toArray(new JsonPathSelector[selectors.size()]);
+    }
+
+    private JsonPathSelector selector() {
+        if (position >= expression.length()) {
+            throw invalid("selector");
+        }
+        final char character = peek();
+        if (character == '\'' || character == '"') {
+            return new JsonPathSelector.NameSelector(JsonNodeFactories.string(stringLiteral()));
+        } else if (character == '*') {
+            position++;
+            return new JsonPathSelector.WildcardSelector();
+        } else if (character == '?') {
+            position++;
+            skipBlankSpace();
+            return new JsonPathSelector.FilterSelector(logicalOr());
+        } else {
+            return indexOrSlice();
+        }
+    }
+
+    private JsonPathSelector indexOrSlice() {
+        final Integer start = optionalInteger();
+        skipBlankSpace();
+        if (position >= expression.length() || peek() != ':') {
+            if (start == null) {
+                throw invalid("selector");
+            }
+            return new JsonPathSelector.IndexSelector(start);
+        }
+        position++;
+        skipBlankSpace();
+        final Integer end = optionalInteger();
+        skipBlankSpace();
+        Integer step = null;
+        if (position < expression.length() && peek() == ':') {
+            position++;
+            skipBlankSpace();
+            step = optionalInteger();
+        }
+        return new JsonPathSelector.SliceSelector(start, end, step == null ? 1 : step);
+    }
+
+    private Integer optionalInteger() {
+        final int start = position;
+        if (position < expression.length() && peek() == '-') {
+            position++;
+        }
+        while (position < expression.length() && peek() >= '0' && peek() <= '9') {
+            position++;
+        }
+        final String integer = expression.substring(start, position);
+        if (integer.length() == 0) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(integer);
+        } catch (final NumberFormatException e) {
+            position = start;
+            throw invalid("integer");
+        }
+    }
+
+    private JsonPathFilter logicalOr() {
+        JsonPathFilter result = logicalAnd();
+        skipBlankSpace();
+        while (expression.startsWith("||", position)) {
+            position += 2;
+            skipBlankSpace();
+            result = new JsonPathFilter.Or(result, logicalAnd());
+            skipBlankSpace();
+        }
+        return result;
+    }
+
+    private JsonPathFilter logicalAnd() {
+        JsonPathFilter result = basicExpression();
+        skipBlankSpace();
+        while (expression.startsWith("&&", position)) {
+            position += 2;
+            skipBlankSpace();
+            result = new JsonPathFilter.And(result, basicExpression());
+            skipBlankSpace();
+        }
+        return result;
+    }
+
+    private JsonPathFilter basicExpression() {
+        if (position < expression.length() && peek() == '!') {
+            position++;
+            skipBlankSpace();
+            return new JsonPathFilter.Not(basicExpression());
+        } else if (position < expression.length() && peek() == '(') {
+            position++;
+            skipBlankSpace();
+            final JsonPathFilter result = logicalOr();
+            skipBlankSpace();
+            expect(')');
+            return result;
+        }
+        final JsonPathFilter.Operand left = operand();
+        skipBlankSpace();
+        final JsonPathFilter.ComparisonOperator operator = optionalComparisonOperator();
+        if (operator == null) {
+            if (left instanceof JsonPathFilter.Operand.Query) {
+                return new JsonPathFilter.Exists((JsonPathFilter.Operand.Query) left);
+            }
+            throw invalid("comparison operator");
+        }
+        skipBlankSpace();
+        return new JsonPathFilter.Comparison(left, operator, operand());
+    }
+
+    private JsonPathFilter.ComparisonOperator optionalComparisonOperator() {
+        final JsonPathFilter.ComparisonOperator result;
+        if (expression.startsWith("==", position)) {
+            result = JsonPathFilter.ComparisonOperator.EQUAL;
+        } else if (expression.startsWith("!=", position)) {
+            result = JsonPathFilter.ComparisonOperator.NOT_EQUAL;
+        } else if (expression.startsWith("<=", position)) {
+            result = JsonPathFilter.ComparisonOperator.LESS_THAN_OR_EQUAL;
+        } else if (expression.startsWith(">=", position)) {
+            result = JsonPathFilter.ComparisonOperator.GREATER_THAN_OR_EQUAL;
+        } else if (expression.startsWith("<", position)) {
+            result = JsonPathFilter.ComparisonOperator.LESS_THAN;
+        } else if (expression.startsWith(">", position)) {
+            result = JsonPathFilter.ComparisonOperator.GREATER_THAN;
+        } else {
+            return null;
+        }
+        position += result == JsonPathFilter.ComparisonOperator.LESS_THAN || result == JsonPathFilter.ComparisonOperator.GREATER_THAN ? 1 : 2;
+        return result;
+    }
+
+    private JsonPathFilter.Operand operand() {
+        if (position >= expression.length()) {
+            throw invalid("comparable");
+        }
+        final char character = peek();
+        if (character == '@' || character == '$') {
+            position++;
+            return new JsonPathFilter.Operand.Query(segments(position - 1), character == '@');
+        } else if (character == '\'' || character == '"') {
+            return new JsonPathFilter.Operand.Literal(JsonNodeFactories.string(stringLiteral()));
+        } else if (expression.startsWith("true", position)) {
+            position += 4;
+            return new JsonPathFilter.Operand.Literal(JsonNodeFactories.trueNode());
+        } else if (expression.startsWith("false", position)) {
+            position += 5;
+            return new JsonPathFilter.Operand.Literal(JsonNodeFactories.falseNode());
+        } else if (expression.startsWith("null", position)) {
+            position += 4;
+            return new JsonPathFilter.Operand.Literal(JsonNodeFactories.nullNode());
+        } else {
+            return new JsonPathFilter.Operand.Literal(numberLiteral());
+        }
+    }
+
+    private JsonNode numberLiteral() {
+        final int start = position;
+        while (position < expression.length() && "-+.eE0123456789".indexOf(peek()) != -1) {
+            position++;
+        }
+        try {
+            return JsonNodeFactories.number(expression.substring(start, position));
+        } catch (final IllegalArgumentException e) {
+            position = start;
+            throw invalid("comparable");
+        }
+    }
+
+    private String stringLiteral() {
+        final char quote = peek();
+        position++;
+        final StringBuilder result = new StringBuilder();
+        while (position < expression.length() && peek() != quote) {
+            final char character = peek();
+            position++;
+            if (character == '\\') {
+                result.append(escapedCharacter());
+            } else {
+                result.append(character);
+            }
+        }
+        expect(quote);
+        return result.toString();
+    }
+
+    private char escapedCharacter() {
+        if (position >= expression.length()) {
+            throw invalid("escape sequence");
+        }
+        final char escaped = peek();
+        position++;
+        switch (escaped) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '/':
+            case '\\':
+            case '\'':
+            case '"':
+                return escaped;
+            case 'u':
+                return unicodeEscape();
+            default:
+                position--;
+                throw invalid("escape sequence");
+        }
+    }
+
+    private char unicodeEscape() {
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = position < expression.length() ? Character.digit(peek(), 16) : -1;
+            if (digit == -1) {
+                throw invalid("hex digit");
+            }
+            result = result * 16 + digit;
+            position++;
+        }
+        return (char) result;
+    }
+
+    private char peek() {
+        return expression.charAt(position);
+    }
+
+    private void expect(final char character) {
+        if (position >= expression.length() || peek() != character) {
+            throw invalid("'" + character + "'");
+        }
+        position++;
+    }
+
+    private void skipBlankSpace() {
+        while (position < expression.length() && (peek() == ' ' || peek() == '\t' || peek() == '\n' || peek() == '\r')) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException invalid(final String expected) {
+        return new IllegalArgumentException("Invalid JSONPath expression [" + expression + "]: expected " + expected + " at index " + position);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.util.List;
+import java.util.Set;
+
+import static argo.jdom.JsonNodeType.ARRAY;
+import static argo.jdom.JsonNodeType.OBJECT;
+
+/**
+ * A step in a {@code JsonPathQuery}, applying a union of selectors either to a node, or to a node and all its
+ * descendants.
+ */
+final class JsonPathSegment {
+
+    private final JsonPathSelector[] selectors;
+    private final boolean descendant;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    JsonPathSegment(final JsonPathSelector[] selectors, final boolean descendant) {
+        this.selectors = selectors;
+        this.descendant = descendant;
+    }
+
+    boolean isDescendant() {
+        return descendant;
+    }
+
+    /**
+     * @return whether this segment can be evaluated knowing only the name or index of each child, and not its value.
+     */
+    boolean isStreamable() {
+        for (final JsonPathSelector selector : selectors) {
+            if (!selector.isStreamable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param name the name of the field, or null to represent any name not added by {@code addLiteralsTo}.
+     */
+    boolean selectsField(final String name) {
+        for (final JsonPathSelector selector : selectors) {
+            if (selector.selectsField(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param index the index of the element, or -1 to represent any index not added by {@code addLiteralsTo}.
+     */
+    boolean selectsElement(final int index) {
+        for (final JsonPathSelector selector : selectors) {
+            if (selector.selectsElement(index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void addLiteralsTo(final Set<String> names, final Set<Integer> indices) {
+        for (final JsonPathSelector selector : selectors) {
+            selector.addLiteralsTo(names, indices);
+        }
+    }
+
+    boolean select(final JsonNode jsonNode, final JsonNode root, final JsonPathQuery.Emitter emitter) {
+        for (final JsonPathSelector selector : selectors) {
+            if (!selector.select(jsonNode, root, emitter)) {
+                return false;
+            }
+        }
+        if (descendant) {
+            final JsonNodeType type = jsonNode.getType();
+            if (OBJECT == type) {
+                for (final JsonField field : jsonNode.getFieldList()) {
+                    if (!select(field.getValue(), root, emitter)) {
+                        return false;
+                    }
+                }
+            } else if (ARRAY == type) {
+                final List<JsonNode> elements = jsonNode.getElements();
+                for (final JsonNode element : elements) {
+                    if (!select(element, root, emitter)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import java.util.List;
+import java.util.Set;
+
+import static argo.jdom.JsonNodeType.ARRAY;
+import static argo.jdom.JsonNodeType.OBJECT;
+
+/**
+ * Selects zero or more children of a node as part of a {@code JsonPathSegment}.
+ */
+abstract class JsonPathSelector {
+
+    /**
+     * @return false if the emitter requested that evaluation stop, true otherwise.
+     */
+    abstract boolean select(JsonNode jsonNode, JsonNode root, JsonPathQuery.Emitter emitter);
+
+    /**
+     * @return whether this selector can be evaluated by {@code selectsField} and {@code selectsElement}.
+     */
+    boolean isStreamable() {
+        return false;
+    }
+
+    boolean selectsField(final String name) {
+        return false;
+    }
+
+    boolean selectsElement(final int index) {
+        return false;
+    }
+
+    void addLiteralsTo(final Set<String> names, final Set<Integer> indices) {
+    }
+
+    static final class NameSelector extends JsonPathSelector {
+        private final JsonStringNode name;
+
+        NameSelector(final JsonStringNode name) {
+            this.name = name;
+        }
+
+        @Override
+        boolean select(final JsonNode jsonNode, final JsonNode root, final JsonPathQuery.Emitter emitter) {
+            if (OBJECT == jsonNode.getType()) {
+                final JsonNode value = jsonNode.fieldValue(name);
+                return value == null || emitter.emit(value);
+            }
+            return true;
+        }
+
+        @Override
+        boolean isStreamable() {
+            return true;
+        }
+
+        @Override
+        boolean selectsField(final String name) {
+            return this.name.getText().equals(name);
+        }
+
+        @Override
+        void addLiteralsTo(final Set<String> names, final Set<Integer> indices) {
+            names.add(name.getText());
+        }
+    }
+
+    static final class WildcardSelector extends JsonPathSelector {
+        @Override
+        boolean select(final JsonNode jsonNode, final JsonNode root, final JsonPathQuery.Emitter emitter) {
+            final JsonNodeType type = jsonNode.getType();
+            if (OBJECT == type) {
+                for (final JsonField field : jsonNode.getFieldList()) {
+                    if (!emitter.emit(field.getValue())) {
+                        return false;
+                    }
+                }
+            } else if (ARRAY == type) {
+                for (final JsonNode element : jsonNode.getElements()) {
+                    if (!emitter.emit(element)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean isStreamable() {
+            return true;
+        }
+
+        @Override
+        boolean selectsField(final String name) {
+            return true;
+        }
+
+        @Override
+        boolean selectsElement(final int index) {
+            return true;
+        }
+    }
+
+    static final class IndexSelector extends JsonPathSelector {
+        private final int index;
+
+        IndexSelector(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        boolean select(final JsonNode jsonNode, final JsonNode root, final JsonPathQuery.Emitter emitter) {
+            if (ARRAY == jsonNode.getType()) {
+                if (index >= 0) {
+                    final JsonNode element = jsonNode.elementValue(index);
+                    return element == null || emitter.emit(element);
+                } else {
+                    final List<JsonNode> elements = jsonNode.getElements();
+                    final int normalizedIndex = elements.size() + index;
+                    return normalizedIndex < 0 || emitter.emit(elements.get(normalizedIndex));
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean isStreamable() {
+            return index >= 0;
+        }
+
+        @Override
+        boolean selectsElement(final int index) {
+            return this.index == index;
+        }
+
+        @Override
+        void addLiteralsTo(final Set<String> names, final Set<Integer> indices) {
+            indices.add(index);
+        }
+    }
+
+    static final class SliceSelector extends JsonPathSelector {
+        private final Integer start;
+        private final Integer end;
+        private final int step;
+
+        SliceSelector(final Integer start, final Integer end, final int step) {
+            this.start = start;
+            this.end = end;
+            this.step = step;
+        }
+
+        @Override
+        boolean select(final JsonNode jsonNode, final JsonNode root, final JsonPathQuery.Emitter emitter) {
+            if (ARRAY == jsonNode.getType() && step != 0) {
+                final List<JsonNode> elements = jsonNode.getElements();
+                final long length = elements.size();
+                if (step > 0) {
+                    final long lower = bound(start == null ? 0 : normalize(start, length), 0, length);
+                    final long upper = bound(end == null ? length : normalize(end, length), 0, length);
+                    for (long i = lower; i < upper; i += step) {
+                        if (!emitter.emit(elements.get((int) i))) {
+                            return false;
+                        }
+                    }
+                } else {
+                    final long upper = bound(start == null ? length - 1 : normalize(start, length), -1, length - 1);
+                    final long lower = bound(end == null ? -1 : normalize(end, length), -1, length - 1);
+                    for (long i = upper; lower < i; i += step) {
+                        if (!emitter.emit(elements.get((int) i))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static long normalize(final int index, final long length) {
+            return index >= 0 ? index : length + index;
+        }
+
+        private static long bound(final long value, final long minimum, final long maximum) {
+            return Math.min(Math.max(value, minimum), maximum);
+        }
+    }
+
+    static final class FilterSelector extends JsonPathSelector {
+        private final JsonPathFilter filter;
+
+        FilterSelector(final JsonPathFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        boolean select(final JsonNode jsonNode, final JsonNode root, final JsonPathQuery.Emitter emitter) {
+            final JsonNodeType type = jsonNode.getType();
+            if (OBJECT == type) {
+                for (final JsonField field : jsonNode.getFieldList()) {
+                    if (filter.test(field.getValue(), root) && !emitter.emit(field.getValue())) {
+                        return false;
+                    }
+                }
+            } else if (ARRAY == type) {
+                for (final JsonNode element : jsonNode.getElements()) {
+                    if (filter.test(element, root) && !emitter.emit(element)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
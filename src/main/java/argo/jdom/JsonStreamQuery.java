@@ -0,0 +1,460 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonListener;
+import argo.JsonStreamElement;
+import argo.internal.FastStack;
+import argo.internal.IORuntimeException;
+import argo.internal.JsonParserAccess;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * <p>Evaluates one or more {@code JsonPathQuery}s in a single pass over a stream of {@code JsonStreamElement}s, such as
+ * that returned by {@link argo.JsonParser#parseStreaming(Reader)}, without building a tree for the whole document.
+ * Immutable, and safe to share between threads.</p>
+ *
+ * <p>The queries are compiled into a deterministic automaton over the names of fields and the indices of elements,
+ * so the cost of evaluation is independent of the number of queries.  Subtrees that no query can match are skipped
+ * without reading their text, and only values that match a query are materialised.</p>
+ *
+ * <p>Only queries whose segments consist of name selectors, wildcards, non-negative array indices, and descendant
+ * segments can be evaluated against a stream, because other selectors depend on parts of the document that have not
+ * been read yet.  Each matching value is reported once per query.  Matches may be nested inside one another, for
+ * example when evaluating {@code $..a} against {@code {"a":{"a":1}}}.</p>
+ */
+public final class JsonStreamQuery {
+
+    private static final JsonParserAccess JSON_PARSER_ACCESS = JsonParserAccess.jsonParserAccess();
+
+    private final State initialState;
+
+    private JsonStreamQuery(final State initialState) {
+        this.initialState = initialState;
+    }
+
+    /**
+     * Compiles the given queries for evaluation against a stream.  Queries are identified in the results of evaluation
+     * by their index in the given array.
+     *
+     * @param jsonPathQueries the queries to evaluate.
+     * @return a {@code JsonStreamQuery} that evaluates the given queries.
+     * @throws IllegalArgumentException if any of the given queries can't be evaluated against a stream.
+     */
+    public static JsonStreamQuery jsonStreamQuery(final JsonPathQuery... jsonPathQueries) {
+        return new JsonStreamQuery(new AutomatonCompiler(jsonPathQueries).compile());
+    }
+
+    /**
+     * Evaluates the queries against the given elements, notifying the given listener of each matching value.
+     *
+     * @param jsonStreamElements the elements of a JSON document, starting at {@code START_DOCUMENT}.
+     * @param matchListener      the listener to notify of matches.
+     * @throws IOException rethrown when reading the text of an element throws {@code IOException}.
+     */
+    public void evaluate(final Iterator<JsonStreamElement> jsonStreamElements, final MatchListener matchListener) throws IOException {
+        new Evaluation(initialState, matchListener).evaluate(jsonStreamElements);
+    }
+
+    /**
+     * Evaluates the queries against the given elements, building a {@code JsonNode} for each matching value.
+     *
+     * @param jsonStreamElements the elements of a JSON document, starting at {@code START_DOCUMENT}.
+     * @param nodeMatchListener  the listener to notify of matches.
+     * @throws IOException rethrown when reading the text of an element throws {@code IOException}.
+     */
+    public void evaluate(final Iterator<JsonStreamElement> jsonStreamElements, final NodeMatchListener nodeMatchListener) throws IOException {
+        try {
+            evaluate(jsonStreamElements, new MatchListener() {
+                public JsonListener matchStarted(final int queryIndex) {
+                    return JSON_PARSER_ACCESS.jsonNodeBuildingListener(new JsonParserAccess.JsonNodeReceiver() {
+                        public void jsonNode(final JsonNode jsonNode) {
+                            nodeMatchListener.match(queryIndex, jsonNode);
+                        }
+                    });
+                }
+            });
+        } catch (final IORuntimeException e) {
+            throw e.getCause();
+        }
+    }
+
+    static String readFully(final Reader reader, final StringBuilder stringBuilder) throws IOException {
+        stringBuilder.setLength(0);
+        final char[] buffer = new char[64];
+        int charactersRead;
+        while ((charactersRead = reader.read(buffer)) != -1) {
+            stringBuilder.append(buffer, 0, charactersRead);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Receives the elements of each value that matches a query.
+     */
+    public interface MatchListener {
+        /**
+         * Called when a value that matches a query starts, in document order.  The returned listener is sent the
+         * elements of the value, bracketed by {@code startDocument()} and {@code endDocument()}, so it sees the value
+         * as a complete JSON document.
+         *
+         * @param queryIndex the index of the matching query.
+         * @return the {@code JsonListener} to send the value's elements to, or {@code null} to ignore the value.
+         */
+        JsonListener matchStarted(int queryIndex);
+    }
+
+    /**
+     * Receives each value that matches a query as a {@code JsonNode}.
+     */
+    public interface NodeMatchListener {
+        /**
+         * Called when a value that matches a query has been read.  A value is reported after any matching values
+         * nested within it.
+         *
+         * @param queryIndex the index of the matching query.
+         * @param jsonNode   the matching value.
+         */
+        void match(int queryIndex, JsonNode jsonNode);
+    }
+
+    /**
+     * A state of the automaton, identified by the set of query positions it represents.  A position is a query index and
+     * the number of that query's segments that have matched the path to the current node.
+     */
+    private static final class State {
+        private final long[] positions;
+        private final int[] acceptedQueries;
+        private final Map<String, State> fieldTransitions = new HashMap<String, State>();
+        private int[] elementTransitionIndices;
+        private State[] elementTransitionStates;
+        private State otherFieldTransition;
+        private State otherElementTransition;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        State(final long[] positions, final int[] acceptedQueries) {
+            this.positions = positions;
+            this.acceptedQueries = acceptedQueries;
+        }
+
+        boolean isDead() {
+            return positions.length == 0;
+        }
+
+        State fieldTransition(final String name) {
+            final State result = fieldTransitions.get(name);
+            return result == null ? otherFieldTransition : result;
+        }
+
+        State elementTransition(final int index) {
+            final int position = Arrays.binarySearch(elementTransitionIndices, index);
+            return position < 0 ? otherElementTransition : elementTransitionStates[position];
+        }
+
+        @Override
+        public boolean equals(final Object that) {
+            return this == that || (that != null && getClass() == that.getClass() && Arrays.equals(positions, ((State) that).positions));
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(positions);
+        }
+    }
+
+    /**
+     * Builds every reachable state of the automaton by following the transitions for each name and index that appears
+     * literally in a query, and for all other names and indices.
+     */
+    private static final class AutomatonCompiler {
+        private final JsonPathQuery[] jsonPathQueries;
+        private final Set<String> literalNames = new LinkedHashSet<String>();
+        private final Set<Integer> literalIndices = new TreeSet<Integer>();
+        private final Map<State, State> states = new HashMap<State, State>();
+        private final List<State> uncompiledStates = new ArrayList<State>();
+
+        AutomatonCompiler(final JsonPathQuery[] jsonPathQueries) {
+            this.jsonPathQueries = jsonPathQueries.clone();
+            for (final JsonPathQuery jsonPathQuery : this.jsonPathQueries) {
+                for (int i = 0; i < jsonPathQuery.segmentCount(); i++) {
+                    final JsonPathSegment segment = jsonPathQuery.segment(i);
+                    if (!segment.isStreamable()) {
+                        throw new IllegalArgumentException("Query " + jsonPathQuery + " contains selectors that can't be evaluated against a stream");
+                    }
+                    segment.addLiteralsTo(literalNames, literalIndices);
+                }
+            }
+        }
+
+        State compile() {
+            final long[] initialPositions = new long[jsonPathQueries.length];
+            for (int i = 0; i < initialPositions.length; i++) {
+                initialPositions[i] = position(i, 0);
+            }
+            final State initialState = state(new TreeSet<Long>(asList(initialPositions)));
+            final int[] sortedLiteralIndices = new int[literalIndices.size()];
+            int literalIndexCount = 0;
+            for (final Integer index : literalIndices) {
+                sortedLiteralIndices[literalIndexCount++] = index;
+            }
+            while (!uncompiledStates.isEmpty()) {
+                final State state = uncompiledStates.remove(uncompiledStates.size() - 1);
+                for (final String name : literalNames) {
+                    state.fieldTransitions.put(name, fieldTransition(state, name));
+                }
+                state.otherFieldTransition = fieldTransition(state, null);
+                state.elementTransitionIndices = sortedLiteralIndices;
+                state.elementTransitionStates = new State[sortedLiteralIndices.length];
+                for (int i = 0; i < sortedLiteralIndices.length; i++) {
+                    state.elementTransitionStates[i] = elementTransition(state, sortedLiteralIndices[i]);
+                }
+                state.otherElementTransition = elementTransition(state, -1);
+            }
+            return initialState;
+        }
+
+        private State fieldTransition(final State state, final String name) {
+            final SortedSet<Long> result = new TreeSet<Long>();
+            for (final long position : state.positions) {
+                final JsonPathQuery jsonPathQuery = jsonPathQueries[queryIndex(position)];
+                final int segmentIndex = segmentIndex(position);
+                if (segmentIndex < jsonPathQuery.segmentCount()) {
+                    final JsonPathSegment segment = jsonPathQuery.segment(segmentIndex);
+                    if (segment.selectsField(name)) {
+                        result.add(position + 1);
+                    }
+                    if (segment.isDescendant()) {
+                        result.add(position);
+                    }
+                }
+            }
+            return state(result);
+        }
+
+        private State elementTransition(final State state, final int index) {
+            final SortedSet<Long> result = new TreeSet<Long>();
+            for (final long position : state.positions) {
+                final JsonPathQuery jsonPathQuery = jsonPathQueries[queryIndex(position)];
+                final int segmentIndex = segmentIndex(position);
+                if (segmentIndex < jsonPathQuery.segmentCount()) {
+                    final JsonPathSegment segment = jsonPathQuery.segment(segmentIndex);
+                    if (segment.selectsElement(index)) {
+                        result.add(position + 1);
+                    }
+                    if (segment.isDescendant()) {
+                        result.add(position);
+                    }
+                }
+            }
+            return state(result);
+        }
+
+        private State state(final SortedSet<Long> positionSet) {
+            final long[] positions = new long[positionSet.size()];
+            final List<Integer> acceptedQueries = new ArrayList<Integer>();
+            int i = 0;
+            for (final Long position : positionSet) {
+                positions[i++] = position;
+                final int queryIndex = queryIndex(position);
+                if (segmentIndex(position) == jsonPathQueries[queryIndex].segmentCount()) {
+                    acceptedQueries.add(queryIndex);
+                }
+            }
+            final int[] acceptedQueriesArray = new int[acceptedQueries.size()];
+            for (int j = 0; j < acceptedQueriesArray.length; j++) {
+                acceptedQueriesArray[j] = acceptedQueries.get(j);
+            }
+            final State candidate = new State(positions, acceptedQueriesArray);
+            final State existing = states.get(candidate);
+            if (existing == null) {
+                states.put(candidate, candidate);
+                uncompiledStates.add(candidate);
+                return candidate;
+            } else {
+                return existing;
+            }
+        }
+
+        private static List<Long> asList(final long[] values) {
+            final List<Long> result = new ArrayList<Long>(values.length);
+            for (final long value : values) {
+                result.add(value);
+            }
+            return result;
+        }
+
+        private static long position(final int queryIndex, final int segmentIndex) {
+            return ((long) queryIndex << 32) | segmentIndex;
+        }
+
+        private static int queryIndex(final long position) {
+            return (int) (position >>> 32);
+        }
+
+        private static int segmentIndex(final long position) {
+            return (int) position;
+        }
+    }
+
+    /**
+     * The state of a single evaluation, tracking the automaton state of each open object or array, and the values
+     * currently being reported to listeners.
+     */
+    private static final class Evaluation {
+        private final State initialState;
+        private final MatchListener matchListener;
+        private final FastStack<Frame> stack = new FastStack<Frame>();
+        private final List<Match> matches = new ArrayList<Match>();
+        private final StringBuilder stringBuilder = new StringBuilder(32);
+        private int depth;
+
+        Evaluation(final State initialState, final MatchListener matchListener) {
+            this.initialState = initialState;
+            this.matchListener = matchListener;
+        }
+
+        @SuppressWarnings("PMD.CyclomaticComplexity")
+        void evaluate(final Iterator<JsonStreamElement> jsonStreamElements) throws IOException {
+            while (jsonStreamElements.hasNext()) {
+                final JsonStreamElement jsonStreamElement = jsonStreamElements.next();
+                switch (jsonStreamElement.jsonStreamElementType()) {
+                    case START_DOCUMENT:
+                        break;
+                    case END_DOCUMENT:
+                        return;
+                    case START_ARRAY:
+                    case START_OBJECT:
+                        final State state = valueStarted();
+                        if (state.isDead() && matches.isEmpty()) {
+                            skipRestOfContainer(jsonStreamElements);
+                        } else {
+                            forward(jsonStreamElement, null);
+                            stack.push(new Frame(state));
+                            depth++;
+                        }
+                        break;
+                    case END_ARRAY:
+                    case END_OBJECT:
+                        forward(jsonStreamElement, null);
+                        stack.pop();
+                        depth--;
+                        valueEnded();
+                        break;
+                    case START_FIELD:
+                        final Frame frame = stack.peek();
+                        final String name = frame.state.isDead() && matches.isEmpty() ? null : readFully(jsonStreamElement.reader(), stringBuilder);
+                        frame.fieldState = frame.state.fieldTransition(name);
+                        forward(jsonStreamElement, name);
+                        break;
+                    case END_FIELD:
+                        forward(jsonStreamElement, null);
+                        break;
+                    case STRING:
+                    case NUMBER:
+                        valueStarted();
+                        forward(jsonStreamElement, matches.isEmpty() ? null : readFully(jsonStreamElement.reader(), stringBuilder));
+                        valueEnded();
+                        break;
+                    default:
+                        valueStarted();
+                        forward(jsonStreamElement, null);
+                        valueEnded();
+                        break;
+                }
+            }
+        }
+
+        private State valueStarted() {
+            final State state;
+            if (depth == 0) {
+                state = initialState;
+            } else {
+                final Frame parent = stack.peek();
+                state = parent.fieldState == null ? parent.state.elementTransition(parent.nextIndex++) : parent.fieldState;
+            }
+            for (final int queryIndex : state.acceptedQueries) {
+                final JsonListener jsonListener = matchListener.matchStarted(queryIndex);
+                if (jsonListener != null) {
+                    jsonListener.startDocument();
+                    matches.add(new Match(jsonListener, depth));
+                }
+            }
+            return state;
+        }
+
+        private void valueEnded() {
+            for (int i = matches.size() - 1; i >= 0 && matches.get(i).depth == depth; i--) {
+                matches.remove(i).jsonListener.endDocument();
+            }
+        }
+
+        private void forward(final JsonStreamElement jsonStreamElement, final String text) {
+            for (final Match match : matches) {
+                switch (jsonStreamElement.jsonStreamElementType()) {
+                    case START_FIELD:
+                        match.jsonListener.startField(new StringReader(text));
+                        break;
+                    case STRING:
+                        match.jsonListener.stringValue(new StringReader(text));
+                        break;
+                    case NUMBER:
+                        match.jsonListener.numberValue(new StringReader(text));
+                        break;
+                    default:
+                        jsonStreamElement.visit(match.jsonListener);
+                        break;
+                }
+            }
+        }
+
+        private void skipRestOfContainer(final Iterator<JsonStreamElement> jsonStreamElements) {
+            int containerDepth = 1;
+            while (containerDepth != 0) {
+                switch (jsonStreamElements.next().jsonStreamElementType()) {
+                    case START_ARRAY:
+                    case START_OBJECT:
+                        containerDepth++;
+                        break;
+                    case END_ARRAY:
+                    case END_OBJECT:
+                        containerDepth--;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    private static final class Frame {
+        private final State state;
+        private int nextIndex;
+        private State fieldState;
+
+        Frame(final State state) {
+            this.state = state;
+        }
+    }
+
+    private static final class Match {
+        private final JsonListener jsonListener;
+        private final int depth;
+
+        Match(final JsonListener jsonListener, final int depth) {
+            this.jsonListener = jsonListener;
+            this.depth = depth;
+        }
+    }
+}
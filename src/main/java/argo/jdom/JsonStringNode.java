@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -10,17 +10,22 @@
 
 package argo.jdom;
 
+import argo.internal.RawJsonVisitor;
+
 import java.util.List;
 import java.util.Map;
 
 /**
  * {@code JsonNode} that explicitly represents a JSON String.
+ * <p>
+ * A string parsed with {@code argo.JsonParser.StringUnescaping.UNESCAPE_LAZILY} keeps the JSON text it was parsed from,
+ * and only unescapes it when its text is first needed.
  */
 public final class JsonStringNode extends JsonNode implements Comparable<JsonStringNode>, JsonNodeBuilder<JsonStringNode> {
 
     private static final JsonStringNode EMPTY = new JsonStringNode("");
 
-    private final String value;
+    private final Object value; // the text, as a String, or an EscapedText if it's yet to be unescaped
 
     private JsonStringNode(final String value) {
         if (value == null) {
@@ -29,10 +34,29 @@ public final class JsonStringNode extends JsonNode implements Comparable<JsonStr
         this.value = value;
     }
 
+    private JsonStringNode(final EscapedText escapedText) {
+        this.value = escapedText;
+    }
+
     static JsonStringNode jsonStringNode(final String value) {
         return "".equals(value) ? EMPTY : new JsonStringNode(value);
     }
 
+    /**
+     * Makes a string node from a JSON string literal that is known to be valid, which is unescaped when the node's text
+     * is first needed.
+     */
+    static JsonStringNode escapedJsonStringNode(final String json) {
+        return new JsonStringNode(new EscapedText(json));
+    }
+
+    /**
+     * @return the JSON string literal this node was made from, if it was made from one, or null otherwise.
+     */
+    String escapedForm() {
+        return value instanceof EscapedText ? ((EscapedText) value).json : null;
+    }
+
     @Override
     public JsonNodeType getType() {
         return JsonNodeType.STRING;
@@ -45,7 +69,7 @@ public final class JsonStringNode extends JsonNode implements Comparable<JsonStr
 
     @Override
     public String getText() {
-        return value;
+        return value instanceof String ? (String) value : ((EscapedText) value).text();
     }
 
     @Override
@@ -75,7 +99,11 @@ public final class JsonStringNode extends JsonNode implements Comparable<JsonStr
 
     @Override
     public void visit(final JsonNodeVisitor jsonNodeVisitor) {
-        jsonNodeVisitor.string(value);
+        if (value instanceof String) {
+            jsonNodeVisitor.string((String) value);
+        } else if (!(jsonNodeVisitor instanceof RawJsonVisitor) || !((RawJsonVisitor) jsonNodeVisitor).raw(((EscapedText) value).json)) {
+            jsonNodeVisitor.string(getText());
+        }
     }
 
     @Override
@@ -83,29 +111,94 @@ public final class JsonStringNode extends JsonNode implements Comparable<JsonStr
         if (this == that) {
             return true;
         }
+        if (that instanceof RawJsonNode) {
+            return equals(((RawJsonNode) that).tree());
+        }
         if (that == null || getClass() != that.getClass()) {
             return false;
         }
 
         final JsonStringNode thatJsonTextNode = (JsonStringNode) that;
-        return this.value.equals(thatJsonTextNode.value);
+        return getText().equals(thatJsonTextNode.getText());
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getText().hashCode();
     }
 
     @Override
     public String toString() {
-        return "JsonStringNode{value='" + value + "'}";
+        return "JsonStringNode{value='" + getText() + "'}";
     }
 
     public int compareTo(final JsonStringNode that) {
-        return this.value.compareTo(that.value);
+        return this.getText().compareTo(that.getText());
     }
 
     public JsonStringNode build() {
         return this;
     }
+
+    /**
+     * A valid JSON string literal, and the text it represents, once it has been unescaped.
+     */
+    private static final class EscapedText {
+        private final String json;
+        private String text;
+
+        EscapedText(final String json) {
+            this.json = json;
+        }
+
+        String text() {
+            String result = text;
+            if (result == null) {
+                result = unescape(json);
+                text = result;
+            }
+            return result;
+        }
+
+        private static String unescape(final String json) {
+            final int end = json.length() - 1;
+            final StringBuilder stringBuilder = new StringBuilder(end - 1);
+            int index = 1;
+            while (index < end) {
+                final char character = json.charAt(index++);
+                if (character != '\\') {
+                    stringBuilder.append(character);
+                } else {
+                    final char escaped = json.charAt(index++);
+                    switch (escaped) {
+                        case 'b':
+                            stringBuilder.append('\b');
+                            break;
+                        case 'f':
+                            stringBuilder.append('\f');
+                            break;
+                        case 'n':
+                            stringBuilder.append('\n');
+                            break;
+                        case 'r':
+                            stringBuilder.append('\r');
+                            break;
+                        case 't':
+                            stringBuilder.append('\t');
+                            break;
+                        case 'u':
+                            int codeUnit = 0;
+                            for (final int hexEnd = index + 4; index < hexEnd; index++) {
+                                codeUnit = codeUnit << 4 | Character.digit(json.charAt(index), 16);
+                            }
+                            stringBuilder.append((char) codeUnit);
+                            break;
+                        default:
+                            stringBuilder.append(escaped);
+                    }
+                }
+            }
+            return stringBuilder.toString();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+/**
+ * Walks trees of objects and arrays using an explicit stack rather than recursion, so that the depth of nesting that
+ * can be compared or hashed isn't limited by the size of the call stack.
+ */
+final class JsonTrees {
+
+    private static final int MAXIMUM_RECURSION_DEPTH = 256;
+
+    private JsonTrees() {
+    }
+
+    /**
+     * Compares the backing arrays of two objects, or of two arrays, element by element, descending into nested objects
+     * and arrays.  Nested objects and arrays that both have cached hash codes are compared by hash code first, so that
+     * unequal subtrees can usually be rejected without being walked.
+     */
+    static boolean equal(final JsonNode[] left, final JsonNode[] right) {
+        if (left.length != right.length) {
+            return false;
+        }
+        JsonNode[][] leftFrames = null;
+        JsonNode[][] rightFrames = null;
+        int[] framePositions = null;
+        int depth = 0;
+        JsonNode[] lefts = left;
+        JsonNode[] rights = right;
+        int position = 0;
+        while (true) {
+            if (position == lefts.length) {
+                if (depth == 0) {
+                    return true;
+                }
+                depth--;
+                lefts = leftFrames[depth];
+                rights = rightFrames[depth];
+                position = framePositions[depth];
+            } else {
+                final JsonNode leftNode = resolve(lefts[position]);
+                final JsonNode rightNode = resolve(rights[position]);
+                position++;
+                if (leftNode != rightNode) {
+                    final Class<? extends JsonNode> nodeClass = leftNode.getClass();
+                    if (nodeClass != rightNode.getClass()) {
+                        return false;
+                    } else if (nodeClass == JsonObject.class || nodeClass == JsonArray.class) {
+                        final int leftHashCode = cachedHashCode(leftNode);
+                        final int rightHashCode = cachedHashCode(rightNode);
+                        if (leftHashCode != 0 && rightHashCode != 0 && leftHashCode != rightHashCode) {
+                            return false;
+                        }
+                        final JsonNode[] leftChildren = leftNode.backingArray();
+                        final JsonNode[] rightChildren = rightNode.backingArray();
+                        if (leftChildren.length != rightChildren.length) {
+                            return false;
+                        }
+                        if (leftChildren.length != 0) {
+                            if (leftFrames == null) {
+                                leftFrames = new JsonNode[16][];
+                                rightFrames = new JsonNode[16][];
+                                framePositions = new int[16];
+                            } else if (depth == leftFrames.length) {
+                                leftFrames = grow(leftFrames);
+                                rightFrames = grow(rightFrames);
+                                framePositions = grow(framePositions);
+                            }
+                            leftFrames[depth] = lefts;
+                            rightFrames[depth] = rights;
+                            framePositions[depth] = position;
+                            depth++;
+                            lefts = leftChildren;
+                            rights = rightChildren;
+                            position = 0;
+                        }
+                    } else if (!leftNode.equals(rightNode)) {
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the hash code of the given object or array, and of every object and array nested in it that doesn't
+     * already have one cached, caching each as it goes.  Hash codes are computed in the same way as
+     * {@code java.util.List.hashCode}, treating an object as a list of fields.
+     * <p>
+     * Recursion is faster for the depths typical documents reach, so nested objects and arrays are hashed recursively
+     * up to {@code MAXIMUM_RECURSION_DEPTH}, and iteratively beyond it.
+     */
+    static int hashCode(final JsonNode jsonNode) {
+        return hashCode(jsonNode, 0);
+    }
+
+    private static int hashCode(final JsonNode jsonNode, final int depth) {
+        final JsonNode[] nodes = jsonNode.backingArray();
+        int hashCode = 1;
+        if (jsonNode instanceof JsonObject) {
+            for (int i = 0; i < nodes.length; i += 2) {
+                hashCode = 31 * hashCode + 31 * nodes[i].hashCode() + nestedHashCode(nodes[i + 1], depth);
+            }
+        } else {
+            for (final JsonNode node : nodes) {
+                hashCode = 31 * hashCode + nestedHashCode(node, depth);
+            }
+        }
+        setCachedHashCode(jsonNode, hashCode);
+        return hashCode;
+    }
+
+    private static int nestedHashCode(final JsonNode jsonNode, final int depth) {
+        if (needsHashCode(jsonNode)) {
+            return depth < MAXIMUM_RECURSION_DEPTH ? hashCode(jsonNode, depth + 1) : iterativeHashCode(jsonNode);
+        } else {
+            return jsonNode.hashCode();
+        }
+    }
+
+    private static boolean needsHashCode(final JsonNode jsonNode) {
+        final Class<? extends JsonNode> nodeClass = jsonNode.getClass();
+        return (nodeClass == JsonObject.class || nodeClass == JsonArray.class) && cachedHashCode(jsonNode) == 0 && jsonNode.backingArray().length != 0;
+    }
+
+    private static int iterativeHashCode(final JsonNode jsonNode) {
+        JsonNode[] frameOwners = null;
+        JsonNode[][] frameNodes = null;
+        int[] framePositions = null;
+        int[] frameHashCodes = null;
+        int depth = 0;
+        JsonNode owner = jsonNode;
+        JsonNode[] current = jsonNode.backingArray();
+        int position = 0;
+        int hashCode = 1;
+        while (true) {
+            if (position == current.length) {
+                setCachedHashCode(owner, hashCode);
+                if (depth == 0) {
+                    return hashCode;
+                }
+                final int childHashCode = hashCode;
+                depth--;
+                owner = frameOwners[depth];
+                current = frameNodes[depth];
+                position = framePositions[depth];
+                hashCode = frameHashCodes[depth] + childHashCode;
+            } else {
+                final boolean isFieldName = owner instanceof JsonObject && (position & 1) == 0;
+                final JsonNode node = resolve(current[position++]);
+                if (needsHashCode(node)) {
+                    if (frameOwners == null) {
+                        frameOwners = new JsonNode[16];
+                        frameNodes = new JsonNode[16][];
+                        framePositions = new int[16];
+                        frameHashCodes = new int[16];
+                    } else if (depth == frameOwners.length) {
+                        frameOwners = grow(frameOwners);
+                        frameNodes = grow(frameNodes);
+                        framePositions = grow(framePositions);
+                        frameHashCodes = grow(frameHashCodes);
+                    }
+                    frameOwners[depth] = owner;
+                    frameNodes[depth] = current;
+                    framePositions[depth] = position;
+                    frameHashCodes[depth] = owner instanceof JsonObject ? hashCode : 31 * hashCode;
+                    depth++;
+                    owner = node;
+                    current = node.backingArray();
+                    position = 0;
+                    hashCode = 1;
+                } else if (isFieldName) {
+                    hashCode = 31 * hashCode + 31 * node.hashCode();
+                } else if (owner instanceof JsonObject) {
+                    hashCode += node.hashCode();
+                } else {
+                    hashCode = 31 * hashCode + node.hashCode();
+                }
+            }
+        }
+    }
+
+    static JsonNode resolve(final JsonNode jsonNode) {
+        return jsonNode instanceof RawJsonNode ? ((RawJsonNode) jsonNode).tree() : jsonNode;
+    }
+
+    private static int cachedHashCode(final JsonNode jsonNode) {
+        return jsonNode instanceof JsonObject ? ((JsonObject) jsonNode).cachedHashCode() : ((JsonArray) jsonNode).cachedHashCode();
+    }
+
+    private static void setCachedHashCode(final JsonNode jsonNode, final int hashCode) {
+        if (jsonNode instanceof JsonObject) {
+            ((JsonObject) jsonNode).cachedHashCode(hashCode);
+        } else {
+            ((JsonArray) jsonNode).cachedHashCode(hashCode);
+        }
+    }
+
+    static JsonNode[] grow(final JsonNode[] array) {
+        final JsonNode[] grown = new JsonNode[array.length * 2];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    static JsonNode[][] grow(final JsonNode[][] array) {
+        final JsonNode[][] grown = new JsonNode[array.length * 2][];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    static int[] grow(final int[] array) {
+        final int[] grown = new int[array.length * 2];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.format.ArrayWriter;
+import argo.format.WriteableJsonArray;
+
+import java.io.IOException;
+
+/**
+ * A JSON array that can be modified in place, for use where many changes are made to a document, and building a
+ * new {@code JsonNode} for each would be wasteful.
+ * <p>
+ * Each element is an immutable {@code JsonNode}, or a {@code MutableJsonObject} or {@code MutableJsonArray}, which is
+ * nested, rather than copied, so that changes made to it are reflected in this array.  A mutable array must not be nested
+ * in itself, either directly or via other mutable objects and arrays; nesting it directly in itself is rejected straight
+ * away, and nesting it in itself via others makes freezing or writing it fail.
+ * <p>
+ * {@code freeze()} converts a mutable array to an immutable {@code JsonNode}, and {@code thaw(JsonNode)} does the
+ * reverse; both hand over the underlying array of elements rather than copying it where they can.  Mutable arrays can
+ * also be written directly by {@code JsonGenerator}, as {@code WriteableJsonArray}s.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @see MutableJsonTreeFactory#mutableNodes()
+ */
+public final class MutableJsonArray extends MutableJsonContainer implements WriteableJsonArray {
+
+    /**
+     * Constructs an empty mutable array.
+     */
+    public MutableJsonArray() {
+    }
+
+    private MutableJsonArray(final JsonNode[] elements) {
+        super(elements);
+    }
+
+    /**
+     * Makes a mutable array with the same elements as the given JSON array, without copying it.  Elements that are
+     * objects or arrays are thawed in turn as they're retrieved using {@code getObject} or {@code getArray}.
+     *
+     * @param jsonNode a {@code JsonNode} representing a JSON array.
+     * @return a mutable array with the same elements as the given JSON array.
+     * @throws IllegalArgumentException if the given {@code JsonNode} isn't a JSON array.
+     */
+    public static MutableJsonArray thaw(final JsonNode jsonNode) {
+        final JsonNode resolved = JsonTrees.resolve(jsonNode);
+        if (!(resolved instanceof JsonArray)) {
+            throw new IllegalArgumentException("Cannot thaw a node that isn't a JSON array");
+        }
+        return new MutableJsonArray(resolved.backingArray());
+    }
+
+    /**
+     * @return the number of elements in this array.
+     */
+    public int size() {
+        return slotCount();
+    }
+
+    /**
+     * Gets an element as an immutable {@code JsonNode}.  If the element is a mutable object or array, it's frozen, so
+     * subsequent changes to this array aren't reflected in the returned {@code JsonNode}.
+     *
+     * @param index the index of an element.
+     * @return the element at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public JsonNode get(final int index) {
+        return frozenValue(checkedIndex(index, slotCount()));
+    }
+
+    /**
+     * Gets an element as a mutable object, so that it can be modified in place.  If the element is an immutable JSON
+     * object, it's thawed and replaced with the resulting {@code MutableJsonObject}.
+     *
+     * @param index the index of an element.
+     * @return the element at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalArgumentException  if the element isn't an object.
+     */
+    public MutableJsonObject getObject(final int index) {
+        final MutableJsonContainer child = child(checkedIndex(index, slotCount()));
+        if (child instanceof MutableJsonObject) {
+            return (MutableJsonObject) child;
+        } else if (child == null && JsonTrees.resolve(node(index)) instanceof JsonObject) {
+            final MutableJsonObject thawed = MutableJsonObject.thaw(node(index));
+            setSlot(index, thawed);
+            return thawed;
+        } else {
+            throw new IllegalArgumentException("Element [" + index + "] isn't an object");
+        }
+    }
+
+    /**
+     * Gets an element as a mutable array, so that it can be modified in place.  If the element is an immutable JSON
+     * array, it's thawed and replaced with the resulting {@code MutableJsonArray}.
+     *
+     * @param index the index of an element.
+     * @return the element at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalArgumentException  if the element isn't an array.
+     */
+    public MutableJsonArray getArray(final int index) {
+        final MutableJsonContainer child = child(checkedIndex(index, slotCount()));
+        if (child instanceof MutableJsonArray) {
+            return (MutableJsonArray) child;
+        } else if (child == null && JsonTrees.resolve(node(index)) instanceof JsonArray) {
+            final MutableJsonArray thawed = thaw(node(index));
+            setSlot(index, thawed);
+            return thawed;
+        } else {
+            throw new IllegalArgumentException("Element [" + index + "] isn't an array");
+        }
+    }
+
+    /**
+     * Adds an element to the end of this array.
+     *
+     * @param element the element to add.
+     * @return this array.
+     */
+    public MutableJsonArray add(final JsonNode element) {
+        return add(slotCount(), element);
+    }
+
+    /**
+     * Adds an element to the end of this array.  The given mutable object is nested in this array, rather than copied.
+     *
+     * @param element the element to add.
+     * @return this array.
+     */
+    public MutableJsonArray add(final MutableJsonObject element) {
+        return add(slotCount(), (MutableJsonContainer) element);
+    }
+
+    /**
+     * Adds an element to the end of this array.  The given mutable array is nested in this one, rather than copied.
+     *
+     * @param element the element to add.
+     * @return this array.
+     */
+    public MutableJsonArray add(final MutableJsonArray element) {
+        return add(slotCount(), (MutableJsonContainer) element);
+    }
+
+    /**
+     * Inserts an element into this array, shifting the element at the given index, and any after it, along by one.
+     *
+     * @param index   the index to insert the element at, which may be equal to the size of this array.
+     * @param element the element to insert.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray add(final int index, final JsonNode element) {
+        if (element == null) {
+            throw new NullPointerException("Element is null");
+        }
+        insertSlots(checkedIndex(index, slotCount() + 1), 1);
+        setSlot(index, element);
+        return this;
+    }
+
+    /**
+     * Inserts an element into this array, shifting the element at the given index, and any after it, along by one.  The
+     * given mutable object is nested in this array, rather than copied.
+     *
+     * @param index   the index to insert the element at, which may be equal to the size of this array.
+     * @param element the element to insert.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray add(final int index, final MutableJsonObject element) {
+        return add(index, (MutableJsonContainer) element);
+    }
+
+    /**
+     * Inserts an element into this array, shifting the element at the given index, and any after it, along by one.  The
+     * given mutable array is nested in this one, rather than copied.
+     *
+     * @param index   the index to insert the element at, which may be equal to the size of this array.
+     * @param element the element to insert.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray add(final int index, final MutableJsonArray element) {
+        return add(index, (MutableJsonContainer) element);
+    }
+
+    private MutableJsonArray add(final int index, final MutableJsonContainer element) {
+        if (element == null) {
+            throw new NullPointerException("Element is null");
+        }
+        if (element == this) {
+            throw new IllegalArgumentException("Cannot nest a mutable array in itself");
+        }
+        insertSlots(checkedIndex(index, slotCount() + 1), 1);
+        setSlot(index, element);
+        return this;
+    }
+
+    /**
+     * Replaces an element of this array.
+     *
+     * @param index   the index of the element to replace.
+     * @param element the replacement element.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray set(final int index, final JsonNode element) {
+        if (element == null) {
+            throw new NullPointerException("Element is null");
+        }
+        setSlot(checkedIndex(index, slotCount()), element);
+        return this;
+    }
+
+    /**
+     * Replaces an element of this array.  The given mutable object is nested in this array, rather than copied.
+     *
+     * @param index   the index of the element to replace.
+     * @param element the replacement element.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray set(final int index, final MutableJsonObject element) {
+        return set(index, (MutableJsonContainer) element);
+    }
+
+    /**
+     * Replaces an element of this array.  The given mutable array is nested in this one, rather than copied.
+     *
+     * @param index   the index of the element to replace.
+     * @param element the replacement element.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray set(final int index, final MutableJsonArray element) {
+        return set(index, (MutableJsonContainer) element);
+    }
+
+    private MutableJsonArray set(final int index, final MutableJsonContainer element) {
+        if (element == null) {
+            throw new NullPointerException("Element is null");
+        }
+        if (element == this) {
+            throw new IllegalArgumentException("Cannot nest a mutable array in itself");
+        }
+        setSlot(checkedIndex(index, slotCount()), element);
+        return this;
+    }
+
+    /**
+     * Removes an element from this array, shifting any after it back by one.
+     *
+     * @param index the index of the element to remove.
+     * @return this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public MutableJsonArray remove(final int index) {
+        removeSlots(checkedIndex(index, slotCount()), 1);
+        return this;
+    }
+
+    /**
+     * Converts this array, and any mutable objects and arrays nested in it, to an immutable {@code JsonNode}.  The array
+     * of elements is handed over without being copied where possible, and is copied before this array is next modified.
+     *
+     * @return a {@code JsonNode} representing an array with the same elements as this one.
+     * @throws IllegalArgumentException if this array is nested in itself via other mutable objects and arrays.
+     */
+    public JsonNode freeze() {
+        return freezeTree();
+    }
+
+    public void writeTo(final ArrayWriter arrayWriter) throws IOException {
+        beginWriting();
+        try {
+            for (int slot = 0; slot < slotCount(); slot++) {
+                final MutableJsonContainer child = child(slot);
+                if (child instanceof MutableJsonObject) {
+                    arrayWriter.writeElement((MutableJsonObject) child);
+                } else if (child instanceof MutableJsonArray) {
+                    arrayWriter.writeElement((MutableJsonArray) child);
+                } else {
+                    arrayWriter.writeElement(node(slot));
+                }
+            }
+        } finally {
+            endWriting();
+        }
+    }
+
+    JsonNode frozen(final JsonNode[] elements) {
+        return JsonArray.prevalidatedJsonArray(elements);
+    }
+
+    private int checkedIndex(final int index, final int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + slotCount());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+/**
+ * Storage shared by {@code MutableJsonObject} and {@code MutableJsonArray}: a growable array of slots, each holding
+ * either an immutable {@code JsonNode}, or a nested mutable container.
+ * <p>
+ * Nested mutable containers are held in a parallel array, allocated only once one is added, so that the array of
+ * {@code JsonNode}s can be handed to {@code JsonObject} or {@code JsonArray} as it is when freezing.  Once handed over,
+ * the array is shared, and is copied before it is next modified.
+ * <p>
+ * Containers aren't prevented from being nested in themselves via other containers when they're added, because checking
+ * would mean searching everything nested in the container being added.  Instead, each container is marked while it's
+ * being frozen or written, and reaching a marked container again means it's nested in itself.
+ */
+abstract class MutableJsonContainer {
+
+    private static final JsonNode[] EMPTY_NODES = new JsonNode[0];
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private JsonNode[] nodes;
+    private MutableJsonContainer[] children;
+    private int size;
+    private boolean shared;
+    private boolean inProgress;
+
+    MutableJsonContainer() {
+        this.nodes = EMPTY_NODES;
+    }
+
+    MutableJsonContainer(final JsonNode[] nodes) {
+        this.nodes = nodes;
+        this.size = nodes.length;
+        this.shared = true;
+    }
+
+    abstract JsonNode frozen(JsonNode[] nodes);
+
+    final int slotCount() {
+        return size;
+    }
+
+    final JsonNode node(final int slot) {
+        return nodes[slot];
+    }
+
+    final MutableJsonContainer child(final int slot) {
+        return children == null ? null : children[slot];
+    }
+
+    final JsonNode frozenValue(final int slot) {
+        final MutableJsonContainer child = child(slot);
+        return child == null ? nodes[slot] : child.freezeTree();
+    }
+
+    final void setSlot(final int slot, final JsonNode jsonNode) {
+        unshare();
+        nodes[slot] = jsonNode;
+        if (children != null) {
+            children[slot] = null;
+        }
+    }
+
+    final void setSlot(final int slot, final MutableJsonContainer child) {
+        unshare();
+        nodes[slot] = null;
+        if (children == null) {
+            children = new MutableJsonContainer[nodes.length];
+        }
+        children[slot] = child;
+    }
+
+    final void insertSlots(final int slot, final int count) {
+        if (size + count > nodes.length) {
+            final JsonNode[] grownNodes = new JsonNode[Math.max(size + count, Math.max(MINIMUM_CAPACITY, nodes.length * 2))];
+            System.arraycopy(nodes, 0, grownNodes, 0, slot);
+            System.arraycopy(nodes, slot, grownNodes, slot + count, size - slot);
+            nodes = grownNodes;
+            shared = false;
+            if (children != null) {
+                final MutableJsonContainer[] grownChildren = new MutableJsonContainer[grownNodes.length];
+                System.arraycopy(children, 0, grownChildren, 0, slot);
+                System.arraycopy(children, slot, grownChildren, slot + count, size - slot);
+                children = grownChildren;
+            }
+        } else {
+            unshare();
+            System.arraycopy(nodes, slot, nodes, slot + count, size - slot);
+            if (children != null) {
+                System.arraycopy(children, slot, children, slot + count, size - slot);
+                for (int i = slot; i < slot + count; i++) {
+                    children[i] = null;
+                }
+            }
+        }
+        size += count;
+    }
+
+    final void removeSlots(final int slot, final int count) {
+        unshare();
+        System.arraycopy(nodes, slot + count, nodes, slot, size - slot - count);
+        if (children != null) {
+            System.arraycopy(children, slot + count, children, slot, size - slot - count);
+        }
+        for (int i = size - count; i < size; i++) {
+            nodes[i] = null;
+            if (children != null) {
+                children[i] = null;
+            }
+        }
+        size -= count;
+    }
+
+    /**
+     * Freezes this container, and every mutable container nested in it, using an explicit stack rather than recursion,
+     * so that the depth of nesting that can be frozen isn't limited by the size of the call stack.
+     */
+    final JsonNode freezeTree() {
+        MutableJsonContainer[] frameContainers = null;
+        int[] framePositions = null;
+        int depth = 0;
+        MutableJsonContainer container = this;
+        int position = 0;
+        begin("freeze");
+        while (true) {
+            position = container.nextChildSlot(position);
+            if (position < container.size) {
+                final MutableJsonContainer child = container.children[position];
+                if (child.inProgress) {
+                    container.inProgress = false;
+                    for (int i = 0; i < depth; i++) {
+                        frameContainers[i].inProgress = false;
+                    }
+                    throw nestedInItselfException("freeze");
+                }
+                if (frameContainers == null) {
+                    frameContainers = new MutableJsonContainer[16];
+                    framePositions = new int[16];
+                } else if (depth == frameContainers.length) {
+                    final MutableJsonContainer[] grownContainers = new MutableJsonContainer[depth * 2];
+                    System.arraycopy(frameContainers, 0, grownContainers, 0, depth);
+                    frameContainers = grownContainers;
+                    framePositions = JsonTrees.grow(framePositions);
+                }
+                container.unshare();
+                frameContainers[depth] = container;
+                framePositions[depth] = position;
+                depth++;
+                container = child;
+                container.inProgress = true;
+                position = 0;
+            } else {
+                final JsonNode frozen = container.handOver();
+                container.inProgress = false;
+                if (depth == 0) {
+                    return frozen;
+                }
+                depth--;
+                container = frameContainers[depth];
+                position = framePositions[depth];
+                container.nodes[position++] = frozen;
+            }
+        }
+    }
+
+    /**
+     * Marks this container as being written, so that writing it again before {@code endWriting()} is called, which
+     * can only happen if it's nested in itself, fails rather than recursing until the stack overflows.
+     */
+    final void beginWriting() {
+        begin("write");
+    }
+
+    final void endWriting() {
+        inProgress = false;
+    }
+
+    private void begin(final String action) {
+        if (inProgress) {
+            throw nestedInItselfException(action);
+        }
+        inProgress = true;
+    }
+
+    private static IllegalArgumentException nestedInItselfException(final String action) {
+        return new IllegalArgumentException("Cannot " + action + " a mutable object or array that is nested in itself");
+    }
+
+    private int nextChildSlot(final int slot) {
+        if (children == null) {
+            return size;
+        }
+        int result = slot;
+        while (result < size && children[result] == null) {
+            result++;
+        }
+        return result;
+    }
+
+    private JsonNode handOver() {
+        if (size == nodes.length) {
+            shared = true;
+            return frozen(nodes);
+        } else {
+            final JsonNode[] trimmed = new JsonNode[size];
+            System.arraycopy(nodes, 0, trimmed, 0, size);
+            return frozen(trimmed);
+        }
+    }
+
+    private void unshare() {
+        if (shared) {
+            final JsonNode[] copy = new JsonNode[nodes.length];
+            System.arraycopy(nodes, 0, copy, 0, size);
+            nodes = copy;
+            shared = false;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.format.ObjectWriter;
+import argo.format.WriteableJsonObject;
+
+import java.io.IOException;
+
+import static argo.jdom.JsonNodeFactories.string;
+
+/**
+ * A JSON object that can be modified in place, for use where many changes are made to a document, and building a
+ * new {@code JsonNode} for each would be wasteful.
+ * <p>
+ * The value of each field is an immutable {@code JsonNode}, or a {@code MutableJsonObject} or {@code MutableJsonArray},
+ * which is nested, rather than copied, so that changes made to it are reflected in this object.  A mutable object must
+ * not be nested in itself, either directly or via other mutable objects and arrays; nesting it directly in itself is rejected straight
+ * away, and nesting it in itself via others makes freezing or writing it fail.
+ * <p>
+ * {@code freeze()} converts a mutable object to an immutable {@code JsonNode}, and {@code thaw(JsonNode)} does the
+ * reverse; both hand over the underlying array of fields rather than copying it where they can.  Mutable objects can
+ * also be written directly by {@code JsonGenerator}, as {@code WriteableJsonObject}s.
+ * <p>
+ * Like JSON objects, a mutable object can have more than one field with the same name, for example when it's parsed from
+ * a document that does.  In that case, the last field with the name is the one that is read or replaced.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @see MutableJsonTreeFactory#mutableNodes()
+ */
+public final class MutableJsonObject extends MutableJsonContainer implements WriteableJsonObject {
+
+    /**
+     * Constructs an empty mutable object.
+     */
+    public MutableJsonObject() {
+    }
+
+    private MutableJsonObject(final JsonNode[] namesAndValues) {
+        super(namesAndValues);
+    }
+
+    /**
+     * Makes a mutable object with the same fields as the given JSON object, without copying it.  Fields whose values
+     * are objects or arrays are thawed in turn as they're retrieved using {@code getObject} or {@code getArray}.
+     *
+     * @param jsonNode a {@code JsonNode} representing a JSON object.
+     * @return a mutable object with the same fields as the given JSON object.
+     * @throws IllegalArgumentException if the given {@code JsonNode} isn't a JSON object.
+     */
+    public static MutableJsonObject thaw(final JsonNode jsonNode) {
+        final JsonNode resolved = JsonTrees.resolve(jsonNode);
+        if (!(resolved instanceof JsonObject)) {
+            throw new IllegalArgumentException("Cannot thaw a node that isn't a JSON object");
+        }
+        return new MutableJsonObject(resolved.backingArray());
+    }
+
+    /**
+     * @return the number of fields in this object.
+     */
+    public int size() {
+        return slotCount() / 2;
+    }
+
+    /**
+     * @param name the name of a field.
+     * @return whether this object has a field with the given name.
+     */
+    public boolean has(final String name) {
+        return valueSlot(name) != -1;
+    }
+
+    /**
+     * Gets the value of a field as an immutable {@code JsonNode}.  If the value is a mutable object or array, it's frozen,
+     * so subsequent changes to this object aren't reflected in the returned {@code JsonNode}.
+     *
+     * @param name the name of a field.
+     * @return the value of the last field with the given name.
+     * @throws IllegalArgumentException if this object has no field with the given name.
+     */
+    public JsonNode get(final String name) {
+        return frozenValue(existingValueSlot(name));
+    }
+
+    /**
+     * Gets the value of a field as a mutable object, so that it can be modified in place.  If the value is an immutable
+     * JSON object, it's thawed and replaced with the resulting {@code MutableJsonObject}.
+     *
+     * @param name the name of a field.
+     * @return the value of the last field with the given name.
+     * @throws IllegalArgumentException if this object has no field with the given name, or its value isn't an object.
+     */
+    public MutableJsonObject getObject(final String name) {
+        final int slot = existingValueSlot(name);
+        final MutableJsonContainer child = child(slot);
+        if (child instanceof MutableJsonObject) {
+            return (MutableJsonObject) child;
+        } else if (child == null && JsonTrees.resolve(node(slot)) instanceof JsonObject) {
+            final MutableJsonObject thawed = thaw(node(slot));
+            setSlot(slot, thawed);
+            return thawed;
+        } else {
+            throw new IllegalArgumentException("Field [" + name + "] isn't an object");
+        }
+    }
+
+    /**
+     * Gets the value of a field as a mutable array, so that it can be modified in place.  If the value is an immutable
+     * JSON array, it's thawed and replaced with the resulting {@code MutableJsonArray}.
+     *
+     * @param name the name of a field.
+     * @return the value of the last field with the given name.
+     * @throws IllegalArgumentException if this object has no field with the given name, or its value isn't an array.
+     */
+    public MutableJsonArray getArray(final String name) {
+        final int slot = existingValueSlot(name);
+        final MutableJsonContainer child = child(slot);
+        if (child instanceof MutableJsonArray) {
+            return (MutableJsonArray) child;
+        } else if (child == null && JsonTrees.resolve(node(slot)) instanceof JsonArray) {
+            final MutableJsonArray thawed = MutableJsonArray.thaw(node(slot));
+            setSlot(slot, thawed);
+            return thawed;
+        } else {
+            throw new IllegalArgumentException("Field [" + name + "] isn't an array");
+        }
+    }
+
+    /**
+     * Sets the value of the last field with the given name, or adds a field to the end of this object if it has no field
+     * with the given name.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this object.
+     */
+    public MutableJsonObject put(final String name, final JsonNode value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        setSlot(putSlot(name), value);
+        return this;
+    }
+
+    /**
+     * Sets the value of the last field with the given name, or adds a field to the end of this object if it has no field
+     * with the given name.  The given mutable object is nested in this one, rather than copied.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this object.
+     */
+    public MutableJsonObject put(final String name, final MutableJsonObject value) {
+        return put(name, (MutableJsonContainer) value);
+    }
+
+    /**
+     * Sets the value of the last field with the given name, or adds a field to the end of this object if it has no field
+     * with the given name.  The given mutable array is nested in this object, rather than copied.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this object.
+     */
+    public MutableJsonObject put(final String name, final MutableJsonArray value) {
+        return put(name, (MutableJsonContainer) value);
+    }
+
+    private MutableJsonObject put(final String name, final MutableJsonContainer value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null");
+        }
+        if (value == this) {
+            throw new IllegalArgumentException("Cannot nest a mutable object in itself");
+        }
+        setSlot(putSlot(name), value);
+        return this;
+    }
+
+    /**
+     * Removes every field with the given name.
+     *
+     * @param name the name of the fields to remove.
+     * @return this object.
+     */
+    public MutableJsonObject remove(final String name) {
+        if (name == null) {
+            throw new NullPointerException("Name is null");
+        }
+        int slot = 0;
+        while (slot < slotCount()) {
+            if (name.equals(node(slot).getText())) {
+                removeSlots(slot, 2);
+            } else {
+                slot += 2;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a field to the end of this object, regardless of whether it already has a field with the same name, as
+     * {@code MutableJsonTreeFactory} does for each field it parses.
+     */
+    void addParsedField(final String name, final JsonNode value) {
+        setSlot(appendParsedField(name), value);
+    }
+
+    void addParsedField(final String name, final MutableJsonContainer value) {
+        setSlot(appendParsedField(name), value);
+    }
+
+    /**
+     * Converts this object, and any mutable objects and arrays nested in it, to an immutable {@code JsonNode}.  The array
+     * of fields is handed over without being copied where possible, and is copied before this object is next modified.
+     *
+     * @return a {@code JsonNode} representing an object with the same fields as this one.
+     * @throws IllegalArgumentException if this object is nested in itself via other mutable objects and arrays.
+     */
+    public JsonNode freeze() {
+        return freezeTree();
+    }
+
+    public void writeTo(final ObjectWriter objectWriter) throws IOException {
+        beginWriting();
+        try {
+            for (int slot = 0; slot < slotCount(); slot += 2) {
+                final JsonStringNode name = (JsonStringNode) node(slot);
+                final MutableJsonContainer child = child(slot + 1);
+                if (child instanceof MutableJsonObject) {
+                    objectWriter.writeField(name, (MutableJsonObject) child);
+                } else if (child instanceof MutableJsonArray) {
+                    objectWriter.writeField(name, (MutableJsonArray) child);
+                } else {
+                    objectWriter.writeField(name, node(slot + 1));
+                }
+            }
+        } finally {
+            endWriting();
+        }
+    }
+
+    JsonNode frozen(final JsonNode[] namesAndValues) {
+        return JsonObject.prevalidatedJsonObject(namesAndValues);
+    }
+
+    private int valueSlot(final String name) {
+        if (name == null) {
+            throw new NullPointerException("Name is null");
+        }
+        for (int slot = slotCount() - 2; slot >= 0; slot -= 2) {
+            if (name.equals(node(slot).getText())) {
+                return slot + 1;
+            }
+        }
+        return -1;
+    }
+
+    private int existingValueSlot(final String name) {
+        final int slot = valueSlot(name);
+        if (slot == -1) {
+            throw new IllegalArgumentException("No field named [" + name + "]");
+        }
+        return slot;
+    }
+
+    private int appendParsedField(final String name) {
+        final int slot = slotCount();
+        insertSlots(slot, 2);
+        setSlot(slot, string(name));
+        return slot + 1;
+    }
+
+    private int putSlot(final String name) {
+        final int slot = valueSlot(name);
+        if (slot == -1) {
+            final int nameSlot = slotCount();
+            insertSlots(nameSlot, 2);
+            setSlot(nameSlot, string(name));
+            return nameSlot + 1;
+        }
+        return slot;
+    }
+}
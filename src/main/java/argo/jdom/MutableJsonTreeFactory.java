@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonTreeFactories;
+import argo.JsonTreeFactory;
+
+import java.util.List;
+
+/**
+ * A {@code JsonTreeFactory} that builds {@code MutableJsonObject}s and {@code MutableJsonArray}s, for documents that
+ * are to be modified in place before being frozen to {@code JsonNode}s, or written using {@code JsonGenerator}.
+ * Objects and arrays become {@code MutableJsonObject}s and {@code MutableJsonArray}s, preserving the order of fields
+ * and any duplicated field names, and all other values become {@code JsonNode}s.
+ *
+ * @see argo.JsonParser#parse(java.io.Reader, JsonTreeFactory)
+ */
+public final class MutableJsonTreeFactory implements JsonTreeFactory<MutableJsonObject, MutableJsonArray, Object> {
+
+    private static final MutableJsonTreeFactory MUTABLE_NODES = new MutableJsonTreeFactory();
+    private static final JsonTreeFactory<List<JsonField>, List<JsonNode>, JsonNode> JSON_NODES = JsonTreeFactories.jsonNodes();
+
+    private MutableJsonTreeFactory() {
+    }
+
+    /**
+     * @return a {@code JsonTreeFactory} that builds {@code MutableJsonObject}s and {@code MutableJsonArray}s.
+     */
+    public static MutableJsonTreeFactory mutableNodes() {
+        return MUTABLE_NODES;
+    }
+
+    public MutableJsonObject newObject() {
+        return new MutableJsonObject();
+    }
+
+    public void addField(final MutableJsonObject object, final String name, final Object value) {
+        if (value instanceof MutableJsonContainer) {
+            object.addParsedField(name, (MutableJsonContainer) value);
+        } else {
+            object.addParsedField(name, (JsonNode) value);
+        }
+    }
+
+    public Object endObject(final MutableJsonObject object) {
+        return object;
+    }
+
+    public MutableJsonArray newArray() {
+        return new MutableJsonArray();
+    }
+
+    public void addElement(final MutableJsonArray array, final Object element) {
+        if (element instanceof MutableJsonObject) {
+            array.add((MutableJsonObject) element);
+        } else if (element instanceof MutableJsonArray) {
+            array.add((MutableJsonArray) element);
+        } else {
+            array.add((JsonNode) element);
+        }
+    }
+
+    public Object endArray(final MutableJsonArray array) {
+        return array;
+    }
+
+    public Object string(final String value) {
+        return JSON_NODES.string(value);
+    }
+
+    public Object number(final String value) {
+        return JSON_NODES.number(value);
+    }
+
+    public Object trueValue() {
+        return JSON_NODES.trueValue();
+    }
+
+    public Object falseValue() {
+        return JSON_NODES.falseValue();
+    }
+
+    public Object nullValue() {
+        return JSON_NODES.nullValue();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.InvalidSyntaxException;
+import argo.JsonParser;
+import argo.JsonValidationResult;
+import argo.internal.RawJsonVisitor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A node backed by JSON text, which is written as is by {@code argo.JsonGenerator}, and only parsed into a tree of
+ * nodes if it's examined.
+ */
+final class RawJsonNode extends JsonNode {
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
+    private final String json;
+    private final JsonNodeType jsonNodeType;
+    private volatile JsonNode tree;
+
+    private RawJsonNode(final String json) {
+        this.json = json;
+        this.jsonNodeType = typeOf(json);
+    }
+
+    static RawJsonNode rawJsonNode(final String json) {
+        if (json == null) {
+            throw new NullPointerException("JSON is null");
+        }
+        final JsonValidationResult jsonValidationResult = JSON_PARSER.validate(json);
+        if (!jsonValidationResult.isValid()) {
+            throw new IllegalArgumentException("Attempt to construct a raw JSON node from invalid JSON [" + json + "]:  " + jsonValidationResult.getMessage());
+        }
+        return new RawJsonNode(json.trim());
+    }
+
+    static RawJsonNode trustedRawJsonNode(final String json) {
+        if (json == null) {
+            throw new NullPointerException("JSON is null");
+        }
+        final String trimmed = json.trim();
+        if (trimmed.length() == 0) {
+            throw new IllegalArgumentException("Attempt to construct a raw JSON node from blank JSON");
+        }
+        return new RawJsonNode(trimmed);
+    }
+
+    private static JsonNodeType typeOf(final String json) {
+        switch (json.charAt(0)) {
+            case '{':
+                return JsonNodeType.OBJECT;
+            case '[':
+                return JsonNodeType.ARRAY;
+            case '"':
+                return JsonNodeType.STRING;
+            case 't':
+                return JsonNodeType.TRUE;
+            case 'f':
+                return JsonNodeType.FALSE;
+            case 'n':
+                return JsonNodeType.NULL;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return JsonNodeType.NUMBER;
+            default:
+                throw new IllegalArgumentException("Attempt to construct a raw JSON node from JSON [" + json + "] that doesn't start with a value");
+        }
+    }
+
+    JsonNode tree() {
+        JsonNode result = tree;
+        if (result == null) {
+            try {
+                result = JSON_PARSER.parse(json);
+            } catch (final InvalidSyntaxException e) {
+                throw new IllegalStateException("Trusted raw JSON [" + json + "] is invalid", e);
+            }
+            tree = result;
+        }
+        return result;
+    }
+
+    @Override
+    public JsonNodeType getType() {
+        return jsonNodeType;
+    }
+
+    @Override
+    public boolean hasText() {
+        return tree().hasText();
+    }
+
+    @Override
+    public String getText() {
+        return tree().getText();
+    }
+
+    @Override
+    public boolean hasFields() {
+        return tree().hasFields();
+    }
+
+    @Override
+    public Map<JsonStringNode, JsonNode> getFields() {
+        return tree().getFields();
+    }
+
+    @Override
+    JsonNode fieldValue(final JsonStringNode name) {
+        return tree().fieldValue(name);
+    }
+
+    @Override
+    public List<JsonField> getFieldList() {
+        return tree().getFieldList();
+    }
+
+    @Override
+    public boolean hasElements() {
+        return tree().hasElements();
+    }
+
+    @Override
+    public List<JsonNode> getElements() {
+        return tree().getElements();
+    }
+
+    @Override
+    JsonNode elementValue(final int index) {
+        return tree().elementValue(index);
+    }
+
+    @Override
+    public void visit(final JsonNodeVisitor jsonNodeVisitor) {
+        if (!(jsonNodeVisitor instanceof RawJsonVisitor) || !((RawJsonVisitor) jsonNodeVisitor).raw(json)) {
+            tree().visit(jsonNodeVisitor);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        return this == that || tree().equals(that instanceof RawJsonNode ? ((RawJsonNode) that).tree() : that);
+    }
+
+    @Override
+    public int hashCode() {
+        return tree().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RawJsonNode{json='" + json + "'}";
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JsonNode;
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static argo.jdom.JsonNodeFactories.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferingWriterTest {
+
+    @Test
+    void passesBufferedCharactersToTargetOnFlushBuffer() throws IOException {
+        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final BufferingWriter bufferingWriter = new BufferingWriter(stringBuilderWriter, 8);
+        bufferingWriter.write('a');
+        bufferingWriter.write("bcd");
+        bufferingWriter.write(new char[]{'e', 'f'}, 0, 2);
+        assertThat(stringBuilderWriter.toString(), equalTo(""));
+        bufferingWriter.flushBuffer();
+        assertThat(stringBuilderWriter.toString(), equalTo("abcdef"));
+    }
+
+    @Test
+    void writesThroughWhenBufferOverflows() throws IOException {
+        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final BufferingWriter bufferingWriter = new BufferingWriter(stringBuilderWriter, 4);
+        bufferingWriter.write("ab");
+        bufferingWriter.write("cdefghij");
+        bufferingWriter.write("kl");
+        bufferingWriter.write("mno");
+        bufferingWriter.write('p');
+        bufferingWriter.close();
+        assertThat(stringBuilderWriter.toString(), equalTo("abcdefghijklmnop"));
+    }
+
+    @Test
+    void rejectsOutOfBoundsCharArrayWrite() {
+        final BufferingWriter bufferingWriter = new BufferingWriter(new StringBuilderWriter());
+        assertThrows(IndexOutOfBoundsException.class, () -> bufferingWriter.write(new char[2], 1, 2));
+    }
+
+    @Test
+    void generatorMakesOneWriteToTargetForSmallDocument() throws IOException {
+        final List<String> writes = new ArrayList<>();
+        final Writer recordingWriter = new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) {
+                writes.add(new String(cbuf, off, len));
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final JsonNode jsonNode = object(field("foo", array(string("bar"), number("12"), trueNode(), nullNode())));
+        new JsonGenerator().generate(recordingWriter, jsonNode);
+        assertThat(writes, contains(new JsonGenerator().generate(jsonNode)));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -12,6 +12,7 @@ package argo;
 
 import argo.jdom.JsonNode;
 import argo.jdom.JsonNodeSelectors;
+import argo.jdom.JsonStringNode;
 import org.apache.commons.io.input.BrokenReader;
 import org.apache.commons.io.input.SequenceReader;
 import org.junit.jupiter.api.Test;
@@ -23,12 +24,18 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static argo.JsonParser.NodeInterningStrategy.INTERN_ALL_NODES;
 import static argo.JsonParser.NodeInterningStrategy.INTERN_LEAF_NODES;
 import static argo.JsonParser.NodeInterningStrategy.INTERN_NOTHING;
 import static argo.JsonParser.PositionTracking.DO_NOT_TRACK;
 import static argo.JsonParser.PositionTracking.TRACK;
+import static argo.JsonParser.StringUnescaping.UNESCAPE_EAGERLY;
+import static argo.JsonParser.StringUnescaping.UNESCAPE_LAZILY;
 import static argo.jdom.JsonNodeFactories.*;
 import static argo.jdom.JsonNodeFactories.array;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,6 +104,38 @@ final class JdomParserTest {
         assertThat(parser.parse("{\"foo\": \"bar\"}"), equalTo(object(field("foo", string("bar")))));
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(AllParsersArgumentsProvider.class)
+    void parsesNestedArraysAndObjects(final JdomParserJsonParserShim parser) throws Exception {
+        assertThat(parser.parse("{\"foo\": [[], {}, [1, {\"bar\": [true]}], null], \"baz\": {\"foo\": []}, \"foo\": false}"), equalTo(object(
+                field("foo", array(array(), object(), array(number(1), object(field("bar", array(trueNode())))), nullNode())),
+                field("baz", object(field("foo", array()))),
+                field("foo", falseNode())
+        )));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(AllParsersArgumentsProvider.class)
+    void parsesWideAndDeeplyNestedArraysAndObjects(final JdomParserJsonParserShim parser) throws Exception {
+        final StringBuilder json = new StringBuilder();
+        JsonNode expected = nullNode();
+        final List<JsonNode> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(number(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            expected = i % 2 == 0 ? array(array(elements), expected) : object(field("foo", expected));
+        }
+        for (int i = 99; i >= 0; i--) {
+            json.append(i % 2 == 0 ? "[[" + elements.stream().map(JsonNode::getText).collect(Collectors.joining(",")) + "]," : "{\"foo\":");
+        }
+        json.append("null");
+        for (int i = 0; i < 100; i++) {
+            json.append(i % 2 == 0 ? "]" : "}");
+        }
+        assertThat(parser.parse(json.toString()), equalTo(expected));
+    }
+
     @ParameterizedTest
     @ArgumentsSource(AllParsersArgumentsProvider.class)
     void parsesNumberBetweenZeroAndOne(final JdomParserJsonParserShim parser) throws Exception {
@@ -252,6 +291,45 @@ final class JdomParserTest {
         assertThat(jsonNode.getNode(0), sameInstance(jsonNode.getNode(1)));
     }
 
+    @Test
+    void equalObjectsAndArraysInTheSameDocumentReferToTheSameObjectWhenAllNodesAreInterned() throws Exception {
+        final JsonNode jsonNode = new JsonParser().nodeInterning(INTERN_ALL_NODES).parse("[{\"a\": [1, [\"b\"]]}, [1, [\"b\"]], {\"a\": [1, [\"b\"]]}, {\"c\": {\"a\": [1, [\"b\"]]}}]");
+        assertThat(jsonNode.getNode(0), sameInstance(jsonNode.getNode(2)));
+        assertThat(jsonNode.getNode(0), sameInstance(jsonNode.getNode(3, "c")));
+        assertThat(jsonNode.getNode(0, "a"), sameInstance(jsonNode.getNode(1)));
+        assertThat(jsonNode, equalTo(new JsonParser().nodeInterning(INTERN_NOTHING).parse("[{\"a\": [1, [\"b\"]]}, [1, [\"b\"]], {\"a\": [1, [\"b\"]]}, {\"c\": {\"a\": [1, [\"b\"]]}}]")));
+    }
+
+    @Test
+    void objectsThatDifferOnlyInFieldOrderAreNotInternedTogether() throws Exception {
+        final JsonNode jsonNode = new JsonParser().nodeInterning(INTERN_ALL_NODES).parse("[{\"a\": 1, \"b\": 2}, {\"b\": 2, \"a\": 1}, [1, 2], [2, 1]]");
+        assertThat(jsonNode.getNode(0), not(sameInstance(jsonNode.getNode(1))));
+        assertThat(jsonNode.getNode(2), not(sameInstance(jsonNode.getNode(3))));
+    }
+
+    @Test
+    void equalObjectsInTheSameDocumentReferToDifferentObjectsWhenOnlyLeafNodesAreInterned() throws Exception {
+        final JsonNode jsonNode = new JsonParser().nodeInterning(INTERN_LEAF_NODES).parse("[{\"value\": 0.6}, {\"value\": 0.6}]");
+        assertThat(jsonNode.getNode(0), not(sameInstance(jsonNode.getNode(1))));
+        assertThat(jsonNode.getNode(0), equalTo(jsonNode.getNode(1)));
+    }
+
+    @Test
+    void interningAllNodesRecordsStatisticsForEachParser() throws Exception {
+        final JsonParser jsonParser = new JsonParser().nodeInterning(INTERN_ALL_NODES);
+        jsonParser.parse("[{\"value\": [0.6]}, {\"value\": [0.6]}, {}, []]");
+        final NodeInterningStatistics statistics = jsonParser.nodeInterningStatistics();
+        assertThat(statistics.getLookups(), equalTo(5L));
+        assertThat(statistics.getHits(), equalTo(2L));
+        assertThat(statistics.getEvictions(), equalTo(0L));
+        jsonParser.parse("[[1], [1]]");
+        assertThat(jsonParser.nodeInterningStatistics().getLookups(), equalTo(8L));
+        assertThat(new JsonParser().nodeInterning(INTERN_ALL_NODES).nodeInterningStatistics().getLookups(), equalTo(0L));
+        final JsonParser nonInterningParser = new JsonParser().nodeInterning(INTERN_NOTHING);
+        nonInterningParser.parse("[[1], [1]]");
+        assertThat(nonInterningParser.nodeInterningStatistics().getLookups(), equalTo(0L));
+    }
+
     @Test
     void equalKeysInTheSameDocumentReferToDifferentButEqualObjectsWhenNodesAreNotInterned() throws Exception {
         final JsonNode jsonNode = new JsonParser().nodeInterning(INTERN_NOTHING).parse("[{\"value\": 0.6}, {\"value\": 0.6}]");
@@ -273,6 +351,53 @@ final class JdomParserTest {
         assertThat(jsonNode.getNode(0), equalTo(jsonNode.getNode(1)));
     }
 
+    @Test
+    void lazilyUnescapedStringsEqualEagerlyUnescapedStrings() throws Exception {
+        final String json = "{\"a\\u0062\": [\"\\u00e9\\/\\n\", \"plain\", \"\\\"\"]}";
+        final JsonNode lazilyUnescaped = new JsonParser().stringUnescaping(UNESCAPE_LAZILY).parse(json);
+        final JsonNode eagerlyUnescaped = new JsonParser().stringUnescaping(UNESCAPE_EAGERLY).parse(json);
+        assertThat(lazilyUnescaped, equalTo(eagerlyUnescaped));
+        assertThat(eagerlyUnescaped, equalTo(lazilyUnescaped));
+        assertThat(lazilyUnescaped.hashCode(), equalTo(eagerlyUnescaped.hashCode()));
+        assertThat(lazilyUnescaped.getStringValue("ab", 0), equalTo("\u00e9/\n"));
+    }
+
+    @Test
+    void lazilyUnescapedStringsAreStringNodes() throws Exception {
+        final JsonNode jsonNode = new JsonParser().stringUnescaping(UNESCAPE_LAZILY).parse("[\"\\u00e9\\ud83d\\ude00\\b\\f\\r\\t\\\\\"]");
+        assertThat(jsonNode.getNode(0), instanceOf(JsonStringNode.class));
+        assertThat(jsonNode.getNode(0).getText(), equalTo("\u00e9\ud83d\ude00\b\f\r\t\\"));
+        assertThat(((JsonStringNode) jsonNode.getNode(0)).compareTo(string("\u00e9")), greaterThan(0));
+    }
+
+    @Test
+    void lazilyUnescapedStringsAreGeneratedAsTheyWereParsed() throws Exception {
+        final JsonNode jsonNode = new JsonParser().stringUnescaping(UNESCAPE_LAZILY).parse("[\"\\u00E9\\/<\", \"\u00e9<\"]");
+        assertThat(new JsonGenerator().style(JsonGenerator.JsonGeneratorStyle.COMPACT).generate(jsonNode), equalTo("[\"\\u00E9\\/<\",\"\u00e9<\"]"));
+        assertThat(new JsonGenerator().style(JsonGenerator.JsonGeneratorStyle.COMPACT).escaping(JsonGenerator.JsonStringEscaping.HTML_SAFE).generate(jsonNode), equalTo("[\"\\u00E9\\/\\u003c\",\"\u00e9\\u003c\"]"));
+    }
+
+    @Test
+    void lazilyUnescapedStringsAreGeneratedWithSignedUnicodeEscapesNormalised() throws Exception {
+        final JsonNode jsonNode = new JsonParser().stringUnescaping(UNESCAPE_LAZILY).parse("[\"\\u+04A\", \"\\u-001\"]");
+        assertThat(new JsonGenerator().style(JsonGenerator.JsonGeneratorStyle.COMPACT).generate(jsonNode), equalTo("[\"\\u004a\",\"\\uffff\"]"));
+        assertThat(jsonNode, equalTo(array(string("J"), string("\uffff"))));
+    }
+
+    @Test
+    void equalLazilyUnescapedStringsInTheSameDocumentReferToTheSameObjectWhenNodesAreInternedAndTheyAreEscapedIdentically() throws Exception {
+        final JsonNode jsonNode = new JsonParser().stringUnescaping(UNESCAPE_LAZILY).parse("[\"\\n\", \"\\n\", \"\\u000a\"]");
+        assertThat(jsonNode.getNode(0), sameInstance(jsonNode.getNode(1)));
+        assertThat(jsonNode.getNode(0), not(sameInstance(jsonNode.getNode(2))));
+        assertThat(jsonNode.getNode(0), equalTo(jsonNode.getNode(2)));
+    }
+
+    @Test
+    void rejectsInvalidEscapeSequencesWhenUnescapingLazily() {
+        final InvalidSyntaxException invalidSyntaxException = assertThrows(InvalidSyntaxException.class, () -> new JsonParser().stringUnescaping(UNESCAPE_LAZILY).parse("[\"\\u00G0\"]"));
+        assertThat(invalidSyntaxException.getMessage(), equalTo("At line 1, column 4:  Unable to parse escaped character [0, 0, G, 0] as a hexadecimal number"));
+    }
+
     @Test
     void rejectsNullNodeInterningArgument() {
         assertThrows(NullPointerException.class, () -> new JsonParser().nodeInterning(null));
@@ -283,6 +408,11 @@ final class JdomParserTest {
         assertThrows(NullPointerException.class, () -> new JsonParser().positionTracking(null));
     }
 
+    @Test
+    void rejectsNullStringUnescapingArgument() {
+        assertThrows(NullPointerException.class, () -> new JsonParser().stringUnescaping(null));
+    }
+
     @Test
     void rejectsZeroBufferSizeArgument() {
         final IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> new JsonParser().bufferSize(0));
@@ -304,11 +434,16 @@ final class JdomParserTest {
                     new JdomParserJsonParserShim.Json(new JsonParser()),
                     new JdomParserJsonParserShim.Json(new JsonParser().nodeInterning(INTERN_LEAF_NODES)),
                     new JdomParserJsonParserShim.Json(new JsonParser().nodeInterning(INTERN_NOTHING)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().nodeInterning(INTERN_ALL_NODES)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().nodeInterning(INTERN_ALL_NODES).stringUnescaping(UNESCAPE_LAZILY)),
                     new JdomParserJsonParserShim.Json(new JsonParser().positionTracking(TRACK)),
                     new JdomParserJsonParserShim.Json(new JsonParser().positionTracking(DO_NOT_TRACK)),
                     new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1024)),
                     new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1).positionTracking(TRACK)),
-                    new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1).positionTracking(DO_NOT_TRACK))
+                    new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1).positionTracking(DO_NOT_TRACK)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().stringUnescaping(UNESCAPE_EAGERLY)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().stringUnescaping(UNESCAPE_LAZILY)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().stringUnescaping(UNESCAPE_LAZILY).bufferSize(1))
             ).map(Arguments::arguments);
         }
     }
@@ -321,11 +456,15 @@ final class JdomParserTest {
                     new JdomParserJsonParserShim.Jdom(new argo.jdom.JdomParser()),
                     new JdomParserJsonParserShim.Json(new JsonParser()),
                     new JdomParserJsonParserShim.Json(new JsonParser().nodeInterning(INTERN_LEAF_NODES)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().nodeInterning(INTERN_ALL_NODES)),
                     new JdomParserJsonParserShim.Json(new JsonParser().positionTracking(TRACK)),
                     new JdomParserJsonParserShim.Json(new JsonParser().positionTracking(DO_NOT_TRACK)),
                     new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1024)),
                     new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1).positionTracking(TRACK)),
-                    new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1).positionTracking(DO_NOT_TRACK))
+                    new JdomParserJsonParserShim.Json(new JsonParser().bufferSize(1).positionTracking(DO_NOT_TRACK)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().stringUnescaping(UNESCAPE_EAGERLY)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().stringUnescaping(UNESCAPE_LAZILY)),
+                    new JdomParserJsonParserShim.Json(new JsonParser().stringUnescaping(UNESCAPE_LAZILY).bufferSize(1))
             ).map(Arguments::arguments);
         }
     }
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -188,4 +188,38 @@ final class JsonEscapedStringTest {
     void formatsAnUnescapedCharacterSurroundedByEscapedCharacters() throws Exception {
         assertThat(escapeString("\"a\n"), equalTo("\\\"a\\n"));
     }
+
+    @Test
+    void formatsAStringWithOffsetAndLength() throws Exception {
+        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        JsonEscapedString.MINIMAL.escape(stringBuilderWriter, "a\"bc", 1, 2);
+        assertThat(stringBuilderWriter.toString(), equalTo("\\\"b"));
+    }
+
+    @Test
+    void rejectsStringRangeOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> JsonEscapedString.MINIMAL.escape(NullWriter.INSTANCE, "abc", 2, 2));
+    }
+
+    @Test
+    void minimalEscapingPassesThroughNonAsciiCharacters() throws Exception {
+        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        JsonEscapedString.MINIMAL.escape(stringBuilderWriter, "<é\u2028\ud83d\ude00>", 0, 6);
+        assertThat(stringBuilderWriter.toString(), equalTo("<é\u2028\ud83d\ude00>"));
+    }
+
+    @Test
+    void asciiEscapingEscapesNonAsciiCharacters() throws Exception {
+        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        JsonEscapedString.ASCII.escape(stringBuilderWriter, "a\u007fé\u2028\ud83d\ude00\n", 0, 7);
+        assertThat(stringBuilderWriter.toString(), equalTo("a\u007f\\u00e9\\u2028\\ud83d\\ude00\\n"));
+    }
+
+    @Test
+    void htmlSafeEscapingEscapesMarkupCharactersAndLineTerminators() throws Exception {
+        final StringBuilderWriter stringBuilderWriter = new StringBuilderWriter();
+        final String value = "</script>&'é\u2028\u2029\"";
+        JsonEscapedString.HTML_SAFE.escape(stringBuilderWriter, value, 0, value.length());
+        assertThat(stringBuilderWriter.toString(), equalTo("\\u003c/script\\u003e\\u0026\\u0027é\\u2028\\u2029\\\""));
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.format.WriteableJsonArray;
+import argo.format.WriteableJsonNumber;
+import argo.format.WriteableJsonObject;
+import argo.format.WriteableJsonString;
+import argo.internal.StringBuilderWriter;
+import argo.jdom.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.JsonGenerator.JsonGeneratorStyle.PRETTY;
+import static argo.JsonGenerator.JsonStringEscaping.MINIMAL;
+import static argo.JsonGeneratorRecycler.jsonGeneratorRecycler;
+import static argo.jdom.JsonNodeFactories.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonGeneratorRecyclerTest {
+
+    private static final JsonNode JSON_NODE = object(field("name", string("value")), field("values", array(number(1), object(field("a", nullNode())))));
+
+    @Test
+    void reusesReleasedPrinter() {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(PRETTY, MINIMAL, false, "\n", new StringWriter());
+        jsonGeneratorRecycler.release(jsonPrinter);
+        assertThat(jsonGeneratorRecycler.jsonPrinter(PRETTY, MINIMAL, false, "\n", new StringWriter()), sameInstance(jsonPrinter));
+    }
+
+    @Test
+    void providesNewPrinterWhileRecycledPrinterIsInUse() {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(COMPACT, MINIMAL, false, "\n", new StringWriter());
+        try {
+            assertThat(jsonGeneratorRecycler.jsonPrinter(COMPACT, MINIMAL, false, "\n", new StringWriter()), not(sameInstance(jsonPrinter)));
+        } finally {
+            jsonGeneratorRecycler.release(jsonPrinter);
+        }
+    }
+
+    @Test
+    void providesNewPrinterForDifferentLineSeparator() {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final JsonPrinter jsonPrinter = jsonGeneratorRecycler.jsonPrinter(PRETTY, MINIMAL, false, "\n", new StringWriter());
+        jsonGeneratorRecycler.release(jsonPrinter);
+        final JsonPrinter otherJsonPrinter = jsonGeneratorRecycler.jsonPrinter(PRETTY, MINIMAL, false, "\r\n", new StringWriter());
+        jsonGeneratorRecycler.release(otherJsonPrinter);
+        assertThat(otherJsonPrinter, not(sameInstance(jsonPrinter)));
+    }
+
+    @Test
+    void clearsReusedStringBuilderWriter() {
+        final JsonGeneratorRecycler jsonGeneratorRecycler = jsonGeneratorRecycler();
+        final StringBuilderWriter stringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
+        stringBuilderWriter.write("content");
+        jsonGeneratorRecycler.release(stringBuilderWriter);
+        final StringBuilderWriter reusedStringBuilderWriter = jsonGeneratorRecycler.stringBuilderWriter();
+        jsonGeneratorRecycler.release(reusedStringBuilderWriter);
+        assertThat(reusedStringBuilderWriter, sameInstance(stringBuilderWriter));
+        assertThat(reusedStringBuilderWriter.toString(), equalTo(""));
+    }
+
+    @Test
+    void generatesSameOutputAfterAFailedDocument() {
+        final JsonGenerator jsonGenerator = new JsonGenerator();
+        final String expected = jsonGenerator.generate(JSON_NODE);
+        assertThrows(IOException.class, () -> jsonGenerator.generate((WriteableJsonObject) objectWriter -> objectWriter.writeField("x", (WriteableJsonArray) arrayWriter -> {
+            arrayWriter.writeElement(1L);
+            throw new IOException("An IOException");
+        })));
+        assertThrows(IllegalStateException.class, () -> jsonGenerator.generate((WriteableJsonArray) arrayWriter -> arrayWriter.writeElement((WriteableJsonNumber) writer -> writer.write("1e"))));
+        assertThat(jsonGenerator.generate(JSON_NODE), equalTo(expected));
+        assertThat(jsonGenerator.style(COMPACT).generate((WriteableJsonArray) arrayWriter -> arrayWriter.writeElement((WriteableJsonNumber) writer -> writer.write("12"))), equalTo("[12]"));
+    }
+
+    @Test
+    void passesOutputUpToAFailureToTarget() {
+        final IOException ioException = new IOException("An IOException");
+        final WriteableJsonArray failingWriteableJsonArray = arrayWriter -> {
+            arrayWriter.writeElement(string("hello"));
+            throw ioException;
+        };
+        final StringWriter stringWriter = new StringWriter();
+        assertThat(assertThrows(IOException.class, () -> new JsonGenerator().style(COMPACT).generate(stringWriter, failingWriteableJsonArray)), sameInstance(ioException));
+        assertThat(stringWriter.toString(), equalTo("[\"hello\""));
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        assertThat(assertThrows(IOException.class, () -> new JsonGenerator().style(COMPACT).generate(byteArrayOutputStream, failingWriteableJsonArray)), sameInstance(ioException));
+        assertThat(new String(byteArrayOutputStream.toByteArray(), UTF_8), equalTo("[\"hello\""));
+    }
+
+    @Test
+    void canGenerateWhileGenerating() throws IOException {
+        final JsonGenerator jsonGenerator = new JsonGenerator();
+        final String nested = jsonGenerator.generate(JSON_NODE);
+        assertThat(
+                jsonGenerator.generate((WriteableJsonArray) arrayWriter -> arrayWriter.writeElement((WriteableJsonString) writer -> writer.write(jsonGenerator.generate(JSON_NODE)))),
+                equalTo(jsonGenerator.generate(array(string(nested))))
+        );
+    }
+}
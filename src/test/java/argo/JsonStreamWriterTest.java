@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.JsonGenerator.JsonGeneratorStyle.PRETTY;
+import static argo.format.PreparedJsonString.preparedJsonString;
+import static argo.jdom.JsonNodeFactories.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonStreamWriterTest {
+
+    private static final JsonNode JSON_NODE = object(
+            field("name", string("Black Lace")),
+            field("singles", array(string("Superman"), string("Agadoo"))),
+            field("members", number(2)),
+            field("tours", object()),
+            field("awards", array()),
+            field("active", falseNode()),
+            field("label", nullNode())
+    );
+
+    @Test
+    void writesTheSameOutputAsGeneratingTheEquivalentNode() throws Exception {
+        for (final JsonGenerator jsonGenerator : new JsonGenerator[]{new JsonGenerator().style(PRETTY), new JsonGenerator().style(COMPACT)}) {
+            final StringWriter stringWriter = new StringWriter();
+            final JsonStreamWriter jsonStreamWriter = jsonGenerator.jsonStreamWriter(stringWriter);
+            jsonStreamWriter.startObject();
+            jsonStreamWriter.name("name");
+            jsonStreamWriter.value("Black Lace");
+            jsonStreamWriter.name(preparedJsonString("singles"));
+            jsonStreamWriter.startArray();
+            jsonStreamWriter.value("Superman");
+            jsonStreamWriter.value("Agadoo");
+            jsonStreamWriter.endArray();
+            jsonStreamWriter.name("members");
+            jsonStreamWriter.value(2);
+            jsonStreamWriter.name("tours");
+            jsonStreamWriter.startObject();
+            jsonStreamWriter.endObject();
+            jsonStreamWriter.name("awards");
+            jsonStreamWriter.startArray();
+            jsonStreamWriter.endArray();
+            jsonStreamWriter.name("active");
+            jsonStreamWriter.value(false);
+            jsonStreamWriter.name("label");
+            jsonStreamWriter.nullValue();
+            jsonStreamWriter.endObject();
+            jsonStreamWriter.finish();
+            assertThat(stringWriter.toString(), equalTo(jsonGenerator.generate(JSON_NODE)));
+        }
+    }
+
+    @Test
+    void writesJsonNode() throws Exception {
+        final JsonGenerator jsonGenerator = new JsonGenerator().style(PRETTY);
+        final StringWriter stringWriter = new StringWriter();
+        final JsonStreamWriter jsonStreamWriter = jsonGenerator.jsonStreamWriter(stringWriter);
+        jsonStreamWriter.startArray();
+        jsonStreamWriter.value(JSON_NODE);
+        jsonStreamWriter.endArray();
+        jsonStreamWriter.finish();
+        assertThat(stringWriter.toString(), equalTo(jsonGenerator.generate(array(JSON_NODE))));
+    }
+
+    @Test
+    void writesNumbers() throws Exception {
+        final StringWriter stringWriter = new StringWriter();
+        final JsonStreamWriter jsonStreamWriter = new JsonGenerator().style(COMPACT).jsonStreamWriter(stringWriter);
+        jsonStreamWriter.startArray();
+        jsonStreamWriter.value(Long.MIN_VALUE);
+        jsonStreamWriter.value(0);
+        jsonStreamWriter.value(1.5);
+        jsonStreamWriter.value(new BigDecimal("1.50"));
+        jsonStreamWriter.value(new BigInteger("123456789012345678901234567890"));
+        jsonStreamWriter.endArray();
+        jsonStreamWriter.finish();
+        assertThat(stringWriter.toString(), equalTo("[-9223372036854775808,0,1.5,1.50,123456789012345678901234567890]"));
+    }
+
+    @Test
+    void rejectsNonFiniteDouble() {
+        final JsonStreamWriter jsonStreamWriter = new JsonGenerator().jsonStreamWriter(new StringWriter());
+        assertThrows(IllegalArgumentException.class, () -> jsonStreamWriter.value(Double.NaN));
+    }
+
+    @Test
+    void writesUtf8ToOutputStream() throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final JsonStreamWriter jsonStreamWriter = new JsonGenerator().jsonStreamWriter(byteArrayOutputStream);
+        jsonStreamWriter.value("é😀");
+        jsonStreamWriter.finish();
+        assertThat(new String(byteArrayOutputStream.toByteArray(), UTF_8), equalTo("\"é😀\""));
+    }
+
+    @Test
+    void rejectsEventsOutOfSequence() throws Exception {
+        final JsonStreamWriter jsonStreamWriter = new JsonGenerator().style(COMPACT).jsonStreamWriter(new StringWriter());
+        assertThrows(IllegalStateException.class, jsonStreamWriter::finish);
+        assertThrows(IllegalStateException.class, () -> jsonStreamWriter.name("a"));
+        assertThrows(IllegalStateException.class, jsonStreamWriter::endObject);
+        jsonStreamWriter.startObject();
+        assertThrows(IllegalStateException.class, () -> jsonStreamWriter.value(1));
+        assertThrows(IllegalStateException.class, jsonStreamWriter::endArray);
+        jsonStreamWriter.name("a");
+        assertThrows(IllegalStateException.class, () -> jsonStreamWriter.name("b"));
+        assertThrows(IllegalStateException.class, jsonStreamWriter::endObject);
+        jsonStreamWriter.startArray();
+        assertThrows(IllegalStateException.class, () -> jsonStreamWriter.name("b"));
+        assertThrows(IllegalStateException.class, jsonStreamWriter::finish);
+        jsonStreamWriter.endArray();
+        jsonStreamWriter.endObject();
+        assertThrows(IllegalStateException.class, () -> jsonStreamWriter.value(true));
+    }
+
+    @Test
+    void rejectedEventsWriteNothing() throws Exception {
+        final StringWriter stringWriter = new StringWriter();
+        final JsonStreamWriter jsonStreamWriter = new JsonGenerator().style(COMPACT).jsonStreamWriter(stringWriter);
+        jsonStreamWriter.startArray();
+        jsonStreamWriter.value("a");
+        assertThrows(IllegalStateException.class, () -> jsonStreamWriter.name("b"));
+        jsonStreamWriter.value("c");
+        jsonStreamWriter.endArray();
+        jsonStreamWriter.finish();
+        assertThat(stringWriter.toString(), equalTo("[\"a\",\"c\"]"));
+    }
+
+    @Test
+    void propagatesIOExceptionFromTarget() {
+        final IOException ioException = new IOException("An IOException");
+        final JsonStreamWriter jsonStreamWriter = new JsonGenerator().jsonStreamWriter(new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                throw ioException;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        final IOException actualException = assertThrows(IOException.class, () -> {
+            jsonStreamWriter.value(JSON_NODE);
+            jsonStreamWriter.finish();
+        });
+        assertThat(actualException, equalTo(ioException));
+    }
+}
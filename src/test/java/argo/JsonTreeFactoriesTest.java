@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import org.apache.commons.io.input.BrokenReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonTreeFactoriesTest {
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
+    @Test
+    void parsesIntoMapsAndLists() throws Exception {
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        final Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("b", null);
+        expected.put("a", Arrays.asList(new BigDecimal("1"), new BigDecimal("2.50"), nested, true, false, "xé"));
+        expected.put("c", emptyMap());
+        expected.put("d", emptyList());
+        assertThat(JSON_PARSER.parse("{\"a\": [1, 2.50, {\"b\": null}, true, false, \"x\\u00e9\"], \"c\": {}, \"d\": []}", JsonTreeFactories.mapsAndLists()), equalTo(expected));
+    }
+
+    @Test
+    void mapsAndListsPreservesFieldOrderAndKeepsTheLastOfADuplicatedField() throws Exception {
+        @SuppressWarnings("unchecked") final Map<String, Object> map = (Map<String, Object>) JSON_PARSER.parse("{\"z\": 1, \"a\": 2, \"z\": 3}", JsonTreeFactories.mapsAndLists());
+        assertThat(new ArrayList<>(map.keySet()), contains("z", "a"));
+        assertThat(map.get("z"), equalTo(new BigDecimal("3")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1",
+            "\"a\"",
+            "null",
+            "[]",
+            "{}",
+            "{\"a\": [1, {\"b\": null}, false, -0.5e+10], \"c\": {}, \"a\": \"e\"}",
+            "[[[true]], [], {\"a\": {\"a\": [\"a\"]}}]"
+    })
+    void jsonNodesBuildsTheSameTreeAsParsing(final String json) throws Exception {
+        assertThat(JSON_PARSER.parse(json, JsonTreeFactories.jsonNodes()), equalTo(JSON_PARSER.parse(json)));
+    }
+
+    @Test
+    void callsFactoryInDocumentOrder() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        JSON_PARSER.parse("{\"a\": [1, \"b\"], \"c\": true}", new JsonTreeFactory<String, String, String>() {
+            private int count;
+
+            public String newObject() {
+                return record("newObject");
+            }
+
+            public void addField(final String object, final String name, final String value) {
+                record("addField(" + object + ", " + name + ", " + value + ")");
+            }
+
+            public String endObject(final String object) {
+                return record("endObject(" + object + ")");
+            }
+
+            public String newArray() {
+                return record("newArray");
+            }
+
+            public void addElement(final String array, final String element) {
+                record("addElement(" + array + ", " + element + ")");
+            }
+
+            public String endArray(final String array) {
+                return record("endArray(" + array + ")");
+            }
+
+            public String string(final String value) {
+                return record("string(" + value + ")");
+            }
+
+            public String number(final String value) {
+                return record("number(" + value + ")");
+            }
+
+            public String trueValue() {
+                return record("trueValue");
+            }
+
+            public String falseValue() {
+                return record("falseValue");
+            }
+
+            public String nullValue() {
+                return record("nullValue");
+            }
+
+            private String record(final String call) {
+                calls.add(call);
+                return "#" + count++;
+            }
+        });
+        assertThat(calls, contains(
+                "newObject",
+                "newArray",
+                "number(1)",
+                "addElement(#1, #2)",
+                "string(b)",
+                "addElement(#1, #4)",
+                "endArray(#1)",
+                "addField(#0, a, #6)",
+                "trueValue",
+                "addField(#0, c, #8)",
+                "endObject(#0)"
+        ));
+    }
+
+    @Test
+    void rejectsInvalidSyntax() {
+        assertThrows(InvalidSyntaxException.class, () -> JSON_PARSER.parse("[1,", JsonTreeFactories.mapsAndLists()));
+    }
+
+    @Test
+    void rejectsNullFactory() {
+        assertThrows(NullPointerException.class, () -> JSON_PARSER.parse("[]", (JsonTreeFactory<Object, Object, Object>) null));
+    }
+
+    @Test
+    void rethrowsIOExceptionFromReader() {
+        final IOException ioException = new IOException("An IOException");
+        final IOException actualException = assertThrows(IOException.class, () -> JSON_PARSER.parse(new BrokenReader(() -> ioException), JsonTreeFactories.mapsAndLists()));
+        assertThat(actualException, sameInstance(ioException));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import org.apache.commons.io.input.BrokenReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static argo.JsonParser.PositionTracking.DO_NOT_TRACK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonValidatorTest {
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "42",
+            "-0.5e+10",
+            "\"Foo\\u00e9\\n\"",
+            "true",
+            " [ ] ",
+            "{}",
+            "{\"a\": [1, {\"b\": null}, false], \"c\": {}}",
+            "\r\n[\"a\nb\"]\r\n",
+            "{\"a\": 1,}"
+    })
+    void validatesWhatTheParserAccepts(final String json) throws Exception {
+        JSON_PARSER.parse(json);
+        assertThat(JSON_PARSER.validate(json).isValid(), equalTo(true));
+        assertThat(JSON_PARSER.validate(new StringReader(json)).isValid(), equalTo(true));
+        assertThat(JSON_PARSER.validate(json.getBytes(UTF_8)).isValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "[1,]",
+            "01",
+            "-",
+            "1.",
+            "1e",
+            "tru",
+            "nul x",
+            "{\"a\" 1}",
+            "{1: 2}",
+            "[1\n\r\n 2]",
+            "\"abc",
+            "\"\\x\"",
+            "\"\\u12x4\"",
+            "\"\\u12",
+            "[1] [2]",
+            "{\"a\": [}"
+    })
+    void rejectsWhatTheParserRejectsWithTheSameMessage(final String json) throws Exception {
+        final InvalidSyntaxException invalidSyntaxException = assertThrows(InvalidSyntaxException.class, () -> JSON_PARSER.parse(json));
+        assertThat(JSON_PARSER.validate(json).getMessage(), equalTo(invalidSyntaxException.getMessage()));
+        assertThat(JSON_PARSER.validate(new StringReader(json)).getMessage(), equalTo(invalidSyntaxException.getMessage()));
+        assertThat(JSON_PARSER.validate(json.getBytes(UTF_8)).getMessage(), equalTo(invalidSyntaxException.getMessage()));
+    }
+
+    @Test
+    void reportsPositionOfInvalidSyntax() {
+        final JsonValidationResult jsonValidationResult = JSON_PARSER.validate("{\"a\": 1,\n\"b\" 2}");
+        assertThat(jsonValidationResult.isValid(), equalTo(false));
+        assertThat(jsonValidationResult.getLine(), equalTo(2));
+        assertThat(jsonValidationResult.getColumn(), equalTo(5));
+        assertThat(jsonValidationResult.getOffset(), equalTo(13L));
+    }
+
+    @Test
+    void reportsUnknownLineAndColumnWhenNotTrackingPosition() {
+        final JsonValidationResult jsonValidationResult = new JsonParser().positionTracking(DO_NOT_TRACK).validate("[1,]");
+        assertThat(jsonValidationResult.getLine(), equalTo(-1));
+        assertThat(jsonValidationResult.getColumn(), equalTo(-1));
+        assertThat(jsonValidationResult.getOffset(), equalTo(3L));
+    }
+
+    @Test
+    void validResultHasNoMessageOrPosition() {
+        final JsonValidationResult jsonValidationResult = JSON_PARSER.validate("[]");
+        assertThat(jsonValidationResult.getMessage(), is(nullValue()));
+        assertThat(jsonValidationResult.getLine(), equalTo(-1));
+        assertThat(jsonValidationResult.getColumn(), equalTo(-1));
+        assertThat(jsonValidationResult.getOffset(), equalTo(-1L));
+    }
+
+    @Test
+    void enforcesMaximumDepth() {
+        assertThat(JSON_PARSER.validate("[{\"a\": []}]", 3, Long.MAX_VALUE).isValid(), equalTo(true));
+        assertThat(JSON_PARSER.validate("[{\"a\": [[]]}]", 3, Long.MAX_VALUE).getMessage(), equalTo("At line 1, column 9:  Nesting exceeds maximum depth of 3"));
+        assertThat(JSON_PARSER.validate("1", 0, Long.MAX_VALUE).isValid(), equalTo(true));
+    }
+
+    @Test
+    void enforcesMaximumLength() {
+        assertThat(JSON_PARSER.validate("[1, 2]", Integer.MAX_VALUE, 6).isValid(), equalTo(true));
+        assertThat(JSON_PARSER.validate("[1, 2] ", Integer.MAX_VALUE, 6).getMessage(), equalTo("At line 1, column 7:  Input exceeds maximum length of 6 characters"));
+    }
+
+    @Test
+    void rejectsNegativeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> JSON_PARSER.validate("1", -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> JSON_PARSER.validate("1", 1, -1));
+    }
+
+    @Test
+    void rejectsMalformedUtf8() {
+        final JsonValidationResult jsonValidationResult = JSON_PARSER.validate(new byte[]{'[', '"', (byte) 0xC3, '"', ']'});
+        assertThat(jsonValidationResult.getMessage(), equalTo("At line 1, column 3:  Invalid UTF-8 byte sequence"));
+    }
+
+    @Test
+    void validatesTextSpanningManyBuffers() {
+        final StringBuilder stringBuilder = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            stringBuilder.append("{\"name\": \"value\\t").append(i).append("\"},\n");
+        }
+        stringBuilder.append("null]");
+        assertThat(new JsonParser().bufferSize(7).validate(stringBuilder.toString()).isValid(), equalTo(true));
+    }
+
+    @Test
+    void rethrowsIOExceptionFromReader() {
+        final IOException ioException = new IOException("An IOException");
+        final IOException actualException = assertThrows(IOException.class, () -> JSON_PARSER.validate(new BrokenReader(() -> ioException)));
+        assertThat(actualException, sameInstance(ioException));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JdomParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.JsonGenerator.JsonGeneratorStyle.PRETTY;
+import static argo.JsonGenerator.JsonStringEscaping.ASCII;
+import static argo.JsonGenerator.JsonStringEscaping.HTML_SAFE;
+import static argo.jdom.JsonNodeFactories.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TranscodingJsonListenerTest {
+
+    private static final String JSON = "{\"a\": [1, 2.5e3, {\"b\": []}, {}], \"c\": {\"d\": null, \"e\": true, \"f\": false}, \"g\": \"x\\\"y\\u2028<\\u00e9\"}";
+
+    @Test
+    void transcodesToTheSameOutputAsGeneratingAParsedDocument() throws Exception {
+        for (final JsonGenerator jsonGenerator : new JsonGenerator[]{
+                new JsonGenerator().style(PRETTY),
+                new JsonGenerator().style(COMPACT),
+                new JsonGenerator().style(COMPACT).escaping(ASCII),
+                new JsonGenerator().style(PRETTY).escaping(HTML_SAFE)
+        }) {
+            assertThat(transcode(jsonGenerator, JSON, null), equalTo(jsonGenerator.generate(new JdomParser().parse(JSON))));
+        }
+    }
+
+    @Test
+    void transcodesTopLevelValues() throws Exception {
+        assertThat(transcode(new JsonGenerator(), "  12 ", null), equalTo("12"));
+        assertThat(transcode(new JsonGenerator(), "\"foo\"", null), equalTo("\"foo\""));
+        assertThat(transcode(new JsonGenerator(), "[]", null), equalTo("[]"));
+    }
+
+    @Test
+    void transcodesDeeplyNestedDocument() throws Exception {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            stringBuilder.append('[');
+        }
+        for (int i = 0; i < 1000; i++) {
+            stringBuilder.append(']');
+        }
+        assertThat(transcode(new JsonGenerator().style(COMPACT), stringBuilder.toString(), null), equalTo(stringBuilder.toString()));
+    }
+
+    @Test
+    void appliesFieldTransformer() throws Exception {
+        assertThat(transcode(new JsonGenerator().style(COMPACT), JSON, new JsonFieldTransformer() {
+            public TransformedField transform(final String name, final int depth) {
+                if ("a".equals(name)) {
+                    return TransformedField.drop();
+                } else if ("d".equals(name)) {
+                    return TransformedField.rename("D" + depth);
+                } else if ("e".equals(name)) {
+                    return TransformedField.replace(array(string("r")));
+                } else if ("g".equals(name)) {
+                    return TransformedField.replace("G", number(7));
+                } else {
+                    return TransformedField.keep();
+                }
+            }
+        }), equalTo("{\"c\":{\"D2\":null,\"e\":[\"r\"],\"f\":false},\"G\":7}"));
+    }
+
+    @Test
+    void droppingEveryFieldWritesEmptyObjects() throws Exception {
+        assertThat(transcode(new JsonGenerator(), "{\"a\": {\"b\": 1}, \"c\": 2}", new JsonFieldTransformer() {
+            public TransformedField transform(final String name, final int depth) {
+                return TransformedField.drop();
+            }
+        }), equalTo("{}"));
+    }
+
+    @Test
+    void rejectsInvalidSource() {
+        assertThrows(InvalidSyntaxException.class, () -> transcode(new JsonGenerator(), "{\"a\": [1,", null));
+    }
+
+    @Test
+    void passesOutputUpToInvalidSourceToTarget() {
+        final StringWriter stringWriter = new StringWriter();
+        assertThrows(InvalidSyntaxException.class, () -> new JsonGenerator().style(COMPACT).transcode(new StringReader("{\"a\": [1, \"b\" "), stringWriter));
+        assertThat(stringWriter.toString(), equalTo("{\"a\":[1,\"b\""));
+    }
+
+    @Test
+    void passesOutputUpToUnreadableSourceToTarget() {
+        final IOException ioException = new IOException("An IOException");
+        final StringWriter stringWriter = new StringWriter();
+        final IOException actualException = assertThrows(IOException.class, () -> new JsonGenerator().style(COMPACT).transcode(new Reader() {
+            private boolean read;
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                if (read) {
+                    throw ioException;
+                }
+                read = true;
+                "[true,".getChars(0, 6, cbuf, off);
+                return 6;
+            }
+
+            @Override
+            public void close() {
+            }
+        }, stringWriter));
+        assertThat(actualException, equalTo(ioException));
+        assertThat(stringWriter.toString(), equalTo("[true"));
+    }
+
+    @Test
+    void propagatesIOExceptionFromTarget() {
+        final IOException ioException = new IOException("An IOException");
+        final IOException actualException = assertThrows(IOException.class, () -> new JsonGenerator().transcode(new StringReader("[1]"), new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                throw ioException;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        }));
+        assertThat(actualException, equalTo(ioException));
+    }
+
+    @Test
+    void reportsInvalidSourceRatherThanFailureOfTargetToAcceptPartialOutput() {
+        assertThrows(InvalidSyntaxException.class, () -> new JsonGenerator().transcode(new StringReader("[1, "), new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                throw new IOException("An IOException");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        }));
+    }
+
+    private static String transcode(final JsonGenerator jsonGenerator, final String json, final JsonFieldTransformer jsonFieldTransformer) throws IOException, InvalidSyntaxException {
+        final StringWriter stringWriter = new StringWriter();
+        jsonGenerator.transcode(new StringReader(json), stringWriter, jsonFieldTransformer);
+        return stringWriter.toString();
+    }
+}
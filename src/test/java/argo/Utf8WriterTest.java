@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo;
+
+import argo.jdom.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.Utf8Writer.utf8Writer;
+import static argo.jdom.JsonNodeFactories.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Utf8WriterTest {
+
+    private static final JsonNode JSON_NODE = object(field("name", string("café € 😀")), field("values", array(number("1"), trueNode(), nullNode())));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "plain ascii", "éࠀ߿￿", "😀", "a😀b𐏿"})
+    void encodesLikeString(final String value) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (Utf8Writer utf8Writer = utf8Writer(byteArrayOutputStream)) {
+            utf8Writer.write(value);
+        }
+        assertThat(byteArrayOutputStream.toByteArray(), equalTo(value.getBytes(UTF_8)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\ud800", "\udc00", "a\ud800b", "\udc00\ud800"})
+    void replacesUnpairedSurrogates(final String value) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (Utf8Writer utf8Writer = utf8Writer(byteArrayOutputStream)) {
+            utf8Writer.write(value);
+        }
+        assertThat(byteArrayOutputStream.toByteArray(), equalTo(value.getBytes(UTF_8)));
+    }
+
+    @Test
+    void encodesSurrogatePairSplitAcrossWrites() throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (Utf8Writer utf8Writer = utf8Writer(byteArrayOutputStream)) {
+            utf8Writer.write('\ud83d');
+            utf8Writer.write("\ude00");
+        }
+        assertThat(byteArrayOutputStream.toByteArray(), equalTo("😀".getBytes(UTF_8)));
+    }
+
+    @Test
+    void encodesTextLongerThanBuffer() throws IOException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < Utf8Writer.BYTE_BUFFER_SIZE; i++) {
+            stringBuilder.append("aé€😀".charAt(i % 5));
+        }
+        final String value = stringBuilder.toString();
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (Utf8Writer utf8Writer = utf8Writer(byteArrayOutputStream)) {
+            utf8Writer.write(value);
+        }
+        assertThat(byteArrayOutputStream.toByteArray(), equalTo(value.getBytes(UTF_8)));
+    }
+
+    @Test
+    void generatesToOutputStream() throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        new JsonGenerator().style(COMPACT).generate(byteArrayOutputStream, JSON_NODE);
+        assertThat(byteArrayOutputStream.toByteArray(), equalTo(new JsonGenerator().style(COMPACT).generate(JSON_NODE).getBytes(UTF_8)));
+    }
+
+    @Test
+    void generatesToWritableByteChannel() throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        new JsonGenerator().generate(Channels.newChannel(byteArrayOutputStream), JSON_NODE);
+        assertThat(byteArrayOutputStream.toByteArray(), equalTo(new JsonGenerator().generate(JSON_NODE).getBytes(UTF_8)));
+    }
+
+    @Test
+    void generatesToByteBuffer() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        byteBuffer.put((byte) 'x');
+        new JsonGenerator().style(COMPACT).generate(byteBuffer, JSON_NODE);
+        byteBuffer.flip();
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        assertThat(bytes, equalTo(("x" + new JsonGenerator().style(COMPACT).generate(JSON_NODE)).getBytes(UTF_8)));
+    }
+
+    @Test
+    void generatingToByteBufferWithInsufficientSpaceThrowsBufferOverflowException() {
+        assertThrows(BufferOverflowException.class, () -> new JsonGenerator().generate(ByteBuffer.allocate(4), JSON_NODE));
+    }
+
+    @Test
+    void generatesBytes() {
+        assertThat(new JsonGenerator().generateBytes(JSON_NODE), equalTo(new JsonGenerator().generate(JSON_NODE).getBytes(UTF_8)));
+    }
+}
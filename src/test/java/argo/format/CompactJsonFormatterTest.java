@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -148,6 +148,24 @@ final class CompactJsonFormatterTest {
         assertThat(jsonFormatter.format(object(field("b", string("A String")), field("a", string("A String")))), equalTo("{\"a\":\"A String\",\"b\":\"A String\"}"));
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(FieldOrderNormalisingCompactJsonFormatterArgumentsProvider.class)
+    void formatsDeeplyNestedNodes(final JsonFormatter jsonFormatter) {
+        JsonNode jsonNode = nullNode();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            jsonNode = i % 2 == 0 ? array(jsonNode, number(i)) : object(field("b", jsonNode), field("a", string("A String")));
+        }
+        for (int i = 99999; i >= 0; i--) {
+            expected.append(i % 2 == 0 ? "[" : "{\"a\":\"A String\",\"b\":");
+        }
+        expected.append("null");
+        for (int i = 0; i < 100000; i++) {
+            expected.append(i % 2 == 0 ? "," + i + "]" : "}");
+        }
+        assertThat(jsonFormatter.format(jsonNode), equalTo(expected.toString()));
+    }
+
     static final class FieldOrderPreservingCompactJsonFormatterArgumentsProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) {
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -11,12 +11,14 @@
 package argo.format;
 
 import argo.JsonGenerator;
+import argo.jdom.JsonNode;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.math.BigDecimal;
 import java.util.stream.Stream;
 
 import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
@@ -277,6 +279,65 @@ class CompactJsonWriterTest {
         )), equalTo("{\"Foo\":1234}"));
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void canWriteObjectOfPreparedJsonStringKeyedFields(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) throws Exception {
+        assertThat(jsonGeneratorJsonWriterTestCase.write((WriteableJsonObject) objectWriter -> {
+            objectWriter.writeField(PreparedJsonString.preparedJsonString("Foo"), PreparedJsonString.preparedJsonString("Bar"));
+            objectWriter.writeField(PreparedJsonString.preparedJsonString("\"Baz\"\n"), number("1234"));
+        }), equalTo("{\"Foo\":\"Bar\",\"\\\"Baz\\\"\\n\":1234}"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void canWriteWriteableJsonRawElementsAndFields(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) throws Exception {
+        assertThat(jsonGeneratorJsonWriterTestCase.write((WriteableJsonArray) arrayWriter -> {
+            arrayWriter.writeElement((WriteableJsonRaw) writer -> writer.write("{\"a\": [1, 2]}"));
+            arrayWriter.writeElement((WriteableJsonObject) objectWriter -> {
+                objectWriter.writeField("b", (WriteableJsonRaw) writer -> writer.write("true"));
+                objectWriter.writeField(string("c"), (WriteableJsonRaw) writer -> writer.write("\"d\""));
+                objectWriter.writeField((WriteableJsonString) writer -> writer.write("e"), (WriteableJsonRaw) writer -> writer.write("null"));
+            });
+        }), equalTo("[{\"a\": [1, 2]},{\"b\":true,\"c\":\"d\",\"e\":null}]"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void canWriteMemoizedNodeRepeatedly(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) throws Exception {
+        final JsonNode memoizedNode = memoized(object(field("a", array(number("1"), string("\"b\"")))));
+        assertThat(jsonGeneratorJsonWriterTestCase.write(array(memoizedNode, object(field("c", memoizedNode)))), equalTo("[{\"a\":[1,\"\\\"b\\\"\"]},{\"c\":{\"a\":[1,\"\\\"b\\\"\"]}}]"));
+        assertThat(jsonGeneratorJsonWriterTestCase.write(memoizedNode), equalTo("{\"a\":[1,\"\\\"b\\\"\"]}"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void canWriteAnArrayOfPrimitiveNumbers(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) throws Exception {
+        assertThat(jsonGeneratorJsonWriterTestCase.write((WriteableJsonArray) arrayWriter -> {
+            arrayWriter.writeElement(0);
+            arrayWriter.writeElement(-42);
+            arrayWriter.writeElement(Long.MIN_VALUE);
+            arrayWriter.writeElement(Long.MAX_VALUE);
+            arrayWriter.writeElement(1.5);
+            arrayWriter.writeElement(new BigDecimal("-1.25E+7"));
+        }), equalTo("[0,-42,-9223372036854775808,9223372036854775807,1.5,-1.25E+7]"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void canWriteObjectOfPrimitiveNumberFields(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) throws Exception {
+        assertThat(jsonGeneratorJsonWriterTestCase.write((WriteableJsonObject) objectWriter -> {
+            objectWriter.writeField("Foo", 123);
+            objectWriter.writeField(string("Bar"), 0.25);
+            objectWriter.writeField(writer -> writer.write("Baz"), BigDecimal.TEN);
+        }), equalTo("{\"Foo\":123,\"Bar\":0.25,\"Baz\":10}"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void rejectsNonFiniteDouble(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) {
+        assertThrows(IllegalArgumentException.class, () -> jsonGeneratorJsonWriterTestCase.write((WriteableJsonArray) arrayWriter -> arrayWriter.writeElement(Double.NaN)));
+    }
+
     @SuppressWarnings("deprecation")
     static final class JsonGeneratorJsonWriterShimArgumentsProvider implements ArgumentsProvider {
         @Override
@@ -286,7 +347,8 @@ class CompactJsonWriterTest {
                             new CompactJsonWriter(),
                             new JsonGeneratorJsonWriterAdapter(new JsonGenerator().style(COMPACT))
                     ).map(WriterJsonGeneratorJsonWriterTestCase::new), Stream.of(
-                            new StringJsonGeneratorJsonWriterTestCase(new JsonGenerator().style(COMPACT))
+                            new StringJsonGeneratorJsonWriterTestCase(new JsonGenerator().style(COMPACT)),
+                            new OutputStreamJsonGeneratorJsonWriterTestCase(new JsonGenerator().style(COMPACT))
                     )).map(Arguments::arguments);
         }
     }
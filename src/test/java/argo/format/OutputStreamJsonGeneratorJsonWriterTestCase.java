@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.format;
+
+import argo.JsonGenerator;
+import argo.jdom.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class OutputStreamJsonGeneratorJsonWriterTestCase implements JsonGeneratorJsonWriterTestCase {
+    private final JsonGenerator jsonGenerator;
+
+    OutputStreamJsonGeneratorJsonWriterTestCase(final JsonGenerator jsonGenerator) {
+        this.jsonGenerator = jsonGenerator;
+    }
+
+    @Override
+    public String write(final WriteableJsonArray writeableJsonArray) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonGenerator.generate(byteArrayOutputStream, writeableJsonArray);
+        return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+    }
+
+    @Override
+    public String write(final WriteableJsonObject writeableJsonObject) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonGenerator.generate(byteArrayOutputStream, writeableJsonObject);
+        return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+    }
+
+    @Override
+    public String write(final WriteableJsonString writeableJsonString) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonGenerator.generate(byteArrayOutputStream, writeableJsonString);
+        return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+    }
+
+    @Override
+    public String write(final WriteableJsonNumber writeableJsonNumber) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonGenerator.generate(byteArrayOutputStream, writeableJsonNumber);
+        return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+    }
+
+    @Override
+    public String write(final JsonNode jsonNode) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonGenerator.generate(byteArrayOutputStream, jsonNode);
+        return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "OutputStreamTestCase{" +
+                "jsonGenerator=" + jsonGenerator +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.format;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static argo.format.PreparedJsonString.preparedJsonString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class PreparedJsonStringTest {
+
+    @Test
+    void rejectsNullValue() {
+        assertThrows(NullPointerException.class, () -> preparedJsonString(null));
+    }
+
+    @Test
+    void hasPreEscapedFormWhenNoCharactersCouldBeEscaped() {
+        assertThat(preparedJsonString("timestamp").preEscapedForm(), equalTo("\"timestamp\""));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"", "\\", "\n", "\u007f", "é", "<", ">", "&", "'"})
+    void hasNoPreEscapedFormWhenSomeCharacterCouldBeEscaped(final String value) {
+        assertThat(preparedJsonString("a" + value).preEscapedForm(), is(nullValue()));
+    }
+
+    @Test
+    void getTextReturnsValue() {
+        assertThat(preparedJsonString("foo").getText(), equalTo("foo"));
+    }
+
+    @Test
+    void testEquals() {
+        assertThat(preparedJsonString("foo"), equalTo(preparedJsonString("foo")));
+        assertThat(preparedJsonString("foo"), not(equalTo(preparedJsonString("bar"))));
+        assertThat(preparedJsonString("foo").hashCode(), equalTo(preparedJsonString("foo").hashCode()));
+    }
+
+    @Test
+    void testToString() {
+        assertThat(preparedJsonString("foo").toString(), equalTo("PreparedJsonString{value='foo'}"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -11,6 +11,7 @@
 package argo.format;
 
 import argo.JsonGenerator;
+import argo.jdom.JsonNode;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -393,6 +394,30 @@ class PrettyJsonWriterTest {
                 .build()));
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(JsonGeneratorJsonWriterShimArgumentsProvider.class)
+    void canWriteMemoizedNodeRepeatedlyAtDifferentDepths(final JsonGeneratorJsonWriterTestCase jsonGeneratorJsonWriterTestCase) throws Exception {
+        final JsonNode memoizedNode = memoized(object(field("a", array(number("1")))));
+        final String expected = aJsonStringResultBuilder()
+                .printLine("[")
+                .printLine("\t{")
+                .printLine("\t\t\"a\": [")
+                .printLine("\t\t\t1")
+                .printLine("\t\t]")
+                .printLine("\t},")
+                .printLine("\t[")
+                .printLine("\t\t{")
+                .printLine("\t\t\t\"a\": [")
+                .printLine("\t\t\t\t1")
+                .printLine("\t\t\t]")
+                .printLine("\t\t}")
+                .printLine("\t]")
+                .print("]")
+                .build();
+        assertThat(jsonGeneratorJsonWriterTestCase.write(array(memoizedNode, array(memoizedNode))), equalTo(expected));
+        assertThat(jsonGeneratorJsonWriterTestCase.write(array(memoizedNode, array(memoizedNode))), equalTo(expected));
+    }
+
     private WriteableJsonArray recursiveWriteableJsonArray(final int depth) {
         if (depth == 0) {
             return arrayWriter -> {
@@ -413,7 +438,9 @@ class PrettyJsonWriterTest {
                             new JsonGeneratorJsonWriterAdapter(new JsonGenerator().style(PRETTY))
                     ).map(WriterJsonGeneratorJsonWriterTestCase::new), Stream.of(
                             new StringJsonGeneratorJsonWriterTestCase(new JsonGenerator()),
-                            new StringJsonGeneratorJsonWriterTestCase(new JsonGenerator().style(PRETTY))
+                            new StringJsonGeneratorJsonWriterTestCase(new JsonGenerator().style(PRETTY)),
+                            new OutputStreamJsonGeneratorJsonWriterTestCase(new JsonGenerator()),
+                            new OutputStreamJsonGeneratorJsonWriterTestCase(new JsonGenerator().style(PRETTY))
                     )).map(Arguments::arguments);
         }
     }
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -105,6 +105,38 @@ final class JsonArrayTest {
         assertEquals(JsonArray.jsonArray(elements).hashCode(), JsonArray.jsonArray(elements).hashCode());
     }
 
+    @Test
+    void hashCodeIsConsistentWithNestedElementLists() {
+        final List<JsonNode> innerElements = Arrays.asList(string("ho"), number(1), nullNode());
+        final List<JsonNode> elements = Arrays.asList(array(innerElements), object(field("bo", array(innerElements))), trueNode());
+        assertThat(JsonArray.jsonArray(elements).hashCode(), equalTo(Arrays.asList(innerElements, singletonList(field("bo", array(innerElements))), trueNode()).hashCode()));
+    }
+
+    @Test
+    void arraysWithEqualHashCodesButDifferentElementsAreNotEqual() {
+        final JsonNode left = array(array(string("Aa")), array(string("Aa")));
+        final JsonNode right = array(array(string("Aa")), array(string("BB")));
+        assertThat(left.hashCode(), equalTo(right.hashCode()));
+        assertThat(left, not(equalTo(right)));
+    }
+
+    @Test
+    void deeplyNestedArraysCanBeComparedAndHashed() {
+        JsonNode left = nullNode();
+        JsonNode right = nullNode();
+        JsonNode different = number(1);
+        for (int i = 0; i < 100000; i++) {
+            left = array(left, string("ho"));
+            right = array(right, string("ho"));
+            different = array(different, string("ho"));
+        }
+        assertThat(left, equalTo(right));
+        assertThat(left, not(equalTo(different)));
+        assertThat(left.hashCode(), equalTo(right.hashCode()));
+        assertThat(left.hashCode(), not(equalTo(different.hashCode())));
+        assertThat(left, not(equalTo(different)));
+    }
+
     @Test
     void testToString() {
         assertThat(JsonArray.jsonArray(singletonList(number("0"))).toString(), equalTo("JsonArray{elements=[JsonNumberNode{value='0'}]}"));
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.FingerprintedJsonNode;
+import argo.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static argo.jdom.JsonFingerprints.fingerprint;
+import static argo.jdom.JsonNodeFactories.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+final class JsonFingerprintsTest {
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
+    @Test
+    void equalNodesHaveEqualFingerprints() {
+        assertThat(
+                fingerprint(object(field("a", array(number(1), string("b"), trueNode(), falseNode(), nullNode())))),
+                equalTo(fingerprint(object(field("a", array(number("1"), string("b"), trueNode(), falseNode(), nullNode())))))
+        );
+    }
+
+    @Test
+    void rawAndMemoizedNodesHaveTheSameFingerprintAsTheirEquivalentTree() {
+        final JsonNode jsonNode = object(field("a", array(number(1), string("b"))));
+        assertThat(fingerprint(raw("{\"a\": [1, \"b\"]}")), equalTo(fingerprint(jsonNode)));
+        assertThat(fingerprint(memoized(jsonNode)), equalTo(fingerprint(jsonNode)));
+        assertThat(fingerprint(array(raw("[1, \"b\"]"))), equalTo(fingerprint(array(array(number(1), string("b"))))));
+    }
+
+    @Test
+    void structurallyDifferentNodesHaveDifferentFingerprints() {
+        assertThat(fingerprint(array(nullNode(), array())), not(equalTo(fingerprint(array(array(nullNode()))))));
+        assertThat(fingerprint(array(number(1), string("a"))), not(equalTo(fingerprint(array(string("a"), number(1))))));
+        assertThat(fingerprint(object(field("a", string("b")))), not(equalTo(fingerprint(array(string("a"), string("b"))))));
+        assertThat(fingerprint(string("1")), not(equalTo(fingerprint(number(1)))));
+        assertThat(fingerprint(array()), not(equalTo(fingerprint(object()))));
+        assertThat(fingerprint(array()), not(equalTo(fingerprint(array(array())))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1",
+            "\"a\\u00e9\"",
+            "null",
+            "[]",
+            "{}",
+            "{\"a\": [1, {\"b\": null}, false, -0.5e+10], \"c\": {}, \"d\": \"e\"}",
+            "[[[true]], [], {\"a\": {\"a\": [\"a\"]}}]"
+    })
+    void parsingComputesTheFingerprintOfTheParsedNode(final String json) throws Exception {
+        final FingerprintedJsonNode fingerprintedJsonNode = JSON_PARSER.parseWithFingerprint(json);
+        assertThat(fingerprintedJsonNode.getJsonNode(), equalTo(JSON_PARSER.parse(json)));
+        assertThat(fingerprintedJsonNode.getFingerprint(), equalTo(fingerprint(fingerprintedJsonNode.getJsonNode())));
+    }
+
+    @Test
+    void fingerprintsDeeplyNestedNodes() throws Exception {
+        final StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            json.append("[{\"a\":");
+        }
+        json.append("null");
+        for (int i = 0; i < 100000; i++) {
+            json.append("}]");
+        }
+        final FingerprintedJsonNode fingerprintedJsonNode = JSON_PARSER.parseWithFingerprint(json.toString());
+        assertThat(fingerprintedJsonNode.getFingerprint(), equalTo(fingerprint(fingerprintedJsonNode.getJsonNode())));
+    }
+}
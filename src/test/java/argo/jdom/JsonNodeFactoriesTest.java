@@ -375,4 +375,23 @@ final class JsonNodeFactoriesTest {
     void usesAConstantForEmptyArrays() {
         assertThat(array(), sameInstance(array()));
     }
+
+    @Test
+    void memoizedNodeIsEqualToOriginal() {
+        final JsonNode jsonNode = object(field("a", array(number("1"))));
+        assertThat(memoized(jsonNode), equalTo(jsonNode));
+        assertThat(memoized(jsonNode).hashCode(), equalTo(jsonNode.hashCode()));
+    }
+
+    @Test
+    void memoizingAMemoizedNodeReturnsTheSameNode() {
+        final JsonNode memoizedNode = memoized(array(number("1")));
+        assertThat(memoized(memoizedNode), sameInstance(memoizedNode));
+    }
+
+    @Test
+    void memoizingANodeOtherThanAnObjectOrArrayReturnsTheSameNode() {
+        final JsonNode jsonNode = string("a");
+        assertThat(memoized(jsonNode), sameInstance(jsonNode));
+    }
 }
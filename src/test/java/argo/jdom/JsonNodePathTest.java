@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import org.junit.jupiter.api.Test;
+
+import static argo.jdom.JsonNodeFactories.*;
+import static argo.jdom.JsonNodePath.jsonPointer;
+import static argo.jdom.JsonNodePath.path;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonNodePathTest {
+
+    private static final JsonNode SAMPLE_JSON = object(
+            field("name", string("Rossi")),
+            field("championships", array(
+                    number("2002"),
+                    number("2003"))
+            ),
+            field("retirement age", nullNode()),
+            field("0", trueNode()),
+            field("a/b~c", string("escaped"))
+    );
+
+    @Test
+    void resolvesPathOfFieldsAndElements() {
+        assertThat(path("championships", 1).resolve(SAMPLE_JSON), equalTo(number("2003")));
+    }
+
+    @Test
+    void resolvesEmptyPathToTheNodeItself() {
+        assertThat(path().resolve(SAMPLE_JSON), sameInstance(SAMPLE_JSON));
+        assertThat(jsonPointer("").resolve(SAMPLE_JSON), sameInstance(SAMPLE_JSON));
+    }
+
+    @Test
+    void resolvesMissingNodeToNull() {
+        assertThat(path("championships", 2).resolve(SAMPLE_JSON), nullValue());
+        assertThat(path("name", "first").resolve(SAMPLE_JSON), nullValue());
+        assertThat(path(0).resolve(SAMPLE_JSON), nullValue());
+    }
+
+    @Test
+    void resolvesJsonPointer() {
+        assertThat(jsonPointer("/championships/0").resolve(SAMPLE_JSON), equalTo(number("2002")));
+        assertThat(jsonPointer("/0").resolve(SAMPLE_JSON), equalTo(trueNode()));
+        assertThat(jsonPointer("/a~1b~0c").resolve(SAMPLE_JSON), equalTo(string("escaped")));
+    }
+
+    @Test
+    void jsonPointerDoesNotTreatLeadingZeroAsAnArrayIndex() {
+        assertThat(jsonPointer("/championships/01").resolve(SAMPLE_JSON), nullValue());
+    }
+
+    @Test
+    void rejectsInvalidJsonPointers() {
+        assertThrows(IllegalArgumentException.class, () -> jsonPointer("name"));
+        assertThrows(IllegalArgumentException.class, () -> jsonPointer("/a~2"));
+        assertThrows(IllegalArgumentException.class, () -> jsonPointer("/a~"));
+    }
+
+    @Test
+    void rejectsInvalidPathElements() {
+        assertThrows(IllegalArgumentException.class, () -> path("name", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> path(-1));
+    }
+
+    @Test
+    void jsonNodeMethodsAcceptPaths() {
+        assertThat(SAMPLE_JSON.getStringValue(path("name")), equalTo("Rossi"));
+        assertThat(SAMPLE_JSON.isStringValue(path("retirement age")), equalTo(false));
+        assertThat(SAMPLE_JSON.getNullableNumberValue(jsonPointer("/retirement age")), nullValue());
+        assertThat(SAMPLE_JSON.getBooleanValue(jsonPointer("/0")), equalTo(true));
+        assertThat(SAMPLE_JSON.getArrayNode(path("championships")), contains(number("2002"), number("2003")));
+    }
+
+    @Test
+    void failureMessageMatchesEquivalentPathElements() {
+        final JsonNodeDoesNotMatchPathElementsException pathException = assertThrows(JsonNodeDoesNotMatchPathElementsException.class, () -> SAMPLE_JSON.getStringValue(path("championships", 0)));
+        final JsonNodeDoesNotMatchPathElementsException pathElementsException = assertThrows(JsonNodeDoesNotMatchPathElementsException.class, () -> SAMPLE_JSON.getStringValue("championships", 0));
+        assertThat(pathException.getMessage(), equalTo(pathElementsException.getMessage()));
+    }
+
+    @Test
+    void failureMessageForJsonPointerUsesElementsMatchingTheNode() {
+        final JsonNodeDoesNotMatchPathElementsException pointerException = assertThrows(JsonNodeDoesNotMatchPathElementsException.class, () -> SAMPLE_JSON.getStringValue(jsonPointer("/championships/5")));
+        final JsonNodeDoesNotMatchPathElementsException pathElementsException = assertThrows(JsonNodeDoesNotMatchPathElementsException.class, () -> SAMPLE_JSON.getStringValue("championships", 5));
+        assertThat(pointerException.getMessage(), equalTo(pathElementsException.getMessage()));
+    }
+
+    @Test
+    void setReplacesFieldsAndElements() {
+        assertThat(SAMPLE_JSON.set(path("championships", 1), number("2004")).getArrayNode("championships"), contains(number("2002"), number("2004")));
+        assertThat(SAMPLE_JSON.set(jsonPointer("/name"), string("Marquez")).getStringValue("name"), equalTo("Marquez"));
+        assertThat(SAMPLE_JSON.set(jsonPointer("/0"), falseNode()).getBooleanValue("0"), equalTo(false));
+        assertThat(SAMPLE_JSON.set(path("name"), string("Marquez")).getFieldList().get(0), equalTo(field("name", string("Marquez"))));
+    }
+
+    @Test
+    void setAddsMissingFieldsToTheEnd() {
+        final JsonNode updated = SAMPLE_JSON.set(path("team"), string("Yamaha"));
+        assertThat(updated.getFieldList().size(), equalTo(6));
+        assertThat(updated.getFieldList().get(5), equalTo(field("team", string("Yamaha"))));
+    }
+
+    @Test
+    void setWithEmptyPathReturnsTheValue() {
+        assertThat(SAMPLE_JSON.set(path(), trueNode()), sameInstance(trueNode()));
+    }
+
+    @Test
+    void setReplacesTheLastOfDuplicatedFields() {
+        assertThat(object(field("a", number(1)), field("a", number(2))).set(path("a"), number(3)), equalTo(object(field("a", number(1)), field("a", number(3)))));
+    }
+
+    @Test
+    void updatesLeaveTheOriginalUnchanged() {
+        final JsonNode original = array(object(field("a", number(1))));
+        original.set(path(0, "a"), number(2));
+        original.insert(path(), 0, number(2));
+        original.remove(path(0, "a"));
+        assertThat(original, equalTo(array(object(field("a", number(1))))));
+    }
+
+    @Test
+    void updatesShareNodesOffThePathToTheChange() {
+        final JsonNode updated = SAMPLE_JSON.set(path("championships", 0), number("2001"));
+        assertThat(updated.getFieldList().get(0).getName(), sameInstance(SAMPLE_JSON.getFieldList().get(0).getName()));
+        assertThat(updated.getNode("name"), sameInstance(SAMPLE_JSON.getNode("name")));
+        assertThat(updated.getNode("championships", 1), sameInstance(SAMPLE_JSON.getNode("championships", 1)));
+        final JsonNode sharedArray = array(number(1));
+        final JsonNode document = object(field("shared", sharedArray), field("changed", array()));
+        assertThat(document.insert(path("changed"), 0, trueNode()).getNode("shared"), sameInstance(sharedArray));
+        assertThat(document.remove(path("changed")).getNode("shared"), sameInstance(sharedArray));
+    }
+
+    @Test
+    void updatesNodesInsideRawNodes() {
+        assertThat(object(field("a", raw("{\"b\": [1, 2]}"))).set(path("a", "b", 1), number(3)), equalTo(object(field("a", object(field("b", array(number(1), number(3))))))));
+    }
+
+    @Test
+    void insertsElements() {
+        assertThat(SAMPLE_JSON.insert(path("championships"), 0, number("2001")).getArrayNode("championships"), contains(number("2001"), number("2002"), number("2003")));
+        assertThat(SAMPLE_JSON.insert(path("championships"), 1, number("2001")).getArrayNode("championships"), contains(number("2002"), number("2001"), number("2003")));
+        assertThat(SAMPLE_JSON.insert(jsonPointer("/championships"), 2, number("2004")).getArrayNode("championships"), contains(number("2002"), number("2003"), number("2004")));
+        assertThat(array().insert(path(), 0, nullNode()), equalTo(array(nullNode())));
+    }
+
+    @Test
+    void addsElementsAndFieldsAsJsonPatchDoes() {
+        assertThat(jsonPointer("/championships/0").add(SAMPLE_JSON, number("2001")).getArrayNode("championships"), contains(number("2001"), number("2002"), number("2003")));
+        assertThat(jsonPointer("/championships/-").add(SAMPLE_JSON, number("2004")).getArrayNode("championships"), contains(number("2002"), number("2003"), number("2004")));
+        assertThat(jsonPointer("/name").add(SAMPLE_JSON, string("Valentino")).getStringValue("name"), equalTo("Valentino"));
+        assertThrows(IllegalArgumentException.class, () -> jsonPointer("/championships/3").add(SAMPLE_JSON, trueNode()));
+    }
+
+    @Test
+    void removesFieldsAndElements() {
+        assertThat(SAMPLE_JSON.remove(path("championships", 0)).getArrayNode("championships"), contains(number("2003")));
+        assertThat(SAMPLE_JSON.remove(path("retirement age")).isNode("retirement age"), equalTo(false));
+        assertThat(SAMPLE_JSON.remove(path("retirement age")).getFieldList().size(), equalTo(4));
+        assertThat(object(field("a", number(1)), field("b", number(2)), field("a", number(3))).remove(path("a")), equalTo(object(field("b", number(2)))));
+    }
+
+    @Test
+    void rejectsUpdatesToMissingNodes() {
+        assertThat(assertThrows(IllegalArgumentException.class, () -> SAMPLE_JSON.set(path("championships", 2), trueNode())).getMessage(), equalTo("Failed to find a node at [championships, 2]"));
+        assertThat(assertThrows(IllegalArgumentException.class, () -> SAMPLE_JSON.set(path("team", "name"), trueNode())).getMessage(), equalTo("Failed to find a node at [team]"));
+        assertThat(assertThrows(IllegalArgumentException.class, () -> SAMPLE_JSON.set(path("name", "first"), trueNode())).getMessage(), equalTo("Failed to find a node at [name, first]"));
+        assertThat(assertThrows(IllegalArgumentException.class, () -> SAMPLE_JSON.remove(path("team"))).getMessage(), equalTo("Failed to find a node at [team]"));
+        assertThat(assertThrows(IllegalArgumentException.class, () -> SAMPLE_JSON.insert(path("name"), 0, trueNode())).getMessage(), equalTo("Failed to find a JSON array at [name]"));
+        assertThrows(IllegalArgumentException.class, () -> SAMPLE_JSON.remove(path()));
+    }
+
+    @Test
+    void rejectsInsertionsOutsideTheArray() {
+        assertThrows(IndexOutOfBoundsException.class, () -> SAMPLE_JSON.insert(path("championships"), 3, trueNode()));
+        assertThrows(IndexOutOfBoundsException.class, () -> SAMPLE_JSON.insert(path("championships"), -1, trueNode()));
+    }
+
+    @Test
+    void rejectsNullValues() {
+        assertThrows(NullPointerException.class, () -> SAMPLE_JSON.set(path("name"), null));
+        assertThrows(NullPointerException.class, () -> SAMPLE_JSON.insert(path("championships"), 0, null));
+    }
+
+    @Test
+    void equivalentPathsAreEqual() {
+        assertThat(path("name", "first"), equalTo(jsonPointer("/name/first")));
+        assertThat(path("name", "first").hashCode(), equalTo(jsonPointer("/name/first").hashCode()));
+        assertThat(path("championships", 0), not(equalTo(jsonPointer("/championships/0"))));
+    }
+
+    @Test
+    void toStringWorks() {
+        assertThat(path("name", 1).toString(), equalTo("JsonNodePath{[name, 1]}"));
+        assertThat(jsonPointer("/name/1").toString(), equalTo("JsonNodePath{/name/1}"));
+    }
+}
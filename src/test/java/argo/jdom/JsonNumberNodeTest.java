@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -180,6 +180,30 @@ final class JsonNumberNodeTest {
         assertThat(JsonNumberNode.prevalidatedJsonNumberNode("1"), sameInstance(JsonNumberNode.prevalidatedJsonNumberNode("1")));
     }
 
+    @Test
+    void longZeroAndOneAreTheSameInstancesAsStringZeroAndOne() {
+        assertThat(JsonNodeFactories.number(0), sameInstance(JsonNodeFactories.number("0")));
+        assertThat(JsonNodeFactories.number(1), sameInstance(JsonNodeFactories.number("1")));
+    }
+
+    @Test
+    void handlesExtremeLongs() {
+        assertThat(JsonNodeFactories.number(Long.MIN_VALUE).getText(), equalTo("-9223372036854775808"));
+        assertThat(JsonNodeFactories.number(Long.MAX_VALUE).getText(), equalTo("9223372036854775807"));
+    }
+
+    @Test
+    void handlesDouble() {
+        assertThat(JsonNodeFactories.number(-1.5E-300), equalTo(JsonNodeFactories.number("-1.5E-300")));
+    }
+
+    @Test
+    void rejectsNonFiniteDoubles() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeFactories.number(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeFactories.number(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeFactories.number(Double.NEGATIVE_INFINITY));
+    }
+
     @Test
     void prevalidatedNumberIsNotRevalidated() {
         assertThat(JsonNumberNode.prevalidatedJsonNumberNode("rubbish").getText(), equalTo("rubbish"));
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 Mark Slater
+ *  Copyright 2026 Mark Slater
  *
  *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
  *
@@ -159,6 +159,57 @@ final class JsonObjectTest {
         assertThat(JsonObject.jsonObject(fields).getFieldList(), equalTo(fields));
     }
 
+    @Test
+    void getFieldListIteratorReturnsFieldsInOrder() {
+        final List<JsonField> fields = new ArrayList<>(someJsonFields());
+        final List<JsonField> iterated = new ArrayList<>();
+        for (final JsonField jsonField : JsonObject.jsonObject(fields).getFieldList()) {
+            iterated.add(jsonField);
+        }
+        assertThat(iterated, equalTo(fields));
+    }
+
+    @Test
+    void getFieldListIsUnmodifiable() {
+        final List<JsonField> fieldList = JsonObject.jsonObject(singletonList(field(aStringNode(), aJsonNode()))).getFieldList();
+        assertThrows(UnsupportedOperationException.class, () -> fieldList.add(field(aStringNode(), aJsonNode())));
+        assertThrows(UnsupportedOperationException.class, () -> fieldList.iterator().remove());
+    }
+
+    @Test
+    void getFieldListRejectsOutOfRangeIndex() {
+        final List<JsonField> fieldList = JsonObject.jsonObject(singletonList(field(aStringNode(), aJsonNode()))).getFieldList();
+        assertThrows(IndexOutOfBoundsException.class, () -> fieldList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> fieldList.get(-1));
+    }
+
+    @Test
+    void hashCodeIsConsistentWithFieldList() {
+        final List<JsonField> fields = Arrays.asList(field(aStringNode(), aJsonNode()), field(aStringNode(), aJsonNode()));
+        assertThat(JsonObject.jsonObject(fields).hashCode(), equalTo(fields.hashCode()));
+    }
+
+    @Test
+    void deeplyNestedObjectsCanBeComparedAndHashed() {
+        JsonNode left = nullNode();
+        JsonNode right = nullNode();
+        JsonNode different = number(1);
+        for (int i = 0; i < 100000; i++) {
+            left = object(field("ho", left), field("bo", string("ho")));
+            right = object(field("ho", right), field("bo", string("ho")));
+            different = object(field("ho", different), field("bo", string("ho")));
+        }
+        assertThat(left, equalTo(right));
+        assertThat(left.hashCode(), equalTo(right.hashCode()));
+        assertThat(left, not(equalTo(different)));
+    }
+
+    @Test
+    void factoryFromIteratorAndFactoryFromIterableAreEqual() {
+        final Collection<JsonField> fields = someJsonFields();
+        assertThat(JsonObject.jsonObject(fields.iterator()), equalTo(JsonObject.jsonObject(fields)));
+    }
+
     @Test
     void hasElementsReturnsFalse() {
         assertThat(JsonObject.jsonObject(someJsonFields()).hasElements(), equalTo(false));
@@ -169,10 +220,32 @@ final class JsonObjectTest {
         assertThrows(UnsupportedOperationException.class, () -> JsonObject.jsonObject(someJsonFields()).getElements());
     }
 
+    @Test
+    void fieldValueOfSmallObjectReturnsLastFieldWithGivenName() {
+        final JsonObject jsonObject = JsonObject.jsonObject(Arrays.asList(field("a", string("first")), field("b", string("other")), field("a", string("last"))));
+        assertThat(jsonObject.fieldValue(string("a")), equalTo(string("last")));
+        assertThat(jsonObject.fieldValue(string("b")), equalTo(string("other")));
+        assertThat(jsonObject.fieldValue(string("c")), nullValue());
+    }
+
+    @Test
+    void fieldValueOfLargeObjectReturnsLastFieldWithGivenName() {
+        final List<JsonField> fields = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            fields.add(field("field " + i, number(i)));
+        }
+        fields.add(field("field 7", string("last")));
+        final JsonObject jsonObject = JsonObject.jsonObject(fields);
+        assertThat(jsonObject.fieldValue(string("field 7")), equalTo(string("last")));
+        assertThat(jsonObject.fieldValue(string("field 999")), equalTo(number(999)));
+        assertThat(jsonObject.fieldValue(string("field 1000")), nullValue());
+        assertThat(jsonObject.fieldValue(string("field 7")), equalTo(jsonObject.getFields().get(string("field 7"))));
+    }
+
     @Test
     void heapSize() {
-        assertThat(GraphLayout.parseInstance(JsonObject.jsonObject(singletonList(field("k", string("v"))))).totalSize(), equalTo(200L));
-        assertThat(GraphLayout.parseInstance(JsonObject.jsonObject(Arrays.asList(field("k1", string("v1")), field("k2", string("v2")), field("k3", string("v3")), field("k4", string("v4")), field("k5", string("v5"))))).totalSize(), equalTo(824L));
+        assertThat(GraphLayout.parseInstance(JsonObject.jsonObject(singletonList(field("k", string("v"))))).totalSize(), equalTo(184L));
+        assertThat(GraphLayout.parseInstance(JsonObject.jsonObject(Arrays.asList(field("k1", string("v1")), field("k2", string("v2")), field("k3", string("v3")), field("k4", string("v4")), field("k5", string("v5"))))).totalSize(), equalTo(728L));
     }
 
 }
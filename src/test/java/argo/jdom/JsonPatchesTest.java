@@ -0,0 +1,214 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.InvalidSyntaxException;
+import argo.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static argo.jdom.JsonNodeFactories.*;
+import static argo.jdom.JsonPatches.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonPatchesTest {
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
+    @Test
+    void diffOfEqualNodesIsEmpty() {
+        final JsonNode jsonNode = object(field("a", array(number(1), object(field("b", nullNode())))));
+        assertThat(diff(jsonNode, jsonNode), equalTo(array()));
+        assertThat(diff(jsonNode, object(field("a", array(number(1), object(field("b", nullNode())))))), equalTo(array()));
+        assertThat(diff(raw("{\"a\": [1, {\"b\": null}]}"), jsonNode), equalTo(array()));
+    }
+
+    @Test
+    void diffsObjects() {
+        assertThat(
+                diff(
+                        parse("{\"a\": 1, \"b\": {\"c\": \"d\", \"e/f~\": true}, \"g\": null}"),
+                        parse("{\"a\": 1, \"b\": {\"c\": \"x\", \"e/f~\": false}, \"h\": []}")
+                ),
+                equalTo(parse("[" +
+                        "{\"op\": \"remove\", \"path\": \"/g\"}," +
+                        "{\"op\": \"replace\", \"path\": \"/b/c\", \"value\": \"x\"}," +
+                        "{\"op\": \"replace\", \"path\": \"/b/e~1f~0\", \"value\": false}," +
+                        "{\"op\": \"add\", \"path\": \"/h\", \"value\": []}" +
+                        "]"))
+        );
+    }
+
+    @Test
+    void diffsArraysByTheirLongestCommonSubsequence() {
+        assertThat(
+                diff(parse("[1, 2, 3, 4, 5]"), parse("[0, 1, 3, 4, {\"a\": 5}, 6]")),
+                equalTo(parse("[" +
+                        "{\"op\": \"add\", \"path\": \"/0\", \"value\": 0}," +
+                        "{\"op\": \"remove\", \"path\": \"/2\"}," +
+                        "{\"op\": \"replace\", \"path\": \"/4\", \"value\": {\"a\": 5}}," +
+                        "{\"op\": \"add\", \"path\": \"/5\", \"value\": 6}" +
+                        "]"))
+        );
+    }
+
+    @Test
+    void diffsElementsThatTakeEachOthersPlace() {
+        assertThat(
+                diff(parse("[{\"a\": 1, \"b\": 2}]"), parse("[{\"a\": 1, \"b\": 3}]")),
+                equalTo(parse("[{\"op\": \"replace\", \"path\": \"/0/b\", \"value\": 3}]"))
+        );
+    }
+
+    @Test
+    void alignsChangesFarApartInLargeArrays() {
+        final List<JsonNode> sourceElements = new ArrayList<>();
+        for (int i = 0; i < 200000; i++) {
+            sourceElements.add(number(i));
+        }
+        final List<JsonNode> targetElements = new ArrayList<>(sourceElements);
+        targetElements.remove(1000);
+        targetElements.add(150000, string("new"));
+        final JsonNode source = array(sourceElements);
+        final JsonNode target = array(targetElements);
+        final JsonNode patch = diff(source, target);
+        assertThat(patch, equalTo(parse("[" +
+                "{\"op\": \"remove\", \"path\": \"/1000\"}," +
+                "{\"op\": \"add\", \"path\": \"/150000\", \"value\": \"new\"}" +
+                "]")));
+        assertThat(patch(source, patch), equalTo(target));
+    }
+
+    @Test
+    void diffReplacesNodesOfDifferentTypes() {
+        assertThat(diff(array(), object()), equalTo(parse("[{\"op\": \"replace\", \"path\": \"\", \"value\": {}}]")));
+        assertThat(diff(number(1), number("1.0")), equalTo(parse("[{\"op\": \"replace\", \"path\": \"\", \"value\": 1.0}]")));
+    }
+
+    @Test
+    void patchingWithADiffGivesTheTarget() {
+        final Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            final List<JsonNode> source = new ArrayList<>();
+            final int length = random.nextInt(i < 250 ? 20 : 600);
+            for (int j = 0; j < length; j++) {
+                source.add(element(random));
+            }
+            final List<JsonNode> target = new ArrayList<>(source);
+            for (int edits = random.nextInt(10); edits > 0; edits--) {
+                final int edit = random.nextInt(3);
+                if (edit == 0 || target.isEmpty()) {
+                    target.add(random.nextInt(target.size() + 1), element(random));
+                } else if (edit == 1) {
+                    target.remove(random.nextInt(target.size()));
+                } else {
+                    target.set(random.nextInt(target.size()), element(random));
+                }
+            }
+            final JsonNode sourceNode = object(field("a", array(source)));
+            final JsonNode targetNode = object(field("a", array(target)));
+            assertThat(patch(sourceNode, diff(sourceNode, targetNode)), equalTo(targetNode));
+        }
+    }
+
+    @Test
+    void appliesRfc6902Operations() {
+        final JsonNode jsonNode = parse("{\"foo\": {\"bar\": \"baz\", \"waldo\": \"fred\"}, \"qux\": [\"a\", \"b\"]}");
+        assertThat(patch(jsonNode, parse("[{\"op\": \"add\", \"path\": \"/qux/1\", \"value\": \"c\"}]")), equalTo(parse("{\"foo\": {\"bar\": \"baz\", \"waldo\": \"fred\"}, \"qux\": [\"a\", \"c\", \"b\"]}")));
+        assertThat(patch(jsonNode, parse("[{\"op\": \"add\", \"path\": \"/qux/-\", \"value\": [\"c\"]}]")), equalTo(parse("{\"foo\": {\"bar\": \"baz\", \"waldo\": \"fred\"}, \"qux\": [\"a\", \"b\", [\"c\"]]}")));
+        assertThat(patch(jsonNode, parse("[{\"op\": \"remove\", \"path\": \"/foo/bar\"}]")), equalTo(parse("{\"foo\": {\"waldo\": \"fred\"}, \"qux\": [\"a\", \"b\"]}")));
+        assertThat(patch(jsonNode, parse("[{\"op\": \"replace\", \"path\": \"/qux/0\", \"value\": 1}]")), equalTo(parse("{\"foo\": {\"bar\": \"baz\", \"waldo\": \"fred\"}, \"qux\": [1, \"b\"]}")));
+        assertThat(patch(jsonNode, parse("[{\"op\": \"move\", \"from\": \"/foo/waldo\", \"path\": \"/qux/0\"}]")), equalTo(parse("{\"foo\": {\"bar\": \"baz\"}, \"qux\": [\"fred\", \"a\", \"b\"]}")));
+        assertThat(patch(jsonNode, parse("[{\"op\": \"copy\", \"from\": \"/qux\", \"path\": \"/foo/qux\"}]")), equalTo(parse("{\"foo\": {\"bar\": \"baz\", \"waldo\": \"fred\", \"qux\": [\"a\", \"b\"]}, \"qux\": [\"a\", \"b\"]}")));
+        assertThat(patch(jsonNode, parse("[{\"op\": \"test\", \"path\": \"/foo/bar\", \"value\": \"baz\"}]")), sameInstance(jsonNode));
+    }
+
+    @Test
+    void movingAnElementWithinAnArrayUsesIndicesAfterTheRemoval() {
+        assertThat(
+                patch(parse("[\"all\", \"grass\", \"cows\", \"eat\"]"), parse("[{\"op\": \"move\", \"from\": \"/1\", \"path\": \"/3\"}]")),
+                equalTo(parse("[\"all\", \"cows\", \"eat\", \"grass\"]"))
+        );
+    }
+
+    @Test
+    void patchingSharesNodesThePatchDoesNotChange() {
+        final JsonNode jsonNode = parse("{\"a\": {\"b\": [1, 2]}, \"c\": {\"d\": true}}");
+        final JsonNode patched = patch(jsonNode, parse("[{\"op\": \"add\", \"path\": \"/a/b/-\", \"value\": 3}]"));
+        assertThat(patched.getNode("c"), sameInstance(jsonNode.getNode("c")));
+        assertThat(jsonNode, equalTo(parse("{\"a\": {\"b\": [1, 2]}, \"c\": {\"d\": true}}")));
+    }
+
+    @Test
+    void rejectsFailingOperations() {
+        final JsonNode jsonNode = parse("{\"baz\": \"qux\", \"foo\": {}}");
+        assertThat(
+                assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"test\", \"path\": \"/foo\", \"value\": {}}, {\"op\": \"test\", \"path\": \"/baz\", \"value\": \"bar\"}]"))).getMessage(),
+                equalTo("Operation 1 of JSON Patch failed: Value at [/baz] does not match the value tested for")
+        );
+        assertThat(
+                assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"replace\", \"path\": \"/bar\", \"value\": 1}]"))).getMessage(),
+                equalTo("Operation 0 of JSON Patch failed: Failed to find a node at [/bar]")
+        );
+        assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"add\", \"path\": \"/baz/bat\", \"value\": 1}]")));
+        assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"move\", \"from\": \"/foo\", \"path\": \"/foo/bar\"}]")));
+        assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"remove\", \"path\": \"foo\"}]")));
+    }
+
+    @Test
+    void rejectsMalformedPatches() {
+        final JsonNode jsonNode = object();
+        assertThat(assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, object())).getMessage(), equalTo("JSON Patch is not an array"));
+        assertThat(assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"frob\", \"path\": \"\"}]"))).getMessage(), equalTo("Operation 0 of JSON Patch failed: Unknown operation [frob]"));
+        assertThat(assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"add\", \"path\": \"/a\"}]"))).getMessage(), equalTo("Operation 0 of JSON Patch failed: Operation is missing [value]"));
+        assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[{\"op\": \"add\", \"path\": 1, \"value\": 1}]")));
+        assertThrows(IllegalArgumentException.class, () -> patch(jsonNode, parse("[[]]")));
+    }
+
+    @Test
+    void appliesRfc7386MergePatches() {
+        assertThat(
+                mergePatch(
+                        parse("{\"title\": \"Goodbye!\", \"author\": {\"givenName\": \"John\", \"familyName\": \"Doe\"}, \"tags\": [\"example\", \"sample\"], \"content\": \"This will be unchanged\"}"),
+                        parse("{\"title\": \"Hello!\", \"phoneNumber\": \"+01-123-456-7890\", \"author\": {\"familyName\": null}, \"tags\": [\"example\"]}")
+                ),
+                equalTo(parse("{\"title\": \"Hello!\", \"author\": {\"givenName\": \"John\"}, \"tags\": [\"example\"], \"content\": \"This will be unchanged\", \"phoneNumber\": \"+01-123-456-7890\"}"))
+        );
+        assertThat(mergePatch(parse("{\"a\": \"b\"}"), parse("{\"a\": {\"bb\": {\"ccc\": null}}}")), equalTo(parse("{\"a\": {\"bb\": {}}}")));
+        assertThat(mergePatch(parse("[1, 2]"), parse("{\"a\": \"b\", \"c\": null}")), equalTo(parse("{\"a\": \"b\"}")));
+        assertThat(mergePatch(parse("{\"a\": \"b\"}"), parse("[\"c\"]")), equalTo(parse("[\"c\"]")));
+        assertThat(mergePatch(parse("{\"a\": 1, \"b\": 2, \"a\": 3}"), parse("{\"a\": null}")), equalTo(parse("{\"b\": 2}")));
+    }
+
+    @Test
+    void mergePatchingSharesNodesThePatchDoesNotChange() {
+        final JsonNode jsonNode = parse("{\"a\": {\"b\": 1}, \"c\": [2]}");
+        assertThat(mergePatch(jsonNode, parse("{\"a\": {\"x\": null}, \"z\": null}")), sameInstance(jsonNode));
+        assertThat(mergePatch(jsonNode, parse("{\"a\": {\"b\": 2}}")).getNode("c"), sameInstance(jsonNode.getNode("c")));
+    }
+
+    private static JsonNode element(final Random random) {
+        return random.nextInt(3) == 0 ? object(field("k", number(random.nextInt(5)))) : number(random.nextInt(10));
+    }
+
+    private static JsonNode parse(final String json) {
+        try {
+            return JSON_PARSER.parse(json);
+        } catch (final InvalidSyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
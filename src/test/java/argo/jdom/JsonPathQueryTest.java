@@ -0,0 +1,166 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static argo.jdom.JsonNodeFactories.*;
+import static argo.jdom.JsonPathQuery.jsonPath;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonPathQueryTest {
+
+    private static final JsonNode FIRST_BOOK = object(
+            field("category", string("reference")),
+            field("author", string("Nigel Rees")),
+            field("price", number("8.95"))
+    );
+    private static final JsonNode SECOND_BOOK = object(
+            field("category", string("fiction")),
+            field("author", string("Herman Melville")),
+            field("isbn", string("0-553-21311-3")),
+            field("price", number("8.99"))
+    );
+    private static final JsonNode THIRD_BOOK = object(
+            field("category", string("fiction")),
+            field("author", string("J. R. R. Tolkien")),
+            field("isbn", string("0-395-19395-8")),
+            field("price", number("22.99"))
+    );
+    private static final JsonNode BICYCLE = object(
+            field("color", string("red")),
+            field("price", number("399"))
+    );
+    private static final JsonNode STORE = object(
+            field("store", object(
+                    field("book", array(FIRST_BOOK, SECOND_BOOK, THIRD_BOOK)),
+                    field("bicycle", BICYCLE)
+            )),
+            field("digits", array(number(0), number(1), number(2), number(3), number(4), number(5)))
+    );
+
+    @Test
+    void rootSelectsTheWholeDocument() {
+        assertThat(jsonPath("$").select(STORE), contains(STORE));
+    }
+
+    @Test
+    void selectsByNameInDotAndBracketNotation() {
+        assertThat(jsonPath("$.store.bicycle.color").select(STORE), contains(string("red")));
+        assertThat(jsonPath("$['store'][\"bicycle\"]['color']").select(STORE), contains(string("red")));
+    }
+
+    @Test
+    void selectsWildcards() {
+        assertThat(jsonPath("$.store.book[*].author").select(STORE), contains(string("Nigel Rees"), string("Herman Melville"), string("J. R. R. Tolkien")));
+        assertThat(jsonPath("$.store.bicycle.*").select(STORE), contains(string("red"), number("399")));
+    }
+
+    @Test
+    void selectsIndicesAndUnions() {
+        assertThat(jsonPath("$.store.book[1]").select(STORE), contains(SECOND_BOOK));
+        assertThat(jsonPath("$.store.book[-1]").select(STORE), contains(THIRD_BOOK));
+        assertThat(jsonPath("$.store.book[3]").select(STORE), empty());
+        assertThat(jsonPath("$.store.book[2,0]").select(STORE), contains(THIRD_BOOK, FIRST_BOOK));
+    }
+
+    @Test
+    void selectsSlices() {
+        assertThat(jsonPath("$.digits[1:5:2]").select(STORE), contains(number(1), number(3)));
+        assertThat(jsonPath("$.digits[-2:]").select(STORE), contains(number(4), number(5)));
+        assertThat(jsonPath("$.digits[::-2]").select(STORE), contains(number(5), number(3), number(1)));
+        assertThat(jsonPath("$.digits[::0]").select(STORE), empty());
+    }
+
+    @Test
+    void selectsDescendants() {
+        assertThat(jsonPath("$..author").select(STORE), contains(string("Nigel Rees"), string("Herman Melville"), string("J. R. R. Tolkien")));
+        assertThat(jsonPath("$.store..price").select(STORE), contains(number("8.95"), number("8.99"), number("22.99"), number("399")));
+        assertThat(jsonPath("$..[0]").select(STORE), contains(FIRST_BOOK, number(0)));
+    }
+
+    @Test
+    void selectsWithExistenceFilter() {
+        assertThat(jsonPath("$.store.book[?@.isbn]").select(STORE), contains(SECOND_BOOK, THIRD_BOOK));
+        assertThat(jsonPath("$.store.book[?!@.isbn]").select(STORE), contains(FIRST_BOOK));
+    }
+
+    @Test
+    void selectsWithComparisonFilter() {
+        assertThat(jsonPath("$.store.book[?(@.price < 10)].author").select(STORE), contains(string("Nigel Rees"), string("Herman Melville")));
+        assertThat(jsonPath("$.store.book[?@.category == 'reference'].author").select(STORE), contains(string("Nigel Rees")));
+        assertThat(jsonPath("$.digits[?@ >= 2 && @ <= 3]").select(STORE), contains(number(2), number(3)));
+        assertThat(jsonPath("$.digits[?@ == 1.0e0 || @ > 4]").select(STORE), contains(number(1), number(5)));
+    }
+
+    @Test
+    void filterCanReferToRoot() {
+        assertThat(jsonPath("$.store.book[?@.price > $.store.bicycle.price]").select(STORE), empty());
+        assertThat(jsonPath("$.store.book[?@.price < $.store.bicycle.price]").select(STORE), contains(FIRST_BOOK, SECOND_BOOK, THIRD_BOOK));
+    }
+
+    @Test
+    void comparisonsBetweenDifferentTypesAreFalse() {
+        assertThat(jsonPath("$.store.book[?@.author < 10]").select(STORE), empty());
+        assertThat(jsonPath("$.store.book[?@.missing == null]").select(STORE), empty());
+        assertThat(jsonPath("$.store.book[?@.missing == @.alsoMissing]").select(STORE), contains(FIRST_BOOK, SECOND_BOOK, THIRD_BOOK));
+    }
+
+    @Test
+    void comparesNumbersWithinArraysAndObjectsByValue() {
+        final JsonNode document = object(
+                field("values", array(array(number(1)), array(number("1.0")), array(number(2)), object(field("x", number("1.0")), field("y", array(number(2)))), object(field("x", number(1))))),
+                field("array", array(number("1.00"))),
+                field("object", object(field("y", array(number("2.0"))), field("x", number("1e0"))))
+        );
+        assertThat(jsonPath("$.values[?@ == $.array]").select(document), contains(array(number(1)), array(number("1.0"))));
+        assertThat(jsonPath("$.values[?@ == $.object]").select(document), contains(object(field("x", number("1.0")), field("y", array(number(2))))));
+    }
+
+    @Test
+    void ordersStringsByCodePoint() {
+        final JsonNode strings = array(string("￿"), string("a"), string("😁"), string("😀"));
+        assertThat(jsonPath("$[?@ < '\\uD83D\\uDE00']").select(strings), contains(string("￿"), string("a")));
+        assertThat(jsonPath("$[?@ > '\\uFFFF']").select(strings), contains(string("😁"), string("😀")));
+    }
+
+    @Test
+    void selectFirstReturnsFirstMatchInDocumentOrder() {
+        assertThat(jsonPath("$..price").selectFirst(STORE), equalTo(number("8.95")));
+        assertThat(jsonPath("$..colour").selectFirst(STORE), nullValue());
+    }
+
+    @Test
+    void matchesIndicatesWhetherAnythingIsSelected() {
+        assertThat(jsonPath("$..isbn").matches(STORE), equalTo(true));
+        assertThat(jsonPath("$..colour").matches(STORE), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "store", "$.", "$[", "$[1", "$['a", "$[a]", "$[?1]", "$[?@.a ==]", "$.a b", "$[99999999999]", "$['\\q']", "$['\\u00g0']"})
+    void rejectsInvalidExpressions(final String expression) {
+        assertThrows(IllegalArgumentException.class, () -> jsonPath(expression));
+    }
+
+    @Test
+    void rejectsNullExpression() {
+        assertThrows(NullPointerException.class, () -> jsonPath(null));
+    }
+
+    @Test
+    void toStringWorks() {
+        assertThat(jsonPath("$..price").toString(), equalTo("JsonPathQuery{$..price}"));
+    }
+}
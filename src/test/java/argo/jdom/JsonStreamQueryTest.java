@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static argo.jdom.JsonNodeFactories.*;
+import static argo.jdom.JsonPathQuery.jsonPath;
+import static argo.jdom.JsonStreamQuery.jsonStreamQuery;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class JsonStreamQueryTest {
+
+    private static final String JSON = "{\"store\":{\"book\":[{\"author\":\"Nigel Rees\",\"price\":8.95},{\"author\":\"Herman Melville\",\"price\":8.99,\"isbn\":\"0-553-21311-3\"}],\"bicycle\":{\"color\":\"red\",\"price\":399}},\"digits\":[0,1,2,3],\"a\":{\"a\":true}}";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"$", "$.store.book[*].author", "$..price", "$.digits[1,3]", "$.store['bicycle'].*", "$..book[1].isbn", "$.missing.path", "$..[0]"})
+    void selectsSameNodesAsTreeQuery(final String expression) throws Exception {
+        final List<JsonNode> streamResults = new ArrayList<>();
+        jsonStreamQuery(jsonPath(expression)).evaluate(new JsonParser().parseStreaming(JSON), (JsonStreamQuery.NodeMatchListener) (queryIndex, jsonNode) -> streamResults.add(jsonNode));
+        assertThat(streamResults, containsInAnyOrder(jsonPath(expression).select(new JsonParser().parse(JSON)).toArray()));
+    }
+
+    @Test
+    void evaluatesSeveralQueriesInOnePass() throws IOException {
+        final List<String> results = new ArrayList<>();
+        jsonStreamQuery(jsonPath("$.store.bicycle.color"), jsonPath("$.digits[2]")).evaluate(new JsonParser().parseStreaming(JSON), (JsonStreamQuery.NodeMatchListener) (queryIndex, jsonNode) -> results.add(queryIndex + ":" + jsonNode.getText()));
+        assertThat(results, contains("0:red", "1:2"));
+    }
+
+    @Test
+    void reportsNestedMatchesInnermostFirst() throws IOException {
+        final List<JsonNode> results = new ArrayList<>();
+        jsonStreamQuery(jsonPath("$..a")).evaluate(new JsonParser().parseStreaming(JSON), (JsonStreamQuery.NodeMatchListener) (queryIndex, jsonNode) -> results.add(jsonNode));
+        assertThat(results, contains(trueNode(), object(field("a", trueNode()))));
+    }
+
+    @Test
+    void matchListenerCanIgnoreMatches() throws IOException {
+        final List<Integer> startedQueries = new ArrayList<>();
+        jsonStreamQuery(jsonPath("$..price")).evaluate(new JsonParser().parseStreaming(JSON), (JsonStreamQuery.MatchListener) queryIndex -> {
+            startedQueries.add(queryIndex);
+            return null;
+        });
+        assertThat(startedQueries, contains(0, 0, 0));
+    }
+
+    @Test
+    void selectsElementsByLiteralIndicesInAnyOrder() throws IOException {
+        final List<String> results = new ArrayList<>();
+        jsonStreamQuery(jsonPath("$.digits[3,0]"), jsonPath("$.digits[2]"), jsonPath("$.digits[1000000]")).evaluate(new JsonParser().parseStreaming(JSON), (JsonStreamQuery.NodeMatchListener) (queryIndex, jsonNode) -> results.add(queryIndex + ":" + jsonNode.getText()));
+        assertThat(results, contains("0:0", "1:2", "0:3"));
+    }
+
+    @Test
+    void matchesScalarRoot() throws IOException {
+        final List<JsonNode> results = new ArrayList<>();
+        jsonStreamQuery(jsonPath("$"), jsonPath("$.a")).evaluate(new JsonParser().parseStreaming("\"hello\""), (JsonStreamQuery.NodeMatchListener) (queryIndex, jsonNode) -> results.add(jsonNode));
+        assertThat(results, contains(string("hello")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"$[-1]", "$[0:2]", "$[?@.a]"})
+    void rejectsQueriesThatCannotBeStreamed(final String expression) {
+        assertThrows(IllegalArgumentException.class, () -> jsonStreamQuery(jsonPath(expression)));
+    }
+}
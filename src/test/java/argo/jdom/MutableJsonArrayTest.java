@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.jdom.JsonNodeFactories.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class MutableJsonArrayTest {
+
+    @Test
+    void addsSetsAndRemovesElementsInPlace() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray()
+                .add(number(1))
+                .add(number(3))
+                .add(1, number(2))
+                .add(0, number(0))
+                .set(3, string("three"));
+        assertThat(mutableJsonArray.size(), equalTo(4));
+        assertThat(mutableJsonArray.get(3), equalTo(string("three")));
+        assertThat(mutableJsonArray.remove(0).freeze(), equalTo(array(number(1), number(2), string("three"))));
+    }
+
+    @Test
+    void growsBeyondItsInitialCapacity() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray();
+        final JsonNode[] expected = new JsonNode[1000];
+        for (int i = 0; i < expected.length; i++) {
+            mutableJsonArray.add(i / 2, number(i));
+            System.arraycopy(expected, i / 2, expected, i / 2 + 1, i - i / 2);
+            expected[i / 2] = number(i);
+        }
+        assertThat(mutableJsonArray.freeze(), equalTo(array(expected)));
+    }
+
+    @Test
+    void nestedMutableContainersAreModifiedInPlace() {
+        final MutableJsonArray child = new MutableJsonArray();
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray().add(child).add(new MutableJsonObject()).add(0, nullNode());
+        child.add(trueNode());
+        mutableJsonArray.getObject(2).put("a", falseNode());
+        assertThat(mutableJsonArray.getArray(1), sameInstance(child));
+        assertThat(mutableJsonArray.freeze(), equalTo(array(nullNode(), array(trueNode()), object(field("a", falseNode())))));
+    }
+
+    @Test
+    void removingAndReplacingNestedMutableContainersDetachesThem() {
+        final MutableJsonArray child = new MutableJsonArray();
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray().add(child).add(new MutableJsonArray()).add(child);
+        mutableJsonArray.remove(0).set(1, number(1));
+        child.add(nullNode());
+        assertThat(mutableJsonArray.freeze(), equalTo(array(array(), number(1))));
+    }
+
+    @Test
+    void thawedNestedContainersAreModifiedInPlace() {
+        final JsonNode jsonNode = array(array(number(1)), object(), string("a"));
+        final MutableJsonArray mutableJsonArray = MutableJsonArray.thaw(jsonNode);
+        mutableJsonArray.getArray(0).add(number(2));
+        final JsonNode frozen = mutableJsonArray.freeze();
+        assertThat(frozen, equalTo(array(array(number(1), number(2)), object(), string("a"))));
+        assertThat(frozen.getNode(1), sameInstance(jsonNode.getNode(1)));
+        assertThat(jsonNode, equalTo(array(array(number(1)), object(), string("a"))));
+    }
+
+    @Test
+    void freezingAnUnmodifiedThawedArrayReusesItsElements() {
+        final JsonNode jsonNode = array(number(1), number(2));
+        assertThat(MutableJsonArray.thaw(jsonNode).freeze().backingArray(), sameInstance(jsonNode.backingArray()));
+    }
+
+    @Test
+    void changesAfterFreezingDoNotAffectTheFrozenNode() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray();
+        for (int i = 0; i < 8; i++) {
+            mutableJsonArray.add(number(i));
+        }
+        final JsonNode frozen = mutableJsonArray.freeze();
+        mutableJsonArray.set(0, nullNode()).remove(7);
+        assertThat(frozen, equalTo(array(number(0), number(1), number(2), number(3), number(4), number(5), number(6), number(7))));
+        assertThat(mutableJsonArray.freeze(), equalTo(array(nullNode(), number(1), number(2), number(3), number(4), number(5), number(6))));
+    }
+
+    @Test
+    void generatesTheSameJsonAsItsFrozenForm() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray()
+                .add(new MutableJsonObject().put("a", new MutableJsonArray().add(number(1))))
+                .add(string("b"));
+        final JsonGenerator jsonGenerator = new JsonGenerator().style(COMPACT);
+        assertThat(jsonGenerator.generate(mutableJsonArray), equalTo("[{\"a\":[1]},\"b\"]"));
+        assertThat(jsonGenerator.generate(mutableJsonArray), equalTo(jsonGenerator.generate(mutableJsonArray.freeze())));
+    }
+
+    @Test
+    void rejectsOutOfRangeIndices() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray().add(number(1));
+        final IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class, () -> mutableJsonArray.get(1));
+        assertThat(exception.getMessage(), equalTo("Index: 1, Size: 1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> mutableJsonArray.add(2, nullNode()));
+        assertThrows(IndexOutOfBoundsException.class, () -> mutableJsonArray.add(-1, nullNode()));
+        assertThrows(IndexOutOfBoundsException.class, () -> mutableJsonArray.set(1, nullNode()));
+        assertThrows(IndexOutOfBoundsException.class, () -> mutableJsonArray.remove(1));
+        assertThat(mutableJsonArray.freeze(), equalTo(array(number(1))));
+    }
+
+    @Test
+    void rejectsElementsOfTheWrongTypeAndNestingInItself() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray().add(number(1));
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> mutableJsonArray.getArray(0));
+        assertThat(exception.getMessage(), equalTo("Element [0] isn't an array"));
+        assertThrows(IllegalArgumentException.class, () -> mutableJsonArray.getObject(0));
+        assertThrows(IllegalArgumentException.class, () -> mutableJsonArray.add(mutableJsonArray));
+        assertThrows(IllegalArgumentException.class, () -> MutableJsonArray.thaw(object()));
+        assertThat(mutableJsonArray.size(), equalTo(1));
+    }
+
+    @Test
+    void rejectsFreezingOrWritingWhenNestedInItselfIndirectly() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray();
+        final MutableJsonArray child = new MutableJsonArray().add(mutableJsonArray);
+        mutableJsonArray.add(child).add(child);
+        assertThrows(IllegalArgumentException.class, mutableJsonArray::freeze);
+        assertThrows(IllegalArgumentException.class, () -> new JsonGenerator().generate(mutableJsonArray));
+        child.set(0, nullNode());
+        assertThat(mutableJsonArray.freeze(), equalTo(array(array(nullNode()), array(nullNode()))));
+    }
+
+    @Test
+    void rejectsNullElements() {
+        final MutableJsonArray mutableJsonArray = new MutableJsonArray();
+        assertThrows(NullPointerException.class, () -> mutableJsonArray.add((JsonNode) null));
+        assertThrows(NullPointerException.class, () -> mutableJsonArray.add((MutableJsonArray) null));
+        assertThrows(NullPointerException.class, () -> mutableJsonArray.add(0, (MutableJsonObject) null));
+        assertThat(mutableJsonArray.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.jdom.JsonNodeFactories.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class MutableJsonObjectTest {
+
+    @Test
+    void putAddsAndReplacesFieldsInPlace() {
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject()
+                .put("a", string("b"))
+                .put("c", number(1))
+                .put("a", nullNode());
+        assertThat(mutableJsonObject.size(), equalTo(2));
+        assertThat(mutableJsonObject.get("a"), equalTo(nullNode()));
+        assertThat(mutableJsonObject.freeze(), equalTo(object(field("a", nullNode()), field("c", number(1)))));
+    }
+
+    @Test
+    void putReplacesTheLastOfADuplicatedField() {
+        final MutableJsonObject mutableJsonObject = MutableJsonObject.thaw(object(field("a", number(1)), field("a", number(2))));
+        assertThat(mutableJsonObject.get("a"), equalTo(number(2)));
+        assertThat(mutableJsonObject.put("a", number(3)).freeze(), equalTo(object(field("a", number(1)), field("a", number(3)))));
+    }
+
+    @Test
+    void removeRemovesEveryFieldWithTheName() {
+        final MutableJsonObject mutableJsonObject = MutableJsonObject.thaw(object(field("a", number(1)), field("b", number(2)), field("a", number(3))));
+        assertThat(mutableJsonObject.remove("a").freeze(), equalTo(object(field("b", number(2)))));
+        assertThat(mutableJsonObject.has("a"), equalTo(false));
+    }
+
+    @Test
+    void nestedMutableContainersAreModifiedInPlace() {
+        final MutableJsonObject child = new MutableJsonObject();
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject().put("child", child).put("elements", new MutableJsonArray());
+        child.put("a", trueNode());
+        mutableJsonObject.getArray("elements").add(falseNode());
+        assertThat(mutableJsonObject.getObject("child"), sameInstance(child));
+        assertThat(mutableJsonObject.freeze(), equalTo(object(field("child", object(field("a", trueNode()))), field("elements", array(falseNode())))));
+    }
+
+    @Test
+    void thawedNestedContainersAreModifiedInPlace() {
+        final JsonNode jsonNode = object(field("a", object(field("b", array(number(1))))), field("c", string("d")));
+        final MutableJsonObject mutableJsonObject = MutableJsonObject.thaw(jsonNode);
+        mutableJsonObject.getObject("a").getArray("b").add(number(2));
+        final JsonNode frozen = mutableJsonObject.freeze();
+        assertThat(frozen, equalTo(object(field("a", object(field("b", array(number(1), number(2))))), field("c", string("d")))));
+        assertThat(frozen.getNode("c"), sameInstance(jsonNode.getNode("c")));
+        assertThat(jsonNode, equalTo(object(field("a", object(field("b", array(number(1))))), field("c", string("d")))));
+    }
+
+    @Test
+    void freezingAnUnmodifiedThawedObjectReusesItsFields() {
+        final JsonNode jsonNode = object(field("a", number(1)), field("b", number(2)));
+        assertThat(MutableJsonObject.thaw(jsonNode).freeze().backingArray(), sameInstance(jsonNode.backingArray()));
+    }
+
+    @Test
+    void changesAfterFreezingDoNotAffectTheFrozenNode() {
+        final MutableJsonObject child = new MutableJsonObject().put("a", number(1));
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject().put("child", child);
+        final JsonNode frozen = mutableJsonObject.freeze();
+        child.put("a", number(2));
+        mutableJsonObject.put("b", number(3));
+        assertThat(frozen, equalTo(object(field("child", object(field("a", number(1)))))));
+        assertThat(mutableJsonObject.freeze(), equalTo(object(field("child", object(field("a", number(2)))), field("b", number(3)))));
+    }
+
+    @Test
+    void getFreezesNestedMutableContainers() {
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject().put("a", new MutableJsonArray().add(number(1)));
+        final JsonNode frozen = mutableJsonObject.get("a");
+        mutableJsonObject.getArray("a").add(number(2));
+        assertThat(frozen, equalTo(array(number(1))));
+    }
+
+    @Test
+    void generatesTheSameJsonAsItsFrozenForm() {
+        final MutableJsonObject mutableJsonObject = MutableJsonObject.thaw(object(field("a", array(number(1), object())), field("b", string("c"))));
+        mutableJsonObject.getArray("a").getObject(1).put("d", new MutableJsonArray().add(nullNode()));
+        final JsonGenerator jsonGenerator = new JsonGenerator().style(COMPACT);
+        assertThat(jsonGenerator.generate(mutableJsonObject), equalTo("{\"a\":[1,{\"d\":[null]}],\"b\":\"c\"}"));
+        assertThat(jsonGenerator.generate(mutableJsonObject), equalTo(jsonGenerator.generate(mutableJsonObject.freeze())));
+    }
+
+    @Test
+    void freezesDeeplyNestedObjects() {
+        final MutableJsonObject root = new MutableJsonObject();
+        MutableJsonObject mutableJsonObject = root;
+        JsonNode expected = nullNode();
+        for (int i = 0; i < 100000; i++) {
+            final MutableJsonObject child = new MutableJsonObject();
+            mutableJsonObject.put("a", child);
+            mutableJsonObject = child;
+            expected = object(field("a", expected));
+        }
+        mutableJsonObject.put("a", nullNode());
+        assertThat(root.freeze(), equalTo(object(field("a", expected))));
+    }
+
+    @Test
+    void rejectsMissingFieldsAndFieldsOfTheWrongType() {
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject().put("a", number(1));
+        final IllegalArgumentException missingFieldException = assertThrows(IllegalArgumentException.class, () -> mutableJsonObject.get("b"));
+        assertThat(missingFieldException.getMessage(), equalTo("No field named [b]"));
+        final IllegalArgumentException wrongTypeException = assertThrows(IllegalArgumentException.class, () -> mutableJsonObject.getObject("a"));
+        assertThat(wrongTypeException.getMessage(), equalTo("Field [a] isn't an object"));
+        assertThrows(IllegalArgumentException.class, () -> mutableJsonObject.getArray("a"));
+        assertThrows(IllegalArgumentException.class, () -> MutableJsonObject.thaw(array()));
+    }
+
+    @Test
+    void rejectsNestingInItself() {
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject();
+        assertThrows(IllegalArgumentException.class, () -> mutableJsonObject.put("a", mutableJsonObject));
+        assertThat(mutableJsonObject.size(), equalTo(0));
+    }
+
+    @Test
+    void rejectsFreezingOrWritingWhenNestedInItselfIndirectly() {
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject();
+        final MutableJsonArray child = new MutableJsonArray();
+        mutableJsonObject.put("a", new MutableJsonObject().put("b", child));
+        child.add(mutableJsonObject);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, mutableJsonObject::freeze);
+        assertThat(exception.getMessage(), equalTo("Cannot freeze a mutable object or array that is nested in itself"));
+        assertThrows(IllegalArgumentException.class, () -> new JsonGenerator().generate(mutableJsonObject));
+        child.remove(0);
+        assertThat(mutableJsonObject.freeze(), equalTo(object(field("a", object(field("b", array()))))));
+        assertThat(new JsonGenerator().style(COMPACT).generate(mutableJsonObject), equalTo("{\"a\":{\"b\":[]}}"));
+    }
+
+    @Test
+    void rejectsNullArguments() {
+        final MutableJsonObject mutableJsonObject = new MutableJsonObject();
+        assertThrows(NullPointerException.class, () -> mutableJsonObject.put(null, number(1)));
+        assertThrows(NullPointerException.class, () -> mutableJsonObject.put("a", (JsonNode) null));
+        assertThrows(NullPointerException.class, () -> mutableJsonObject.put("a", (MutableJsonObject) null));
+        assertThrows(NullPointerException.class, () -> mutableJsonObject.remove(null));
+        assertThat(mutableJsonObject.size(), equalTo(0));
+    }
+}
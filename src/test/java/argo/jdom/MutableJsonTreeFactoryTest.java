@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static argo.jdom.MutableJsonTreeFactory.mutableNodes;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+final class MutableJsonTreeFactoryTest {
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[]",
+            "{}",
+            "{\"a\": [1, {\"b\": null}, false, -0.5e+10], \"c\": {}, \"a\": \"e\"}",
+            "[[[true]], [], {\"a\": {\"a\": [\"a\"]}}]"
+    })
+    void freezesToTheSameTreeAsParsing(final String json) throws Exception {
+        final Object mutableNode = JSON_PARSER.parse(json, mutableNodes());
+        if (mutableNode instanceof MutableJsonObject) {
+            assertThat(((MutableJsonObject) mutableNode).freeze(), equalTo(JSON_PARSER.parse(json)));
+        } else {
+            assertThat(((MutableJsonArray) mutableNode).freeze(), equalTo(JSON_PARSER.parse(json)));
+        }
+    }
+
+    @Test
+    void parsesValuesOutsideContainersAsJsonNodes() throws Exception {
+        assertThat(JSON_PARSER.parse("\"a\"", mutableNodes()), equalTo(JsonNodeFactories.string("a")));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2026 Mark Slater
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package argo.jdom;
+
+import argo.JsonGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static argo.JsonGenerator.JsonGeneratorStyle.COMPACT;
+import static argo.JsonGenerator.JsonStringEscaping.ASCII;
+import static argo.JsonGenerator.JsonStringEscaping.HTML_SAFE;
+import static argo.jdom.JsonNodeFactories.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RawJsonNodeTest {
+
+    private static final String JSON = " {\"b\": [1, \"<é>\"], \"a\": null} ";
+    private static final JsonNode EQUIVALENT_NODE = object(field("b", array(number("1"), string("<é>"))), field("a", nullNode()));
+
+    @Test
+    void isEqualToEquivalentNode() {
+        assertThat(raw(JSON), equalTo(EQUIVALENT_NODE));
+        assertThat(EQUIVALENT_NODE, equalTo(raw(JSON)));
+        assertThat(raw(JSON).hashCode(), equalTo(EQUIVALENT_NODE.hashCode()));
+    }
+
+    @Test
+    void constantsAreEqualToEquivalentRawNodes() {
+        assertThat(trueNode(), equalTo(raw("true")));
+        assertThat(falseNode(), equalTo(raw("false")));
+        assertThat(nullNode(), equalTo(raw("null")));
+        assertThat(raw("null").hashCode(), equalTo(nullNode().hashCode()));
+    }
+
+    @Test
+    void canBeNavigated() {
+        assertThat(raw(JSON).getType(), equalTo(JsonNodeType.OBJECT));
+        assertThat(raw(JSON).getStringValue("b", 1), equalTo("<é>"));
+        assertThat(raw("12").getType(), equalTo(JsonNodeType.NUMBER));
+        assertThat(raw("12").getText(), equalTo("12"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "{", "[1,]", "1 2", "'a'"})
+    void rejectsInvalidJson(final String json) {
+        assertThrows(IllegalArgumentException.class, () -> raw(json));
+    }
+
+    @Test
+    void trustedRawNodeWithInvalidJsonThrowsIllegalStateExceptionWhenNavigated() {
+        final JsonNode jsonNode = trustedRaw("{\"a\"");
+        assertThrows(IllegalStateException.class, jsonNode::getFields);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"'a'", "x", "+1", " ]"})
+    void rejectsTrustedJsonThatCannotStartAValue(final String json) {
+        assertThrows(IllegalArgumentException.class, () -> trustedRaw(json));
+    }
+
+    @Test
+    void typesTrustedNumbersByTheirFirstCharacter() {
+        assertThat(trustedRaw("-1").getType(), equalTo(JsonNodeType.NUMBER));
+        assertThat(trustedRaw(" 0.5").getType(), equalTo(JsonNodeType.NUMBER));
+    }
+
+    @Test
+    void isGeneratedVerbatim() {
+        assertThat(new JsonGenerator().style(COMPACT).generate(array(raw(JSON), number("2"))), equalTo("[{\"b\": [1, \"<é>\"], \"a\": null},2]"));
+    }
+
+    @Test
+    void isEscapedAccordingToEscaping() {
+        assertThat(new JsonGenerator().style(COMPACT).escaping(HTML_SAFE).generate(raw(JSON)), equalTo("{\"b\": [1, \"\\u003cé\\u003e\"], \"a\": null}"));
+        assertThat(new JsonGenerator().style(COMPACT).escaping(ASCII).generate(raw(JSON)), equalTo("{\"b\": [1, \"<\\u00e9>\"], \"a\": null}"));
+    }
+
+    @Test
+    void fieldsAreSortedWhenGeneratingWithFieldSorting() {
+        assertThat(new JsonGenerator().style(COMPACT).generateWithFieldSorting(raw(JSON)), equalTo("{\"a\":null,\"b\":[1,\"<é>\"]}"));
+    }
+}